@@ -0,0 +1,85 @@
+package io.quarkus.runtime;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time a fast-jar application takes to start, from the launch of its JVM until it logs that it started.
+ * <p>
+ * Build the same application twice, with and without {@code quarkus.static-init.parallel=true}, and pass the
+ * {@code quarkus-run.jar} of both builds, e.g.
+ * {@code java -jar benchmark.jar -p runner=sequential/quarkus-app/quarkus-run.jar,parallel/quarkus-app/quarkus-run.jar}.
+ * Every iteration starts a new JVM, so the page cache is warm but the JIT is not, as for a real startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@Fork(1)
+public class BenchmarkFastJarStartup {
+
+    private static final String STARTED = " started in ";
+
+    @Param({ "" })
+    public String runner;
+
+    private List<String> command;
+
+    @Setup
+    public void setup() {
+        Path jar = Path.of(runner);
+        if (runner.isEmpty() || !Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Set the quarkus-run.jar of the application with -p runner=<path>: " + runner);
+        }
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        // a random port, so that a previous process still shutting down does not make the startup fail
+        command = List.of(java.toString(), "-Dquarkus.http.port=0", "-Dquarkus.http.ssl-port=0", "-jar",
+                jar.toAbsolutePath().toString());
+    }
+
+    @Benchmark
+    public void startup() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            StringBuilder lines = new StringBuilder();
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.contains(STARTED)) {
+                    return;
+                }
+                lines.append(line).append(System.lineSeparator());
+            }
+            throw new IllegalStateException("The application exited before it started:" + System.lineSeparator() + lines);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+}
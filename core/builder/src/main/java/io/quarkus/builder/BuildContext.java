@@ -3,9 +3,12 @@
 import static io.quarkus.builder.Execution.log;
 
 import java.time.LocalTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -192,6 +195,40 @@ public void error(Location location, String format, Object... args) {
         execution.setErrorReported();
     }
 
+    /**
+     * Get the identifier of this build step.
+     *
+     * @return the identifier of this build step (not {@code null})
+     */
+    public String getBuildStepId() {
+        return stepInfo.getBuildStep().getId();
+    }
+
+    /**
+     * Get the identifiers of the build steps producing the given item that depend on this step, directly or through
+     * other steps.
+     *
+     * @param producedType the type of item produced by the dependent steps (must not be {@code null})
+     * @return the identifiers of the dependent build steps (not {@code null})
+     */
+    public Set<String> getDependentStepIds(Class<? extends BuildItem> producedType) {
+        Assert.checkNotNullParam("producedType", producedType);
+        final ItemId id = new ItemId(producedType);
+        final Set<String> result = new HashSet<>();
+        final Set<StepInfo> visited = new HashSet<>();
+        final Deque<StepInfo> toVisit = new ArrayDeque<>(stepInfo.getDependents());
+        while (!toVisit.isEmpty()) {
+            final StepInfo dependent = toVisit.poll();
+            if (visited.add(dependent)) {
+                if (dependent.getProduces().contains(id)) {
+                    result.add(dependent.getBuildStep().getId());
+                }
+                toVisit.addAll(dependent.getDependents());
+            }
+        }
+        return result;
+    }
+
     /**
      * Get an executor which can be used for asynchronous tasks.
      *
@@ -234,7 +271,7 @@ void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(stepInfo, this::run);
         }
     }
 
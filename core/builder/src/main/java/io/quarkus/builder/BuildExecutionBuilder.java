@@ -1,5 +1,6 @@
 package io.quarkus.builder;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -19,6 +20,8 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private Path stepDurationsFile;
+    private boolean criticalPathScheduling;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -68,6 +71,32 @@ public <T extends BuildItem> BuildExecutionBuilder produce(Class<T> type, T item
         return this;
     }
 
+    /**
+     * Set the file storing the durations of the build steps across builds. The durations recorded by the previous build
+     * are used to start the build steps on the critical path first when {@link #setCriticalPathScheduling(boolean)} is
+     * enabled, and the file is updated once the build succeeds.
+     *
+     * @param stepDurationsFile the file, or {@code null} to schedule the build steps without previous durations
+     * @return this builder
+     */
+    public BuildExecutionBuilder setStepDurationsFile(Path stepDurationsFile) {
+        this.stepDurationsFile = stepDurationsFile;
+        return this;
+    }
+
+    /**
+     * Start the ready build steps by decreasing length of their longest remaining path to the end of the chain, as
+     * estimated from the durations stored in the {@linkplain #setStepDurationsFile(Path) step durations file}, rather
+     * than in the order they become ready.
+     *
+     * @param criticalPathScheduling {@code true} to schedule the build steps on the critical path first
+     * @return this builder
+     */
+    public BuildExecutionBuilder setCriticalPathScheduling(boolean criticalPathScheduling) {
+        this.criticalPathScheduling = criticalPathScheduling;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -109,6 +138,14 @@ Map<ItemId, ArrayList<BuildItem>> getInitialMulti() {
         return initialMulti;
     }
 
+    Path getStepDurationsFile() {
+        return stepDurationsFile;
+    }
+
+    boolean isCriticalPathScheduling() {
+        return criticalPathScheduling;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
@@ -11,8 +11,11 @@
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -33,6 +36,7 @@ public class BuildMetrics {
     private final String buildTargetName;
     private final ConcurrentMap<String, BuildStepRecord> records = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Integer> buildItems = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> counters = new ConcurrentHashMap<>();
     private final AtomicInteger idGenerator;
 
     public BuildMetrics(String buildTargetName) {
@@ -52,6 +56,10 @@ public void buildFinished(long duration) {
         this.duration = duration;
     }
 
+    public long getDuration() {
+        return duration;
+    }
+
     public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long duration) {
         records.put(stepInfo.getBuildStep().getId(),
                 new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration));
@@ -61,6 +69,20 @@ public void buildItemProduced(BuildItem buildItem) {
         buildItems.compute(buildItem.getClass().getName(), this::itemProduced);
     }
 
+    /**
+     * Adds a value to a counter reported with the build steps, for instance the number of cache hits of a build step.
+     *
+     * @param name the name of the counter
+     * @param value the value to add
+     */
+    public void addToCounter(String name, long value) {
+        counters.merge(name, value, Long::sum);
+    }
+
+    public Map<String, Long> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
     private Integer itemProduced(String key, Integer val) {
         if (val == null) {
             return 1;
@@ -68,6 +90,57 @@ private Integer itemProduced(String key, Integer val) {
         return val + 1;
     }
 
+    /**
+     * The critical path is the longest chain of dependent build steps, it is the lower bound of the build duration
+     * regardless of the number of threads.
+     *
+     * @return the build steps of the critical path, in execution order
+     */
+    public List<BuildStepRecord> getCriticalPath() {
+        Map<String, Long> lengths = new HashMap<>();
+        BuildStepRecord first = null;
+        long max = -1;
+        for (BuildStepRecord rec : records.values()) {
+            long length = pathLength(rec, lengths);
+            if (length > max) {
+                max = length;
+                first = rec;
+            }
+        }
+        List<BuildStepRecord> path = new ArrayList<>();
+        for (BuildStepRecord rec = first; rec != null; rec = longestDependent(rec, lengths)) {
+            path.add(rec);
+        }
+        return path;
+    }
+
+    private long pathLength(BuildStepRecord rec, Map<String, Long> lengths) {
+        String stepId = rec.stepInfo.getBuildStep().getId();
+        Long length = lengths.get(stepId);
+        if (length == null) {
+            BuildStepRecord next = longestDependent(rec, lengths);
+            length = rec.duration + (next != null ? pathLength(next, lengths) : 0);
+            lengths.put(stepId, length);
+        }
+        return length;
+    }
+
+    private BuildStepRecord longestDependent(BuildStepRecord rec, Map<String, Long> lengths) {
+        BuildStepRecord longest = null;
+        long max = -1;
+        for (StepInfo dependent : rec.stepInfo.getDependents()) {
+            BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
+            if (dependentRecord != null) {
+                long length = pathLength(dependentRecord, lengths);
+                if (length > max) {
+                    max = length;
+                    longest = dependentRecord;
+                }
+            }
+        }
+        return longest;
+    }
+
     public void dumpTo(Path file) throws IOException {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
 
@@ -86,6 +159,14 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
 
         JsonArrayBuilder steps = Json.array();
         json.put("records", steps);
+        JsonArrayBuilder criticalPath = Json.array();
+        long criticalPathDuration = 0;
+        for (BuildStepRecord rec : getCriticalPath()) {
+            criticalPath.add(rec.id);
+            criticalPathDuration += rec.duration;
+        }
+        json.put("criticalPath", criticalPath);
+        json.put("criticalPathDuration", criticalPathDuration);
         for (BuildStepRecord rec : sortedSteps) {
             JsonObjectBuilder recObject = Json.object();
             recObject.put("id", rec.id);
@@ -126,6 +207,12 @@ public int compare(Entry<String, Integer> o1, Entry<String, Integer> o2) {
         }
         json.put("itemsCount", itemsCount);
 
+        JsonObjectBuilder countersObject = Json.object();
+        for (Entry<String, Long> e : counters.entrySet()) {
+            countersObject.put(e.getKey(), e.getValue().longValue());
+        }
+        json.put("counters", countersObject);
+
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
             json.appendTo(writer);
         }
@@ -0,0 +1,133 @@
+package io.quarkus.builder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Schedules the ready build steps by decreasing length of their longest remaining path to the end of the chain.
+ * <p>
+ * The length of a path is estimated from the durations of the steps recorded by the previous builds, steps without a
+ * recorded duration counting for {@value #UNKNOWN_DURATION} ms. The executor itself is FIFO, so every submitted task
+ * runs the ready step with the highest priority rather than a given step: the steps on the critical path are started
+ * first when more steps are ready than threads are available.
+ */
+final class CriticalPathScheduler {
+
+    private static final long UNKNOWN_DURATION = 1;
+
+    private final Executor executor;
+    private final Map<String, Long> durations;
+    private final Map<StepInfo, Long> ranks = new HashMap<>();
+    private final PriorityBlockingQueue<ReadyStep> ready = new PriorityBlockingQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final long estimatedCriticalPath;
+
+    CriticalPathScheduler(Collection<StepInfo> startSteps, Map<String, Long> durations, Executor executor) {
+        this.executor = executor;
+        this.durations = durations;
+        long max = 0;
+        for (StepInfo startStep : startSteps) {
+            max = Math.max(max, rank(startStep));
+        }
+        this.estimatedCriticalPath = max;
+    }
+
+    /**
+     * @return the length in ms of the critical path estimated from the durations of the previous builds
+     */
+    long getEstimatedCriticalPath() {
+        return estimatedCriticalPath;
+    }
+
+    void schedule(StepInfo stepInfo, Runnable task) {
+        Long rank = ranks.get(stepInfo);
+        ready.add(new ReadyStep(rank != null ? rank : UNKNOWN_DURATION, sequence.getAndIncrement(), task));
+        executor.execute(this::runNext);
+    }
+
+    private void runNext() {
+        // there is exactly one queued step for each submitted task
+        ReadyStep next = ready.poll();
+        if (next != null) {
+            next.task.run();
+        }
+    }
+
+    private long rank(StepInfo stepInfo) {
+        Long rank = ranks.get(stepInfo);
+        if (rank != null) {
+            return rank;
+        }
+        long max = 0;
+        for (StepInfo dependent : stepInfo.getDependents()) {
+            max = Math.max(max, rank(dependent));
+        }
+        long result = durations.getOrDefault(stepInfo.getBuildStep().getId(), UNKNOWN_DURATION) + max;
+        ranks.put(stepInfo, result);
+        return result;
+    }
+
+    static Map<String, Long> readDurations(Path file) throws IOException {
+        Map<String, Long> durations = new HashMap<>();
+        if (file == null || !Files.isRegularFile(file)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        for (String stepId : properties.stringPropertyNames()) {
+            try {
+                durations.put(stepId, Long.parseLong(properties.getProperty(stepId)));
+            } catch (NumberFormatException ignored) {
+                // a corrupted entry only affects the priority of the step
+            }
+        }
+        return durations;
+    }
+
+    static void writeDurations(Path file, BuildMetrics metrics) throws IOException {
+        Properties properties = new Properties();
+        for (BuildMetrics.BuildStepRecord record : metrics.getRecords()) {
+            properties.setProperty(record.stepInfo.getBuildStep().getId(), Long.toString(record.duration));
+        }
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Durations in ms of the build steps of the last build");
+        }
+    }
+
+    private static final class ReadyStep implements Comparable<ReadyStep> {
+
+        private final long rank;
+        private final long sequence;
+        private final Runnable task;
+
+        ReadyStep(long rank, long sequence, Runnable task) {
+            this.rank = rank;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(ReadyStep other) {
+            int result = Long.compare(other.rank, rank);
+            // FIFO for steps with the same priority
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
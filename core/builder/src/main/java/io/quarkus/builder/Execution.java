@@ -4,9 +4,12 @@
 import static java.util.concurrent.locks.LockSupport.park;
 import static java.util.concurrent.locks.LockSupport.unpark;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +43,8 @@ final class Execution {
     private volatile boolean done;
 
     private final BuildMetrics metrics;
+    private final Path stepDurationsFile;
+    private final CriticalPathScheduler scheduler;
 
     static {
         try {
@@ -71,6 +76,20 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+        stepDurationsFile = builder.getStepDurationsFile();
+        // opt-in for now, the ready steps are otherwise run in the order they become ready
+        scheduler = builder.isCriticalPathScheduling()
+                ? new CriticalPathScheduler(chain.getStartSteps(), readStepDurations(stepDurationsFile), executor)
+                : null;
+    }
+
+    private static Map<String, Long> readStepDurations(Path file) {
+        try {
+            return CriticalPathScheduler.readDurations(file);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read the build step durations from %s", file);
+            return Collections.emptyMap();
+        }
     }
 
     private static int defineMaxPoolSize(final int availableProcessors, final int corePoolSize) {
@@ -105,7 +124,7 @@ BuildResult run() throws BuildException {
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(startStep, getBuildContext(startStep)::run);
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -150,10 +169,42 @@ BuildResult run() throws BuildException {
 
         long duration = max(0, System.nanoTime() - start);
         metrics.buildFinished(TimeUnit.NANOSECONDS.toMillis(duration));
+        reportCriticalPath();
+        storeStepDurations();
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
                 duration, metrics);
     }
 
+    void schedule(StepInfo stepInfo, Runnable task) {
+        if (scheduler != null) {
+            scheduler.schedule(stepInfo, task);
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    private void reportCriticalPath() {
+        if (log.isDebugEnabled()) {
+            long criticalPath = 0;
+            List<BuildMetrics.BuildStepRecord> steps = metrics.getCriticalPath();
+            for (BuildMetrics.BuildStepRecord step : steps) {
+                criticalPath += step.duration;
+            }
+            log.debugf("Build critical path of %d steps took %d ms (estimated %d ms) for a wall time of %d ms", steps.size(),
+                    criticalPath, scheduler != null ? scheduler.getEstimatedCriticalPath() : -1, metrics.getDuration());
+        }
+    }
+
+    private void storeStepDurations() {
+        if (stepDurationsFile != null) {
+            try {
+                CriticalPathScheduler.writeDurations(stepDurationsFile, metrics);
+            } catch (IOException e) {
+                log.debugf(e, "Unable to store the build step durations to %s", stepDurationsFile);
+            }
+        }
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
@@ -1,17 +1,29 @@
 package io.quarkus.builder;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
 
+import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
 
 public class BasicTests {
@@ -22,6 +34,9 @@ public static final class DummyItem extends SimpleBuildItem {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyMultiItem extends MultiBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -313,4 +328,174 @@ public void execute(final BuildContext context) {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testStepDurationsAndCriticalPath(@TempDir Path tempDir) throws Exception {
+        final BuildChainBuilder builder = BuildChain.builder();
+        final List<String> started = Collections.synchronizedList(new ArrayList<>());
+        // a short step and a longer chain of two steps, all ready at once
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new NamedStep("short", started) {
+            @Override
+            public void execute(final BuildContext context) {
+                super.execute(context);
+                context.produce(new DummyMultiItem());
+            }
+        });
+        stepBuilder.produces(DummyMultiItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new NamedStep("long-1", started) {
+            @Override
+            public void execute(final BuildContext context) {
+                super.execute(context);
+                context.produce(new DummyItem());
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new NamedStep("long-2", started) {
+            @Override
+            public void execute(final BuildContext context) {
+                super.execute(context);
+                context.consume(DummyItem.class);
+                context.produce(new DummyItem2());
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem2.class);
+        builder.addFinal(DummyMultiItem.class);
+        BuildChain chain = builder.build();
+        Path durations = tempDir.resolve("build-step-durations.properties");
+
+        BuildResult result = chain.createExecutionBuilder("my-app.jar").setStepDurationsFile(durations).execute();
+        assertEquals(2, result.getMetrics().getCriticalPath().size());
+        assertEquals(Set.of("short", "long-1", "long-2"), CriticalPathScheduler.readDurations(durations).keySet());
+
+        // the durations of the previous build are used by the next one
+        Files.writeString(durations, "short=100\nlong-1=10\nlong-2=200\n");
+        started.clear();
+        result = chain.createExecutionBuilder("my-app.jar")
+                .setStepDurationsFile(durations)
+                .setCriticalPathScheduling(true)
+                .execute();
+        assertNotNull(result.consume(DummyItem2.class));
+        assertEquals(3, started.size());
+        // the durations file is updated by the build
+        assertFalse(Files.readString(durations).contains("long-2=200"));
+
+        // the build threads start the step with the longest remaining path first
+        Map<String, Long> ranked = Map.of("short", 100L, "long-1", 10L, "long-2", 200L);
+        List<Runnable> submitted = new ArrayList<>();
+        CriticalPathScheduler scheduler = new CriticalPathScheduler(chain.getStartSteps(), ranked, submitted::add);
+        assertEquals(210, scheduler.getEstimatedCriticalPath());
+        List<StepInfo> startSteps = new ArrayList<>(chain.getStartSteps());
+        // the short step becomes ready first, so it would also start first in FIFO order
+        startSteps.sort(Comparator.comparing(s -> !s.getBuildStep().getId().equals("short")));
+        List<String> order = new ArrayList<>();
+        for (StepInfo startStep : startSteps) {
+            scheduler.schedule(startStep, () -> order.add(startStep.getBuildStep().getId()));
+        }
+        submitted.forEach(Runnable::run);
+        assertEquals(List.of("long-1", "short"), order);
+    }
+
+    private static class NamedStep implements BuildStep {
+
+        private final String id;
+        private final List<String> started;
+
+        NamedStep(String id, List<String> started) {
+            this.id = id;
+            this.started = started;
+        }
+
+        @Override
+        public void execute(final BuildContext context) {
+            started.add(id);
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+    }
+
+    @Test
+    public void testCountersInMetrics(@TempDir Path tempDir) throws Exception {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem.class);
+
+        BuildResult result = builder.build().createExecutionBuilder("my-app.jar").execute();
+        BuildMetrics metrics = result.getMetrics();
+        metrics.addToCounter("cache.hits", 2);
+        metrics.addToCounter("cache.hits", 3);
+        metrics.addToCounter("cache.misses", 1);
+        assertEquals(Map.of("cache.hits", 5L, "cache.misses", 1L), metrics.getCounters());
+
+        Path file = tempDir.resolve("build-metrics.json");
+        metrics.dumpTo(file);
+        String json = Files.readString(file);
+        assertTrue(json.contains("\"counters\":{"), json);
+        assertTrue(json.contains("\"cache.hits\":5"), json);
+        assertTrue(json.contains("\"cache.misses\":1"), json);
+    }
+
+    @Test
+    public void testDependentStepIds() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        final AtomicReference<Set<String>> dependents = new AtomicReference<>();
+        final AtomicReference<String> dependent = new AtomicReference<>();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                dependents.set(context.getDependentStepIds(DummyMultiItem.class));
+                context.produce(new DummyItem());
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem2());
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        // depends on the first step through the second one
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                dependent.set(context.getBuildStepId());
+                context.produce(new DummyMultiItem());
+            }
+        });
+        stepBuilder.consumes(DummyItem2.class);
+        stepBuilder.produces(DummyMultiItem.class);
+        stepBuilder.build();
+        // independent
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyMultiItem());
+            }
+        });
+        stepBuilder.produces(DummyMultiItem.class);
+        stepBuilder.build();
+        builder.addFinal(DummyMultiItem.class);
+        BuildChain chain = builder.build();
+        chain.createExecutionBuilder("my-app.jar").execute();
+
+        assertEquals(Set.of(dependent.get()), dependents.get());
+    }
 }
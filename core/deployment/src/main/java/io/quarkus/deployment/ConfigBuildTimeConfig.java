@@ -23,4 +23,22 @@ public interface ConfigBuildTimeConfig {
     @WithName("sources.system-only")
     @WithDefault("false")
     boolean systemOnly();
+
+    /**
+     * <p>
+     * Set this to <code>true</code> to snapshot the configuration files of the application classpath at build time, so
+     * that they are not looked up and parsed again on every startup. This only applies to the runtime of production
+     * applications.
+     * </p>
+     * <p>
+     * The environment variables, the system properties, the <code>.env</code> file and the
+     * <code>config/application.properties</code> file of the working directory are still read at runtime. The snapshot
+     * is not taken when the application has profile specific configuration files or additional config locations, and it
+     * is not used at runtime when these sources set the profile or additional config locations, or when the working
+     * directory has profile specific configuration files.
+     * </p>
+     */
+    @WithName("sources.build-time-snapshot")
+    @WithDefault("false")
+    boolean buildTimeSnapshot();
 }
@@ -472,6 +472,9 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                 assert recordAnnotation != null;
                 final ExecutionTime executionTime = recordAnnotation.value();
                 final boolean optional = recordAnnotation.optional();
+                if (recordAnnotation.deferrable() && executionTime != ExecutionTime.RUNTIME_INIT) {
+                    throw new RuntimeException(method + " is marked deferrable but is not executed at RUNTIME_INIT");
+                }
                 methodStepConfig = methodStepConfig.andThen(bsb -> {
                     bsb
                             .produces(
@@ -864,6 +867,9 @@ public void execute(final BuildContext bc) {
                                                     return null;
                                                 })
                                         : null;
+                                if (bri != null && recordAnnotation.deferrable()) {
+                                    bri.setDeferrable(true);
+                                }
                                 for (int i = 0; i < methodArgs.length; i++) {
                                     methodArgs[i] = methodParamFns.get(i).apply(bc, bri);
                                 }
@@ -881,7 +887,8 @@ public void execute(final BuildContext bc) {
                                 if (isRecorder) {
                                     // commit recorded data
                                     if (recordAnnotation.value() == ExecutionTime.STATIC_INIT) {
-                                        bc.produce(new StaticBytecodeRecorderBuildItem(bri));
+                                        bc.produce(new StaticBytecodeRecorderBuildItem(bri, bc.getBuildStepId(),
+                                                bc.getDependentStepIds(StaticBytecodeRecorderBuildItem.class)));
                                     } else {
                                         bc.produce(new MainBytecodeRecorderBuildItem(bri));
                                     }
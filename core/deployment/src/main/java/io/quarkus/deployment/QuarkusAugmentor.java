@@ -26,6 +26,7 @@
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
 import io.quarkus.deployment.builditem.AppModelProviderBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildMetricsCounterBuildItem;
 import io.quarkus.deployment.builditem.CuratedApplicationShutdownBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
@@ -132,6 +133,7 @@ public BuildResult run() throws Exception {
             if (launchMode.isDevOrTest()) {
                 chainBuilder.addFinal(RuntimeApplicationShutdownBuildItem.class);
             }
+            chainBuilder.addFinal(BuildMetricsCounterBuildItem.class);
 
             final ArchiveRootBuildItem.Builder rootBuilder = ArchiveRootBuildItem.builder();
             if (root != null) {
@@ -157,7 +159,16 @@ public BuildResult run() throws Exception {
             for (PathCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            // the durations are only recorded for the critical path scheduling, which is opt-in
+            if (targetDir != null && !launchMode.isRemoteDev()
+                    && Boolean.getBoolean("io.quarkus.builder.execution.criticalPathScheduling")) {
+                execBuilder.setCriticalPathScheduling(true)
+                        .setStepDurationsFile(targetDir.resolve("build-step-durations.properties"));
+            }
             BuildResult buildResult = execBuilder.execute();
+            for (BuildMetricsCounterBuildItem counter : buildResult.consumeMulti(BuildMetricsCounterBuildItem.class)) {
+                buildResult.getMetrics().addToCounter(counter.getName(), counter.getValue());
+            }
             String message = "Quarkus augmentation completed in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
                     + "ms";
             if (launchMode.isProduction()) {
@@ -0,0 +1,35 @@
+package io.quarkus.deployment;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Static init
+ */
+@ConfigMapping(prefix = "quarkus.static-init")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface StaticInitConfig {
+
+    /**
+     * If set to true, the static init startup tasks of the application are run concurrently on a bounded pool, every
+     * task as soon as the tasks it depends on have completed. A task depends on another task if its build step depends on
+     * the build step of the other task, directly or through other build steps.
+     * <p>
+     * The extensions must not rely on side effects of the static init tasks their build steps do not depend on. On the
+     * JVM, the static init tasks then run when the application starts rather than in the static initializer of the
+     * application class, so that the tasks running on other threads can use the class. When building a native
+     * executable, the static init tasks still run sequentially, at image build time.
+     */
+    @WithDefault("false")
+    boolean parallel();
+
+    /**
+     * The maximum number of static init tasks running concurrently when {@code quarkus.static-init.parallel} is set to
+     * true, defaults to the number of available processors.
+     */
+    OptionalInt parallelism();
+}
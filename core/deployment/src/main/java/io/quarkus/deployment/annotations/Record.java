@@ -64,4 +64,19 @@
      */
     boolean useIdentityComparisonForParameters() default true;
 
+    /**
+     * If this is true then the bytecode produced by this method is not executed during the application startup, but
+     * deferred until one of the objects it returned is needed, or until the application has started, when it is executed
+     * on a background thread.
+     *
+     * The objects returned by a deferrable method are needed when they are passed to a non-deferrable recorder method, or
+     * when a synthetic bean they provide is created. A method should only be deferrable if the rest of the application
+     * does not rely on its side effects, only on the objects it returned.
+     *
+     * If the bytecode fails on the background thread, the application exits with an error.
+     *
+     * This is only supported for {@link ExecutionTime#RUNTIME_INIT}.
+     */
+    boolean deferrable() default false;
+
 }
@@ -0,0 +1,28 @@
+package io.quarkus.deployment.builditem;
+
+import java.util.Objects;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A value added to a counter of the build metrics report, {@code build-metrics.json}, for instance the number of cache
+ * hits of a build step. The values produced for the same counter are summed.
+ */
+public final class BuildMetricsCounterBuildItem extends MultiBuildItem {
+
+    private final String name;
+    private final long value;
+
+    public BuildMetricsCounterBuildItem(String name, long value) {
+        this.name = Objects.requireNonNull(name);
+        this.value = value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getValue() {
+        return value;
+    }
+}
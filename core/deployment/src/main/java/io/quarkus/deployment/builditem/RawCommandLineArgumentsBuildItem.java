@@ -31,6 +31,11 @@ public final class RawCommandLineArgumentsBuildItem extends SimpleBuildItem
         return true;
     }
 
+    @Override
+    public boolean __deferred$$init() {
+        return false;
+    }
+
     @Override
     public String[] get() {
         throw new IllegalStateException("Can only be called at runtime");
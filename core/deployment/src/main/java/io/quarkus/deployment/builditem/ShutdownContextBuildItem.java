@@ -19,6 +19,11 @@ public final class ShutdownContextBuildItem extends SimpleBuildItem
         return true;
     }
 
+    @Override
+    public boolean __deferred$$init() {
+        return false;
+    }
+
     @Override
     public void addShutdownTask(Runnable runnable) {
         throw new IllegalStateException();
@@ -1,5 +1,7 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.Set;
+
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 
@@ -9,12 +11,42 @@
 public final class StaticBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
+    private final String buildStepId;
+    private final Set<String> dependentBuildStepIds;
 
     public StaticBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, null, null);
+    }
+
+    /**
+     * @param bytecodeRecorder the recorder
+     * @param buildStepId the identifier of the build step that recorded the bytecode
+     * @param dependentBuildStepIds the identifiers of the static init recording build steps depending on this step,
+     *        directly or through other steps
+     */
+    public StaticBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, String buildStepId,
+            Set<String> dependentBuildStepIds) {
         this.bytecodeRecorder = bytecodeRecorder;
+        this.buildStepId = buildStepId;
+        this.dependentBuildStepIds = dependentBuildStepIds;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
         return bytecodeRecorder;
     }
+
+    /**
+     * @return the identifier of the build step that recorded the bytecode, or {@code null} if unknown
+     */
+    public String getBuildStepId() {
+        return buildStepId;
+    }
+
+    /**
+     * @return the identifiers of the static init recording build steps depending on the step that recorded the bytecode,
+     *         or {@code null} if unknown, in which case all the following steps must be considered dependent
+     */
+    public Set<String> getDependentBuildStepIds() {
+        return dependentBuildStepIds;
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.Set;
+
 import io.quarkus.builder.item.SimpleBuildItem;
 
 /**
@@ -10,12 +12,32 @@
 public final class TestProfileBuildItem extends SimpleBuildItem {
 
     private final String testProfileClassName;
+    private final Set<String> sharedTestProfileClassNames;
 
     public TestProfileBuildItem(String testProfileClassName) {
+        this(testProfileClassName, Set.of());
+    }
+
+    public TestProfileBuildItem(String testProfileClassName, Set<String> sharedTestProfileClassNames) {
         this.testProfileClassName = testProfileClassName;
+        this.sharedTestProfileClassNames = Set.copyOf(sharedTestProfileClassNames);
     }
 
+    /**
+     * @return the class name of the current test profile, or {@code null} if the application is built for the tests
+     *         without test profile
+     */
     public String getTestProfileClassName() {
         return testProfileClassName;
     }
+
+    /**
+     * The test profiles that only override runtime configuration may run their tests on the application built for the
+     * tests without test profile, instead of a dedicated application.
+     *
+     * @return the class names of the test profiles sharing the application
+     */
+    public Set<String> getSharedTestProfileClassNames() {
+        return sharedTestProfileClassNames;
+    }
 }
@@ -108,9 +108,11 @@ void installBuiltins(DevModeType devModeType) {
         ConsoleContext context = createContext("System");
         List<ConsoleCommand> commands = new ArrayList<>();
         if (devModeType != DevModeType.TEST_ONLY) {
-            commands.add(new ConsoleCommand('s', "Force restart", null, () -> {
-                forceRestart();
-            }));
+            commands.add(new ConsoleCommand('s', "Force restart",
+                    new ConsoleCommand.HelpState(() -> BLUE, () -> RuntimeUpdatesProcessor.INSTANCE.getReloadStatistics()),
+                    () -> {
+                        forceRestart();
+                    }));
             commands.add(new ConsoleCommand('e', "Edits the command line parameters and restarts",
                     editPromptFormat.formatted(String.join(" ",
                             RuntimeUpdatesProcessor.INSTANCE.getCommandLineArgs())),
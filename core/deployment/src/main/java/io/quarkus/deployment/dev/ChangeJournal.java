@@ -0,0 +1,239 @@
+package io.quarkus.deployment.dev;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.deployment.dev.filesystem.watch.FileChangeCallback;
+import io.quarkus.deployment.dev.filesystem.watch.FileChangeEvent;
+import io.quarkus.deployment.dev.filesystem.watch.WatchServiceFileSystemWatcher;
+
+/**
+ * Records the paths changed under the scanned directories between two scans, so that a scan does not need to walk the
+ * whole directory trees to find out what changed.
+ * <p>
+ * Every directory can be scanned by several consumers, each of them getting all the changes that happened since its own
+ * previous scan. The first scan of a directory by a consumer, and the first scan after some events were lost, must walk
+ * the whole directory: {@link #drain(String, Path)} returns {@code null} in this case.
+ * <p>
+ * The watch service delivers the events asynchronously, so a scan right after a file was saved could drain the journal
+ * before the event of this file is delivered. At the start of every scan, {@link #flush()} creates a file in a directory
+ * of its own, watched by the same watch service, and waits for its event: the events of the changes made before are
+ * delivered first. If this event does not come in time, the directories are walked instead until the next flush.
+ */
+final class ChangeJournal implements Closeable {
+
+    private static final Logger log = Logger.getLogger(ChangeJournal.class);
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 500;
+
+    private final WatchServiceFileSystemWatcher watcher;
+    private final Map<Path, Root> roots = new ConcurrentHashMap<>();
+    private final Map<Path, CountDownLatch> barriers = new ConcurrentHashMap<>();
+    private final AtomicLong barrierCount = new AtomicLong();
+    private final Path barrierDirectory;
+    private volatile boolean flushed;
+
+    ChangeJournal(String name) {
+        this.watcher = new WatchServiceFileSystemWatcher(name, true);
+        Path barrierDirectory;
+        try {
+            barrierDirectory = Files.createTempDirectory("quarkus-change-journal");
+            watcher.watchDirectoryRecursively(barrierDirectory, new FileChangeCallback() {
+                @Override
+                public void handleChanges(Collection<FileChangeEvent> events) {
+                    for (FileChangeEvent event : events) {
+                        CountDownLatch barrier = barriers.get(event.getFile());
+                        if (barrier != null) {
+                            barrier.countDown();
+                        }
+                    }
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to create the barrier directory of the change journal, every scan will walk the"
+                    + " directories");
+            barrierDirectory = null;
+        }
+        this.barrierDirectory = barrierDirectory;
+    }
+
+    /**
+     * Returns the files changed under the given directory since the previous call for the same consumer. The changes
+     * include the files that were deleted, as well as the files of the directories that were created or moved.
+     * <p>
+     * The changes are complete up to the last {@link #flush()}, the changes made after it may only be returned by the
+     * next call.
+     *
+     * @param consumer the consumer of the changes
+     * @param directory the scanned directory
+     * @return the changed files, or {@code null} if the whole directory must be walked
+     */
+    Set<Path> drain(String consumer, Path directory) {
+        Root root = roots.computeIfAbsent(directory.toAbsolutePath().normalize(), Root::new);
+        Set<Path> changes = new HashSet<>();
+        synchronized (root) {
+            if (!root.registered) {
+                root.changes.clear();
+                register(root);
+                if (!root.registered) {
+                    return null;
+                }
+            }
+            Set<Path> pending = root.changes.get(consumer);
+            if (pending == null) {
+                // the changes are recorded from now on, so the walk that follows does not miss anything
+                root.changes.put(consumer, ConcurrentHashMap.newKeySet());
+                return null;
+            }
+            if (!flushed) {
+                // the pending changes may be incomplete, the walk that follows finds all of them
+                pending.clear();
+                return null;
+            }
+            for (Iterator<Path> iterator = pending.iterator(); iterator.hasNext();) {
+                changes.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        Set<Path> result = new HashSet<>();
+        for (Path path : changes) {
+            if (Files.isDirectory(path)) {
+                // the files may have been created before the new directory was watched
+                try (Stream<Path> walk = Files.walk(path)) {
+                    walk.forEach(result::add);
+                } catch (IOException e) {
+                    log.debugf(e, "Unable to walk %s", path);
+                    invalidate(consumer, directory);
+                    return null;
+                }
+            } else {
+                result.add(path);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Waits for the watch service to deliver the events of the changes made before this call, once per scan of all the
+     * directories. If the events are not delivered in time, {@link #drain(String, Path)} returns {@code null} until the
+     * next flush.
+     * <p>
+     * A watch key signalled while the watcher thread processes its previous events is queued again after the events
+     * are processed, possibly behind the key of the first barrier: the second barrier is queued after it.
+     *
+     * @return whether the events were delivered
+     */
+    boolean flush() {
+        // outside of the lock of the roots, which the watcher thread takes on overflows
+        boolean result = barrier() && barrier();
+        flushed = result;
+        return result;
+    }
+
+    private boolean barrier() {
+        if (barrierDirectory == null) {
+            return false;
+        }
+        Path barrier = barrierDirectory.resolve("barrier-" + barrierCount.incrementAndGet()).toAbsolutePath();
+        CountDownLatch delivered = new CountDownLatch(1);
+        barriers.put(barrier, delivered);
+        try {
+            Files.createFile(barrier);
+            if (delivered.await(FLUSH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            log.debugf("The file change events were not delivered within %d ms, walking the directories",
+                    FLUSH_TIMEOUT_MILLIS);
+            return false;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to create %s, walking the directories", barrier);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            barriers.remove(barrier);
+            try {
+                Files.deleteIfExists(barrier);
+            } catch (IOException e) {
+                log.debugf(e, "Unable to delete %s", barrier);
+            }
+        }
+    }
+
+    /**
+     * Forces the next scan of the given directory by the given consumer to walk the whole directory, for instance because
+     * the changes of the current scan could not be processed.
+     */
+    void invalidate(String consumer, Path directory) {
+        Root root = roots.get(directory.toAbsolutePath().normalize());
+        if (root != null) {
+            root.changes.remove(consumer);
+        }
+    }
+
+    private void register(Root root) {
+        watcher.unwatchPath(root.path, root);
+        if (!Files.isDirectory(root.path)) {
+            return;
+        }
+        try {
+            watcher.watchDirectoryRecursively(root.path, root);
+            root.registered = true;
+        } catch (RuntimeException e) {
+            log.debugf(e, "Unable to watch %s, it will be walked on every scan", root.path);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watcher.close();
+        if (barrierDirectory != null) {
+            IoUtils.recursiveDelete(barrierDirectory);
+        }
+    }
+
+    private static final class Root implements FileChangeCallback {
+
+        private final Path path;
+        // the pending changes of every consumer
+        private final Map<String, Set<Path>> changes = new ConcurrentHashMap<>();
+        private volatile boolean registered;
+
+        private Root(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public void handleChanges(Collection<FileChangeEvent> events) {
+            for (Set<Path> pending : changes.values()) {
+                for (FileChangeEvent event : events) {
+                    pending.add(event.getFile());
+                }
+            }
+        }
+
+        @Override
+        public void handleOverflow(Path directory) {
+            synchronized (this) {
+                registered = false;
+                changes.clear();
+            }
+        }
+    }
+}
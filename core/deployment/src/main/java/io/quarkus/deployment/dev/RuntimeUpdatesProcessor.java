@@ -139,6 +139,13 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     private Timer testClassChangeTimer;
     volatile StatusLine compileOutput;
 
+    /**
+     * Records the changed files between two scans, {@code null} if the scans must walk the directories
+     */
+    private final ChangeJournal changeJournal;
+    private volatile long lastScanNanoseconds = -1;
+    private volatile long lastReloadNanoseconds = -1;
+
     public RuntimeUpdatesProcessor(Path applicationRoot, DevModeContext context, QuarkusCompiler compiler,
             DevModeType devModeType, BiConsumer<Set<String>, ClassScanResult> restartCallback,
             BiConsumer<DevModeContext.ModuleInfo, String> copyResourceNotification,
@@ -152,6 +159,8 @@ public RuntimeUpdatesProcessor(Path applicationRoot, DevModeContext context, Qua
         this.copyResourceNotification = copyResourceNotification;
         this.classTransformers = classTransformers;
         this.testSupport = testSupport;
+        //the watch service is only backed by native events on Linux, it polls the directories on other systems
+        this.changeJournal = IS_LINUX ? new ChangeJournal("Quarkus Change Journal") : null;
         if (testSupport != null) {
             testSupport.addListener(new TestListener() {
                 @Override
@@ -330,6 +339,9 @@ private void periodicTestCompile() {
         scanLock.lock();
         TestScanningLock.lockForTests();
         try {
+            if (changeJournal != null) {
+                changeJournal.flush();
+            }
             ClassScanResult changedApp = checkForChangedClasses(compiler, DevModeContext.ModuleInfo::getMain, false, test,
                     true);
             ClassScanResult changedTestClassResult = compileTestClasses();
@@ -471,10 +483,15 @@ public boolean doScan(boolean userInitiated, boolean forceRestart) {
                     log.error("Pre Scan step failed", t);
                 }
             }
+            if (changeJournal != null) {
+                // once for all the directories drained by this scan
+                changeJournal.flush();
+            }
 
             ClassScanResult changedClassResults = checkForChangedClasses(compiler, DevModeContext.ModuleInfo::getMain, false,
                     main, false);
             Set<String> filesChanged = checkForFileChange(DevModeContext.ModuleInfo::getMain, main);
+            lastScanNanoseconds = System.nanoTime() - startNanoseconds;
 
             boolean fileRestartNeeded = forceRestart || filesChanged.stream().anyMatch(main::isRestartNeeded);
             boolean instrumentationChange = false;
@@ -554,6 +571,7 @@ public boolean doScan(boolean userInitiated, boolean forceRestart) {
 
                 restartCallback.accept(filesChanged, changedClassResults);
                 long timeNanoSeconds = System.nanoTime() - startNanoseconds;
+                lastReloadNanoseconds = timeNanoSeconds;
                 log.infof("Live reload total time: %ss ", Timing.convertToBigDecimalSeconds(timeNanoSeconds));
                 for (Runnable step : postRestartSteps) {
                     try {
@@ -722,15 +740,28 @@ ClassScanResult checkForChangedClasses(QuarkusCompiler compiler,
         ClassScanResult classScanResult = new ClassScanResult();
         boolean ignoreFirstScanChanges = firstScan;
 
+        final String sourcesConsumer = journalConsumer(timestampSet, "sources");
         for (DevModeContext.ModuleInfo module : context.getAllModules()) {
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
+            boolean sourcesChanged = false;
 
             for (Path sourcePath : cuf.apply(module).getSourcePaths()) {
                 if (!Files.exists(sourcePath)) {
                     continue;
                 }
+                Set<Path> journaled = changeJournal != null ? changeJournal.drain(sourcesConsumer, sourcePath) : null;
+                if (firstScan) {
+                    //the first scan records the timestamps of all the source files
+                    journaled = null;
+                }
+                if (journaled != null && journaled.isEmpty()) {
+                    continue;
+                }
+                //deleted source files are detected when walking the class files
+                sourcesChanged = true;
                 final Set<File> changedSourceFiles;
-                try (final Stream<Path> sourcesStream = Files.walk(sourcePath)) {
+                try (final Stream<Path> sourcesStream = journaled == null ? Files.walk(sourcePath)
+                        : journaled.stream().filter(Files::isRegularFile)) {
                     changedSourceFiles = sourcesStream
                             .parallel()
                             .filter(p -> matchingHandledExtension(p).isPresent()
@@ -787,6 +818,10 @@ && sourceFileWasRecentModified(p, ignoreFirstScanChanges, firstScan))
                                 compileProblem = e;
                             }
                             getCompileOutput().setMessage(e.getMessage());
+                            if (changeJournal != null) {
+                                //the failing files must be compiled again by the next scan
+                                changeJournal.invalidate(sourcesConsumer, sourcePath);
+                            }
                             return classScanResult;
                         }
                         boolean timestampsChanged = false;
@@ -815,8 +850,8 @@ && sourceFileWasRecentModified(p, ignoreFirstScanChanges, firstScan))
 
             }
 
-            checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, ignoreFirstScanChanges, classScanResult,
-                    cuf, timestampSet);
+            checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, sourcesChanged || firstScan,
+                    ignoreFirstScanChanges, classScanResult, cuf, timestampSet);
 
         }
 
@@ -828,7 +863,7 @@ public Throwable getCompileProblem() {
     }
 
     private void checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
-            boolean isInitialRun, ClassScanResult classScanResult,
+            boolean sourcesChanged, boolean isInitialRun, ClassScanResult classScanResult,
             Function<DevModeContext.ModuleInfo, DevModeContext.CompilationUnit> cuf, TimestampSet timestampSet) {
         if (cuf.apply(module).getClassesPath() == null) {
             return;
@@ -840,6 +875,13 @@ private void checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module,
                 if (!Files.exists(moduleClassesPath)) {
                     continue;
                 }
+                if (changeJournal != null) {
+                    //class files can also be written by an IDE, so the folder is journaled as well
+                    Set<Path> journaled = changeJournal.drain(journalConsumer(timestampSet, "classes"), moduleClassesPath);
+                    if (!sourcesChanged && journaled != null && journaled.isEmpty()) {
+                        continue;
+                    }
+                }
                 try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
                     final Set<Path> classFilePaths = classesStream
                             .parallel()
@@ -973,7 +1015,7 @@ Set<String> checkForFileChange(Function<DevModeContext.ModuleInfo, DevModeContex
                     .filter(Files::isReadable)
                     .collect(Collectors.toList());
             //copy all modified non-hot deployment files over
-            if (doCopy) {
+            if (doCopy && resourcesChanged(journalConsumer(timestampSet, "resources"), roots, outputDir)) {
                 final Set<Path> seen = new HashSet<>(moduleResources);
                 try {
                     for (Path root : roots) {
@@ -1096,6 +1138,40 @@ Set<String> checkForFileChange(Function<DevModeContext.ModuleInfo, DevModeContex
         return ret;
     }
 
+    /**
+     * Resources are copied by walking all the roots of a compilation unit, to find out the deleted resources as well.
+     * The walk is only needed if something changed in the roots or in the output directory.
+     */
+    private boolean resourcesChanged(String consumer, List<Path> roots, Path outputDir) {
+        if (changeJournal == null) {
+            return true;
+        }
+        boolean changed = false;
+        for (Path root : roots) {
+            Set<Path> journaled = changeJournal.drain(consumer, root);
+            changed |= journaled == null || !journaled.isEmpty();
+        }
+        if (Files.isDirectory(outputDir)) {
+            Set<Path> journaled = changeJournal.drain(consumer, outputDir);
+            changed |= journaled == null || !journaled.isEmpty();
+        }
+        return changed;
+    }
+
+    private String journalConsumer(TimestampSet timestampSet, String kind) {
+        return (timestampSet == main ? "main-" : "test-") + kind;
+    }
+
+    /**
+     * @return a summary of the duration of the last scan and of the last live reload
+     */
+    public String getReloadStatistics() {
+        long scan = lastScanNanoseconds;
+        long reload = lastReloadNanoseconds;
+        return "last scan " + (scan < 0 ? "n/a" : Timing.convertToBigDecimalSeconds(scan) + "s")
+                + ", last reload " + (reload < 0 ? "n/a" : Timing.convertToBigDecimalSeconds(reload) + "s");
+    }
+
     private boolean sourceFileWasRecentModified(final Path sourcePath, boolean ignoreFirstScanChanges, boolean firstScan) {
         return checkIfFileModified(sourcePath, sourceFileTimestamps, ignoreFirstScanChanges, firstScan);
     }
@@ -1318,6 +1394,9 @@ public static void setLastStartIndex(IndexView lastStartIndex) {
     @Override
     public void close() throws IOException {
         compiler.close();
+        if (changeJournal != null) {
+            changeJournal.close();
+        }
         if (testClassChangeWatcher != null) {
             testClassChangeWatcher.close();
         }
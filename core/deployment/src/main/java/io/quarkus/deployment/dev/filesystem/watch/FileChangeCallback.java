@@ -1,5 +1,6 @@
 package io.quarkus.deployment.dev.filesystem.watch;
 
+import java.nio.file.Path;
 import java.util.Collection;
 
 /**
@@ -15,4 +16,13 @@ public interface FileChangeCallback {
      */
     void handleChanges(final Collection<FileChangeEvent> changes);
 
+    /**
+     * Method that is invoked when some changes of a watched directory may have been lost, either because the watch service
+     * dropped events or because the watched directory itself was removed.
+     *
+     * @param directory the watched directory
+     */
+    default void handleOverflow(final Path directory) {
+    }
+
 }
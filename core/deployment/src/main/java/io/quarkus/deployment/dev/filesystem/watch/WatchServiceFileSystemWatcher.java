@@ -69,14 +69,19 @@ public void run() {
             try {
                 final WatchKey key = watchService.take();
                 if (key != null) {
+                    PathData pathData = pathDataByKey.get(key);
                     try {
-                        PathData pathData = pathDataByKey.get(key);
                         if (pathData != null) {
                             final List<FileChangeEvent> results = new ArrayList<>();
                             List<WatchEvent<?>> events = key.pollEvents();
                             final Set<Path> addedFiles = new HashSet<>();
                             final Set<Path> deletedFiles = new HashSet<>();
+                            boolean overflow = false;
                             for (WatchEvent<?> event : events) {
+                                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                                    overflow = true;
+                                    continue;
+                                }
                                 Path eventPath = (Path) event.context();
                                 Path targetFile = ((Path) key.watchable()).resolve(eventPath).toAbsolutePath();
                                 FileChangeEvent.Type type;
@@ -101,7 +106,6 @@ public void run() {
                                 }
                                 results.add(new FileChangeEvent(targetFile, type));
                             }
-                            key.pollEvents().clear();
 
                             //now we need to prune the results, to remove duplicates
                             //e.g. if the file is modified after creation we only want to
@@ -146,11 +150,22 @@ public void run() {
                                     invokeCallback(callback, results);
                                 }
                             }
+                            if (overflow) {
+                                for (FileChangeCallback callback : pathData.getCallbacks()) {
+                                    invokeOverflowCallback(callback, pathData.path);
+                                }
+                            }
                         }
                     } finally {
                         //if the key is no longer valid remove it from the files list
                         if (!key.reset()) {
                             monitoredDirectories.remove(key.watchable());
+                            if (pathData != null && pathData.path.equals(key.watchable())) {
+                                //the watched directory itself is gone, nothing will be reported for it anymore
+                                for (FileChangeCallback callback : pathData.getCallbacks()) {
+                                    invokeOverflowCallback(callback, pathData.path);
+                                }
+                            }
                         }
                     }
                 }
@@ -262,6 +277,14 @@ private static void invokeCallback(FileChangeCallback callback, List<FileChangeE
         }
     }
 
+    private static void invokeOverflowCallback(FileChangeCallback callback, Path directory) {
+        try {
+            callback.handleOverflow(directory);
+        } catch (Exception e) {
+            log.error("Failed to invoke watch callback", e);
+        }
+    }
+
     private class PathData {
 
         private final Path path;
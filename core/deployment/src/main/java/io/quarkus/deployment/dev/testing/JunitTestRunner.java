@@ -20,15 +20,23 @@
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -104,6 +112,8 @@ public class JunitTestRunner {
     private static final String ARCHUNIT_FIELDSOURCE_FQCN = "com.tngtech.archunit.junit.FieldSource";
     private static final String FACADE_CLASS_LOADER_NAME = "io.quarkus.test.junit.classloading.FacadeClassLoader";
     private static final String TEST_DISCOVERY_PROPERTY = "quarkus.continuous-tests-discovery";
+    private static final String PARALLEL_PROFILES_PROPERTY = "quarkus.continuous-tests-parallel-profiles";
+    private static final String QUARKUS_TEST_EXTENSION = "io.quarkus.test.junit.QuarkusTestExtension";
 
     private final long runId;
     private final DevModeContext.ModuleInfo moduleInfo;
@@ -121,6 +131,7 @@ public class JunitTestRunner {
     private final List<String> includeEngines;
     private final List<String> excludeEngines;
     private final boolean failingTestsOnly;
+    private final boolean parallelProfiles;
     private final TestType testType;
 
     private volatile boolean testsRunning = false;
@@ -149,6 +160,7 @@ public JunitTestRunner(Builder builder) {
         this.includeEngines = builder.includeEngines;
         this.excludeEngines = builder.excludeEngines;
         this.failingTestsOnly = builder.failingTestsOnly;
+        this.parallelProfiles = builder.parallelProfiles;
         this.testType = builder.testType;
     }
 
@@ -159,63 +171,29 @@ public Runnable prepare() {
             QuarkusClassLoader tcl = testApplication.createDeploymentClassLoader();
             deploymentClassLoader = tcl;
 
+            Supplier<Boolean> displayTestOutput = TestSupport.instance().get()::isDisplayTestOutput;
             LogCapturingOutputFilter logHandler = new LogCapturingOutputFilter(testApplication, true, true,
-                    TestSupport.instance()
-                            .get()::isDisplayTestOutput);
+                    displayTestOutput);
             Thread.currentThread().setContextClassLoader(tcl);
 
             Set<UniqueId> allDiscoveredIds = new HashSet<>();
-            Set<UniqueId> dynamicIds = new HashSet<>();
+            Set<UniqueId> dynamicIds = ConcurrentHashMap.newKeySet();
             DiscoveryResult quarkusTestClasses = discoverTestClasses();
 
-            Launcher launcher = LauncherFactory.create(LauncherConfig.builder().build());
-            LauncherDiscoveryRequestBuilder launchBuilder = LauncherDiscoveryRequestBuilder.request()
-                    .selectors(quarkusTestClasses.testClasses.stream().map(DiscoverySelectors::selectClass)
-                            .collect(Collectors.toList()));
-            launchBuilder.filters(new PostDiscoveryFilter() {
-                @Override
-                public FilterResult apply(TestDescriptor testDescriptor) {
-                    allDiscoveredIds.add(testDescriptor.getUniqueId());
-                    return FilterResult.included(null);
-                }
-            });
-            if (classScanResult != null) {
-                launchBuilder.filters(testClassUsages.getTestsToRun(classScanResult.getChangedClassNames(), testState));
-            }
-            if (!includeTags.isEmpty()) {
-                launchBuilder.filters(TagFilter.includeTags(new ArrayList<>(includeTags)));
-            } else if (!excludeTags.isEmpty()) {
-                launchBuilder.filters(TagFilter.excludeTags(new ArrayList<>(excludeTags)));
-            }
-            if (specificSelection != null) {
-                if (specificSelection.startsWith("maven:")) {
-                    launchBuilder.filters(new MavenSpecificSelectionFilter(specificSelection.substring("maven:".length())));
-                } else if (specificSelection.startsWith("gradle:")) {
-                    launchBuilder.filters(new GradleSpecificSelectionFilter(specificSelection.substring("gradle:".length())));
-                } else {
-                    log.error("Unknown specific selection, ignoring: " + specificSelection);
-                }
-            } else if (include != null) {
-                launchBuilder.filters(new RegexFilter(false, include));
-            } else if (exclude != null) {
-                launchBuilder.filters(new RegexFilter(true, exclude));
-            }
-            if (!includeEngines.isEmpty()) {
-                launchBuilder.filters(EngineFilter.includeEngines(includeEngines));
-            } else if (!excludeEngines.isEmpty()) {
-                launchBuilder.filters(EngineFilter.excludeEngines(excludeEngines));
-            }
-            if (!additionalFilters.isEmpty()) {
-                launchBuilder.filters(additionalFilters.toArray(new PostDiscoveryFilter[0]));
-            }
-            if (failingTestsOnly) {
-                launchBuilder.filters(new CurrentlyFailingFilter());
+            List<List<Class<?>>> partitions = parallelProfiles ? partitionByApplication(quarkusTestClasses.testClasses)
+                    : List.of(quarkusTestClasses.testClasses);
+            // a test plan can only be executed by the launcher that discovered it
+            List<Launcher> launchers = new ArrayList<>(partitions.size());
+            List<TestPlan> testPlans = new ArrayList<>(partitions.size());
+            long toRun = 0;
+            for (int i = 0; i < partitions.size(); i++) {
+                Launcher launcher = LauncherFactory.create(LauncherConfig.builder().build());
+                // all the partitions but the first one run concurrently
+                TestPlan testPlan = launcher.discover(createDiscoveryRequest(partitions.get(i), allDiscoveredIds, i > 0));
+                launchers.add(launcher);
+                testPlans.add(testPlan);
+                toRun += testPlan.countTestIdentifiers(TestIdentifier::isTest);
             }
-
-            LauncherDiscoveryRequest request = launchBuilder
-                    .build();
-            TestPlan testPlan = launcher.discover(request);
-            long toRun = testPlan.countTestIdentifiers(TestIdentifier::isTest);
             for (TestRunListener listener : listeners) {
                 listener.runStarted(toRun);
             }
@@ -227,187 +205,49 @@ public void run() {
                         synchronized (JunitTestRunner.this) {
                             testsRunning = true;
                         }
-                        log.debug("Starting test run with " + testPlan.countTestIdentifiers((s) -> true) + " tests");
+                        log.debug("Starting test run with "
+                                + testPlans.stream().mapToLong(p -> p.countTestIdentifiers((s) -> true)).sum() + " tests");
                         QuarkusConsole.addOutputFilter(logHandler);
 
-                        final Deque<Set<String>> touchedClasses = new LinkedBlockingDeque<>();
-                        Map<TestIdentifier, Long> startTimes = new HashMap<>();
-                        final AtomicReference<Set<String>> startupClasses = new AtomicReference<>();
+                        Map<String, Map<UniqueId, TestResult>> resultsByClass = new ConcurrentHashMap<>();
+                        List<ResultCollector> collectors = new ArrayList<>(testPlans.size());
+                        collectors.add(new ResultCollector(testPlans.get(0), resultsByClass, dynamicIds, logHandler));
+                        for (int i = 1; i < testPlans.size(); i++) {
+                            // the output of the concurrent partitions is told apart by the class loaders of their applications
+                            Set<ClassLoader> classLoaders = partitions.get(i).stream().map(Class::getClassLoader)
+                                    .collect(Collectors.toSet());
+                            collectors.add(new ResultCollector(testPlans.get(i), resultsByClass, dynamicIds,
+                                    new LogCapturingOutputFilter(classLoaders, true, true, displayTestOutput)));
+                        }
+                        ThreadLocal<ResultCollector> currentCollector = new ThreadLocal<>();
                         TracingHandler.setTracingHandler(new TracingHandler.TraceListener() {
                             @Override
                             public void touched(String className) {
-                                Set<String> set = touchedClasses.peek();
-                                if (set != null) {
-                                    set.add(className);
+                                // the classes touched by concurrent test plans cannot be told apart, so they are recorded
+                                // for all of them, which can only cause more tests to be run on the next changes
+                                for (ResultCollector collector : collectors) {
+                                    collector.touched(className);
                                 }
                             }
 
                             @Override
                             public void quarkusStarting() {
-                                startupClasses.set(touchedClasses.peek());
+                                ResultCollector collector = currentCollector.get();
+                                if (collector != null) {
+                                    collector.quarkusStarting();
+                                }
                             }
                         });
 
-                        Map<String, Map<UniqueId, TestResult>> resultsByClass = new HashMap<>();
-                        AtomicReference<TestIdentifier> currentNonDynamicTest = new AtomicReference<>();
-
                         Thread.currentThread().setContextClassLoader(tcl);
-                        launcher.execute(testPlan, new TestExecutionListener() {
-
-                            @Override
-                            public void executionStarted(TestIdentifier testIdentifier) {
-                                if (aborted) {
-                                    return;
-                                }
-                                boolean dynamic = dynamicIds.contains(UniqueId.parse(testIdentifier.getUniqueId()));
-                                if (!dynamic) {
-                                    currentNonDynamicTest.set(testIdentifier);
-                                }
-                                startTimes.put(testIdentifier, System.currentTimeMillis());
-                                String testClassName = "";
-                                Class<?> testClass = getTestClassFromSource(testIdentifier.getSource());
-                                if (testClass != null) {
-                                    testClassName = testClass.getName();
-                                }
-                                for (TestRunListener listener : listeners) {
-                                    listener.testStarted(testIdentifier, testClassName);
-                                }
-                                touchedClasses.push(Collections.synchronizedSet(new HashSet<>()));
-                            }
-
-                            @Override
-                            public void executionSkipped(TestIdentifier testIdentifier, String reason) {
-                                if (aborted) {
-                                    return;
-                                }
-                                touchedClasses.pop();
-                                Class<?> testClass = getTestClassFromSource(testIdentifier.getSource());
-                                String displayName = getDisplayNameFromIdentifier(testIdentifier, testClass);
-                                UniqueId id = UniqueId.parse(testIdentifier.getUniqueId());
-                                if (testClass != null) {
-                                    Map<UniqueId, TestResult> results = resultsByClass.computeIfAbsent(testClass.getName(),
-                                            s -> new HashMap<>());
-                                    TestResult result = new TestResult(displayName, testClass.getName(),
-                                            toTagList(testIdentifier),
-                                            id, TestExecutionResult.aborted(null),
-                                            logHandler.captureOutput(), testIdentifier.isTest(), runId, 0, true);
-                                    results.put(id, result);
-                                    if (result.isTest()) {
-                                        for (TestRunListener listener : listeners) {
-                                            listener.testComplete(result);
-                                        }
-                                    }
-                                }
-                                touchedClasses.push(Collections.synchronizedSet(new HashSet<>()));
-                            }
-
-                            @Override
-                            public void dynamicTestRegistered(TestIdentifier testIdentifier) {
-                                dynamicIds.add(UniqueId.parse(testIdentifier.getUniqueId()));
-                                for (TestRunListener listener : listeners) {
-                                    listener.dynamicTestRegistered(testIdentifier);
-                                }
-                            }
-
-                            @Override
-                            public void executionFinished(TestIdentifier testIdentifier,
-                                    TestExecutionResult testExecutionResult) {
-                                if (aborted) {
-                                    return;
-                                }
-                                boolean dynamic = dynamicIds.contains(UniqueId.parse(testIdentifier.getUniqueId()));
-                                Set<String> touched = touchedClasses.pop();
-                                Class<?> testClass = getTestClassFromSource(testIdentifier.getSource());
-                                String displayName = getDisplayNameFromIdentifier(testIdentifier, testClass);
-                                UniqueId id = UniqueId.parse(testIdentifier.getUniqueId());
-
-                                if (testClass == null) {
-                                    return;
-                                }
-                                String testClassName = testClass.getName();
-
-                                if (testExecutionResult.getStatus() != TestExecutionResult.Status.ABORTED) {
-                                    for (Set<String> i : touchedClasses) {
-                                        //also add the parent touched classes
-                                        touched.addAll(i);
-                                    }
-                                    if (startupClasses.get() != null) {
-                                        touched.addAll(startupClasses.get());
-                                    }
-                                    if (testIdentifier.getSource().map(ClassSource.class::isInstance).orElse(false)) {
-                                        testClassUsages.updateTestData(testClassName, touched);
-                                    } else {
-                                        testClassUsages.updateTestData(testClassName, id, touched);
-                                    }
-                                }
-                                Map<UniqueId, TestResult> results = resultsByClass.computeIfAbsent(testClassName,
-                                        s -> new HashMap<>());
-                                TestResult result = new TestResult(displayName, testClassName,
-                                        toTagList(testIdentifier),
-                                        id, testExecutionResult,
-                                        logHandler.captureOutput(), testIdentifier.isTest(), runId,
-                                        System.currentTimeMillis() - startTimes.get(testIdentifier), true);
-                                if (!results.containsKey(id)) {
-                                    //if a child has failed we may have already marked the parent failed
-                                    results.put(id, result);
-                                }
-                                if (result.isTest()) {
-                                    for (TestRunListener listener : listeners) {
-                                        listener.testComplete(result);
-                                    }
-                                    if (dynamic && testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
-                                        //if it is dynamic we fail the parent as well for re-runs
-
-                                        RuntimeException failure = new RuntimeException("A child test failed");
-                                        failure.setStackTrace(new StackTraceElement[0]);
-                                        results.put(id,
-                                                new TestResult(currentNonDynamicTest.get().getDisplayName(),
-                                                        result.getTestClass(),
-                                                        toTagList(testIdentifier),
-                                                        currentNonDynamicTest.get().getUniqueIdObject(),
-                                                        TestExecutionResult.failed(failure), List.of(), false, runId, 0,
-                                                        false));
-                                        results.put(UniqueId.parse(currentNonDynamicTest.get().getUniqueId()), result);
-                                    } else if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
-                                        Throwable throwable = testExecutionResult.getThrowable().get();
-                                        trimStackTrace(testClass, throwable);
-                                        for (var i : throwable.getSuppressed()) {
-                                            trimStackTrace(testClass, i);
-                                        }
-                                    }
-                                } else if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
-                                    //if a parent fails we fail the children
-                                    Set<TestIdentifier> children = testPlan.getChildren(testIdentifier);
-                                    for (TestIdentifier child : children) {
-                                        UniqueId childId = UniqueId.parse(child.getUniqueId());
-                                        result = new TestResult(child.getDisplayName(), testClassName,
-                                                toTagList(testIdentifier),
-                                                childId,
-                                                testExecutionResult,
-                                                logHandler.captureOutput(), child.isTest(), runId,
-                                                System.currentTimeMillis() - startTimes.get(testIdentifier), true);
-                                        results.put(childId, result);
-                                        if (child.isTest()) {
-                                            for (TestRunListener listener : listeners) {
-                                                listener.testStarted(child, testClassName);
-                                                listener.testComplete(result);
-                                            }
-                                        }
-                                    }
-
-                                    Throwable throwable = testExecutionResult.getThrowable().get();
-                                    trimStackTrace(testClass, throwable);
-                                    for (var i : throwable.getSuppressed()) {
-                                        trimStackTrace(testClass, i);
-                                    }
-                                }
-                            }
-
-                            @Override
-                            public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
-
-                            }
-                        });
+                        // the first partition holds the tests that must run before any other, such as the unit tests
+                        currentCollector.set(collectors.get(0));
+                        launchers.get(0).execute(testPlans.get(0), collectors.get(0));
+                        currentCollector.remove();
+                        if (launchers.size() > 1 && !aborted) {
+                            QuarkusConsole.removeOutputFilter(logHandler);
+                            executeConcurrently(launchers, testPlans, collectors, currentCollector, tcl);
+                        }
                         if (aborted) {
                             return;
                         }
@@ -451,6 +291,145 @@ public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry e
         }
     }
 
+    private LauncherDiscoveryRequest createDiscoveryRequest(List<Class<?>> testClasses, Set<UniqueId> allDiscoveredIds,
+            boolean concurrent) {
+        LauncherDiscoveryRequestBuilder launchBuilder = LauncherDiscoveryRequestBuilder.request()
+                .selectors(testClasses.stream().map(DiscoverySelectors::selectClass)
+                        .collect(Collectors.toList()));
+        if (concurrent) {
+            // tells the test applications of this launcher that they must not use the JVM wide system properties and ports
+            launchBuilder.configurationParameter(PARALLEL_PROFILES_PROPERTY, "true");
+        }
+        launchBuilder.filters(new PostDiscoveryFilter() {
+            @Override
+            public FilterResult apply(TestDescriptor testDescriptor) {
+                allDiscoveredIds.add(testDescriptor.getUniqueId());
+                return FilterResult.included(null);
+            }
+        });
+        if (classScanResult != null) {
+            launchBuilder.filters(testClassUsages.getTestsToRun(classScanResult.getChangedClassNames(), testState));
+        }
+        if (!includeTags.isEmpty()) {
+            launchBuilder.filters(TagFilter.includeTags(new ArrayList<>(includeTags)));
+        } else if (!excludeTags.isEmpty()) {
+            launchBuilder.filters(TagFilter.excludeTags(new ArrayList<>(excludeTags)));
+        }
+        if (specificSelection != null) {
+            if (specificSelection.startsWith("maven:")) {
+                launchBuilder.filters(new MavenSpecificSelectionFilter(specificSelection.substring("maven:".length())));
+            } else if (specificSelection.startsWith("gradle:")) {
+                launchBuilder.filters(new GradleSpecificSelectionFilter(specificSelection.substring("gradle:".length())));
+            } else {
+                log.error("Unknown specific selection, ignoring: " + specificSelection);
+            }
+        } else if (include != null) {
+            launchBuilder.filters(new RegexFilter(false, include));
+        } else if (exclude != null) {
+            launchBuilder.filters(new RegexFilter(true, exclude));
+        }
+        if (!includeEngines.isEmpty()) {
+            launchBuilder.filters(EngineFilter.includeEngines(includeEngines));
+        } else if (!excludeEngines.isEmpty()) {
+            launchBuilder.filters(EngineFilter.excludeEngines(excludeEngines));
+        }
+        if (!additionalFilters.isEmpty()) {
+            launchBuilder.filters(additionalFilters.toArray(new PostDiscoveryFilter[0]));
+        }
+        if (failingTestsOnly) {
+            launchBuilder.filters(new CurrentlyFailingFilter());
+        }
+        return launchBuilder.build();
+    }
+
+    /**
+     * Partitions the test classes by the application they run on, every test profile getting its own application.
+     * <p>
+     * The first partition holds the test classes that do not run on an application started by the test framework, such
+     * as the unit tests, which must run before the others. The order of the test classes is kept within every partition.
+     * <p>
+     * The test extension keeps the state of the running application in static fields, so the applications sharing the
+     * class of the test extension are kept in the same partition.
+     */
+    private static List<List<Class<?>>> partitionByApplication(List<Class<?>> testClasses) {
+        List<Class<?>> others = new ArrayList<>();
+        Map<Object, List<Class<?>>> byApplication = new LinkedHashMap<>();
+        for (Class<?> testClass : testClasses) {
+            // only the runtime class loaders of the test applications have a startup action
+            if (testClass.getClassLoader() instanceof QuarkusClassLoader classLoader
+                    && classLoader.getStartupAction() != null
+                    && classLoader.getCuratedApplication() != null) {
+                byApplication.computeIfAbsent(getTestExtensionState(classLoader), k -> new ArrayList<>()).add(testClass);
+            } else {
+                others.add(testClass);
+            }
+        }
+        if (byApplication.size() < 2) {
+            return List.of(testClasses);
+        }
+        List<List<Class<?>>> partitions = new ArrayList<>(byApplication.size() + 1);
+        partitions.add(others);
+        partitions.addAll(byApplication.values());
+        return partitions;
+    }
+
+    private static Object getTestExtensionState(QuarkusClassLoader classLoader) {
+        try {
+            return classLoader.loadClass(QUARKUS_TEST_EXTENSION);
+        } catch (ClassNotFoundException e) {
+            // not a @QuarkusTest, such as a @QuarkusComponentTest
+            return classLoader.getCuratedApplication();
+        }
+    }
+
+    /**
+     * Executes all the test plans but the first one concurrently, every one capturing the output of its own application.
+     */
+    private void executeConcurrently(List<Launcher> launchers, List<TestPlan> testPlans, List<ResultCollector> collectors,
+            ThreadLocal<ResultCollector> currentCollector, ClassLoader tcl) {
+        int threads = Math.min(launchers.size() - 1, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "Test runner thread " + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(launchers.size() - 1);
+            for (int i = 1; i < launchers.size(); i++) {
+                Launcher launcher = launchers.get(i);
+                TestPlan testPlan = testPlans.get(i);
+                ResultCollector collector = collectors.get(i);
+                futures.add(executor.submit(() -> {
+                    if (aborted) {
+                        return;
+                    }
+                    Thread.currentThread().setContextClassLoader(tcl);
+                    currentCollector.set(collector);
+                    QuarkusConsole.addOutputFilter(collector.logHandler);
+                    try {
+                        launcher.execute(testPlan, collector);
+                    } finally {
+                        QuarkusConsole.removeOutputFilter(collector.logHandler);
+                        currentCollector.remove();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("Failed to run tests", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private static List<String> toTagList(TestIdentifier testIdentifier) {
         return testIdentifier
                 .getTags()
@@ -974,6 +953,7 @@ static class Builder {
         private List<String> includeEngines = Collections.emptyList();
         private List<String> excludeEngines = Collections.emptyList();
         private boolean failingTestsOnly;
+        private boolean parallelProfiles;
 
         public Builder setRunId(long runId) {
             this.runId = runId;
@@ -1067,6 +1047,11 @@ public Builder setFailingTestsOnly(boolean failingTestsOnly) {
             this.failingTestsOnly = failingTestsOnly;
             return this;
         }
+
+        public Builder setParallelProfiles(boolean parallelProfiles) {
+            this.parallelProfiles = parallelProfiles;
+            return this;
+        }
     }
 
     private static class RegexFilter implements PostDiscoveryFilter {
@@ -1350,6 +1335,205 @@ public FilterResult apply(TestDescriptor testDescriptor) {
 
     }
 
+    /**
+     * Collects the results of the execution of a test plan.
+     * <p>
+     * The test plans of the different partitions may be executed concurrently, so the results are aggregated in concurrent
+     * collections and the test run listeners are notified under a lock.
+     */
+    private final class ResultCollector implements TestExecutionListener {
+
+        private final TestPlan testPlan;
+        private final Map<String, Map<UniqueId, TestResult>> resultsByClass;
+        private final Set<UniqueId> dynamicIds;
+        private final LogCapturingOutputFilter logHandler;
+        private final Deque<Set<String>> touchedClasses = new LinkedBlockingDeque<>();
+        private final Map<TestIdentifier, Long> startTimes = new HashMap<>();
+        private final AtomicReference<Set<String>> startupClasses = new AtomicReference<>();
+        private final AtomicReference<TestIdentifier> currentNonDynamicTest = new AtomicReference<>();
+
+        private ResultCollector(TestPlan testPlan, Map<String, Map<UniqueId, TestResult>> resultsByClass,
+                Set<UniqueId> dynamicIds, LogCapturingOutputFilter logHandler) {
+            this.testPlan = testPlan;
+            this.resultsByClass = resultsByClass;
+            this.dynamicIds = dynamicIds;
+            this.logHandler = logHandler;
+        }
+
+        void touched(String className) {
+            Set<String> set = touchedClasses.peek();
+            if (set != null) {
+                set.add(className);
+            }
+        }
+
+        void quarkusStarting() {
+            startupClasses.set(touchedClasses.peek());
+        }
+
+        @Override
+        public void executionStarted(TestIdentifier testIdentifier) {
+            if (aborted) {
+                return;
+            }
+            boolean dynamic = dynamicIds.contains(UniqueId.parse(testIdentifier.getUniqueId()));
+            if (!dynamic) {
+                currentNonDynamicTest.set(testIdentifier);
+            }
+            startTimes.put(testIdentifier, System.currentTimeMillis());
+            String testClassName = "";
+            Class<?> testClass = getTestClassFromSource(testIdentifier.getSource());
+            if (testClass != null) {
+                testClassName = testClass.getName();
+            }
+            synchronized (listeners) {
+                for (TestRunListener listener : listeners) {
+                    listener.testStarted(testIdentifier, testClassName);
+                }
+            }
+            touchedClasses.push(Collections.synchronizedSet(new HashSet<>()));
+        }
+
+        @Override
+        public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+            if (aborted) {
+                return;
+            }
+            touchedClasses.pop();
+            Class<?> testClass = getTestClassFromSource(testIdentifier.getSource());
+            String displayName = getDisplayNameFromIdentifier(testIdentifier, testClass);
+            UniqueId id = UniqueId.parse(testIdentifier.getUniqueId());
+            if (testClass != null) {
+                Map<UniqueId, TestResult> results = resultsByClass.computeIfAbsent(testClass.getName(),
+                        s -> new ConcurrentHashMap<>());
+                TestResult result = new TestResult(displayName, testClass.getName(),
+                        toTagList(testIdentifier),
+                        id, TestExecutionResult.aborted(null),
+                        logHandler.captureOutput(), testIdentifier.isTest(), runId, 0, true);
+                results.put(id, result);
+                if (result.isTest()) {
+                    synchronized (listeners) {
+                        for (TestRunListener listener : listeners) {
+                            listener.testComplete(result);
+                        }
+                    }
+                }
+            }
+            touchedClasses.push(Collections.synchronizedSet(new HashSet<>()));
+        }
+
+        @Override
+        public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+            dynamicIds.add(UniqueId.parse(testIdentifier.getUniqueId()));
+            synchronized (listeners) {
+                for (TestRunListener listener : listeners) {
+                    listener.dynamicTestRegistered(testIdentifier);
+                }
+            }
+        }
+
+        @Override
+        public void executionFinished(TestIdentifier testIdentifier,
+                TestExecutionResult testExecutionResult) {
+            if (aborted) {
+                return;
+            }
+            boolean dynamic = dynamicIds.contains(UniqueId.parse(testIdentifier.getUniqueId()));
+            Set<String> touched = touchedClasses.pop();
+            Class<?> testClass = getTestClassFromSource(testIdentifier.getSource());
+            String displayName = getDisplayNameFromIdentifier(testIdentifier, testClass);
+            UniqueId id = UniqueId.parse(testIdentifier.getUniqueId());
+
+            if (testClass == null) {
+                return;
+            }
+            String testClassName = testClass.getName();
+
+            if (testExecutionResult.getStatus() != TestExecutionResult.Status.ABORTED) {
+                for (Set<String> i : touchedClasses) {
+                    //also add the parent touched classes
+                    touched.addAll(i);
+                }
+                if (startupClasses.get() != null) {
+                    touched.addAll(startupClasses.get());
+                }
+                if (testIdentifier.getSource().map(ClassSource.class::isInstance).orElse(false)) {
+                    testClassUsages.updateTestData(testClassName, touched);
+                } else {
+                    testClassUsages.updateTestData(testClassName, id, touched);
+                }
+            }
+            Map<UniqueId, TestResult> results = resultsByClass.computeIfAbsent(testClassName,
+                    s -> new ConcurrentHashMap<>());
+            TestResult result = new TestResult(displayName, testClassName,
+                    toTagList(testIdentifier),
+                    id, testExecutionResult,
+                    logHandler.captureOutput(), testIdentifier.isTest(), runId,
+                    System.currentTimeMillis() - startTimes.get(testIdentifier), true);
+            //if a child has failed we may have already marked the parent failed
+            results.putIfAbsent(id, result);
+            if (result.isTest()) {
+                synchronized (listeners) {
+                    for (TestRunListener listener : listeners) {
+                        listener.testComplete(result);
+                    }
+                }
+                if (dynamic && testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
+                    //if it is dynamic we fail the parent as well for re-runs
+
+                    RuntimeException failure = new RuntimeException("A child test failed");
+                    failure.setStackTrace(new StackTraceElement[0]);
+                    results.put(id,
+                            new TestResult(currentNonDynamicTest.get().getDisplayName(),
+                                    result.getTestClass(),
+                                    toTagList(testIdentifier),
+                                    currentNonDynamicTest.get().getUniqueIdObject(),
+                                    TestExecutionResult.failed(failure), List.of(), false, runId, 0,
+                                    false));
+                    results.put(UniqueId.parse(currentNonDynamicTest.get().getUniqueId()), result);
+                } else if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
+                    Throwable throwable = testExecutionResult.getThrowable().get();
+                    trimStackTrace(testClass, throwable);
+                    for (var i : throwable.getSuppressed()) {
+                        trimStackTrace(testClass, i);
+                    }
+                }
+            } else if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
+                //if a parent fails we fail the children
+                Set<TestIdentifier> children = testPlan.getChildren(testIdentifier);
+                for (TestIdentifier child : children) {
+                    UniqueId childId = UniqueId.parse(child.getUniqueId());
+                    result = new TestResult(child.getDisplayName(), testClassName,
+                            toTagList(testIdentifier),
+                            childId,
+                            testExecutionResult,
+                            logHandler.captureOutput(), child.isTest(), runId,
+                            System.currentTimeMillis() - startTimes.get(testIdentifier), true);
+                    results.put(childId, result);
+                    if (child.isTest()) {
+                        synchronized (listeners) {
+                            for (TestRunListener listener : listeners) {
+                                listener.testStarted(child, testClassName);
+                                listener.testComplete(result);
+                            }
+                        }
+                    }
+                }
+
+                Throwable throwable = testExecutionResult.getThrowable().get();
+                trimStackTrace(testClass, throwable);
+                for (var i : throwable.getSuppressed()) {
+                    trimStackTrace(testClass, i);
+                }
+            }
+        }
+
+        @Override
+        public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+
+        }
+    }
+
     static class DiscoveryResult implements AutoCloseable {
 
         private final static DiscoveryResult EMPTY = new DiscoveryResult(null, List.of());
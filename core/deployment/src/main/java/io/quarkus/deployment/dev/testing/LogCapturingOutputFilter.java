@@ -5,6 +5,7 @@
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
@@ -16,6 +17,7 @@ public class LogCapturingOutputFilter implements BiPredicate<String, Boolean> {
     private static final Logger log = Logger.getLogger(LogCapturingOutputFilter.class);
 
     private final CuratedApplication application;
+    private final Set<ClassLoader> classLoaders;
     private final List<String> logOutput = new ArrayList<>();
     private final List<String> errorOutput = new ArrayList<>();
     private final boolean mergeErrorStream;
@@ -24,22 +26,41 @@ public class LogCapturingOutputFilter implements BiPredicate<String, Boolean> {
 
     public LogCapturingOutputFilter(CuratedApplication application, boolean mergeErrorStream, boolean convertToHtml,
             Supplier<Boolean> finalPredicate) {
+        this(application, Set.of(), mergeErrorStream, convertToHtml, finalPredicate);
+    }
+
+    /**
+     * Captures the output of the threads running with one of the given class loaders, or one of their children, such as
+     * the runtime class loaders of the applications some tests run on.
+     */
+    public LogCapturingOutputFilter(Set<ClassLoader> classLoaders, boolean mergeErrorStream, boolean convertToHtml,
+            Supplier<Boolean> finalPredicate) {
+        this(null, classLoaders, mergeErrorStream, convertToHtml, finalPredicate);
+    }
+
+    private LogCapturingOutputFilter(CuratedApplication application, Set<ClassLoader> classLoaders,
+            boolean mergeErrorStream, boolean convertToHtml, Supplier<Boolean> finalPredicate) {
         this.application = application;
+        this.classLoaders = classLoaders;
         this.mergeErrorStream = mergeErrorStream;
         this.convertToHtml = convertToHtml;
         this.finalPredicate = finalPredicate;
     }
 
     public List<String> captureOutput() {
-        List<String> ret = new ArrayList<>(logOutput);
-        logOutput.clear();
-        return ret;
+        synchronized (logOutput) {
+            List<String> ret = new ArrayList<>(logOutput);
+            logOutput.clear();
+            return ret;
+        }
     }
 
     public List<String> captureErrorOutput() {
-        List<String> ret = new ArrayList<>(errorOutput);
-        errorOutput.clear();
-        return ret;
+        synchronized (logOutput) {
+            List<String> ret = new ArrayList<>(errorOutput);
+            errorOutput.clear();
+            return ret;
+        }
     }
 
     @Override
@@ -50,8 +71,7 @@ public boolean test(String logRecord, Boolean errorStream) {
             return true;
         }
         while (cl.getParent() != null) {
-            if (cl == application.getAugmentClassLoader()
-                    || cl == application.getBaseRuntimeClassLoader()) {
+            if (captures(cl)) {
                 //TODO: for convenience we save the log records as HTML rather than ANSI here
                 synchronized (logOutput) {
                     if (convertToHtml) {
@@ -81,4 +101,12 @@ public boolean test(String logRecord, Boolean errorStream) {
         }
         return true;
     }
+
+    private boolean captures(ClassLoader cl) {
+        if (application == null) {
+            return classLoaders.contains(cl);
+        }
+        return cl == application.getAugmentClassLoader()
+                || cl == application.getBaseRuntimeClassLoader();
+    }
 }
@@ -61,6 +61,7 @@ Runnable prepare(ClassScanResult classScanResult, boolean reRunFailures, long ru
                         .setExcludeEngines(testSupport.excludeEngines)
                         .setTestType(testSupport.testType)
                         .setModuleInfo(moduleInfo)
+                        .setParallelProfiles(testSupport.getConfig().parallelProfiles())
                         .addListener(listener)
                         .setFailingTestsOnly(classScanResult != null && testSupport.brokenOnlyMode); //broken only mode is only when changes are made, not for forced runs
                 if (reRunFailures) {
@@ -113,6 +113,35 @@ public interface TestConfig {
     @WithDefault("false")
     boolean flatClassPath();
 
+    /**
+     * If set to true, the tests of the test profiles that only override runtime configuration run on the augmentation of
+     * the application without test profile. The application is restarted with the configuration of the profile, on a new
+     * runtime class loader, instead of being augmented again.
+     * <p>
+     * A test profile only overrides runtime configuration if it does not enable alternatives, does not disable the
+     * application lifecycle observers, does not set a config profile, does not declare beans, and only overrides
+     * properties that are not read at build time. Properties outside the {@code quarkus} namespace that are neither mapped
+     * by a configuration root nor referenced by an {@code @IfBuildProperty} or {@code @UnlessBuildProperty} are considered
+     * runtime properties.
+     * <p>
+     * This is only taken into account when set as a system property, as it is read before the augmentation.
+     */
+    @WithDefault("false")
+    boolean shareAugmentationBetweenProfiles();
+
+    /**
+     * If set to true, continuous testing partitions the tests by test profile and runs the partitions concurrently, every
+     * partition on its own application. The tests of a partition run in the usual order, and the tests that do not run on
+     * an application, such as the unit tests, still run before all the others.
+     * <p>
+     * The applications running concurrently get the configuration of their test profile and of their test resources
+     * without going through system properties, and listen on random ports published to their own configuration. The tests
+     * must not rely on JVM wide state, such as system properties or fixed ports. The test profiles whose applications
+     * cannot be isolated from each other still run one after the other.
+     */
+    @WithDefault("false")
+    boolean parallelProfiles();
+
     /**
      * The profile to use when testing using {@code @QuarkusIntegrationTest}
      */
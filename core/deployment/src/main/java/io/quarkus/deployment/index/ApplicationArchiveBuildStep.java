@@ -12,10 +12,15 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import org.jboss.jandex.Index;
-import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 
@@ -30,6 +35,7 @@
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildMetricsCounterBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
@@ -50,6 +56,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
 
 public class ApplicationArchiveBuildStep {
@@ -90,6 +97,29 @@ interface IndexDependencyConfig {
         }
     }
 
+    /**
+     * Index cache
+     */
+    @ConfigMapping(prefix = "quarkus.index-cache")
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    interface IndexCacheConfiguration {
+        /**
+         * Whether the Jandex indexes of the application dependencies should be cached on disk and reused by the next
+         * builds.
+         * <p>
+         * A cached index is identified by the SHA-256 digest of the content of the dependency, so it is never reused
+         * for a modified dependency.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The directory where the indexes are cached.
+         */
+        @WithDefault("${user.home}/.quarkus/index-cache")
+        String directory();
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(IndexDependencyConfiguration config,
             BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
@@ -108,13 +138,20 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfiguration indexCacheConfig,
+            ExecutorService buildExecutor,
+            BuildProducer<BuildMetricsCounterBuildItem> buildMetrics) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        PersistentIndexCache persistentIndexCache = indexCacheConfig.enabled()
+                ? new PersistentIndexCache(Path.of(indexCacheConfig.directory()))
+                : null;
+        JarIndexing jarIndexing = new JarIndexing(indexCache, persistentIndexCache, buildExecutor);
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources().entrySet()) {
@@ -125,8 +162,12 @@ ApplicationArchivesBuildItem build(
         removedResources.putAll(curateOutcomeBuildItem.getApplicationModel().getRemovedResources());
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
-                appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
+                appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, jarIndexing,
                 curateOutcomeBuildItem, removedResources);
+        if (persistentIndexCache != null) {
+            buildMetrics.produce(new BuildMetricsCounterBuildItem("index-cache.hits", persistentIndexCache.getHits()));
+            buildMetrics.produce(new BuildMetricsCounterBuildItem("index-cache.misses", persistentIndexCache.getMisses()));
+        }
 
         final OpenPathTree tree;
         if (root.getRootDirectories().size() == 1) {
@@ -149,11 +190,12 @@ ApplicationArchivesBuildItem build(
     private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuildItem buildCloseables,
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
-            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache,
+            List<IndexDependencyBuildItem> indexDependencyBuildItem, JarIndexing jarIndexing,
             CurateOutcomeBuildItem curateOutcomeBuildItem, Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
 
-        List<ApplicationArchive> appArchives = new ArrayList<>();
+        // JARs are indexed concurrently, the archives are resolved in order once all the paths are collected
+        List<Future<ApplicationArchive>> appArchives = new ArrayList<>();
         Set<Path> indexedPaths = new HashSet<>();
 
         //get paths that are included via marker files
@@ -163,27 +205,50 @@ private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuild
             markers.add(marker.endsWith("/") ? marker.substring(0, marker.length() - 1) : marker);
         }
         markers.add(IndexingUtil.JANDEX_INDEX);
-        addMarkerFilePaths(markers, root, indexedPaths, appArchives, indexCache, removedResources);
+        addMarkerFilePaths(markers, root, indexedPaths, appArchives, jarIndexing, removedResources);
 
         //get paths that are included via index-dependencies
         addIndexDependencyPaths(indexDependencyBuildItem, root, indexedPaths, appArchives, buildCloseables,
-                indexCache, curateOutcomeBuildItem, removedResources);
+                jarIndexing, curateOutcomeBuildItem, removedResources);
 
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchives) {
             for (Path apPath : i.getResolvedPaths()) {
                 if (!root.getResolvedPaths().contains(apPath) && indexedPaths.add(apPath)) {
-                    appArchives.add(createApplicationArchive(buildCloseables, indexCache, apPath, null,
+                    appArchives.add(createApplicationArchive(buildCloseables, jarIndexing, apPath, null,
                             removedResources));
                 }
             }
         }
 
-        return appArchives;
+        List<ApplicationArchive> result = new ArrayList<>(appArchives.size());
+        for (Future<ApplicationArchive> archive : appArchives) {
+            result.add(await(archive));
+        }
+        return result;
+    }
+
+    private static ApplicationArchive await(Future<ApplicationArchive> archive) throws IOException {
+        try {
+            return archive.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while indexing the application archives", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
     }
 
     private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems, ArchiveRootBuildItem root,
-            Set<Path> indexedDeps, List<ApplicationArchive> appArchives,
-            QuarkusBuildCloseablesBuildItem buildCloseables, IndexCache indexCache,
+            Set<Path> indexedDeps, List<Future<ApplicationArchive>> appArchives,
+            QuarkusBuildCloseablesBuildItem buildCloseables, JarIndexing jarIndexing,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
             Map<ArtifactKey, Set<String>> removedResources) {
         if (indexDependencyBuildItems.isEmpty()) {
@@ -209,7 +274,7 @@ private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDepende
                             && !root.getResolvedPaths().contains(path)
                             && indexedDeps.add(path)) {
                         try {
-                            appArchives.add(createApplicationArchive(buildCloseables, indexCache, path, dep,
+                            appArchives.add(createApplicationArchive(buildCloseables, jarIndexing, path, dep,
                                     removedResources));
                         } catch (IOException e) {
                             throw new UncheckedIOException(e);
@@ -220,27 +285,29 @@ private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDepende
         }
     }
 
-    private static ApplicationArchive createApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
-            IndexCache indexCache, Path dep, ResolvedDependency resolvedDependency,
+    private static Future<ApplicationArchive> createApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
+            JarIndexing jarIndexing, Path dep, ResolvedDependency resolvedDependency,
             Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
         LOGGER.debugf("Indexing dependency: %s", dep);
         final Set<String> removed = resolvedDependency != null ? removedResources.get(resolvedDependency.getKey()) : null;
-        final OpenPathTree openTree;
-        final IndexView index;
         if (Files.isDirectory(dep)) {
-            openTree = new DirectoryPathTree(dep);
-            index = indexPathTree(openTree, removed);
-        } else {
-            openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
-            index = handleJarPath(dep, indexCache, removed);
+            final OpenPathTree openTree = new DirectoryPathTree(dep);
+            return CompletableFuture.completedFuture(
+                    new ApplicationArchiveImpl(indexPathTree(openTree, removed), openTree, resolvedDependency));
         }
-        return new ApplicationArchiveImpl(index, openTree, resolvedDependency);
+        final OpenPathTree openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
+        return jarIndexing.index(dep, removed, new PersistentIndexCache.JarIndexer() {
+            @Override
+            public Index index(Path jar) throws IOException {
+                return IndexingUtil.indexJar(jar, removed);
+            }
+        }, index -> new ApplicationArchiveImpl(index, openTree, resolvedDependency));
     }
 
     private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
-            ArchiveRootBuildItem root, Set<Path> indexedPaths, List<ApplicationArchive> appArchives,
-            IndexCache indexCache, Map<ArtifactKey, Set<String>> removed)
+            ArchiveRootBuildItem root, Set<Path> indexedPaths, List<Future<ApplicationArchive>> appArchives,
+            JarIndexing jarIndexing, Map<ArtifactKey, Set<String>> removed)
             throws IOException {
         final QuarkusClassLoader cl = ((QuarkusClassLoader) Thread.currentThread().getContextClassLoader());
         final Set<ArtifactKey> indexedElements = new HashSet<>();
@@ -267,16 +334,25 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         if (root.isExcludedFromIndexing(rootPath)) {
                             return null;
                         }
-                        Index index = indexCache.cache.get(rootPath);
-                        if (index == null) {
-                            try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
-                            } catch (IOException ioe) {
-                                throw new UncheckedIOException(ioe);
+                        final Set<String> removedFromTree = removed.get(dependencyKey);
+                        appArchives.add(jarIndexing.index(rootPath, removedFromTree, new PersistentIndexCache.JarIndexer() {
+                            @Override
+                            public Index index(Path jar) throws IOException {
+                                // the tree is read through the element again, so that the element can't be closed
+                                // while it is indexed on another thread
+                                try {
+                                    return cpe.apply(elementTree -> {
+                                        try {
+                                            return IndexingUtil.indexTree(elementTree, removedFromTree);
+                                        } catch (IOException e) {
+                                            throw new UncheckedIOException(e);
+                                        }
+                                    });
+                                } catch (UncheckedIOException e) {
+                                    throw e.getCause();
+                                }
                             }
-                            indexCache.cache.put(rootPath, index);
-                        }
-                        appArchives.add(new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency()));
+                        }, index -> new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency())));
                         return null;
                     }
 
@@ -293,7 +369,7 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         return new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency());
                     });
                     if (archive != null) {
-                        appArchives.add(archive);
+                        appArchives.add(CompletableFuture.completedFuture(archive));
                     }
                     return null;
                 });
@@ -324,17 +400,44 @@ public void visitPath(PathVisit visit) {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try {
-                    return IndexingUtil.indexJar(path, removed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
-                }
+    /**
+     * Indexes the JARs on the build executor, using the dev mode and the persistent caches if possible.
+     */
+    private static final class JarIndexing {
+
+        private final IndexCache indexCache;
+        private final PersistentIndexCache persistentIndexCache;
+        private final ExecutorService executor;
+
+        JarIndexing(IndexCache indexCache, PersistentIndexCache persistentIndexCache, ExecutorService executor) {
+            this.indexCache = indexCache;
+            this.persistentIndexCache = persistentIndexCache;
+            this.executor = executor;
+        }
+
+        Future<ApplicationArchive> index(Path jar, Set<String> removed, PersistentIndexCache.JarIndexer indexer,
+                Function<Index, ApplicationArchive> function) {
+            Index cached = indexCache.cache.get(jar);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(function.apply(cached));
             }
-        });
+            return executor.submit(new Callable<ApplicationArchive>() {
+                @Override
+                public ApplicationArchive call() throws Exception {
+                    Index index;
+                    try {
+                        // the persistent cache is keyed by the JAR content only, it can't hold partial indexes
+                        index = persistentIndexCache != null && removed == null
+                                ? persistentIndexCache.index(jar, indexer)
+                                : indexer.index(jar);
+                    } catch (IOException e) {
+                        throw new IOException("Failed to process " + jar, e);
+                    }
+                    indexCache.cache.put(jar, index);
+                    return function.apply(index);
+                }
+            });
+        }
     }
 
     /**
@@ -342,6 +445,6 @@ public Index apply(Path path) {
      * to re-index them each time. We cache them here to reduce the hot reload time.
      */
     private static final class IndexCache {
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
     }
 }
@@ -0,0 +1,121 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * An on-disk cache of the Jandex indexes of application dependencies, shared across builds.
+ * <p>
+ * The indexes are stored in files named after the SHA-256 digest of the content of the indexed JAR and of the Jandex
+ * version, so a cached index is never used for a different JAR content nor read by a different Jandex version.
+ * Any failure to read or write the cache is ignored, and the JAR is indexed as if there was no cache.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Path directory;
+    private final byte[] jandexVersion;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+        String version = Index.class.getPackage().getImplementationVersion();
+        this.jandexVersion = (version != null ? version : "unknown").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the index of the given JAR, from the cache if possible.
+     *
+     * @param jar the JAR
+     * @param indexer the function used to index the JAR if it is not cached
+     * @return the index
+     * @throws IOException if the JAR cannot be read
+     */
+    Index index(Path jar, JarIndexer indexer) throws IOException {
+        Path cached = directory.resolve(key(jar) + INDEX_SUFFIX);
+        if (Files.isRegularFile(cached)) {
+            try (InputStream in = Files.newInputStream(cached)) {
+                Index index = new IndexReader(in).read();
+                hits.incrementAndGet();
+                return index;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debugf(e, "Unable to read the cached index %s of %s", cached, jar);
+            }
+        }
+        misses.incrementAndGet();
+        Index index = indexer.index(jar);
+        store(cached, index);
+        return index;
+    }
+
+    int getHits() {
+        return hits.get();
+    }
+
+    int getMisses() {
+        return misses.get();
+    }
+
+    private void store(Path cached, Index index) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, cached.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            // concurrent builds may store the same index, the last one wins
+            Files.move(tmp, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to store the index %s", cached);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private String key(Path jar) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(jandexVersion);
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(jar)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @FunctionalInterface
+    interface JarIndexer {
+
+        Index index(Path jar) throws IOException;
+    }
+}
@@ -43,6 +43,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
@@ -150,6 +151,8 @@ public class BytecodeRecorderImpl implements RecorderContext {
 
     private int deferredParameterCount = 0;
     private boolean loadComplete;
+    private boolean deferrable;
+    private String buildStepName;
 
     public BytecodeRecorderImpl(boolean staticInit, String buildStepName, String methodName, String uniqueHash,
             boolean useIdentityComparison) {
@@ -168,6 +171,9 @@ public BytecodeRecorderImpl(boolean staticInit, String buildStepName, String met
                 classCreator -> {
                     return startupMethodCreator(buildStepName, methodName, classCreator);
                 }, useIdentityComparison, configCreatorFunction);
+        if ((buildStepName != null) && (methodName != null)) {
+            this.buildStepName = buildStepName + "." + methodName;
+        }
     }
 
     // visible for testing
@@ -397,6 +403,26 @@ public Object invoke(Object proxy, Method method, Object[] args) throws Throwabl
         }
     }
 
+    /**
+     * Marks the recorded bytecode as deferrable, it is then only executed when one of the objects it returned is needed.
+     * This must be called before any invocation is recorded.
+     */
+    public void setDeferrable(boolean deferrable) {
+        this.deferrable = deferrable;
+    }
+
+    public boolean isDeferrable() {
+        return deferrable;
+    }
+
+    @Override
+    public <T> Supplier<T> lazyReturnedValue(T returnedProxy) {
+        if (!(returnedProxy instanceof ReturnedProxy)) {
+            throw new IllegalArgumentException("The object is not a proxy returned from a recorder method: " + returnedProxy);
+        }
+        return new LazyReturnedValue<>((ReturnedProxy) returnedProxy);
+    }
+
     public void markClassAsConstructorRecordable(Class<?> clazz) {
         classesToUseRecordableConstructor.add(clazz);
     }
@@ -419,10 +445,19 @@ private ProxyInstance getProxyInstance(Class<?> returnType) throws Instantiation
         }
 
         String key = PROXY_KEY + COUNT.incrementAndGet();
-        Object proxyInstance = proxyFactory.newInstance(new ReturnValueProxyInvocationHandler(key, returnType, staticInit));
+        Object proxyInstance = proxyFactory.newInstance(new ReturnValueProxyInvocationHandler(key, returnType, staticInit,
+                deferrable));
         return new ProxyInstance(proxyInstance, key);
     }
 
+    /**
+     * @return the name of the build step that recorded the bytecode, as set on the {@link StartupContext} by the generated
+     *         startup task, or {@code null} if unknown
+     */
+    public String getBuildStepName() {
+        return buildStepName;
+    }
+
     public String getClassName() {
         return className;
     }
@@ -743,6 +778,21 @@ ResultHandle doLoad(MethodContext context, MethodCreator method, ResultHandle ar
                             method.getMethodParam(0), method.load(proxyId));
                 }
             };
+        } else if (param instanceof LazyReturnedValue<?> lazy) {
+            ReturnedProxy rp = lazy.returnedProxy;
+            if (!rp.__static$$init() && staticInit) {
+                throw new RuntimeException("Invalid proxy passed to recorder. " + rp
+                        + " was created in a runtime recorder method, while this recorder is for a static init method. The object will not have been created at the time this method is run.");
+            }
+            String proxyId = rp.__returned$proxy$key();
+            return new DeferredParameter() {
+                @Override
+                ResultHandle doLoad(MethodContext context, MethodCreator method, ResultHandle array) {
+                    return method.invokeVirtualMethod(
+                            ofMethod(StartupContext.class, "lazyValue", Supplier.class, String.class),
+                            method.getMethodParam(0), method.load(proxyId));
+                }
+            };
         } else if (param instanceof Duration) {
             return new DeferredParameter() {
                 @Override
@@ -1666,11 +1716,13 @@ private static final class ReturnValueProxyInvocationHandler implements Invocati
         private final Class<?> returnType;
         private final String key;
         private final boolean staticInit;
+        private final boolean deferred;
 
-        private ReturnValueProxyInvocationHandler(String key, Class<?> returnType, boolean staticInit) {
+        private ReturnValueProxyInvocationHandler(String key, Class<?> returnType, boolean staticInit, boolean deferred) {
             this.returnType = returnType;
             this.key = key;
             this.staticInit = staticInit;
+            this.deferred = deferred;
         }
 
         @Override
@@ -1681,6 +1733,9 @@ public Object invoke(Object proxy, Method method, Object[] args) throws Throwabl
             if (method.getName().equals("__static$$init")) {
                 return staticInit;
             }
+            if (method.getName().equals("__deferred$$init")) {
+                return deferred;
+            }
             if (method.getName().equals("toString")
                     && method.getParameterCount() == 0
                     && method.getReturnType().equals(String.class)) {
@@ -1711,6 +1766,27 @@ public interface ReturnedProxy {
         String __returned$proxy$key();
 
         boolean __static$$init();
+
+        /**
+         * @return true if the object is returned by a deferrable recorder method
+         */
+        boolean __deferred$$init();
+    }
+
+    /**
+     * A supplier of an object returned from a recorder method, that is looked up when the supplier is called at runtime.
+     */
+    static final class LazyReturnedValue<T> implements Supplier<T> {
+        final ReturnedProxy returnedProxy;
+
+        LazyReturnedValue(ReturnedProxy returnedProxy) {
+            this.returnedProxy = returnedProxy;
+        }
+
+        @Override
+        public T get() {
+            throw new IllegalStateException("Can only be called at runtime");
+        }
     }
 
     static final class StoredMethodCall implements BytecodeInstruction {
@@ -3,6 +3,7 @@
 import java.lang.reflect.Constructor;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import io.quarkus.runtime.ObjectSubstitution;
 import io.quarkus.runtime.RuntimeValue;
@@ -64,4 +65,16 @@ <F, T> void registerSubstitution(Class<F> from, Class<T> to,
      * @return The class instance proxy
      */
     <T> RuntimeValue<T> newInstance(String name);
+
+    /**
+     * Creates a supplier of an object returned from a recorder method, that can be passed to a recording proxy instead of
+     * the object itself. The object is only looked up when the supplier is called at runtime, so that the deferrable
+     * recorder method that returned it is not executed before the object is actually needed.
+     *
+     * @param returnedProxy An object returned from a recorder method
+     * @param <T> The type of the object
+     * @return A supplier that can be passed to a recording proxy
+     * @see io.quarkus.deployment.annotations.Record#deferrable()
+     */
+    <T> Supplier<T> lazyReturnedValue(T returnedProxy);
 }
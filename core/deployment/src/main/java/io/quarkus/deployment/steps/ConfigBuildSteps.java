@@ -1,21 +1,38 @@
 package io.quarkus.deployment.steps;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
 
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.Converter;
+import org.jboss.logging.Logger;
 
+import io.quarkus.bootstrap.classloading.ClassPathElement;
+import io.quarkus.bootstrap.classloading.ClassPathResource;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.deployment.ConfigBuildTimeConfig;
+import io.quarkus.deployment.IsNormalNotRemoteDev;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigBuilderBuildItem;
 import io.quarkus.deployment.builditem.StaticInitConfigBuilderBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.util.ServiceUtil;
+import io.quarkus.runtime.configuration.QuarkusConfigBuilderCustomizer;
+import io.quarkus.runtime.configuration.RuntimeConfigSnapshot;
+import io.quarkus.runtime.configuration.RuntimeConfigSnapshotConfigBuilder;
 import io.quarkus.runtime.configuration.SystemOnlySourcesConfigBuilder;
 import io.quarkus.runtime.graal.InetRunTime;
 import io.smallrye.config.ConfigSourceInterceptor;
@@ -23,11 +40,20 @@
 import io.smallrye.config.ConfigValidator;
 import io.smallrye.config.SecretKeysHandler;
 import io.smallrye.config.SecretKeysHandlerFactory;
+import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.config.SmallRyeConfigProviderResolver;
 
 class ConfigBuildSteps {
+    private static final Logger log = Logger.getLogger(ConfigBuildSteps.class);
+
     static final String SERVICES_PREFIX = "META-INF/services/";
 
+    // the configuration files of the classpath, read by the default sources
+    private static final List<String> SNAPSHOT_FILES = List.of("application.properties",
+            "META-INF/microprofile-config.properties");
+    private static final Pattern PROFILE_FILE = Pattern
+            .compile(".*/(application|microprofile-config)-[^/]+\\.properties\\]?");
+
     // XXX replace this with constant-folded service loader impl
     @BuildStep
     void nativeServiceProviders(
@@ -62,6 +88,74 @@ void systemOnlySources(BuildProducer<StaticInitConfigBuilderBuildItem> staticIni
         runTimeConfigBuilder.produce(new RunTimeConfigBuilderBuildItem(SystemOnlySourcesConfigBuilder.class.getName()));
     }
 
+    @BuildStep(onlyIf = { IsNormalNotRemoteDev.class, BuildTimeSnapshot.class })
+    void buildTimeSnapshot(BuildProducer<GeneratedResourceBuildItem> generatedResource,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResource,
+            BuildProducer<RunTimeConfigBuilderBuildItem> runTimeConfigBuilder) throws IOException {
+        List<RuntimeConfigSnapshot.Source> sources = classPathSources(
+                ConfigProvider.getConfig().unwrap(SmallRyeConfig.class));
+        if (sources == null) {
+            return;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RuntimeConfigSnapshot.write(sources, out);
+        generatedResource.produce(new GeneratedResourceBuildItem(RuntimeConfigSnapshot.RESOURCE, out.toByteArray()));
+        nativeImageResource.produce(new NativeImageResourceBuildItem(RuntimeConfigSnapshot.RESOURCE));
+        runTimeConfigBuilder.produce(new RunTimeConfigBuilderBuildItem(RuntimeConfigSnapshotConfigBuilder.class.getName()));
+    }
+
+    /**
+     * Copies the sources of the configuration files found in the runtime classpath.
+     *
+     * @return the copied sources, or {@code null} if the runtime configuration cannot be read from a snapshot
+     */
+    private static List<RuntimeConfigSnapshot.Source> classPathSources(SmallRyeConfig config) {
+        if (config.getConfigValue(QuarkusConfigBuilderCustomizer.QUARKUS_CONFIG_LOCATIONS).getValue() != null) {
+            log.debug("Not taking a configuration snapshot as additional config locations are set");
+            return null;
+        }
+        for (ConfigSource source : config.getConfigSources()) {
+            if (PROFILE_FILE.matcher(source.getName()).matches()) {
+                log.debugf("Not taking a configuration snapshot as %s is profile specific", source.getName());
+                return null;
+            }
+        }
+        List<RuntimeConfigSnapshot.Source> sources = new ArrayList<>();
+        for (String file : SNAPSHOT_FILES) {
+            for (ClassPathElement element : QuarkusClassLoader.getElements(file, false)) {
+                if (!element.isRuntime()) {
+                    continue;
+                }
+                ClassPathResource resource = element.getResource(file);
+                String url = resource.getUrl().toString();
+                ConfigSource source = null;
+                for (ConfigSource candidate : config.getConfigSources()) {
+                    if (candidate.getName().contains(url)) {
+                        source = candidate;
+                        break;
+                    }
+                }
+                if (source == null) {
+                    log.debugf("Not taking a configuration snapshot as %s was not loaded at build time", url);
+                    return null;
+                }
+                sources.add(new RuntimeConfigSnapshot.Source(source.getName(), source.getOrdinal(),
+                        new HashMap<>(source.getProperties())));
+            }
+        }
+        return sources;
+    }
+
+    private static class BuildTimeSnapshot implements BooleanSupplier {
+        ConfigBuildTimeConfig configBuildTimeConfig;
+
+        @Override
+        public boolean getAsBoolean() {
+            // the configuration files are not read at all with system only sources
+            return configBuildTimeConfig.buildTimeSnapshot() && !configBuildTimeConfig.systemOnly();
+        }
+    }
+
     private static class SystemOnlySources implements BooleanSupplier {
         ConfigBuildTimeConfig configBuildTimeConfig;
 
@@ -7,6 +7,7 @@
 import java.io.File;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -35,6 +36,7 @@
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.StaticInitConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.AllowJNDIBuildItem;
@@ -80,6 +82,7 @@
 import io.quarkus.runtime.ExecutionModeManager;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.NativeImageRuntimePropertiesRecorder;
+import io.quarkus.runtime.ParallelStartupTasks;
 import io.quarkus.runtime.PreventFurtherStepsException;
 import io.quarkus.runtime.Quarkus;
 import io.quarkus.runtime.QuarkusApplication;
@@ -87,6 +90,7 @@
 import io.quarkus.runtime.StartupTask;
 import io.quarkus.runtime.annotations.QuarkusMain;
 import io.quarkus.runtime.configuration.ConfigUtils;
+import io.quarkus.runtime.util.StartupTimeline;
 import io.quarkus.runtime.util.StepTiming;
 
 public class MainClassBuildStep {
@@ -103,6 +107,8 @@ public class MainClassBuildStep {
 
     private static final FieldDescriptor STARTUP_CONTEXT_FIELD = FieldDescriptor.of(Application.APP_CLASS_NAME, STARTUP_CONTEXT,
             StartupContext.class);
+    private static final FieldDescriptor STATIC_INIT_TASKS_FIELD = FieldDescriptor.of(Application.APP_CLASS_NAME,
+            "staticInitTasks", ParallelStartupTasks.class);
 
     public static final MethodDescriptor PRINT_STEP_TIME_METHOD = ofMethod(StepTiming.class.getName(), "printStepTime",
             void.class, StartupContext.class);
@@ -118,6 +124,10 @@ public class MainClassBuildStep {
             "unset", void.class);
     public static final MethodDescriptor CONFIGURE_STEP_TIME_START = ofMethod(StepTiming.class.getName(), "configureStart",
             void.class);
+    public static final MethodDescriptor STARTUP_TIMELINE_STATIC_INIT_STARTED = ofMethod(StartupTimeline.class.getName(),
+            "staticInitStarted", void.class);
+    public static final MethodDescriptor STARTUP_TIMELINE_STARTUP_COMPLETED = ofMethod(StartupTimeline.class.getName(),
+            "startupCompleted", void.class);
     private static final DotName QUARKUS_APPLICATION = DotName.createSimple(QuarkusApplication.class.getName());
     private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
     private static final Type STRING_ARRAY = Type.create(DotName.createSimple(String[].class.getName()), Type.Kind.ARRAY);
@@ -139,7 +149,8 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
             LiveReloadBuildItem liveReloadBuildItem,
             ApplicationInfoBuildItem applicationInfo,
             List<AllowJNDIBuildItem> allowJNDIBuildItems,
-            NamingConfig namingConfig) {
+            NamingConfig namingConfig,
+            StaticInitConfig staticInitConfig) {
 
         appClassNameProducer.produce(new ApplicationClassNameBuildItem(Application.APP_CLASS_NAME));
 
@@ -184,6 +195,7 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
                 lm);
 
         mv.invokeStaticMethod(CONFIGURE_STEP_TIME_ENABLED);
+        mv.invokeStaticMethod(STARTUP_TIMELINE_STATIC_INIT_STARTED);
         mv.invokeStaticMethod(RUNTIME_EXECUTION_STATIC_INIT);
 
         mv.invokeStaticMethod(ofMethod(Timing.class, "staticInitStarted", void.class, boolean.class),
@@ -206,9 +218,18 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
         mv.writeStaticField(scField.getFieldDescriptor(), startupContext);
         TryBlock tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
-        for (StaticBytecodeRecorderBuildItem holder : staticInitTasks) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), null, substitutions, recordableConstructorBuildItems, loaders,
-                    constants, gizmoOutput, startupContext, tryBlock);
+        if (staticInitConfig.parallel()) {
+            file.getFieldCreator(STATIC_INIT_TASKS_FIELD).setModifiers(Modifier.PRIVATE | Modifier.STATIC);
+            ResultHandle parallelTasks = writeParallelStaticInit(staticInitTasks, staticInitConfig, substitutions,
+                    recordableConstructorBuildItems, loaders, constants, gizmoOutput, startupContext, tryBlock);
+            tryBlock.writeStaticField(STATIC_INIT_TASKS_FIELD, parallelTasks);
+            // only run here when building a native image, the tasks otherwise run at the start of doStart
+            tryBlock.invokeVirtualMethod(ofMethod(ParallelStartupTasks.class, "staticInit", void.class), parallelTasks);
+        } else {
+            for (StaticBytecodeRecorderBuildItem holder : staticInitTasks) {
+                writeRecordedBytecode(holder.getBytecodeRecorder(), null, substitutions, recordableConstructorBuildItems,
+                        loaders, constants, gizmoOutput, startupContext, tryBlock);
+            }
         }
         tryBlock.returnValue(null);
 
@@ -223,6 +244,22 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
         mv = file.getMethodCreator("doStart", void.class, String[].class);
         mv.setModifiers(Modifier.PROTECTED | Modifier.FINAL);
 
+        if (staticInitConfig.parallel()) {
+            // the static init tasks run on other threads, which would block on the initialization lock of this class if they
+            // ran during its static initializer, so they run before anything else, still in the static init execution mode
+            TryBlock staticInitTry = mv.tryBlock();
+            staticInitTry.invokeVirtualMethod(ofMethod(ParallelStartupTasks.class, "start", void.class),
+                    staticInitTry.readStaticField(STATIC_INIT_TASKS_FIELD));
+            CatchBlockCreator staticInitCatch = staticInitTry.addCatch(Throwable.class);
+            staticInitCatch.invokeStaticMethod(
+                    ofMethod(ApplicationStateNotification.class, "notifyStartupFailed", void.class, Throwable.class),
+                    staticInitCatch.getCaughtException());
+            staticInitCatch.invokeVirtualMethod(ofMethod(StartupContext.class, "close", void.class),
+                    staticInitCatch.readStaticField(STARTUP_CONTEXT_FIELD));
+            staticInitCatch.throwException(RuntimeException.class, "Failed to start quarkus",
+                    staticInitCatch.getCaughtException());
+        }
+
         // Make sure we set properties in doStartup as well. This is necessary because setting them in the static-init
         // sets them at build-time, on the host JVM, while SVM has substitutions for System. get/setProperty at
         // run-time which will never see those properties unless we also set them at run-time.
@@ -282,6 +319,7 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
         }
 
         tryBlock.invokeStaticMethod(RUNTIME_EXECUTION_RUNNING);
+        tryBlock.invokeStaticMethod(STARTUP_TIMELINE_STARTUP_COMPLETED);
 
         // Startup log messages
         List<String> featureNames = new ArrayList<>();
@@ -306,6 +344,11 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
 
         tryBlock.invokeStaticMethod(
                 ofMethod(QuarkusConsole.class, "start", void.class));
+        if (mainMethod.stream().anyMatch(MainClassBuildStep::isDeferrable)) {
+            // the deferred tasks that are not needed yet run once the application has started
+            tryBlock.invokeVirtualMethod(ofMethod(StartupContext.class, "runDeferredTasksInBackground", void.class),
+                    startupContext);
+        }
 
         CatchBlockCreator preventFurtherStepsBlock = tryBlock.addCatch(PreventFurtherStepsException.class);
         preventFurtherStepsBlock.invokeVirtualMethod(ofMethod(StartupContext.class, "close", void.class), startupContext);
@@ -476,6 +519,10 @@ private void generateMainForQuarkusApplication(String quarkusApplicationClassNam
         file.close();
     }
 
+    private static boolean isDeferrable(MainBytecodeRecorderBuildItem holder) {
+        return holder.getBytecodeRecorder() != null && holder.getBytecodeRecorder().isDeferrable();
+    }
+
     private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
             List<ObjectSubstitutionBuildItem> substitutions,
             List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
@@ -484,9 +531,36 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
             GeneratedClassGizmoAdaptor gizmoOutput,
             ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
 
-        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+        ResultHandle dup = newStartupTask(recorder, fallbackGeneratedStartupTaskClassName, substitutions,
+                recordableConstructorBuildItems, loaders, constants, gizmoOutput, bytecodeCreator);
+        if (dup == null) {
+            return;
+        }
+        if (recorder != null && recorder.isDeferrable()) {
+            bytecodeCreator.invokeVirtualMethod(
+                    ofMethod(StartupContext.class, "addDeferredTask", void.class, StartupTask.class), startupContext, dup);
             return;
         }
+        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
+                startupContext);
+        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+    }
+
+    /**
+     * Writes the bytecode of the recorder and instantiates its startup task.
+     *
+     * @return the startup task, or {@code null} if there is nothing to run
+     */
+    private ResultHandle newStartupTask(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput, BytecodeCreator bytecodeCreator) {
+
+        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+            return null;
+        }
 
         if ((recorder != null) && !recorder.isEmpty()) {
             for (ObjectSubstitutionBuildItem sub : substitutions) {
@@ -505,11 +579,79 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
             recorder.writeBytecode(gizmoOutput);
         }
 
-        ResultHandle dup = bytecodeCreator
+        return bytecodeCreator
                 .newInstance(ofConstructor(recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName));
-        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                startupContext);
-        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+    }
+
+    /**
+     * Writes the static init tasks to a {@link ParallelStartupTasks}, every task depending on the previous tasks recorded by
+     * the build steps its own build step depends on.
+     *
+     * @return the tasks, which are not run yet
+     */
+    private ResultHandle writeParallelStaticInit(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
+            StaticInitConfig staticInitConfig,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput,
+            ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
+        List<StaticBytecodeRecorderBuildItem> tasks = staticInitTasks.stream()
+                .filter(holder -> holder.getBytecodeRecorder() != null && !holder.getBytecodeRecorder().isEmpty())
+                .toList();
+        List<int[]> dependencies = staticInitDependencies(tasks);
+
+        ResultHandle parallelTasks = bytecodeCreator.newInstance(
+                ofConstructor(ParallelStartupTasks.class, StartupContext.class, int.class), startupContext,
+                bytecodeCreator.load(staticInitConfig.parallelism().orElse(0)));
+        for (int i = 0; i < tasks.size(); i++) {
+            BytecodeRecorderImpl recorder = tasks.get(i).getBytecodeRecorder();
+            ResultHandle task = newStartupTask(recorder, null, substitutions, recordableConstructorBuildItems, loaders,
+                    constants, gizmoOutput, bytecodeCreator);
+            int[] taskDependencies = dependencies.get(i);
+            ResultHandle dependenciesArray = bytecodeCreator.newArray(int.class, taskDependencies.length);
+            for (int j = 0; j < taskDependencies.length; j++) {
+                bytecodeCreator.writeArrayValue(dependenciesArray, j, bytecodeCreator.load(taskDependencies[j]));
+            }
+            bytecodeCreator.invokeVirtualMethod(
+                    ofMethod(ParallelStartupTasks.class, "add", void.class, StartupTask.class, String.class, int[].class),
+                    parallelTasks, task, bytecodeCreator.load(String.valueOf(recorder.getBuildStepName())),
+                    dependenciesArray);
+        }
+        return parallelTasks;
+    }
+
+    /**
+     * Computes the dependencies of the static init tasks, in their sequential order. A task depends on a previous task if
+     * its build step depends on the build step of the previous task, or if the dependencies of either step are unknown.
+     * Only the direct dependencies are kept, the dependencies of a task being transitive.
+     */
+    static List<int[]> staticInitDependencies(List<StaticBytecodeRecorderBuildItem> tasks) {
+        List<BitSet> allDependencies = new ArrayList<>(tasks.size());
+        List<int[]> result = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            StaticBytecodeRecorderBuildItem task = tasks.get(i);
+            BitSet all = new BitSet();
+            for (int j = 0; j < i; j++) {
+                StaticBytecodeRecorderBuildItem previous = tasks.get(j);
+                if (task.getBuildStepId() == null || previous.getDependentBuildStepIds() == null
+                        || previous.getDependentBuildStepIds().contains(task.getBuildStepId())) {
+                    all.set(j);
+                }
+            }
+            BitSet direct = (BitSet) all.clone();
+            for (int j = all.nextSetBit(0); j >= 0; j = all.nextSetBit(j + 1)) {
+                direct.andNot(allDependencies.get(j));
+            }
+            // keep the transitive dependencies, so that the reduction of the next tasks is complete
+            for (int j = all.nextSetBit(0); j >= 0; j = all.nextSetBit(j + 1)) {
+                all.or(allDependencies.get(j));
+            }
+            allDependencies.add(all);
+            result.add(direct.stream().toArray());
+        }
+        return result;
     }
 
     /**
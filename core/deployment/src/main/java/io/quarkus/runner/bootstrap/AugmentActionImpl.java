@@ -177,6 +177,15 @@ public AugmentResult createProductionApplication() {
         if (launchMode != LaunchMode.NORMAL) {
             throw new IllegalStateException("Can only create a production application when using NORMAL launch mode");
         }
+        AugmentationCache augmentationCache = AugmentationCache.create(curatedApplication);
+        if (augmentationCache != null) {
+            AugmentResult cached = augmentationCache.restore();
+            if (cached != null) {
+                log.info("Quarkus augmentation skipped, the application was restored from the augmentation cache");
+                return cached;
+            }
+            augmentationCache.buildStarted();
+        }
         try (QuarkusClassLoader classLoader = curatedApplication.createDeploymentClassLoader()) {
             BuildResult result = runAugment(true, Collections.emptySet(), null, classLoader, ArtifactResultBuildItem.class,
                     DeploymentResultBuildItem.class, SbomBuildItem.class);
@@ -196,13 +205,17 @@ public AugmentResult createProductionApplication() {
             }
             writeArtifactResultMetadataFile(buildSystemTargetBuildItem, artifactResultBuildItems);
 
-            return new AugmentResult(artifactResultBuildItems.stream()
+            AugmentResult augmentResult = new AugmentResult(artifactResultBuildItems.stream()
                     .map(a -> new ArtifactResult(a.getPath(), a.getType(), a.getMetadata()))
                     .collect(Collectors.toList()),
                     jarBuildItem != null ? jarBuildItem.toJarResult(sboms.getOrDefault(jarBuildItem.getPath(), List.of()))
                             : null,
                     nativeImageBuildItem != null ? nativeImageBuildItem.getPath() : null,
                     nativeImageBuildItem != null ? nativeImageBuildItem.getGraalVMInfo().toMap() : Map.of());
+            if (augmentationCache != null && sboms.isEmpty()) {
+                augmentationCache.store(augmentResult);
+            }
+            return augmentResult;
         }
     }
 
@@ -0,0 +1,527 @@
+package io.quarkus.runner.bootstrap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.app.AdditionalDependency;
+import io.quarkus.bootstrap.app.ArtifactResult;
+import io.quarkus.bootstrap.app.AugmentResult;
+import io.quarkus.bootstrap.app.CuratedApplication;
+import io.quarkus.bootstrap.app.JarResult;
+import io.quarkus.bootstrap.app.QuarkusBootstrap;
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.builder.Version;
+import io.quarkus.maven.dependency.ResolvedDependency;
+
+/**
+ * A cache of the output of the production builds, shared across builds.
+ * <p>
+ * The entries are keyed by a fingerprint of the inputs of the build: the Quarkus version, the content of the application
+ * root, the application model, the build system properties, the Quarkus system properties and environment variables, and
+ * the configuration files read from outside of the application root: the {@code .env} files, the {@code config}
+ * directory of the working directory and the {@code quarkus.config.locations}. The content of the dependencies located
+ * in directories is part of the fingerprint, while the dependency JARs are identified by their path, size and last
+ * modification time.
+ * <p>
+ * An entry stores the whole output of the build along with the augmentation result: the application directory, the
+ * artifacts of the build and any other file created or modified in the build directory during the build. On a hit, the
+ * application directory is replaced with the stored one, the other files are copied back to the build directory and the
+ * augmentation is skipped entirely. Only the builds producing a JVM application without any external side effect, such
+ * as a container image or a native executable, are cached.
+ * <p>
+ * The cache keeps the most recently used entries only. It is enabled with the
+ * {@code -Dio.quarkus.augmentation-cache.enabled=true} system property or build system property: it is read before the
+ * configuration of the application is, so it cannot be set in {@code application.properties}.
+ */
+final class AugmentationCache {
+
+    private static final Logger log = Logger.getLogger(AugmentationCache.class);
+
+    static final String ENABLED = "io.quarkus.augmentation-cache.enabled";
+    static final String DIRECTORY = "io.quarkus.augmentation-cache.directory";
+    static final String MAX_ENTRIES = "io.quarkus.augmentation-cache.max-entries";
+
+    private static final int DEFAULT_MAX_ENTRIES = 10;
+    private static final String CONFIG_LOCATIONS = "quarkus.config.locations";
+    private static final String RESULT_FILE = "augment-result.properties";
+    private static final String FILES_DIR = "files";
+
+    private final Path directory;
+    private final Path targetDir;
+    private final String key;
+    private final int maxEntries;
+    private Map<Path, FileTime> snapshot;
+
+    AugmentationCache(Path directory, Path targetDir, String key, int maxEntries) {
+        this.directory = directory;
+        this.targetDir = targetDir;
+        this.key = key;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return the cache for the given application, or {@code null} if the cache is not enabled
+     */
+    static AugmentationCache create(CuratedApplication curatedApplication) {
+        QuarkusBootstrap bootstrap = curatedApplication.getQuarkusBootstrap();
+        if (!Boolean.parseBoolean(property(bootstrap, ENABLED)) || bootstrap.getTargetDirectory() == null) {
+            return null;
+        }
+        String dir = property(bootstrap, DIRECTORY);
+        Path directory = dir != null ? Path.of(dir)
+                : Path.of(System.getProperty("user.home"), ".quarkus", "augmentation-cache");
+        String maxEntries = property(bootstrap, MAX_ENTRIES);
+        try {
+            return new AugmentationCache(directory.toAbsolutePath().normalize(),
+                    bootstrap.getTargetDirectory().toAbsolutePath().normalize(),
+                    fingerprint(curatedApplication),
+                    maxEntries != null ? Integer.parseInt(maxEntries) : DEFAULT_MAX_ENTRIES);
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to compute the augmentation cache key, the augmentation cache is disabled");
+            return null;
+        }
+    }
+
+    /**
+     * Restores the output of a previous build with the same inputs.
+     *
+     * @return the augmentation result, or {@code null} if there is no such build
+     */
+    AugmentResult restore() {
+        Path entry = directory.resolve(key);
+        Path resultFile = entry.resolve(RESULT_FILE);
+        if (!Files.isRegularFile(resultFile)) {
+            return null;
+        }
+        try {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(resultFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            String clean = properties.getProperty("clean");
+            if (clean != null) {
+                // stale files of another build must not end up in the application directory
+                IoUtils.recursiveDelete(targetDir.resolve(clean));
+            }
+            Path files = entry.resolve(FILES_DIR);
+            if (Files.isDirectory(files)) {
+                IoUtils.copy(files, targetDir);
+            }
+            // the least recently used entries are evicted first
+            Files.setLastModifiedTime(resultFile, FileTime.fromMillis(System.currentTimeMillis()));
+            return toResult(properties);
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to restore the augmentation cache entry %s", entry);
+            return null;
+        }
+    }
+
+    /**
+     * Records the state of the build directory before the build, to find out the files written by the build.
+     */
+    void buildStarted() {
+        try {
+            snapshot = scan();
+        } catch (IOException e) {
+            log.debugf(e, "Unable to scan %s, the build output will not be cached", targetDir);
+        }
+    }
+
+    /**
+     * Stores the output of the build, if it can be restored by a later build.
+     */
+    void store(AugmentResult result) {
+        if (snapshot == null) {
+            return;
+        }
+        Properties properties = fromResult(result);
+        if (properties == null) {
+            log.debug("The build output is not cacheable");
+            return;
+        }
+        Path entry = directory.resolve(key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempDirectory(directory, key);
+            Path files = tmp.resolve(FILES_DIR);
+            for (Path file : outputs(result, properties)) {
+                IoUtils.copy(file, files.resolve(targetDir.relativize(file).toString()));
+            }
+            try (Writer writer = Files.newBufferedWriter(tmp.resolve(RESULT_FILE), StandardCharsets.UTF_8)) {
+                properties.store(writer, "Generated by Quarkus - Do not edit manually");
+            }
+            // another build may have stored the same entry in the meantime, in which case the move fails
+            Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to store the augmentation cache entry %s", entry);
+        } finally {
+            if (tmp != null) {
+                IoUtils.recursiveDelete(tmp);
+            }
+        }
+        evict();
+    }
+
+    /**
+     * @return the files of the build output: the files of the application directory and of the artifacts, whether the
+     *         build wrote them or left them untouched, and the other files created or modified during the build
+     */
+    private Set<Path> outputs(AugmentResult result, Properties properties) throws IOException {
+        Set<Path> outputs = new TreeSet<>();
+        for (Map.Entry<Path, FileTime> file : scan().entrySet()) {
+            if (!file.getValue().equals(snapshot.get(file.getKey()))) {
+                outputs.add(file.getKey());
+            }
+        }
+        addFiles(outputs, getPath(properties, "clean"));
+        addFiles(outputs, result.getJar().getPath());
+        addFiles(outputs, result.getJar().getLibraryDir());
+        for (ArtifactResult artifact : result.getResults()) {
+            addFiles(outputs, artifact.getPath());
+        }
+        return outputs;
+    }
+
+    private void addFiles(Set<Path> files, Path path) throws IOException {
+        if (path == null) {
+            return;
+        }
+        Path normalized = path.toAbsolutePath().normalize();
+        if (Files.isDirectory(normalized)) {
+            try (Stream<Path> stream = Files.walk(normalized)) {
+                stream.filter(Files::isRegularFile).forEach(files::add);
+            }
+        } else if (Files.isRegularFile(normalized)) {
+            files.add(normalized);
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries exceeding the maximum number of entries.
+     */
+    private void evict() {
+        List<Path> entries = new ArrayList<>();
+        Map<Path, FileTime> lastUsed = new HashMap<>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            for (Path entry : (Iterable<Path>) stream::iterator) {
+                // the temporary directories of the builds in progress have no result file yet
+                Path resultFile = entry.resolve(RESULT_FILE);
+                if (Files.isRegularFile(resultFile)) {
+                    entries.add(entry);
+                    lastUsed.put(entry, Files.getLastModifiedTime(resultFile));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to list the augmentation cache entries of %s", directory);
+            return;
+        }
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        entries.sort(Comparator.comparing(lastUsed::get, Comparator.reverseOrder()));
+        for (Path entry : entries.subList(Math.max(maxEntries, 0), entries.size())) {
+            log.debugf("Evicting the augmentation cache entry %s", entry);
+            IoUtils.recursiveDelete(entry);
+        }
+    }
+
+    private Map<Path, FileTime> scan() throws IOException {
+        Map<Path, FileTime> files = new HashMap<>();
+        if (!Files.isDirectory(targetDir)) {
+            return files;
+        }
+        try (Stream<Path> stream = Files.walk(targetDir)) {
+            for (Path file : (Iterable<Path>) stream::iterator) {
+                if (!file.startsWith(directory) && Files.isRegularFile(file)) {
+                    files.put(file, Files.getLastModifiedTime(file));
+                }
+            }
+        }
+        return files;
+    }
+
+    private Properties fromResult(AugmentResult result) {
+        JarResult jar = result.getJar();
+        if (jar == null || result.getNativeResult() != null
+                || (jar.getSboms() != null && !jar.getSboms().isEmpty())) {
+            return null;
+        }
+        Properties properties = new Properties();
+        if (!putPath(properties, "jar.path", jar.getPath())
+                || !putPath(properties, "jar.original-artifact", jar.getOriginalArtifact())
+                || !putPath(properties, "jar.library-dir", jar.getLibraryDir())) {
+            return null;
+        }
+        properties.setProperty("jar.mutable", Boolean.toString(jar.mutable()));
+        if (jar.getClassifier() != null) {
+            properties.setProperty("jar.classifier", jar.getClassifier());
+        }
+        Path applicationDir = jar.getPath().getParent();
+        if (!jar.isUberJar() && !applicationDir.equals(targetDir)) {
+            putPath(properties, "clean", applicationDir);
+        }
+        List<ArtifactResult> results = result.getResults();
+        properties.setProperty("results", Integer.toString(results.size()));
+        for (int i = 0; i < results.size(); i++) {
+            ArtifactResult artifact = results.get(i);
+            // an artifact without a path, such as a container image, is a side effect that cannot be restored
+            if (artifact.getPath() == null || !putPath(properties, "result." + i + ".path", artifact.getPath())) {
+                return null;
+            }
+            properties.setProperty("result." + i + ".type", artifact.getType());
+            if (artifact.getMetadata() != null) {
+                for (Map.Entry<String, String> metadata : artifact.getMetadata().entrySet()) {
+                    properties.setProperty("result." + i + ".metadata." + metadata.getKey(), metadata.getValue());
+                }
+            }
+        }
+        return properties;
+    }
+
+    private boolean putPath(Properties properties, String name, Path path) {
+        if (path == null) {
+            return true;
+        }
+        Path normalized = path.toAbsolutePath().normalize();
+        if (!normalized.startsWith(targetDir)) {
+            return false;
+        }
+        properties.setProperty(name, targetDir.relativize(normalized).toString());
+        return true;
+    }
+
+    private AugmentResult toResult(Properties properties) {
+        JarResult jar = new JarResult(getPath(properties, "jar.path"), getPath(properties, "jar.original-artifact"),
+                getPath(properties, "jar.library-dir"), Boolean.parseBoolean(properties.getProperty("jar.mutable")),
+                properties.getProperty("jar.classifier"), List.of());
+        int count = Integer.parseInt(properties.getProperty("results"));
+        List<ArtifactResult> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String prefix = "result." + i + ".metadata.";
+            Map<String, String> metadata = new HashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(prefix)) {
+                    metadata.put(name.substring(prefix.length()), properties.getProperty(name));
+                }
+            }
+            results.add(new ArtifactResult(getPath(properties, "result." + i + ".path"),
+                    properties.getProperty("result." + i + ".type"), metadata));
+        }
+        return new AugmentResult(results, jar, null, Map.of());
+    }
+
+    private Path getPath(Properties properties, String name) {
+        String path = properties.getProperty(name);
+        return path == null ? null : targetDir.resolve(path);
+    }
+
+    private static String property(QuarkusBootstrap bootstrap, String name) {
+        // read before the configuration is loaded, so only the system properties are taken into account
+        Properties buildSystemProperties = bootstrap.getBuildSystemProperties();
+        String value = buildSystemProperties != null ? buildSystemProperties.getProperty(name) : null;
+        return value != null ? value : System.getProperty(name);
+    }
+
+    private static String fingerprint(CuratedApplication curatedApplication) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        QuarkusBootstrap bootstrap = curatedApplication.getQuarkusBootstrap();
+        update(digest, Version.getVersion());
+        update(digest, bootstrap.getBaseName());
+        update(digest, bootstrap.getOriginalBaseName());
+        update(digest, bootstrap.getTargetDirectory().toAbsolutePath().toString());
+        for (Path root : bootstrap.getApplicationRoot()) {
+            updateContent(digest, root);
+        }
+        for (AdditionalDependency dependency : bootstrap.getAdditionalApplicationArchives()) {
+            for (Path path : dependency.getResolvedPaths()) {
+                updateContent(digest, path);
+            }
+        }
+        List<ResolvedDependency> dependencies = new ArrayList<>(curatedApplication.getApplicationModel().getDependencies());
+        dependencies.sort(Comparator.comparing(ResolvedDependency::toCompactCoords));
+        for (ResolvedDependency dependency : dependencies) {
+            update(digest, dependency.toCompactCoords());
+            update(digest, Integer.toString(dependency.getFlags()));
+            for (Path path : dependency.getResolvedPaths()) {
+                if (Files.isDirectory(path)) {
+                    updateContent(digest, path);
+                } else {
+                    update(digest, path.toAbsolutePath().toString());
+                    update(digest, Long.toString(Files.size(path)));
+                    update(digest, Files.getLastModifiedTime(path).toString());
+                }
+            }
+        }
+        Map<String, String> properties = new TreeMap<>();
+        if (bootstrap.getBuildSystemProperties() != null) {
+            for (String name : bootstrap.getBuildSystemProperties().stringPropertyNames()) {
+                properties.put(name, bootstrap.getBuildSystemProperties().getProperty(name));
+            }
+        }
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("quarkus.")) {
+                properties.put(name, System.getProperty(name));
+            }
+        }
+        for (Map.Entry<String, String> env : System.getenv().entrySet()) {
+            if (env.getKey().startsWith("QUARKUS_")) {
+                properties.put(env.getKey(), env.getValue());
+            }
+        }
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            update(digest, property.getKey());
+            update(digest, property.getValue());
+        }
+        List<Path> applicationRoots = new ArrayList<>();
+        bootstrap.getApplicationRoot().forEach(applicationRoots::add);
+        update(digest, configFingerprint(properties, Path.of("").toAbsolutePath(), bootstrap.getProjectRoot(),
+                applicationRoots));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Computes the fingerprint of the configuration files read by the build from outside of the application root: the
+     * {@code .env} files, the {@code config} directory of the working directory and the files and directories of the
+     * {@code quarkus.config.locations}.
+     *
+     * @param properties the build system properties and the Quarkus system properties and environment variables
+     * @param workingDirectory the working directory of the build
+     * @param projectRoot the project root, may be {@code null}
+     * @param applicationRoots the application roots, whose configuration may declare {@code quarkus.config.locations}
+     */
+    static String configFingerprint(Map<String, String> properties, Path workingDirectory, Path projectRoot,
+            Collection<Path> applicationRoots) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        Set<Path> directories = new LinkedHashSet<>();
+        directories.add(workingDirectory);
+        if (projectRoot != null) {
+            directories.add(projectRoot.toAbsolutePath());
+        }
+        Set<String> locations = new TreeSet<>();
+        addLocations(locations, properties);
+        List<Path> configFiles = new ArrayList<>();
+        for (Path directory : directories) {
+            updateContent(digest, directory.resolve(".env"));
+            Path config = directory.resolve("config");
+            if (Files.isDirectory(config)) {
+                try (Stream<Path> stream = Files.list(config)) {
+                    stream.filter(file -> file.getFileName().toString().startsWith("application")).sorted()
+                            .forEach(configFiles::add);
+                }
+            }
+        }
+        for (Path root : applicationRoots) {
+            configFiles.add(root.resolve("application.properties"));
+        }
+        for (Path configFile : configFiles) {
+            update(digest, configFile.toString());
+            updateContent(digest, configFile);
+            if (configFile.getFileName().toString().endsWith(".properties") && Files.isRegularFile(configFile)) {
+                Properties config = new Properties();
+                try (Reader reader = Files.newBufferedReader(configFile, StandardCharsets.UTF_8)) {
+                    config.load(reader);
+                }
+                Map<String, String> configProperties = new HashMap<>();
+                for (String name : config.stringPropertyNames()) {
+                    configProperties.put(name, config.getProperty(name));
+                }
+                addLocations(locations, configProperties);
+            }
+        }
+        for (String location : locations) {
+            update(digest, location);
+            // the classpath and remote locations are part of the application root or of the dependencies, or cannot
+            // be hashed, while a colon at index 1 is the one of a Windows drive letter
+            String path = location.startsWith("file:") ? location.substring("file:".length()) : location;
+            if (path.indexOf(':') < 2) {
+                updateContent(digest, workingDirectory.resolve(path));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void addLocations(Set<String> locations, Map<String, String> properties) {
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            String name = property.getKey();
+            // the profile aware %prod.quarkus.config.locations, and the QUARKUS_CONFIG_LOCATIONS environment variable
+            if (name.equals(CONFIG_LOCATIONS) || name.endsWith("." + CONFIG_LOCATIONS)
+                    || name.equals("QUARKUS_CONFIG_LOCATIONS")) {
+                for (String location : property.getValue().split(",")) {
+                    if (!location.isBlank()) {
+                        locations.add(location.trim());
+                    }
+                }
+            }
+        }
+    }
+
+    private static void updateContent(MessageDigest digest, Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(path)) {
+                files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                update(digest, path.relativize(file).toString());
+                updateFile(digest, file);
+            }
+        } else if (Files.isRegularFile(path)) {
+            updateFile(digest, path);
+        }
+    }
+
+    private static void updateFile(MessageDigest digest, Path file) throws IOException {
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // separator, so that consecutive values cannot be confused
+        digest.update((byte) 0);
+    }
+}
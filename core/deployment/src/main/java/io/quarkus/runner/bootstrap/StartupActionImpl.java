@@ -64,6 +64,9 @@ public class StartupActionImpl implements StartupAction {
     private final List<RuntimeApplicationShutdownBuildItem> runtimeApplicationShutdownBuildItems;
     private final List<Closeable> runtimeCloseTasks = new ArrayList<>();
     private final DevServicesRegistryBuildItem devServicesRegistry;
+    // the content of the runtime class loader, kept to create additional runtime applications
+    private final Map<String, byte[]> applicationResources;
+    private final Map<String, byte[]> transformedClasses;
 
     public StartupActionImpl(CuratedApplication curatedApplication, BuildResult buildResult) {
         this.curatedApplication = curatedApplication;
@@ -98,9 +101,37 @@ public StartupActionImpl(CuratedApplication curatedApplication, BuildResult buil
                     resources, transformedClasses);
         }
         this.runtimeClassLoader = runtimeClassLoader;
+        this.applicationResources = resources;
+        this.transformedClasses = transformedClasses;
         runtimeClassLoader.setStartupAction(this);
     }
 
+    private StartupActionImpl(StartupActionImpl other) {
+        this.curatedApplication = other.curatedApplication;
+        this.mainClassName = other.mainClassName;
+        this.applicationClassName = other.applicationClassName;
+        this.devServicesProperties = new HashMap<>(other.devServicesProperties);
+        this.devServicesNetworkId = other.devServicesNetworkId;
+        this.runtimeApplicationShutdownBuildItems = other.runtimeApplicationShutdownBuildItems;
+        this.devServicesResults = other.devServicesResults;
+        this.devServicesRegistry = other.devServicesRegistry;
+        this.devServicesCustomizers = other.devServicesCustomizers;
+        this.applicationResources = other.applicationResources;
+        this.transformedClasses = other.transformedClasses;
+        // the base class loader was already reset with the same augmentation output
+        this.runtimeClassLoader = curatedApplication.createRuntimeClassLoader(applicationResources, transformedClasses);
+        runtimeClassLoader.setStartupAction(this);
+    }
+
+    @Override
+    public StartupAction createAdditionalRuntimeApplication() {
+        if (curatedApplication.isFlatClassPath()) {
+            // the runtime class loader is the base class loader, it cannot be recreated
+            return null;
+        }
+        return new StartupActionImpl(this);
+    }
+
     /**
      * Runs the application by running the main method of the main class. As this is a blocking method a new
      * thread is created to run this task.
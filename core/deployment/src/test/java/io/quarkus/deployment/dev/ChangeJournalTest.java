@@ -0,0 +1,89 @@
+package io.quarkus.deployment.dev;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ChangeJournalTest {
+
+    @TempDir
+    Path rootDir;
+
+    ChangeJournal journal;
+
+    @BeforeEach
+    public void setup() {
+        //the journal is only used on Linux, the watch service polls the directories on other systems
+        Assumptions.assumeTrue(RuntimeUpdatesProcessor.IS_LINUX);
+        journal = new ChangeJournal("Change Journal Test");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    public void testFirstDrainWalks() {
+        Assertions.assertTrue(journal.flush());
+        Assertions.assertNull(journal.drain("sources", rootDir));
+        Assertions.assertEquals(Set.of(), journal.drain("sources", rootDir));
+        // every consumer walks the directory on its first scan
+        Assertions.assertNull(journal.drain("classes", rootDir));
+    }
+
+    @Test
+    public void testDrainRightAfterChange() throws IOException {
+        Path subDir = Files.createDirectory(rootDir.resolve("sub"));
+        Assertions.assertNull(journal.drain("sources", rootDir));
+        for (int i = 0; i < 100; i++) {
+            // no waiting for the watcher thread between the change and the scan
+            Path file = Files.writeString((i % 2 == 0 ? rootDir : subDir).resolve("File" + i + ".java"), "class File {}");
+            Assertions.assertTrue(journal.flush());
+            Set<Path> changes = journal.drain("sources", rootDir);
+            Assertions.assertNotNull(changes);
+            Assertions.assertTrue(changes.contains(file.toAbsolutePath()), () -> file + " not in " + changes);
+            Assertions.assertEquals(Set.of(), journal.drain("sources", rootDir));
+        }
+    }
+
+    @Test
+    public void testDrainNewDirectory() throws IOException {
+        Assertions.assertNull(journal.drain("sources", rootDir));
+        Path dir = Files.createDirectories(rootDir.resolve("a/b"));
+        Path file = Files.writeString(dir.resolve("File.java"), "class File {}");
+        Assertions.assertTrue(journal.flush());
+        Set<Path> changes = journal.drain("sources", rootDir);
+        Assertions.assertNotNull(changes);
+        // the files of a new directory may be created before the directory is watched
+        Assertions.assertTrue(changes.contains(file.toAbsolutePath()), () -> file + " not in " + changes);
+    }
+
+    @Test
+    public void testDrainWithoutFlushWalks() {
+        Assertions.assertNull(journal.drain("sources", rootDir));
+        // nothing tells the events delivered so far are complete
+        Assertions.assertNull(journal.drain("sources", rootDir));
+        Assertions.assertTrue(journal.flush());
+        Assertions.assertEquals(Set.of(), journal.drain("sources", rootDir));
+    }
+
+    @Test
+    public void testInvalidate() throws IOException {
+        Assertions.assertTrue(journal.flush());
+        Assertions.assertNull(journal.drain("sources", rootDir));
+        Files.writeString(rootDir.resolve("File.java"), "class File {}");
+        journal.invalidate("sources", rootDir);
+        Assertions.assertNull(journal.drain("sources", rootDir));
+    }
+}
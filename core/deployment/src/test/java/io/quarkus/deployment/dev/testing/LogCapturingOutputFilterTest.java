@@ -0,0 +1,86 @@
+package io.quarkus.deployment.dev.testing;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LogCapturingOutputFilterTest {
+
+    @Test
+    public void testConcurrentApplicationsCaptureTheirOwnOutput() throws Exception {
+        ClassLoader parent = getClass().getClassLoader();
+        try (URLClassLoader first = new URLClassLoader(new URL[0], parent);
+                URLClassLoader second = new URLClassLoader(new URL[0], parent);
+                // a class loader created by the application, such as the one of a deployment
+                URLClassLoader firstChild = new URLClassLoader(new URL[0], first)) {
+            LogCapturingOutputFilter firstFilter = new LogCapturingOutputFilter(Set.of(first), true, false, () -> false);
+            LogCapturingOutputFilter secondFilter = new LogCapturingOutputFilter(Set.of(second), true, false, () -> false);
+            List<LogCapturingOutputFilter> filters = List.of(firstFilter, secondFilter);
+
+            CyclicBarrier barrier = new CyclicBarrier(3);
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                futures.add(executor.submit(() -> log(filters, barrier, firstChild, "first")));
+                futures.add(executor.submit(() -> log(filters, barrier, second, "second")));
+                futures.add(executor.submit(() -> log(filters, barrier, parent, "other")));
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            Assertions.assertEquals(expected("first"), firstFilter.captureOutput());
+            Assertions.assertEquals(expected("second"), secondFilter.captureOutput());
+            // the captured output is only returned once
+            Assertions.assertEquals(List.of(), firstFilter.captureOutput());
+        }
+    }
+
+    @Test
+    public void testOutputOfOtherClassLoadersNotFiltered() throws IOException {
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader application = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            LogCapturingOutputFilter filter = new LogCapturingOutputFilter(Set.of(application), true, false, () -> false);
+            Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
+            Assertions.assertTrue(filter.test("other", false));
+            Thread.currentThread().setContextClassLoader(application);
+            Assertions.assertFalse(filter.test("application", false));
+            Assertions.assertEquals(List.of("application"), filter.captureOutput());
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+        }
+    }
+
+    private static Void log(List<LogCapturingOutputFilter> filters, CyclicBarrier barrier, ClassLoader classLoader,
+            String name) throws Exception {
+        Thread.currentThread().setContextClassLoader(classLoader);
+        barrier.await();
+        for (String record : expected(name)) {
+            // every filter is asked, as QuarkusConsole does
+            for (LogCapturingOutputFilter filter : filters) {
+                filter.test(record, false);
+            }
+        }
+        return null;
+    }
+
+    private static List<String> expected(String name) {
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(name + " " + i);
+        }
+        return records;
+    }
+}
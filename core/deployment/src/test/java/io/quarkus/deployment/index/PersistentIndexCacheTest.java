@@ -0,0 +1,58 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testIndexIsReusedUntilJarChanges() throws IOException {
+        Path jar = tempDir.resolve("dep.jar");
+        writeJar(jar, PersistentIndexCacheTest.class);
+        PersistentIndexCache cache = new PersistentIndexCache(tempDir.resolve("cache"));
+
+        Index first = cache.index(jar, p -> IndexingUtil.indexJar(p, null));
+        assertNotNull(first.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        Index second = cache.index(jar, p -> {
+            throw new IllegalStateException("The index should have been read from the cache");
+        });
+        assertNotNull(second.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        assertEquals(1, cache.getHits());
+
+        writeJar(jar, IndexingUtil.class);
+        Index third = cache.index(jar, p -> IndexingUtil.indexJar(p, null));
+        assertNotNull(third.getClassByName(DotName.createSimple(IndexingUtil.class.getName())));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    private static void writeJar(Path jar, Class<?> clazz) throws IOException {
+        String name = clazz.getName().replace('.', '/') + ".class";
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out);
+                InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+            jarOut.putNextEntry(new ZipEntry(name));
+            in.transferTo(jarOut);
+            jarOut.closeEntry();
+        }
+    }
+}
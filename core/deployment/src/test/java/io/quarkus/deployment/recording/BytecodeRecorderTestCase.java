@@ -441,6 +441,33 @@ public void testConstantInjectionAndSubstitution() throws Exception {
         }, new NonSerializable("Some string", 42));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDeferredReturnValue() throws Exception {
+        TestRecorder.RESULT.clear();
+        TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
+        BytecodeRecorderImpl deferred = new BytecodeRecorderImpl(tcl, false, TEST_CLASS + "Deferred");
+        deferred.setDeferrable(true);
+        TestRecorder deferredRecorder = deferred.getRecordingProxy(TestRecorder.class);
+        Supplier<String> supplier = deferredRecorder.stringSupplier("Deferred String");
+        deferredRecorder.object("deferred task");
+        assertTrue(((BytecodeRecorderImpl.ReturnedProxy) supplier).__deferred$$init());
+        BytecodeRecorderImpl recorder = new BytecodeRecorderImpl(tcl, false, TEST_CLASS);
+        recorder.getRecordingProxy(TestRecorder.class).object(recorder.lazyReturnedValue(supplier));
+        deferred.writeBytecode(new TestClassOutput(tcl));
+        recorder.writeBytecode(new TestClassOutput(tcl));
+
+        StartupContext context = new StartupContext();
+        context.addDeferredTask((StartupTask) tcl.loadClass(TEST_CLASS + "Deferred").getDeclaredConstructor().newInstance());
+        ((StartupTask) tcl.loadClass(TEST_CLASS).getDeclaredConstructor().newInstance()).deploy(context);
+
+        // the deferred task only runs when the value is looked up
+        assertEquals(1, TestRecorder.RESULT.size());
+        Supplier<Supplier<String>> lazy = (Supplier<Supplier<String>>) TestRecorder.RESULT.poll();
+        assertEquals("Deferred String", lazy.get().get());
+        assertEquals("deferred task", TestRecorder.RESULT.poll());
+    }
+
     private static class TestClassOutput implements ClassOutput {
         private final TestClassLoader tcl;
 
@@ -0,0 +1,162 @@
+package io.quarkus.runner.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.bootstrap.app.ArtifactResult;
+import io.quarkus.bootstrap.app.AugmentResult;
+import io.quarkus.bootstrap.app.JarResult;
+
+public class AugmentationCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path cacheDir;
+    Path targetDir;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        cacheDir = tempDir.resolve("cache");
+        targetDir = tempDir.resolve("target");
+        // the output of a previous build, left untouched by the next one
+        write(targetDir.resolve("quarkus-app/lib/main/dependency.jar"), "dependency");
+        write(targetDir.resolve("classes/application.properties"), "quarkus.application.name=app");
+    }
+
+    @Test
+    public void testMiss() throws IOException {
+        AugmentationCache cache = new AugmentationCache(cacheDir, targetDir, "key", 10);
+        assertThat(cache.restore()).isNull();
+
+        // the output of a build that was not started is not stored
+        cache.store(build());
+        assertThat(new AugmentationCache(cacheDir, targetDir, "key", 10).restore()).isNull();
+
+        build(cache);
+        assertThat(new AugmentationCache(cacheDir, targetDir, "other-key", 10).restore()).isNull();
+    }
+
+    @Test
+    public void testHit() throws IOException {
+        AugmentResult built = build(new AugmentationCache(cacheDir, targetDir, "key", 10));
+
+        AugmentResult restored = new AugmentationCache(cacheDir, targetDir, "key", 10).restore();
+        assertThat(restored).isNotNull();
+        assertThat(restored.getJar().getPath()).isEqualTo(built.getJar().getPath());
+        assertThat(restored.getJar().getLibraryDir()).isEqualTo(built.getJar().getLibraryDir());
+        assertThat(restored.getJar().isUberJar()).isFalse();
+        assertThat(restored.getResults()).singleElement().satisfies(result -> {
+            assertThat(result.getPath()).isEqualTo(targetDir.resolve("quarkus-app/quarkus-run.jar"));
+            assertThat(result.getType()).isEqualTo("jar");
+            assertThat(result.getMetadata()).containsEntry("id", "app");
+        });
+    }
+
+    @Test
+    public void testRestoreContents() throws IOException {
+        build(new AugmentationCache(cacheDir, targetDir, "key", 10));
+
+        // another build with other inputs replaces the application directory
+        write(targetDir.resolve("quarkus-app/quarkus-run.jar"), "other");
+        Files.delete(targetDir.resolve("quarkus-app/lib/main/dependency.jar"));
+        write(targetDir.resolve("quarkus-app/lib/main/other-dependency.jar"), "other");
+        Files.delete(targetDir.resolve("quarkus-artifact.properties"));
+
+        assertThat(new AugmentationCache(cacheDir, targetDir, "key", 10).restore()).isNotNull();
+        assertThat(targetDir.resolve("quarkus-app/quarkus-run.jar")).hasContent("runner");
+        // left untouched by the cached build, but part of its output all the same
+        assertThat(targetDir.resolve("quarkus-app/lib/main/dependency.jar")).hasContent("dependency");
+        assertThat(targetDir.resolve("quarkus-app/lib/main/other-dependency.jar")).doesNotExist();
+        assertThat(targetDir.resolve("quarkus-artifact.properties")).hasContent("type=jar");
+        assertThat(targetDir.resolve("classes/application.properties")).hasContent("quarkus.application.name=app");
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        build(new AugmentationCache(cacheDir, targetDir, "key1", 2));
+        build(new AugmentationCache(cacheDir, targetDir, "key2", 2));
+        Instant now = Instant.now();
+        Files.setLastModifiedTime(cacheDir.resolve("key1/augment-result.properties"),
+                FileTime.from(now.minus(2, ChronoUnit.HOURS)));
+        Files.setLastModifiedTime(cacheDir.resolve("key2/augment-result.properties"),
+                FileTime.from(now.minus(1, ChronoUnit.HOURS)));
+        // restoring an entry makes it the most recently used one
+        assertThat(new AugmentationCache(cacheDir, targetDir, "key1", 2).restore()).isNotNull();
+
+        build(new AugmentationCache(cacheDir, targetDir, "key3", 2));
+        assertThat(new AugmentationCache(cacheDir, targetDir, "key1", 2).restore()).isNotNull();
+        assertThat(new AugmentationCache(cacheDir, targetDir, "key2", 2).restore()).isNull();
+        assertThat(new AugmentationCache(cacheDir, targetDir, "key3", 2).restore()).isNotNull();
+    }
+
+    @Test
+    public void testConfigChange() throws IOException {
+        Path workingDir = tempDir.resolve("work");
+        Path projectRoot = tempDir.resolve("project");
+        Path applicationRoot = targetDir.resolve("classes");
+        Files.createDirectories(workingDir);
+        Files.createDirectories(projectRoot);
+        List<Path> roots = List.of(applicationRoot);
+        Map<String, String> properties = Map.of();
+
+        String initial = AugmentationCache.configFingerprint(properties, workingDir, projectRoot, roots);
+        assertThat(AugmentationCache.configFingerprint(properties, workingDir, projectRoot, roots)).isEqualTo(initial);
+
+        write(workingDir.resolve("config/application.properties"), "quarkus.http.port=8081");
+        String workingDirConfig = AugmentationCache.configFingerprint(properties, workingDir, projectRoot, roots);
+        assertThat(workingDirConfig).isNotEqualTo(initial);
+
+        write(projectRoot.resolve(".env"), "QUARKUS_HTTP_PORT=8082");
+        String dotEnv = AugmentationCache.configFingerprint(properties, workingDir, projectRoot, roots);
+        assertThat(dotEnv).isNotEqualTo(workingDirConfig);
+
+        write(workingDir.resolve("external.properties"), "quarkus.http.port=8083");
+        properties = Map.of("quarkus.config.locations", "external.properties");
+        String locations = AugmentationCache.configFingerprint(properties, workingDir, projectRoot, roots);
+        assertThat(locations).isNotEqualTo(dotEnv);
+        write(workingDir.resolve("external.properties"), "quarkus.http.port=8084");
+        String changedLocation = AugmentationCache.configFingerprint(properties, workingDir, projectRoot, roots);
+        assertThat(changedLocation).isNotEqualTo(locations);
+
+        // a location declared by the configuration of the application
+        write(applicationRoot.resolve("application.properties"),
+                "%prod.quarkus.config.locations=" + tempDir.resolve("external").toUri());
+        write(tempDir.resolve("external/application.properties"), "quarkus.http.port=8085");
+        String declaredLocation = AugmentationCache.configFingerprint(properties, workingDir, projectRoot, roots);
+        write(tempDir.resolve("external/application.properties"), "quarkus.http.port=8086");
+        assertThat(AugmentationCache.configFingerprint(properties, workingDir, projectRoot, roots))
+                .isNotEqualTo(declaredLocation);
+    }
+
+    private AugmentResult build(AugmentationCache cache) throws IOException {
+        cache.buildStarted();
+        AugmentResult result = build();
+        cache.store(result);
+        return result;
+    }
+
+    private AugmentResult build() throws IOException {
+        Path runner = write(targetDir.resolve("quarkus-app/quarkus-run.jar"), "runner");
+        write(targetDir.resolve("quarkus-artifact.properties"), "type=jar");
+        return new AugmentResult(List.of(new ArtifactResult(runner, "jar", Map.of("id", "app"))),
+                new JarResult(runner, null, targetDir.resolve("quarkus-app/lib"), false, null), null, Map.of());
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.runtime;
 
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -18,4 +20,21 @@ public interface DebugRuntimeConfig {
      */
     @WithDefault("false")
     boolean printStartupTimes();
+
+    /**
+     * If set to {@code true}, Quarkus records the duration of every recorded startup task and of every observer of the
+     * {@code StartupEvent}, including the initialization of the {@code @Startup} beans. The timeline is written as JSON once
+     * the application has started, and is also available as JFR events and in the Dev UI.
+     * <p>
+     * This is only taken into account when set as a system property, as it is read before the configuration is.
+     */
+    @WithDefault("false")
+    boolean startupTimeline();
+
+    /**
+     * The file the startup timeline is written to. If not set, the timeline is written to the standard output.
+     * <p>
+     * This is only taken into account when set as a system property.
+     */
+    Optional<String> startupTimelineFile();
 }
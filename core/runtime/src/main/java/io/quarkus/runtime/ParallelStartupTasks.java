@@ -0,0 +1,219 @@
+package io.quarkus.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.runtime.util.StepTiming;
+
+/**
+ * Runs the static init startup tasks on a bounded pool, every task as soon as the tasks it depends on have completed.
+ * Generally this will be used by generated bytecode, and should not be used directly.
+ * <p>
+ * The tasks must be added in a valid sequential order, a task only depending on tasks added before it. They run in this
+ * order, on the current thread, when building a native image, as the static init then runs at image build time, or if
+ * the parallelism is {@code 1}. Otherwise, the ready tasks are started in this order, so the scheduling only depends on
+ * the durations of the tasks.
+ * <p>
+ * The tasks are added by the static initializer of the application class, but only run there when building a native
+ * image, see {@link #staticInit()}. Otherwise they run when the application starts, see {@link #start()}: a task running
+ * on another thread during the static initializer would block on the initialization lock of the application class as
+ * soon as it uses the class, while the static initializer waits for the task.
+ */
+public final class ParallelStartupTasks {
+
+    private final StartupContext startupContext;
+    private final int parallelism;
+    private final List<Node> nodes = new ArrayList<>();
+
+    private final Object lock = new Object();
+    private int remaining;
+    private Throwable failure;
+    private ExecutorService executor;
+    private volatile boolean ran;
+
+    /**
+     * @param startupContext the startup context passed to the tasks
+     * @param parallelism the maximum number of tasks running concurrently, or {@code 0} for the number of available
+     *        processors
+     */
+    public ParallelStartupTasks(StartupContext startupContext, int parallelism) {
+        this.startupContext = startupContext;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @param task the task
+     * @param name the name of the build step that recorded the task, used for the step timing
+     * @param dependencies the indexes of the previously added tasks this task depends on
+     */
+    public void add(StartupTask task, String name, int[] dependencies) {
+        Node node = new Node(nodes.size(), task, name, dependencies.length);
+        for (int dependency : dependencies) {
+            if (dependency < 0 || dependency >= node.index) {
+                throw new IllegalArgumentException(
+                        "Startup task " + name + " can only depend on the tasks added before it: " + dependency);
+            }
+            nodes.get(dependency).dependents.add(node);
+        }
+        nodes.add(node);
+    }
+
+    /**
+     * Runs the tasks from the static initializer of the application class, only when building a native image: the static
+     * init then runs at image build time and its results are stored in the image, the tasks run on the current thread.
+     */
+    public void staticInit() {
+        if (ImageMode.current() == ImageMode.NATIVE_BUILD) {
+            run();
+        }
+    }
+
+    /**
+     * Runs the tasks when the application starts, once the application class is initialized, unless they already ran
+     * when building the native image.
+     */
+    public void start() {
+        if (!ran) {
+            run();
+        }
+    }
+
+    public void run() {
+        ran = true;
+        if (parallelism <= 1 || nodes.size() <= 1 || ImageMode.current() == ImageMode.NATIVE_BUILD) {
+            for (Node node : nodes) {
+                node.task.deploy(startupContext);
+                StepTiming.printStepTime(startupContext);
+            }
+            return;
+        }
+        executor = Executors.newFixedThreadPool(Math.min(parallelism, nodes.size()),
+                new StartupThreadFactory(Thread.currentThread().getContextClassLoader()));
+        try {
+            synchronized (lock) {
+                remaining = nodes.size();
+                for (Node node : nodes) {
+                    if (node.dependencies == 0) {
+                        submit(node);
+                    }
+                }
+                while (remaining > 0 && failure == null) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failure = e;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        if (failure != null) {
+            // let the running tasks complete before the startup context is closed
+            awaitTermination();
+            if (failure instanceof RuntimeException e) {
+                throw e;
+            } else if (failure instanceof Error e) {
+                throw e;
+            }
+            throw new RuntimeException(failure);
+        }
+        awaitTermination();
+        StepTiming.configureStart();
+    }
+
+    private void awaitTermination() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // called with the lock held
+    private void submit(Node node) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (lock) {
+                    if (failure != null) {
+                        return;
+                    }
+                }
+                long started = System.nanoTime();
+                Throwable taskFailure = null;
+                try {
+                    node.task.deploy(startupContext);
+                    StepTiming.printStepTime(node.name, started);
+                } catch (Throwable t) {
+                    taskFailure = t;
+                }
+                synchronized (lock) {
+                    if (taskFailure != null) {
+                        if (failure == null) {
+                            failure = taskFailure;
+                        }
+                    } else if (failure == null) {
+                        remaining--;
+                        // the dependents are in the order they were added
+                        for (Node dependent : node.dependents) {
+                            if (--dependent.dependencies == 0) {
+                                submit(dependent);
+                            }
+                        }
+                    }
+                    lock.notifyAll();
+                }
+            }
+        });
+    }
+
+    private static final class Node {
+
+        private final int index;
+        private final StartupTask task;
+        private final String name;
+        // guarded by the lock
+        private int dependencies;
+        private final List<Node> dependents = new ArrayList<>();
+
+        Node(int index, StartupTask task, String name, int dependencies) {
+            this.index = index;
+            this.task = task;
+            this.name = name;
+            this.dependencies = dependencies;
+        }
+    }
+
+    private static final class StartupThreadFactory implements ThreadFactory {
+
+        private final ClassLoader classLoader;
+        private final AtomicInteger count = new AtomicInteger();
+
+        StartupThreadFactory(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "quarkus-static-init-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package io.quarkus.runtime;
 
 import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Supplier;
 
@@ -15,10 +18,23 @@ public class StartupContext implements Closeable {
 
     private static final Logger LOG = Logger.getLogger(StartupContext.class);
 
+    // Marks the null values, as the map of values does not support them
+    private static final Object NULL_VALUE = new Object();
+
     // Holds values for returned proxies
     // These values are usually returned from recorder methods but can be also set explicitly
     // For example, the raw command line args and ShutdownContext are set when the StartupContext is created
-    private final Map<String, Object> values = new HashMap<>();
+    // The values may be read and written by the thread running the deferred tasks
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    // Deferred tasks that have not run yet, in the order they were recorded
+    // The tasks run outside of this monitor, that only guards the queue and the threads running a task
+    private final Deque<StartupTask> deferredTasks = new ArrayDeque<>();
+    // A thread appears once per task it is running, as a task may run another one while looking up a value
+    private final List<Thread> deferredTaskThreads = new ArrayList<>();
+    private volatile boolean hasDeferredTasks;
+    // The first failure of a deferred task, the values it was to put are reported as missing with this cause
+    private volatile Throwable deferredTaskFailure;
 
     private final Deque<Runnable> shutdownTasks = new ConcurrentLinkedDeque<>();
     private final Deque<Runnable> lastShutdownTasks = new ConcurrentLinkedDeque<>();
@@ -58,15 +74,145 @@ public String[] get() {
     }
 
     public void putValue(String name, Object value) {
-        values.put(name, value);
+        values.put(name, value != null ? value : NULL_VALUE);
     }
 
     public Object getValue(String name) {
-        return values.get(name);
+        Object value = values.get(name);
+        if (value == null && hasDeferredTasks) {
+            value = runDeferredTasksUntil(name);
+        }
+        if (value == null && deferredTaskFailure != null) {
+            throw new IllegalStateException("The value " + name + " is not available as a deferred startup task failed",
+                    deferredTaskFailure);
+        }
+        return value != NULL_VALUE ? value : null;
+    }
+
+    /**
+     * @return a supplier of the value, that is only looked up when the supplier is called
+     */
+    @SuppressWarnings("unused")
+    public Supplier<Object> lazyValue(String name) {
+        return new Supplier<Object>() {
+            @Override
+            public Object get() {
+                return getValue(name);
+            }
+        };
+    }
+
+    /**
+     * Defers a startup task until one of the values it puts is needed, or until
+     * {@link #runDeferredTasksInBackground()} is called.
+     */
+    @SuppressWarnings("unused")
+    public void addDeferredTask(StartupTask task) {
+        synchronized (deferredTasks) {
+            deferredTasks.add(task);
+            hasDeferredTasks = true;
+        }
+    }
+
+    /**
+     * Runs the deferred tasks that are still pending on a background thread, once the application has started.
+     * <p>
+     * A deferred task failing on this thread would have failed the startup if it was not deferred, so the application is
+     * exited with an error, as it cannot be considered started.
+     */
+    @SuppressWarnings("unused")
+    public void runDeferredTasksInBackground() {
+        if (!hasDeferredTasks) {
+            return;
+        }
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (runNextDeferredTask()) {
+                        // the tasks put their values as they run
+                    }
+                } catch (Throwable t) {
+                    LOG.error("Running a deferred startup task failed, exiting the application", t);
+                    Quarkus.asyncExit(1);
+                }
+            }
+        }, "quarkus-deferred-startup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // the tasks run in the order they were recorded, a task needing the value of a later task runs it first
+    // once no task is left, a value that may still be put by a task running on another thread is waited for
+    private Object runDeferredTasksUntil(String name) {
+        while (true) {
+            synchronized (deferredTasks) {
+                Object value = values.get(name);
+                while (value == null && deferredTasks.isEmpty() && isDeferredTaskRunningElsewhere()) {
+                    try {
+                        deferredTasks.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException("Interrupted while waiting for a deferred startup task", e);
+                    }
+                    value = values.get(name);
+                }
+                if (value != null || deferredTasks.isEmpty()) {
+                    return value;
+                }
+            }
+            runNextDeferredTask();
+        }
+    }
+
+    /**
+     * @return {@code false} if there was no deferred task left to run
+     */
+    private boolean runNextDeferredTask() {
+        StartupTask task;
+        Thread current = Thread.currentThread();
+        synchronized (deferredTasks) {
+            task = deferredTasks.poll();
+            if (task == null) {
+                return false;
+            }
+            deferredTaskThreads.add(current);
+        }
+        try {
+            task.deploy(this);
+        } catch (Throwable t) {
+            if (deferredTaskFailure == null) {
+                deferredTaskFailure = t;
+            }
+            throw t;
+        } finally {
+            synchronized (deferredTasks) {
+                deferredTaskThreads.remove(current);
+                hasDeferredTasks = !deferredTasks.isEmpty() || !deferredTaskThreads.isEmpty();
+                deferredTasks.notifyAll();
+            }
+        }
+        return true;
+    }
+
+    // a task running on the current thread is waiting for this lookup, it cannot be waited for
+    private boolean isDeferredTaskRunningElsewhere() {
+        Thread current = Thread.currentThread();
+        for (Thread thread : deferredTaskThreads) {
+            if (thread != current) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public void close() {
+        synchronized (deferredTasks) {
+            deferredTasks.clear();
+            hasDeferredTasks = false;
+            deferredTasks.notifyAll();
+        }
         runAllAndClear(shutdownTasks);
         runAllAndClear(lastShutdownTasks);
         values.clear();
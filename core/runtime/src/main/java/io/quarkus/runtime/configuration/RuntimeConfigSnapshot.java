@@ -0,0 +1,106 @@
+package io.quarkus.runtime.configuration;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A snapshot of the configuration files of the application classpath, taken at build time.
+ * <p>
+ * The configuration files of the classpath cannot change once the application is built, so the runtime configuration
+ * can be built from the snapshot instead of looking up and parsing these files on every startup. The snapshot is stored
+ * in a compact binary resource, the number of properties of every source preceding them so that the sources are
+ * created with their final size.
+ */
+public final class RuntimeConfigSnapshot {
+
+    private static final Logger log = Logger.getLogger(RuntimeConfigSnapshot.class);
+
+    public static final String RESOURCE = "META-INF/quarkus-config-snapshot.bin";
+
+    private static final int VERSION = 1;
+
+    private RuntimeConfigSnapshot() {
+    }
+
+    /**
+     * A configuration source of the snapshot.
+     *
+     * @param name the name of the original source
+     * @param ordinal the ordinal of the original source
+     * @param properties the raw properties of the original source
+     */
+    public record Source(String name, int ordinal, Map<String, String> properties) {
+    }
+
+    public static void write(List<Source> sources, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(VERSION);
+        data.writeInt(sources.size());
+        for (Source source : sources) {
+            writeString(data, source.name());
+            data.writeInt(source.ordinal());
+            data.writeInt(source.properties().size());
+            for (Map.Entry<String, String> property : source.properties().entrySet()) {
+                writeString(data, property.getKey());
+                writeString(data, property.getValue());
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * @return the sources of the snapshot, or {@code null} if the application has no usable snapshot
+     */
+    public static List<Source> read(ClassLoader classLoader) {
+        InputStream in = classLoader.getResourceAsStream(RESOURCE);
+        if (in == null) {
+            return null;
+        }
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            if (data.readInt() != VERSION) {
+                log.debugf("Ignoring the configuration snapshot %s written by another version", RESOURCE);
+                return null;
+            }
+            int sourceCount = data.readInt();
+            List<Source> sources = new ArrayList<>(sourceCount);
+            for (int i = 0; i < sourceCount; i++) {
+                String name = readString(data);
+                int ordinal = data.readInt();
+                int propertyCount = data.readInt();
+                Map<String, String> properties = new HashMap<>((int) (propertyCount / 0.75f) + 1);
+                for (int j = 0; j < propertyCount; j++) {
+                    properties.put(readString(data), readString(data));
+                }
+                sources.add(new Source(name, ordinal, properties));
+            }
+            return sources;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read the configuration snapshot %s", RESOURCE);
+            return null;
+        }
+    }
+
+    // not DataOutput#writeUTF, which is limited to 64KB
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[data.readInt()];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
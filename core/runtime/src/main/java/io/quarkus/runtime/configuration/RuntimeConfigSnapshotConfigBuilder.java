@@ -0,0 +1,117 @@
+package io.quarkus.runtime.configuration;
+
+import static io.quarkus.runtime.configuration.QuarkusConfigBuilderCustomizer.QUARKUS_CONFIG_LOCATIONS;
+import static io.quarkus.runtime.configuration.QuarkusConfigBuilderCustomizer.QUARKUS_PROFILE;
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS;
+import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_PROFILE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.config.DotEnvConfigSourceProvider;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.config.common.MapBackedConfigSource;
+
+/**
+ * Replaces the configuration files of the classpath with the {@link RuntimeConfigSnapshot} taken at build time.
+ * <p>
+ * Only the sources that can change after the build are still read: the environment variables, the system properties,
+ * the {@code .env} file and the {@code config/application.properties} file of the working directory. The snapshot is not
+ * used if these sources select other configuration files than at build time, by setting the profile or additional
+ * config locations, or if the working directory has profile specific configuration files.
+ */
+public class RuntimeConfigSnapshotConfigBuilder implements ConfigBuilder {
+
+    // the ordinal of the files of the config directory
+    private static final int CONFIG_DIR_ORDINAL = 260;
+
+    @Override
+    public SmallRyeConfigBuilder configBuilder(final SmallRyeConfigBuilder builder) {
+        if (selectsFiles(System.getenv()) || selectsFiles(System.getProperties())) {
+            return builder;
+        }
+        Path userDir = Paths.get(System.getProperty("user.dir"));
+        Path configDir = userDir.resolve("config");
+        if (hasProfileFiles(configDir)) {
+            return builder;
+        }
+        List<RuntimeConfigSnapshot.Source> snapshot = RuntimeConfigSnapshot.read(builder.getClassLoader());
+        if (snapshot == null) {
+            return builder;
+        }
+
+        ConfigSource configFile = null;
+        Path configFilePath = configDir.resolve("application.properties");
+        if (Files.isRegularFile(configFilePath)) {
+            try {
+                configFile = new PropertiesConfigSource(configFilePath.toUri().toURL(), CONFIG_DIR_ORDINAL);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (selectsFiles(configFile.getProperties())) {
+                return builder;
+            }
+        }
+        List<ConfigSource> dotEnv = List.of();
+        Path dotEnvPath = userDir.resolve(".env");
+        if (Files.isRegularFile(dotEnvPath)) {
+            dotEnv = new DotEnvConfigSourceProvider(dotEnvPath.toUri().toString()).getConfigSources(builder.getClassLoader());
+            for (ConfigSource source : dotEnv) {
+                if (selectsFiles(source.getProperties())) {
+                    return builder;
+                }
+            }
+        }
+
+        builder.setAddDefaultSources(false).addSystemSources();
+        for (RuntimeConfigSnapshot.Source source : snapshot) {
+            builder.withSources(new MapBackedConfigSource(source.name(), source.properties(), source.ordinal()) {
+            });
+        }
+        if (configFile != null) {
+            builder.withSources(configFile);
+        }
+        for (ConfigSource source : dotEnv) {
+            builder.withSources(source);
+        }
+        return builder;
+    }
+
+    @Override
+    public int priority() {
+        return Integer.MAX_VALUE;
+    }
+
+    // a profile may select other profile specific files of the classpath than at build time, and additional locations
+    // are loaded along with the configuration files of the classpath
+    private static boolean selectsFiles(Map<?, ?> values) {
+        return values.containsKey(QUARKUS_PROFILE)
+                || values.containsKey(SMALLRYE_CONFIG_PROFILE)
+                || values.containsKey("QUARKUS_PROFILE")
+                || values.containsKey("SMALLRYE_CONFIG_PROFILE")
+                || values.containsKey(QUARKUS_CONFIG_LOCATIONS)
+                || values.containsKey(SMALLRYE_CONFIG_LOCATIONS)
+                || values.containsKey("QUARKUS_CONFIG_LOCATIONS")
+                || values.containsKey("SMALLRYE_CONFIG_LOCATIONS");
+    }
+
+    private static boolean hasProfileFiles(Path configDir) {
+        if (!Files.isDirectory(configDir)) {
+            return false;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(configDir, "application-*.properties")) {
+            return files.iterator().hasNext();
+        } catch (IOException e) {
+            return true;
+        }
+    }
+}
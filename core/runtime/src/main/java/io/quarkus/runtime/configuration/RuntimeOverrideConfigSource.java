@@ -37,6 +37,23 @@ public static void setConfig(ClassLoader runtimeClassLoader, Map<String, String>
         }
     }
 
+    /**
+     * @return the overridden configuration of the application of the given runtime class loader, which the application
+     *         may update with the values it computes while starting, such as its actual ports, or {@code null} if the
+     *         configuration of the application was not overridden
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, String> getConfig(ClassLoader runtimeClassLoader) {
+        try {
+            Class<?> cls = runtimeClassLoader.loadClass(GENERATED_CLASS_NAME);
+            return (Map<String, String>) cls.getDeclaredField(FIELD_NAME).get(null);
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (NoSuchFieldException | IllegalAccessException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
     @Override
     public Map<String, String> getProperties() {
         return new HashMap<>(values);
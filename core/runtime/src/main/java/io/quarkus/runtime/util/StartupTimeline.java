@@ -0,0 +1,173 @@
+package io.quarkus.runtime.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.ImageMode;
+
+/**
+ * Records the duration of every step of the application startup: the recorded static init and runtime init tasks, and
+ * the observers of the {@code StartupEvent}, which include the initialization of the {@code @Startup} beans.
+ * <p>
+ * The timeline is enabled with the {@code quarkus.debug.startup-timeline} system property. Once the application has
+ * started, it is written as JSON to the file set by the {@code quarkus.debug.startup-timeline-file} system property, or
+ * logged at the {@code DEBUG} level, and passed to the registered listeners.
+ */
+public final class StartupTimeline {
+
+    private static final Logger log = Logger.getLogger(StartupTimeline.class);
+
+    public static final String STARTUP_TIMELINE = "quarkus.debug.startup-timeline";
+    public static final String STARTUP_TIMELINE_FILE = "quarkus.debug.startup-timeline-file";
+
+    public enum Phase {
+        STATIC_INIT,
+        RUNTIME_INIT,
+        STARTUP_EVENT
+    }
+
+    /**
+     * A step of the startup.
+     *
+     * @param phase the phase of the startup the step ran in
+     * @param name the name of the build step that recorded the task, or the description of the observer
+     * @param started the time the step started at, in milliseconds since the epoch
+     * @param duration the duration of the step, in nanoseconds
+     */
+    public record Step(Phase phase, String name, long started, long duration) {
+    }
+
+    private static volatile boolean enabled;
+    private static final List<Step> steps = new ArrayList<>();
+    private static final List<Consumer<List<Step>>> listeners = new CopyOnWriteArrayList<>();
+    private static volatile List<Step> lastTimeline = List.of();
+
+    private StartupTimeline() {
+    }
+
+    public static void configureEnabled() {
+        enabled = System.getProperty(STARTUP_TIMELINE, "false").equalsIgnoreCase("true");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Called when the static init of the application starts, which is also the case on every restart in dev mode.
+     */
+    public static void staticInitStarted() {
+        synchronized (steps) {
+            steps.clear();
+        }
+        listeners.clear();
+    }
+
+    public static void record(Phase phase, String name, long duration) {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(duration);
+        synchronized (steps) {
+            steps.add(new Step(phase, name, started, duration));
+        }
+    }
+
+    /**
+     * Registers a listener notified with the steps of the timeline once the application has started.
+     * <p>
+     * The listeners are cleared on every restart in dev mode.
+     */
+    public static void addListener(Consumer<List<Step>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return the steps of the last startup, or an empty list if the timeline is not enabled
+     */
+    public static List<Step> lastTimeline() {
+        return lastTimeline;
+    }
+
+    public static void startupCompleted() {
+        if (!enabled) {
+            return;
+        }
+        List<Step> timeline;
+        synchronized (steps) {
+            timeline = new ArrayList<>(steps.size());
+            for (Step step : steps) {
+                // the static init of a native executable runs when the image is built
+                if (step.phase() != Phase.STATIC_INIT || !ImageMode.current().isNativeImage()) {
+                    timeline.add(step);
+                }
+            }
+            steps.clear();
+        }
+        timeline = List.copyOf(timeline);
+        lastTimeline = timeline;
+
+        String file = System.getProperty(STARTUP_TIMELINE_FILE);
+        try {
+            if (file != null) {
+                try (Writer writer = Files.newBufferedWriter(Path.of(file), StandardCharsets.UTF_8)) {
+                    writeJson(timeline, writer);
+                }
+            } else if (log.isDebugEnabled()) {
+                StringBuilder json = new StringBuilder();
+                writeJson(timeline, json);
+                log.debugf("Startup timeline: %s", json);
+            }
+        } catch (IOException e) {
+            log.warnf(e, "Unable to write the startup timeline to %s", file);
+        }
+        for (Consumer<List<Step>> listener : listeners) {
+            listener.accept(timeline);
+        }
+    }
+
+    public static void writeJson(List<Step> timeline, Appendable out) throws IOException {
+        out.append("{\"steps\":[");
+        for (int i = 0; i < timeline.size(); i++) {
+            Step step = timeline.get(i);
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("{\"phase\":\"").append(step.phase().name())
+                    .append("\",\"name\":\"").append(escape(step.name()))
+                    .append("\",\"started\":").append(Long.toString(step.started()))
+                    .append(",\"duration\":").append(String.format(Locale.ROOT, "%.3f", step.duration() / 1_000_000d))
+                    .append('}');
+        }
+        out.append("]}");
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -5,6 +5,8 @@
 import java.time.ZoneId;
 import java.util.concurrent.TimeUnit;
 
+import io.quarkus.runtime.ExecutionMode;
+import io.quarkus.runtime.ExecutionModeManager;
 import io.quarkus.runtime.StartupContext;
 
 public class StepTiming {
@@ -16,6 +18,7 @@ public class StepTiming {
 
     public static void configureEnabled() {
         stepTimingEnabled = System.getProperty(PRINT_STARTUP_TIMES, "false").equalsIgnoreCase("true");
+        StartupTimeline.configureEnabled();
     }
 
     public static void configureStart() {
@@ -23,17 +26,40 @@ public static void configureStart() {
     }
 
     public static void printStepTime(StartupContext startupContext) {
-        if (!stepTimingEnabled) {
+        if (!stepTimingEnabled && !StartupTimeline.isEnabled()) {
             return;
         }
-        String currentBuildStepName = startupContext.getCurrentBuildStepName();
-        System.out.printf("%1$tF %1$tT,%1$tL Build step %2$s completed in: %3$sms%n",
-                LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
-                currentBuildStepName,
-                duration(System.nanoTime(), stepTimingStart));
+        printStepTime(startupContext.getCurrentBuildStepName(), System.nanoTime(), stepTimingStart);
         stepTimingStart = System.nanoTime();
     }
 
+    /**
+     * Prints the time of a build step whose startup task did not run in sequence with the others.
+     *
+     * @param buildStepName the name of the build step
+     * @param started the {@link System#nanoTime()} the startup task started at
+     */
+    public static void printStepTime(String buildStepName, long started) {
+        if (!stepTimingEnabled && !StartupTimeline.isEnabled()) {
+            return;
+        }
+        printStepTime(buildStepName, System.nanoTime(), started);
+    }
+
+    private static void printStepTime(String buildStepName, long ended, long started) {
+        if (StartupTimeline.isEnabled()) {
+            StartupTimeline.record(ExecutionModeManager.getExecutionMode() == ExecutionMode.STATIC_INIT
+                    ? StartupTimeline.Phase.STATIC_INIT
+                    : StartupTimeline.Phase.RUNTIME_INIT, buildStepName, ended - started);
+        }
+        if (stepTimingEnabled) {
+            System.out.printf("%1$tF %1$tT,%1$tL Build step %2$s completed in: %3$sms%n",
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
+                    buildStepName,
+                    duration(ended, started));
+        }
+    }
+
     private static long duration(long ended, long started) {
         return TimeUnit.MILLISECONDS.convert(ended - started, TimeUnit.NANOSECONDS);
     }
@@ -0,0 +1,84 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelStartupTasksTestCase {
+
+    @Test
+    public void testDependenciesHonored() {
+        List<String> ran = new CopyOnWriteArrayList<>();
+        ParallelStartupTasks tasks = new ParallelStartupTasks(new StartupContext(), 4);
+        tasks.add(context -> ran.add("a"), "a", new int[] {});
+        tasks.add(context -> ran.add("b"), "b", new int[] { 0 });
+        tasks.add(context -> ran.add("c"), "c", new int[] { 0 });
+        tasks.add(context -> ran.add("d"), "d", new int[] { 1, 2 });
+        tasks.run();
+
+        assertEquals(4, ran.size());
+        assertEquals("a", ran.get(0));
+        assertEquals("d", ran.get(3));
+    }
+
+    @Test
+    public void testIndependentTasksRunConcurrently() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        ParallelStartupTasks tasks = new ParallelStartupTasks(new StartupContext(), 2);
+        StartupTask task = context -> {
+            started.countDown();
+            try {
+                // only completes if the other task runs at the same time
+                assertTrue(started.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        tasks.add(task, "first", new int[] {});
+        tasks.add(task, "second", new int[] {});
+        tasks.run();
+
+        assertEquals(0, started.getCount());
+    }
+
+    @Test
+    public void testSequentialOrder() {
+        List<String> ran = new CopyOnWriteArrayList<>();
+        ParallelStartupTasks tasks = new ParallelStartupTasks(new StartupContext(), 1);
+        tasks.add(context -> ran.add(Thread.currentThread().getName()), "a", new int[] {});
+        tasks.add(context -> ran.add("b"), "b", new int[] {});
+        tasks.run();
+
+        assertEquals(List.of(Thread.currentThread().getName(), "b"), ran);
+    }
+
+    @Test
+    public void testFailure() {
+        List<String> ran = new CopyOnWriteArrayList<>();
+        IllegalStateException failure = new IllegalStateException("failed");
+        ParallelStartupTasks tasks = new ParallelStartupTasks(new StartupContext(), 2);
+        tasks.add(context -> {
+            throw failure;
+        }, "a", new int[] {});
+        tasks.add(context -> ran.add("b"), "b", new int[] { 0 });
+
+        assertSame(failure, assertThrows(IllegalStateException.class, tasks::run));
+        assertFalse(ran.contains("b"));
+    }
+
+    @Test
+    public void testLaterDependency() {
+        ParallelStartupTasks tasks = new ParallelStartupTasks(new StartupContext(), 2);
+        assertThrows(IllegalArgumentException.class, () -> tasks.add(context -> {
+        }, "a", new int[] { 0 }));
+    }
+}
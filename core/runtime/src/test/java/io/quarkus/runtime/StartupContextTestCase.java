@@ -0,0 +1,91 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupContextTestCase {
+
+    @Test
+    public void testDeferredTasksRunOnLookup() {
+        List<String> ran = new CopyOnWriteArrayList<>();
+        StartupContext context = new StartupContext();
+        context.addDeferredTask(c -> {
+            ran.add("a");
+            c.putValue("a", "a value");
+        });
+        context.addDeferredTask(c -> {
+            ran.add("b");
+            c.putValue("b", "b value");
+        });
+        context.addDeferredTask(c -> {
+            ran.add("c");
+            c.putValue("c", "c value");
+        });
+
+        assertEquals("b value", context.getValue("b"));
+        assertEquals(List.of("a", "b"), ran);
+        assertEquals("c value", context.getValue("c"));
+        assertEquals(List.of("a", "b", "c"), ran);
+        assertNull(context.getValue("unknown"));
+    }
+
+    @Test
+    public void testDeferredTaskLookingUpFromAnotherThread() throws Exception {
+        StartupContext context = new StartupContext();
+        context.addDeferredTask(c -> {
+            // the task waits for another thread that needs the value of a later task
+            c.putValue("a", CompletableFuture.supplyAsync(() -> c.getValue("b")).join());
+        });
+        context.addDeferredTask(c -> c.putValue("b", "b value"));
+
+        assertEquals("b value", CompletableFuture.supplyAsync(() -> context.getValue("a")).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLookupWaitsForTaskRunningInBackground() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StartupContext context = new StartupContext();
+        context.addDeferredTask(c -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            c.putValue("a", "a value");
+        });
+        context.runDeferredTasksInBackground();
+        started.await(10, TimeUnit.SECONDS);
+
+        CompletableFuture<Object> lookup = CompletableFuture.supplyAsync(() -> context.getValue("a"));
+        release.countDown();
+        assertEquals("a value", lookup.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLookupOfValueOfFailedDeferredTask() {
+        StartupContext context = new StartupContext();
+        IllegalStateException failure = new IllegalStateException("deferred failure");
+        context.addDeferredTask(c -> {
+            throw failure;
+        });
+        context.addDeferredTask(c -> c.putValue("b", "b value"));
+
+        // the failure is reported to the lookup that ran the task
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> context.getValue("a")));
+        // and then as the cause of the missing values
+        assertEquals("b value", context.getValue("b"));
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> context.getValue("a")).getCause());
+    }
+}
@@ -0,0 +1,120 @@
+package io.quarkus.runtime.configuration;
+
+import static io.quarkus.runtime.configuration.ConfigUtils.emptyConfigBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.config.SmallRyeConfig;
+
+public class RuntimeConfigSnapshotTestCase {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        String longValue = "x".repeat(70_000);
+        List<RuntimeConfigSnapshot.Source> sources = List.of(
+                new RuntimeConfigSnapshot.Source("PropertiesConfigSource[source=application.properties]", 250,
+                        Map.of("foo.bar", "baz", "%prod.foo.bar", "${other:prod}", "long", longValue, "unicode", "été")),
+                new RuntimeConfigSnapshot.Source("PropertiesConfigSource[source=META-INF/microprofile-config.properties]",
+                        100, Map.of()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RuntimeConfigSnapshot.write(sources, out);
+        List<RuntimeConfigSnapshot.Source> read = RuntimeConfigSnapshot.read(classLoader(out.toByteArray()));
+
+        assertEquals(sources, read);
+    }
+
+    @Test
+    public void testMissingSnapshot() {
+        assertNull(RuntimeConfigSnapshot.read(classLoader(null)));
+    }
+
+    @Test
+    public void testOtherVersion() {
+        assertNull(RuntimeConfigSnapshot.read(classLoader(new byte[] { 0, 0, 0, 42 })));
+    }
+
+    @Test
+    public void testSameValuesAsClassPathSources(@TempDir Path classPath) throws IOException {
+        Files.writeString(classPath.resolve("application.properties"), String.join("\n",
+                "greeting=hello",
+                "%prod.greeting=hello from prod",
+                "%dev.greeting=hello from dev",
+                "message=${greeting} world",
+                "names=a,b\\\\,c",
+                "mp.overridden=application"));
+        Files.createDirectories(classPath.resolve("META-INF"));
+        Files.writeString(classPath.resolve("META-INF/microprofile-config.properties"), String.join("\n",
+                "mp.overridden=microprofile",
+                "mp.only=microprofile",
+                "%dev.mp.only=microprofile from dev"));
+        List<String> names = List.of("greeting", "message", "names", "mp.overridden", "mp.only");
+
+        try (URLClassLoader classPathLoader = new URLClassLoader(new URL[] { classPath.toUri().toURL() }, null)) {
+            for (String profile : List.of("prod", "dev", "test")) {
+                SmallRyeConfig classPathConfig = emptyConfigBuilder().forClassLoader(classPathLoader).withProfile(profile)
+                        .build();
+                // the sources copied at build time, the class loader of the snapshot has no configuration file
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                RuntimeConfigSnapshot.write(classPathSources(classPathConfig), out);
+                SmallRyeConfig snapshotConfig = new RuntimeConfigSnapshotConfigBuilder()
+                        .configBuilder(emptyConfigBuilder().forClassLoader(classLoader(out.toByteArray()))
+                                .withProfile(profile))
+                        .build();
+
+                for (String name : names) {
+                    assertEquals(classPathConfig.getConfigValue(name).getValue(),
+                            snapshotConfig.getConfigValue(name).getValue(), profile + " " + name);
+                }
+                assertEquals(Map.of("prod", "hello from prod world", "dev", "hello from dev world", "test", "hello world")
+                        .get(profile), snapshotConfig.getValue("message", String.class));
+                assertEquals(profile.equals("dev") ? "microprofile from dev" : "microprofile",
+                        snapshotConfig.getValue("mp.only", String.class));
+                assertEquals("application", snapshotConfig.getValue("mp.overridden", String.class));
+                assertEquals(List.of("a", "b,c"), snapshotConfig.getValues("names", String.class));
+            }
+        }
+    }
+
+    private static List<RuntimeConfigSnapshot.Source> classPathSources(SmallRyeConfig config) {
+        List<RuntimeConfigSnapshot.Source> sources = new ArrayList<>();
+        for (ConfigSource source : config.getConfigSources()) {
+            if (source.getName().contains("application.properties")
+                    || source.getName().contains("microprofile-config.properties")) {
+                sources.add(new RuntimeConfigSnapshot.Source(source.getName(), source.getOrdinal(),
+                        new HashMap<>(source.getProperties())));
+            }
+        }
+        assertEquals(2, sources.size());
+        return sources;
+    }
+
+    private static ClassLoader classLoader(byte[] snapshot) {
+        return new ClassLoader(null) {
+            @Override
+            public InputStream getResourceAsStream(String name) {
+                if (snapshot != null && name.equals(RuntimeConfigSnapshot.RESOURCE)) {
+                    return new ByteArrayInputStream(snapshot);
+                }
+                return null;
+            }
+        };
+    }
+}
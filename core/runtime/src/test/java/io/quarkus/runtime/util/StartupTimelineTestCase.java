@@ -0,0 +1,35 @@
+package io.quarkus.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimelineTestCase {
+
+    @Test
+    public void testWriteJson() throws IOException {
+        List<StartupTimeline.Step> steps = List.of(
+                new StartupTimeline.Step(StartupTimeline.Phase.STATIC_INIT, "ArcProcessor.initStatic", 1000, 1_500_000),
+                new StartupTimeline.Step(StartupTimeline.Phase.STARTUP_EVENT,
+                        "Observer [method=org.acme.\"Quoted\"#onStart(io.quarkus.runtime.StartupEvent)]", 1002, 250));
+
+        StringBuilder json = new StringBuilder();
+        StartupTimeline.writeJson(steps, json);
+
+        assertEquals("{\"steps\":["
+                + "{\"phase\":\"STATIC_INIT\",\"name\":\"ArcProcessor.initStatic\",\"started\":1000,\"duration\":1.500},"
+                + "{\"phase\":\"STARTUP_EVENT\",\"name\":\"Observer [method=org.acme.\\\"Quoted\\\"#onStart(io.quarkus.runtime.StartupEvent)]\","
+                + "\"started\":1002,\"duration\":0.000}]}", json.toString());
+    }
+
+    @Test
+    public void testEmptyTimeline() throws IOException {
+        StringBuilder json = new StringBuilder();
+        StartupTimeline.writeJson(List.of(), json);
+
+        assertEquals("{\"steps\":[]}", json.toString());
+    }
+}
@@ -10,6 +10,7 @@
 import org.eclipse.microprofile.metrics.Gauge;
 import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
 import org.eclipse.microprofile.metrics.Tag;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
 import org.junit.jupiter.api.Assertions;
@@ -55,6 +56,11 @@ public void testMetricsOfDefaultDS() throws SQLException {
 
         Assertions.assertEquals(1L, acquireCount.getCount());
         Assertions.assertEquals(1L, maxUsed.getValue());
+
+        SimpleTimer acquireTime = registry.getSimpleTimers()
+                .get(new MetricID("agroal.acquire.time", new Tag("datasource", "default")));
+        Assertions.assertNotNull(acquireTime, "Agroal acquisition time should be registered");
+        Assertions.assertEquals(1L, acquireTime.getCount());
     }
 
     @Test
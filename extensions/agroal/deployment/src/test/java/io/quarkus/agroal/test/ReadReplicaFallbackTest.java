@@ -0,0 +1,98 @@
+package io.quarkus.agroal.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.agroal.test.ReadReplicaRoutingTest.ReadReplicaBean;
+import io.quarkus.agroal.test.ReadReplicaRoutingTest.RequiresNewTransactionBean;
+import io.quarkus.test.QuarkusUnitTest;
+
+// the tests change the lag of the replica, which is only checked every lag-check-interval
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ReadReplicaFallbackTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(ReadReplicaRoutingTest.class, ReadReplicaBean.class,
+                    RequiresNewTransactionBean.class))
+            .withConfigurationResource("application-read-replicas.properties")
+            .overrideRuntimeConfigKey("quarkus.datasource.jdbc.read-replicas.datasources", "unreachable,replica")
+            // the lag of the replica is set by the tests, the lag query fails as long as the table does not exist
+            .overrideRuntimeConfigKey("quarkus.datasource.jdbc.read-replicas.lag-query", "SELECT lag_seconds FROM replica_lag")
+            .overrideRuntimeConfigKey("quarkus.datasource.jdbc.read-replicas.lag-check-interval", "1S")
+            .overrideRuntimeConfigKey("quarkus.datasource.jdbc.read-replicas.retry-interval", "5S")
+            .overrideConfigKey("quarkus.datasource.unreachable.db-kind", "h2")
+            .overrideRuntimeConfigKey("quarkus.datasource.unreachable.jdbc.url", "jdbc:h2:tcp://localhost:1/mem:unreachable")
+            .overrideRuntimeConfigKey("quarkus.datasource.unreachable.jdbc.acquisition-timeout", "1S");
+
+    @Inject
+    ReadReplicaBean bean;
+
+    @Inject
+    @DataSource("replica")
+    AgroalDataSource replica;
+
+    @Test
+    @Order(1)
+    public void testFallbackToPrimary() throws SQLException {
+        // the replica lags behind by one minute
+        executeOnReplica("DROP TABLE IF EXISTS replica_lag", "CREATE TABLE replica_lag (lag_seconds INT)",
+                "INSERT INTO replica_lag VALUES (60)");
+        for (int i = 0; i < 4; i++) {
+            assertThat(bean.readReplicaUrl()).contains("mem:default");
+        }
+    }
+
+    @Test
+    @Order(2)
+    public void testReplicaUsedAgainOnceCaughtUp() throws Exception {
+        executeOnReplica("UPDATE replica_lag SET lag_seconds = 0");
+        // once its lag is checked again
+        awaitReplicaUsed();
+    }
+
+    @Test
+    @Order(3)
+    public void testReplicaUsedAgainAfterRetryInterval() throws Exception {
+        executeOnReplica("DROP TABLE replica_lag");
+        // the lag check fails once the previous check expired, the replica is then not used for the retry interval
+        Thread.sleep(TimeUnit.SECONDS.toMillis(1) + 100);
+        assertThat(bean.readReplicaUrl()).contains("mem:default");
+        assertThat(bean.readReplicaUrl()).contains("mem:default");
+
+        executeOnReplica("CREATE TABLE replica_lag (lag_seconds INT)", "INSERT INTO replica_lag VALUES (0)");
+        assertThat(bean.readReplicaUrl()).contains("mem:default");
+        awaitReplicaUsed();
+    }
+
+    private void awaitReplicaUsed() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!bean.readReplicaUrl().contains("mem:replica")) {
+            assertThat(System.nanoTime() - deadline).as("the replica is used again").isNegative();
+            Thread.sleep(200);
+        }
+    }
+
+    private void executeOnReplica(String... statements) throws SQLException {
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
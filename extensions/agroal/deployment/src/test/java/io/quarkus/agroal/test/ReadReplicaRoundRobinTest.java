@@ -0,0 +1,44 @@
+package io.quarkus.agroal.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.agroal.test.ReadReplicaRoutingTest.ReadReplicaBean;
+import io.quarkus.agroal.test.ReadReplicaRoutingTest.RequiresNewTransactionBean;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReadReplicaRoundRobinTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(ReadReplicaRoutingTest.class, ReadReplicaBean.class,
+                    RequiresNewTransactionBean.class))
+            .withConfigurationResource("application-read-replicas.properties")
+            .overrideRuntimeConfigKey("quarkus.datasource.jdbc.read-replicas.datasources", "replica,replica2")
+            .overrideConfigKey("quarkus.datasource.replica2.db-kind", "h2")
+            .overrideRuntimeConfigKey("quarkus.datasource.replica2.jdbc.url", "jdbc:h2:tcp://localhost/mem:replica2");
+
+    @Inject
+    ReadReplicaBean bean;
+
+    @Test
+    public void testReadReplicasUsedInTurn() {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            urls.add(bean.readReplicaUrl());
+        }
+        assertThat(urls).filteredOn(url -> url.endsWith("mem:replica")).hasSize(2);
+        assertThat(urls).filteredOn(url -> url.endsWith("mem:replica2")).hasSize(2);
+        // alternately
+        assertThat(urls.get(1)).isNotEqualTo(urls.get(0));
+        assertThat(urls.get(2)).isEqualTo(urls.get(0));
+        assertThat(urls.get(3)).isEqualTo(urls.get(1));
+    }
+}
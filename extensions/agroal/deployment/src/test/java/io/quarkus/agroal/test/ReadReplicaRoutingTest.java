@@ -0,0 +1,142 @@
+package io.quarkus.agroal.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.ReadReplica;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReadReplicaRoutingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(ReadReplicaBean.class, RequiresNewTransactionBean.class))
+            .withConfigurationResource("application-read-replicas.properties");
+
+    @Inject
+    AgroalDataSource defaultDataSource;
+
+    @Inject
+    ReadReplicaBean bean;
+
+    @Test
+    public void testReadReplicaRouting() throws SQLException {
+        assertThat(url(defaultDataSource)).contains("mem:default");
+        assertThat(bean.readReplicaUrl()).contains("mem:replica");
+        // the metadata of the datasource is the one of the primary datasource
+        assertThat(defaultDataSource.getConfiguration().connectionPoolConfiguration().connectionFactoryConfiguration()
+                .jdbcUrl()).contains("mem:default");
+    }
+
+    @Test
+    public void testTransactionKeepsItsDataSource() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            assertThat(url(defaultDataSource)).contains("mem:default");
+            // reads the writes of the transaction
+            assertThat(bean.readReplicaUrl()).contains("mem:default");
+        });
+        QuarkusTransaction.requiringNew().run(() -> {
+            // the transaction was begun before the read replica scope, it may write to the database
+            assertThat(bean.readReplicaUrl()).contains("mem:default");
+            assertThat(url(defaultDataSource)).contains("mem:default");
+        });
+        // the transaction begun by the read replica method uses the read replica for all its connections
+        assertThat(bean.transactionalReadReplicaUrls()).allSatisfy(url -> assertThat(url).contains("mem:replica"));
+    }
+
+    @Test
+    public void testWriteAfterReadReplicaReadInTransaction() throws SQLException {
+        execute("CREATE TABLE IF NOT EXISTS written (id INT)");
+        QuarkusTransaction.requiringNew().run(() -> {
+            bean.readReplicaUrl();
+            try (Connection connection = defaultDataSource.getConnection();
+                    Statement statement = connection.createStatement()) {
+                assertThat(connection.getMetaData().getURL()).contains("mem:default");
+                statement.executeUpdate("INSERT INTO written VALUES (1)");
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        try (Connection connection = defaultDataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM written WHERE id = 1")) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getInt(1)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testRequiresNewTransactionInReadReplicaScope() {
+        // documented: the transactions begun inside the read replica scope use the read replica, writes included
+        assertThat(bean.requiresNewTransactionUrls()).allSatisfy(url -> assertThat(url).contains("mem:replica"));
+        assertThat(url(defaultDataSource)).contains("mem:default");
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = defaultDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    static String url(AgroalDataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @ApplicationScoped
+    public static class ReadReplicaBean {
+
+        @Inject
+        AgroalDataSource defaultDataSource;
+
+        @Inject
+        RequiresNewTransactionBean transactionBean;
+
+        @ReadReplica
+        public String readReplicaUrl() {
+            return url(defaultDataSource);
+        }
+
+        @ReadReplica
+        @Transactional
+        public List<String> transactionalReadReplicaUrls() {
+            return List.of(url(defaultDataSource), url(defaultDataSource));
+        }
+
+        @ReadReplica
+        public List<String> requiresNewTransactionUrls() {
+            return transactionBean.requiresNewTransactionUrls();
+        }
+    }
+
+    @ApplicationScoped
+    public static class RequiresNewTransactionBean {
+
+        @Inject
+        AgroalDataSource defaultDataSource;
+
+        @Transactional(TxType.REQUIRES_NEW)
+        public List<String> requiresNewTransactionUrls() {
+            return List.of(url(defaultDataSource), url(defaultDataSource));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.quarkus.agroal;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Routes the connections acquired while the annotated method runs to the read replicas of the datasources, as configured
+ * with {@code quarkus.datasource.jdbc.read-replicas.datasources}.
+ * <p>
+ * The annotated method must not write to the database. Only the transactions begun by the annotated method use the read
+ * replicas: a method annotated with {@code @ReadReplica} called within a transaction begun before reads from the primary
+ * datasource, so that this transaction sees its own writes and can keep writing after the call.
+ * <p>
+ * The transactions begun by the methods called from the annotated method, e.g. a
+ * {@code @Transactional(TxType.REQUIRES_NEW)} method, are begun inside the read replica scope too: all their connections
+ * come from a read replica, including the ones used to write. The methods writing to the database must be called from
+ * outside of the annotated methods.
+ */
+@Inherited
+@InterceptorBinding
+@Target({ METHOD, TYPE })
+@Retention(RUNTIME)
+@Documented
+public @interface ReadReplica {
+}
@@ -0,0 +1,53 @@
+package io.quarkus.agroal.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.TrimmedStringConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface DataSourceJdbcReadReplicasRuntimeConfig {
+
+    /**
+     * The names of the datasources that are read replicas of this datasource.
+     * <p>
+     * The connections acquired by methods annotated with {@link io.quarkus.agroal.ReadReplica} are acquired from one of
+     * these datasources, in turn, instead of this datasource.
+     */
+    Optional<List<@WithConverter(TrimmedStringConverter.class) String>> datasources();
+
+    /**
+     * The query returning the replication lag of a read replica, in seconds.
+     * <p>
+     * For instance, on PostgreSQL: {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())}.
+     * <p>
+     * When not set, the replication lag of the read replicas is not checked.
+     */
+    Optional<String> lagQuery();
+
+    /**
+     * The maximum replication lag of a read replica, as returned by the lag query.
+     * <p>
+     * A read replica lagging behind by more than this is not used until its lag is checked again.
+     */
+    @WithDefault("10S")
+    Duration maxLag();
+
+    /**
+     * The interval at which the replication lag of each read replica is checked.
+     */
+    @WithDefault("10S")
+    Duration lagCheckInterval();
+
+    /**
+     * The time a read replica is not used after failing to provide a connection.
+     * <p>
+     * The connections are acquired from this datasource in the meantime.
+     */
+    @WithDefault("30S")
+    Duration retryInterval();
+}
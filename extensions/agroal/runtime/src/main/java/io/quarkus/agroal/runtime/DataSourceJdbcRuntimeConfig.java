@@ -52,6 +52,10 @@ public interface DataSourceJdbcRuntimeConfig {
 
     /**
      * Perform foreground validation on connections that have been idle for longer than the specified interval.
+     * <p>
+     * The connections used more recently are handed out without validation, so under load the acquisition does not pay
+     * for a validation round trip, while the connections left idle long enough to be closed by the database or a
+     * firewall are validated before being used.
      */
     Optional<Duration> foregroundValidationInterval();
 
@@ -118,7 +122,10 @@ public interface DataSourceJdbcRuntimeConfig {
     Optional<String> validationQuerySql();
 
     /**
-     * The timeout for the connection validation query
+     * The timeout for the connection validation query, or for the JDBC {@code Connection.isValid()} check when no
+     * validation query is configured.
+     * <p>
+     * JDBC timeouts are expressed in seconds: a timeout that is not a whole number of seconds is rounded up.
      */
     Optional<Duration> validationQueryTimeout();
 
@@ -172,4 +179,9 @@ public interface DataSourceJdbcRuntimeConfig {
     @ConfigDocDefault("false if quarkus.datasource.jdbc.telemetry=false and true if quarkus.datasource.jdbc.telemetry=true")
     Optional<Boolean> telemetry();
 
+    /**
+     * Read replicas configuration.
+     */
+    DataSourceJdbcReadReplicasRuntimeConfig readReplicas();
+
 }
@@ -3,11 +3,15 @@
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import jakarta.enterprise.inject.Any;
@@ -33,6 +37,7 @@
 import io.agroal.api.transaction.TransactionIntegration;
 import io.agroal.narayana.NarayanaTransactionIntegration;
 import io.quarkus.agroal.runtime.JdbcDriver.JdbcDriverLiteral;
+import io.quarkus.agroal.runtime.metrics.AgroalAcquisitionTimeListener;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.credentials.CredentialsProvider;
@@ -72,6 +77,7 @@ public class DataSources {
     private final AgroalDataSourceSupport agroalDataSourceSupport;
     private final Instance<AgroalPoolInterceptor> agroalPoolInterceptors;
     private final Instance<AgroalOpenTelemetryWrapper> agroalOpenTelemetryWrapper;
+    private final ConcurrentMap<String, AgroalAcquisitionTimeListener> acquisitionTimeListeners = new ConcurrentHashMap<>();
 
     public DataSources(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig, DataSourcesJdbcBuildTimeConfig dataSourcesJdbcBuildTimeConfig,
@@ -140,6 +146,14 @@ public AgroalDataSource getDataSource(String dataSourceName) {
         return ClientProxy.unwrap(AgroalDataSourceUtil.dataSourceInstance(dataSourceName).get());
     }
 
+    /**
+     * Returns the listener timing the connection acquisitions of the given datasource, used to register the acquisition
+     * time metric.
+     */
+    public AgroalAcquisitionTimeListener getAcquisitionTimeListener(String dataSourceName) {
+        return acquisitionTimeListeners.get(dataSourceName);
+    }
+
     @SuppressWarnings("resource")
     public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnabled) {
         if (!agroalDataSourceSupport.entries.containsKey(dataSourceName)) {
@@ -212,10 +226,13 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
 
         // Explicit reference to bypass reflection need of the ServiceLoader used by AgroalDataSource#from
         AgroalDataSourceConfiguration agroalConfiguration = dataSourceConfiguration.get();
+        AgroalAcquisitionTimeListener acquisitionTimeListener = new AgroalAcquisitionTimeListener();
+        acquisitionTimeListeners.put(dataSourceName, acquisitionTimeListener);
         AgroalDataSource dataSource = new io.agroal.pool.DataSource(agroalConfiguration,
                 new AgroalEventLoggingListener(dataSourceName,
                         agroalConfiguration.connectionPoolConfiguration()
-                                .transactionRequirement() == TransactionRequirement.WARN));
+                                .transactionRequirement() == TransactionRequirement.WARN),
+                acquisitionTimeListener);
         log.debugv("Started datasource {0} connected to {1}", dataSourceName,
                 agroalConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcUrl());
 
@@ -235,6 +252,22 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
             dataSource = agroalOpenTelemetryWrapper.get().apply(dataSource);
         }
 
+        DataSourceJdbcReadReplicasRuntimeConfig readReplicasConfig = dataSourceJdbcRuntimeConfig.readReplicas();
+        List<String> readReplicaNames = readReplicasConfig.datasources().orElse(List.of());
+        if (!readReplicaNames.isEmpty()) {
+            for (String readReplicaName : readReplicaNames) {
+                if (readReplicaName.equals(dataSourceName)
+                        || !agroalDataSourceSupport.entries.containsKey(readReplicaName)) {
+                    throw new IllegalArgumentException("Datasource " + dataSourceName + " has an invalid read replica '"
+                            + readReplicaName + "': read replicas must be other datasources");
+                }
+            }
+            // the read replicas are resolved lazily, they may not be created yet
+            dataSource = new ReadReplicaRoutingDataSource(dataSourceName, dataSource, readReplicaNames,
+                    name -> AgroalDataSourceUtil.dataSourceInstance(name).get(), readReplicasConfig,
+                    transactionManager, transactionSynchronizationRegistry);
+        }
+
         return dataSource;
     }
 
@@ -319,7 +352,7 @@ private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfig
         // Connection management
         if (dataSourceJdbcRuntimeConfig.validationQueryTimeout().isPresent()) {
             poolConfiguration.connectionValidator(ConnectionValidator
-                    .defaultValidatorWithTimeout((int) dataSourceJdbcRuntimeConfig.validationQueryTimeout().get().toSeconds()));
+                    .defaultValidatorWithTimeout(timeoutSeconds(dataSourceJdbcRuntimeConfig.validationQueryTimeout().get())));
         } else {
             poolConfiguration.connectionValidator(ConnectionValidator.defaultValidator());
         }
@@ -338,7 +371,7 @@ private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfig
                 public boolean isValid(Connection connection) {
                     try (Statement stmt = connection.createStatement()) {
                         if (dataSourceJdbcRuntimeConfig.validationQueryTimeout().isPresent()) {
-                            stmt.setQueryTimeout((int) dataSourceJdbcRuntimeConfig.validationQueryTimeout().get().toSeconds());
+                            stmt.setQueryTimeout(timeoutSeconds(dataSourceJdbcRuntimeConfig.validationQueryTimeout().get()));
                         }
                         stmt.execute(validationQuery);
                         return true;
@@ -365,6 +398,21 @@ public boolean isValid(Connection connection) {
         poolConfiguration.recoveryEnable(dataSourceJdbcRuntimeConfig.enableRecovery());
     }
 
+    /**
+     * JDBC timeouts are expressed in seconds, {@code 0} meaning no timeout: a sub-second timeout is rounded up to one
+     * second instead of disabling the timeout.
+     */
+    static int timeoutSeconds(Duration timeout) {
+        if (timeout.isZero() || timeout.isNegative()) {
+            return 0;
+        }
+        long seconds = timeout.toSeconds();
+        if (timeout.toNanosPart() != 0) {
+            seconds++;
+        }
+        return (int) Math.min(seconds, Integer.MAX_VALUE);
+    }
+
     /**
      * Uses the {@link ServiceLoader#load(Class) ServiceLoader to load the JDBC drivers} in context
      * of the current {@link Thread#getContextClassLoader() TCCL}.
@@ -0,0 +1,31 @@
+package io.quarkus.agroal.runtime;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import io.quarkus.agroal.ReadReplica;
+
+@ReadReplica
+@Interceptor
+// before the transaction interceptor, so that the connections acquired when completing the transaction are routed too
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class ReadReplicaInterceptor {
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        boolean previous = ReadReplicaRoutingDataSource
+                .enterReadReplicaScope(transactionSynchronizationRegistry.getTransactionKey());
+        try {
+            return context.proceed();
+        } finally {
+            ReadReplicaRoutingDataSource.exitReadReplicaScope(previous);
+        }
+    }
+}
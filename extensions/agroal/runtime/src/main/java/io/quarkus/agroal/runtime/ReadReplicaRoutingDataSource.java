@@ -0,0 +1,313 @@
+package io.quarkus.agroal.runtime;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.ShardingKeyBuilder;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import jakarta.transaction.InvalidTransactionException;
+import jakarta.transaction.SystemException;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionManager;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+import io.quarkus.agroal.ReadReplica;
+
+/**
+ * The {@link AgroalDataSource} wrapper that routes the connections acquired by {@link ReadReplica} methods to the read
+ * replicas of a datasource, in turn.
+ * <p>
+ * A read replica failing to provide a connection, or lagging behind by more than the configured maximum lag, is skipped
+ * and the connections are acquired from the wrapped datasource instead. Only the transactions begun by a
+ * {@link ReadReplica} method use the read replicas: the transactions begun before, which may write to the database, keep
+ * using the wrapped datasource. Within a transaction, all the connections are acquired from the datasource the
+ * transaction acquired its first connection from, so that a transaction sees its own writes and never spans a read
+ * replica and the wrapped datasource.
+ */
+public class ReadReplicaRoutingDataSource implements AgroalDataSource {
+
+    private static final Logger log = Logger.getLogger(ReadReplicaRoutingDataSource.class.getName());
+
+    /**
+     * The key of the transaction of the current thread when it entered the read replica scope, or {@link #NO_TRANSACTION}.
+     */
+    private static final ThreadLocal<Object> READ_REPLICA_SCOPE = new ThreadLocal<>();
+    private static final Object NO_TRANSACTION = new Object();
+
+    private final String dataSourceName;
+    private final AgroalDataSource delegate;
+    private final List<Replica> replicas;
+    private final DataSourceJdbcReadReplicasRuntimeConfig config;
+    private final TransactionManager transactionManager;
+    private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(String dataSourceName, AgroalDataSource delegate, List<String> replicaNames,
+            Function<String, AgroalDataSource> replicaResolver, DataSourceJdbcReadReplicasRuntimeConfig config,
+            TransactionManager transactionManager, TransactionSynchronizationRegistry transactionSynchronizationRegistry) {
+        this.dataSourceName = dataSourceName;
+        this.delegate = delegate;
+        this.replicas = new ArrayList<>(replicaNames.size());
+        for (String replicaName : replicaNames) {
+            replicas.add(new Replica(replicaName, replicaResolver));
+        }
+        this.config = config;
+        this.transactionManager = transactionManager;
+        this.transactionSynchronizationRegistry = transactionSynchronizationRegistry;
+    }
+
+    /**
+     * @param transactionKey the key of the current transaction, or {@code null} if there is none
+     * @return whether the current thread was already routing its connections to the read replicas
+     */
+    static boolean enterReadReplicaScope(Object transactionKey) {
+        if (READ_REPLICA_SCOPE.get() != null) {
+            return true;
+        }
+        READ_REPLICA_SCOPE.set(transactionKey != null ? transactionKey : NO_TRANSACTION);
+        return false;
+    }
+
+    static void exitReadReplicaScope(boolean previous) {
+        if (!previous) {
+            READ_REPLICA_SCOPE.remove();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(AgroalDataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionAcquisition acquisition) throws SQLException {
+        Object transactionKey = transactionSynchronizationRegistry.getTransactionKey();
+        boolean inTransaction = transactionKey != null;
+        if (inTransaction) {
+            AgroalDataSource bound = (AgroalDataSource) transactionSynchronizationRegistry.getResource(this);
+            if (bound != null) {
+                return acquisition.acquire(bound);
+            }
+        }
+        AgroalDataSource target = delegate;
+        Connection connection = null;
+        Object scopeTransactionKey = READ_REPLICA_SCOPE.get();
+        // a transaction begun before entering the read replica scope may write to the database
+        if (scopeTransactionKey != null && (!inTransaction || !transactionKey.equals(scopeTransactionKey))) {
+            Replica replica = selectReplica();
+            if (replica != null) {
+                try {
+                    connection = acquisition.acquire(replica.dataSource());
+                    target = replica.dataSource();
+                } catch (SQLException | RuntimeException e) {
+                    replica.markUnavailable();
+                    log.warnv(e, "Unable to acquire a connection from read replica {0} of datasource {1},"
+                            + " using datasource {1} instead for {2}", replica.name, dataSourceName, config.retryInterval());
+                }
+            }
+        }
+        if (connection == null) {
+            connection = acquisition.acquire(delegate);
+        }
+        if (inTransaction) {
+            transactionSynchronizationRegistry.putResource(this, target);
+        }
+        return connection;
+    }
+
+    private Replica selectReplica() {
+        int size = replicas.size();
+        int first = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((first + i) % size);
+            if (isAvailable(replica)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAvailable(Replica replica) {
+        if (!replica.isReachable()) {
+            return false;
+        }
+        if (config.lagQuery().isPresent()) {
+            long now = System.nanoTime();
+            long nextLagCheck = replica.nextLagCheck.get();
+            // only one thread checks the lag of a replica, the other ones use the result of the previous check
+            if (now - nextLagCheck >= 0
+                    && replica.nextLagCheck.compareAndSet(nextLagCheck, now + config.lagCheckInterval().toNanos())) {
+                replica.lagging = isLagging(replica);
+            }
+            return !replica.lagging && replica.isReachable();
+        }
+        return true;
+    }
+
+    private boolean isLagging(Replica replica) {
+        Transaction suspended;
+        try {
+            // the connection used to check the lag must not be enlisted in the current transaction
+            suspended = transactionManager.suspend();
+        } catch (SystemException e) {
+            throw new IllegalStateException("Unable to suspend the current transaction", e);
+        }
+        try (Connection connection = replica.dataSource().getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(config.lagQuery().get())) {
+            // a null lag, e.g. on a primary database, is read as 0
+            double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+            boolean lagging = lagSeconds * 1000 > config.maxLag().toMillis();
+            if (lagging) {
+                log.warnv("Read replica {0} of datasource {1} lags behind by {2}s, using datasource {1} instead"
+                        + " until its lag is checked again", replica.name, dataSourceName, lagSeconds);
+            }
+            return lagging;
+        } catch (SQLException | RuntimeException e) {
+            replica.markUnavailable();
+            log.warnv(e, "Unable to check the lag of read replica {0} of datasource {1}, using datasource {1} instead"
+                    + " for {2}", replica.name, dataSourceName, config.retryInterval());
+            return false;
+        } finally {
+            if (suspended != null) {
+                try {
+                    transactionManager.resume(suspended);
+                } catch (InvalidTransactionException | SystemException e) {
+                    throw new IllegalStateException("Unable to resume the suspended transaction", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isHealthy(boolean newConnection) throws SQLException {
+        return delegate.isHealthy(newConnection);
+    }
+
+    @Override
+    public AgroalDataSourceConfiguration getConfiguration() {
+        return delegate.getConfiguration();
+    }
+
+    @Override
+    public AgroalDataSourceMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public void flush(FlushMode mode) {
+        delegate.flush(mode);
+    }
+
+    @Override
+    public void setPoolInterceptors(Collection<? extends AgroalPoolInterceptor> interceptors) {
+        delegate.setPoolInterceptors(interceptors);
+    }
+
+    @Override
+    public List<AgroalPoolInterceptor> getPoolInterceptors() {
+        return delegate.getPoolInterceptors();
+    }
+
+    @Override
+    public ShardingKeyBuilder createShardingKeyBuilder() throws SQLException {
+        return delegate.createShardingKeyBuilder();
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return delegate.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() {
+        // the read replicas are datasources of their own, closed with their own bean
+        delegate.close();
+    }
+
+    private interface ConnectionAcquisition {
+        Connection acquire(AgroalDataSource dataSource) throws SQLException;
+    }
+
+    private final class Replica {
+
+        private final String name;
+        private final Function<String, AgroalDataSource> resolver;
+        private final AtomicLong nextLagCheck = new AtomicLong(System.nanoTime());
+        private volatile AgroalDataSource dataSource;
+        private volatile long unavailableUntil = System.nanoTime();
+        private volatile boolean lagging;
+
+        private Replica(String name, Function<String, AgroalDataSource> resolver) {
+            this.name = name;
+            this.resolver = resolver;
+        }
+
+        private AgroalDataSource dataSource() {
+            AgroalDataSource dataSource = this.dataSource;
+            if (dataSource == null) {
+                // resolved on first use, the read replica may be created after this datasource
+                dataSource = resolver.apply(name);
+                this.dataSource = dataSource;
+            }
+            return dataSource;
+        }
+
+        private boolean isReachable() {
+            return System.nanoTime() - unavailableUntil >= 0;
+        }
+
+        private void markUnavailable() {
+            unavailableUntil = System.nanoTime() + config.retryInterval().toNanos();
+        }
+    }
+}
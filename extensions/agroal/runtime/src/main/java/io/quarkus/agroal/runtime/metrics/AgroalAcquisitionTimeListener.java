@@ -0,0 +1,45 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+import io.agroal.api.AgroalDataSourceListener;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Records the time taken by each connection acquisition, including the foreground validation of the connection, once a
+ * {@link TimeRecorder} is set by {@link AgroalMetricsRecorder}.
+ * <p>
+ * Agroal only exposes the average, maximum and total acquisition times, this listener allows the metrics backend to
+ * compute the distribution of the acquisition times.
+ */
+public final class AgroalAcquisitionTimeListener implements AgroalDataSourceListener {
+
+    // the listener is invoked on the thread acquiring the connection
+    private final ThreadLocal<long[]> acquisitionStart = ThreadLocal.withInitial(() -> new long[1]);
+
+    private volatile TimeRecorder recorder;
+
+    void setRecorder(TimeRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void beforeConnectionAcquire() {
+        if (recorder != null) {
+            acquisitionStart.get()[0] = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        TimeRecorder recorder = this.recorder;
+        if (recorder != null) {
+            long[] start = acquisitionStart.get();
+            if (start[0] != 0) {
+                recorder.update(System.nanoTime() - start[0], TimeUnit.NANOSECONDS);
+                start[0] = 0;
+            }
+        }
+    }
+}
@@ -11,6 +11,8 @@
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalDataSourceMetrics;
 import io.quarkus.agroal.runtime.AgroalDataSourceUtil;
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.arc.Arc;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
@@ -121,7 +123,21 @@ public void accept(MetricsFactory metricsFactory) {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                AgroalAcquisitionTimeListener acquisitionTimeListener = acquisitionTimeListener(dataSourceName);
+                if (acquisitionTimeListener != null) {
+                    acquisitionTimeListener.setRecorder(metricsFactory.builder("agroal.acquire.time")
+                            .description("Time taken to acquire a connection, including its foreground validation.")
+                            .tag("datasource", tagValue)
+                            .buildTimer());
+                }
             }
         };
     }
+
+    // the listeners are created with the pools by DataSources, which is only deprecated for the other extensions
+    @SuppressWarnings("removal")
+    private static AgroalAcquisitionTimeListener acquisitionTimeListener(String dataSourceName) {
+        return Arc.container().instance(DataSources.class).get().getAcquisitionTimeListener(dataSourceName);
+    }
 }
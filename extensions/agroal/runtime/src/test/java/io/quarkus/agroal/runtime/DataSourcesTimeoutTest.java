@@ -0,0 +1,37 @@
+package io.quarkus.agroal.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+// DataSources is only deprecated for the other extensions
+@SuppressWarnings("removal")
+class DataSourcesTimeoutTest {
+
+    @Test
+    void testSubSecondTimeoutRoundedUp() {
+        // a timeout of 0 second would disable the timeout
+        assertEquals(1, DataSources.timeoutSeconds(Duration.ofMillis(500)));
+        assertEquals(1, DataSources.timeoutSeconds(Duration.ofNanos(1)));
+        assertEquals(2, DataSources.timeoutSeconds(Duration.ofMillis(1500)));
+    }
+
+    @Test
+    void testExactSeconds() {
+        assertEquals(1, DataSources.timeoutSeconds(Duration.ofSeconds(1)));
+        assertEquals(3, DataSources.timeoutSeconds(Duration.ofSeconds(3)));
+    }
+
+    @Test
+    void testNoTimeout() {
+        assertEquals(0, DataSources.timeoutSeconds(Duration.ZERO));
+        assertEquals(0, DataSources.timeoutSeconds(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void testTimeoutCapped() {
+        assertEquals(Integer.MAX_VALUE, DataSources.timeoutSeconds(Duration.ofSeconds(Long.MAX_VALUE)));
+    }
+}
@@ -22,6 +22,8 @@
 import io.quarkus.deployment.annotations.Produce;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
+import io.quarkus.deployment.recording.BytecodeRecorderImpl.ReturnedProxy;
+import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.gizmo2.Const;
 import io.quarkus.gizmo2.Expr;
 import io.quarkus.gizmo2.FieldVar;
@@ -43,7 +45,7 @@ void initStatic(ArcRecorder recorder, List<SyntheticBeanBuildItem> syntheticBean
 
         for (SyntheticBeanBuildItem bean : syntheticBeans) {
             if (bean.hasRecorderInstance() && bean.isStaticInit()) {
-                configureSyntheticBean(recorder, creationFunctions, checkActiveSuppliers, beanRegistration, bean);
+                configureSyntheticBean(recorder, null, creationFunctions, checkActiveSuppliers, beanRegistration, bean);
             }
         }
         // Init the map of bean instances
@@ -53,7 +55,8 @@ void initStatic(ArcRecorder recorder, List<SyntheticBeanBuildItem> syntheticBean
     @Record(ExecutionTime.RUNTIME_INIT)
     @Produce(SyntheticBeansRuntimeInitBuildItem.class)
     @BuildStep
-    ServiceStartBuildItem initRuntime(ArcRecorder recorder, List<SyntheticBeanBuildItem> syntheticBeans,
+    ServiceStartBuildItem initRuntime(ArcRecorder recorder, RecorderContext recorderContext,
+            List<SyntheticBeanBuildItem> syntheticBeans,
             BeanRegistrationPhaseBuildItem beanRegistration, BuildProducer<BeanConfiguratorBuildItem> configurators) {
 
         Map<String, Function<SyntheticCreationalContext<?>, ?>> creationFunctions = new HashMap<>();
@@ -61,7 +64,8 @@ ServiceStartBuildItem initRuntime(ArcRecorder recorder, List<SyntheticBeanBuildI
 
         for (SyntheticBeanBuildItem bean : syntheticBeans) {
             if (bean.hasRecorderInstance() && !bean.isStaticInit()) {
-                configureSyntheticBean(recorder, creationFunctions, checkActiveSuppliers, beanRegistration, bean);
+                configureSyntheticBean(recorder, recorderContext, creationFunctions, checkActiveSuppliers, beanRegistration,
+                        bean);
             }
         }
         recorder.initRuntimeSupplierBeans(creationFunctions, checkActiveSuppliers);
@@ -74,17 +78,19 @@ void initRegular(List<SyntheticBeanBuildItem> syntheticBeans,
 
         for (SyntheticBeanBuildItem bean : syntheticBeans) {
             if (!bean.hasRecorderInstance()) {
-                configureSyntheticBean(null, null, null, beanRegistration, bean);
+                configureSyntheticBean(null, null, null, null, beanRegistration, bean);
             }
         }
     }
 
-    private void configureSyntheticBean(ArcRecorder recorder,
+    private void configureSyntheticBean(ArcRecorder recorder, RecorderContext recorderContext,
             Map<String, Function<SyntheticCreationalContext<?>, ?>> creationFunctions,
             Map<String, Supplier<ActiveResult>> checkActiveSuppliers, BeanRegistrationPhaseBuildItem beanRegistration,
             SyntheticBeanBuildItem bean) {
         String name = createName(bean.configurator());
-        if (bean.configurator().getRuntimeValue() != null) {
+        if (recorderContext != null && isDeferred(bean.configurator())) {
+            creationFunctions.put(name, createDeferredFunction(recorder, recorderContext, bean.configurator()));
+        } else if (bean.configurator().getRuntimeValue() != null) {
             creationFunctions.put(name, recorder.createFunction(bean.configurator().getRuntimeValue()));
         } else if (bean.configurator().getSupplier() != null) {
             creationFunctions.put(name, recorder.createFunction(bean.configurator().getSupplier()));
@@ -105,6 +111,32 @@ private void configureSyntheticBean(ArcRecorder recorder,
         configurator.done();
     }
 
+    private static boolean isDeferred(ExtendedBeanConfigurator configurator) {
+        Object creation = configurator.getRuntimeValue() != null ? configurator.getRuntimeValue()
+                : configurator.getSupplier() != null ? configurator.getSupplier()
+                        : configurator.getFunction() != null ? configurator.getFunction()
+                                : configurator.getRuntimeProxy();
+        return creation instanceof ReturnedProxy proxy && proxy.__deferred$$init();
+    }
+
+    // the object returned by a deferrable recorder method is only looked up when the bean is first created,
+    // so that the recorder method is not executed before the bean is needed
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Function<SyntheticCreationalContext<?>, ?> createDeferredFunction(ArcRecorder recorder,
+            RecorderContext recorderContext, ExtendedBeanConfigurator configurator) {
+        if (configurator.getRuntimeValue() != null) {
+            return recorder.createDeferredRuntimeValueFunction(
+                    (Supplier) recorderContext.lazyReturnedValue(configurator.getRuntimeValue()));
+        } else if (configurator.getSupplier() != null) {
+            return recorder.createDeferredSupplierFunction(
+                    (Supplier) recorderContext.lazyReturnedValue(configurator.getSupplier()));
+        } else if (configurator.getFunction() != null) {
+            return recorder.createDeferredFunction(
+                    (Supplier) recorderContext.lazyReturnedValue(configurator.getFunction()));
+        }
+        return recorder.createDeferredProxyFunction(recorderContext.lazyReturnedValue(configurator.getRuntimeProxy()));
+    }
+
     private String createName(ExtendedBeanConfigurator configurator) {
         return configurator.getImplClazz().toString().replace(".", "_") + "_"
                 + HashUtil.sha1(configurator.getTypes().toString() + configurator.getQualifiers().toString()
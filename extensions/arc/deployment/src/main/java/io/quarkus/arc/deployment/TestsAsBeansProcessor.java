@@ -80,8 +80,11 @@ AnnotationsTransformerBuildItem vetoTestClassesNotMatchingTestProfile(Optional<T
                             || additionalTestAnnotationNames.stream().anyMatch(maybeTestClass::hasAnnotation)) {
                         String testProfileClassName = testProfile.map(TestProfileBuildItem::getTestProfileClassName)
                                 .orElse(null);
-                        veto = !matchesProfile(maybeTestClass, testProfileClassName);
-                        if (veto && hasMatchingNestedTest(maybeTestClass, testProfileClassName, index.getComputingIndex())) {
+                        Set<String> sharedTestProfileClassNames = testProfile
+                                .map(TestProfileBuildItem::getSharedTestProfileClassNames).orElse(Set.of());
+                        veto = !matchesProfile(maybeTestClass, testProfileClassName, sharedTestProfileClassNames);
+                        if (veto && hasMatchingNestedTest(maybeTestClass, testProfileClassName, sharedTestProfileClassNames,
+                                index.getComputingIndex())) {
                             // FIXME the current @Nested tests support makes it possible to specify a different test profile
                             // which is wrong and may cause troubles if a test class injects beans enabled/disabled in a specific profile
                             // See https://github.com/quarkusio/quarkus/issues/45349
@@ -141,7 +144,7 @@ && isTestProfileClass(declaringClass, index.getComputingIndex())
 
     private static Set<DotName> initTestProfileHierarchy(Optional<TestProfileBuildItem> testProfile, IndexView index) {
         Set<DotName> ret = Set.of();
-        if (testProfile.isPresent()) {
+        if (testProfile.isPresent() && testProfile.get().getTestProfileClassName() != null) {
             DotName testProfileClassName = DotName.createSimple(testProfile.get().getTestProfileClassName());
             ret = Set.of(testProfileClassName);
             ClassInfo testProfileClass = index.getClassByName(testProfile.get().getTestProfileClassName());
@@ -182,12 +185,13 @@ private static boolean isTestProfileClass(ClassInfo clazz, IndexView index) {
         return false;
     }
 
-    private boolean hasMatchingNestedTest(ClassInfo testClass, String testProfileClassName, IndexView index) {
+    private boolean hasMatchingNestedTest(ClassInfo testClass, String testProfileClassName,
+            Set<String> sharedTestProfileClassNames, IndexView index) {
         for (DotName memberClassName : testClass.memberClasses()) {
             ClassInfo memberClass = index.getClassByName(memberClassName);
             if (memberClass != null && memberClass.hasDeclaredAnnotation(NESTED)) {
-                if (matchesProfile(memberClass, testProfileClassName)
-                        || hasMatchingNestedTest(memberClass, testProfileClassName, index)) {
+                if (matchesProfile(memberClass, testProfileClassName, sharedTestProfileClassNames)
+                        || hasMatchingNestedTest(memberClass, testProfileClassName, sharedTestProfileClassNames, index)) {
                     return true;
                 }
             }
@@ -195,8 +199,13 @@ private boolean hasMatchingNestedTest(ClassInfo testClass, String testProfileCla
         return false;
     }
 
-    private boolean matchesProfile(ClassInfo testClass, String testProfileClassName) {
+    private boolean matchesProfile(ClassInfo testClass, String testProfileClassName, Set<String> sharedTestProfileClassNames) {
         AnnotationInstance testProfileAnnotation = testClass.declaredAnnotation(TEST_PROFILE);
+        if (testProfileAnnotation != null
+                && sharedTestProfileClassNames.contains(testProfileAnnotation.value().asClass().name().toString())) {
+            // The test class runs on the current application with the runtime config of its profile
+            return true;
+        }
         if (testProfileClassName == null) {
             // No test profile set - match test classes without @TestProfile
             return testProfileAnnotation == null;
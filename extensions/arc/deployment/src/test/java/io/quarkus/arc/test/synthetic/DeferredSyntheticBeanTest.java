@@ -0,0 +1,121 @@
+package io.quarkus.arc.test.synthetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.deployment.builditem.MainBytecodeRecorderBuildItem;
+import io.quarkus.deployment.recording.BytecodeRecorderImpl;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class DeferredSyntheticBeanTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(DeferredSyntheticBeanTest.class, SynthBean.class,
+                    StartupObserver.class))
+            .addBuildChainCustomizer(buildCustomizer());
+
+    static Consumer<BuildChainBuilder> buildCustomizer() {
+        return new Consumer<BuildChainBuilder>() {
+
+            @Override
+            public void accept(BuildChainBuilder builder) {
+                builder.addBuildStep(new BuildStep() {
+
+                    @Override
+                    public void execute(BuildContext context) {
+                        BytecodeRecorderImpl bytecodeRecorder = new BytecodeRecorderImpl(false,
+                                TestRecorder.class.getSimpleName(),
+                                "test", "" + TestRecorder.class.hashCode(), true, s -> null);
+                        bytecodeRecorder.setDeferrable(true);
+                        // We need to use reflection due to some class loading problems
+                        Object recorderProxy = bytecodeRecorder.getRecordingProxy(TestRecorder.class);
+                        try {
+                            Method test = recorderProxy.getClass().getDeclaredMethod("test", String.class);
+                            context.produce(SyntheticBeanBuildItem.configure(SynthBean.class)
+                                    .scope(ApplicationScoped.class)
+                                    .unremovable()
+                                    .setRuntimeInit()
+                                    .runtimeProxy(test.invoke(recorderProxy, "ok"))
+                                    .done());
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                        context.produce(new MainBytecodeRecorderBuildItem(bytecodeRecorder));
+                    }
+                }).produces(MainBytecodeRecorderBuildItem.class).produces(SyntheticBeanBuildItem.class).build();
+            }
+        };
+    }
+
+    @Recorder
+    public static class TestRecorder {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        public SynthBean test(String val) {
+            INVOCATIONS.incrementAndGet();
+            SynthBean bean = new SynthBean();
+            bean.setValue(val);
+            return bean;
+        }
+
+    }
+
+    @Test
+    public void testDeferredBean() {
+        // the deferred recorder method had not run when the application started
+        assertEquals(0, Arc.container().instance(StartupObserver.class).get().invocationsOnStart);
+        assertEquals("ok", Arc.container().instance(SynthBean.class).get().getValue());
+        assertEquals("ok", Arc.container().instance(SynthBean.class).get().getValue());
+        // it runs once, either on the first lookup or in the background
+        assertEquals(1, TestRecorder.INVOCATIONS.get());
+    }
+
+    @Singleton
+    public static class StartupObserver {
+
+        volatile int invocationsOnStart = -1;
+
+        void onStart(@Observes StartupEvent event) {
+            invocationsOnStart = TestRecorder.INVOCATIONS.get();
+        }
+
+    }
+
+    @Vetoed
+    public static class SynthBean {
+
+        private String value;
+
+        public SynthBean() {
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+    }
+}
@@ -8,9 +8,12 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.ActiveResult;
@@ -31,6 +34,7 @@
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.test.TestApplicationClassPredicate;
+import io.quarkus.runtime.util.StartupTimeline;
 
 @Recorder
 public class ArcRecorder {
@@ -149,6 +153,46 @@ public Object apply(SyntheticCreationalContext<?> t) {
         };
     }
 
+    // the deferred variants look up the object returned by a deferrable recorder method when the bean is first created
+
+    public Function<SyntheticCreationalContext<?>, Object> createDeferredRuntimeValueFunction(
+            Supplier<RuntimeValue<?>> value) {
+        return new Function<SyntheticCreationalContext<?>, Object>() {
+            @Override
+            public Object apply(SyntheticCreationalContext<?> t) {
+                return value.get().getValue();
+            }
+        };
+    }
+
+    public Function<SyntheticCreationalContext<?>, Object> createDeferredSupplierFunction(Supplier<Supplier<?>> supplier) {
+        return new Function<SyntheticCreationalContext<?>, Object>() {
+            @Override
+            public Object apply(SyntheticCreationalContext<?> t) {
+                return supplier.get().get();
+            }
+        };
+    }
+
+    public Function<SyntheticCreationalContext<?>, Object> createDeferredFunction(
+            Supplier<Function<SyntheticCreationalContext<?>, ?>> function) {
+        return new Function<SyntheticCreationalContext<?>, Object>() {
+            @Override
+            public Object apply(SyntheticCreationalContext<?> t) {
+                return function.get().apply(t);
+            }
+        };
+    }
+
+    public Function<SyntheticCreationalContext<?>, Object> createDeferredProxyFunction(Supplier<?> returnedProxy) {
+        return new Function<SyntheticCreationalContext<?>, Object>() {
+            @Override
+            public Object apply(SyntheticCreationalContext<?> t) {
+                return returnedProxy.get();
+            }
+        };
+    }
+
     public void initTestApplicationClassPredicate(Set<String> applicationBeanClasses) {
         PreloadedTestApplicationClassPredicate predicate = Arc.requireContainer()
                 .instance(PreloadedTestApplicationClassPredicate.class)
@@ -162,7 +206,11 @@ private void fireLifecycleEvent(ArcContainerImpl container, Object event, List<C
                 container.mockObserversFor(beanClass, true);
             }
         }
-        container.beanManager().getEvent().fire(event);
+        if (event instanceof StartupEvent && StartupTimeline.isEnabled()) {
+            fireTimedLifecycleEvent(container, event);
+        } else {
+            container.beanManager().getEvent().fire(event);
+        }
         if (!mockBeanClasses.isEmpty()) {
             for (Class<?> beanClass : mockBeanClasses) {
                 container.mockObserversFor(beanClass, false);
@@ -170,4 +218,17 @@ private void fireLifecycleEvent(ArcContainerImpl container, Object event, List<C
         }
     }
 
+    /**
+     * Fires the event through ArC, so that the observers are notified exactly as they are when the event is fired, and
+     * records the duration of every observer in the startup timeline.
+     */
+    private void fireTimedLifecycleEvent(ArcContainerImpl container, Object event) {
+        container.fireEvent(event, new ObjLongConsumer<ObserverMethod<?>>() {
+            @Override
+            public void accept(ObserverMethod<?> observer, long duration) {
+                StartupTimeline.record(StartupTimeline.Phase.STARTUP_EVENT, observer.toString(), duration);
+            }
+        });
+    }
+
 }
@@ -37,6 +37,12 @@ InternalPageBuildItem createBuildMetricsPages() {
                 .icon("font-awesome-solid:trowel")
                 .componentLink("qwc-build-items.js"));
 
+        buildMetricsPages.addPage(Page.webComponentPageBuilder()
+                .namespace("devui-build-metrics")
+                .title("Startup Steps")
+                .icon("font-awesome-solid:stopwatch")
+                .componentLink("qwc-startup-steps.js"));
+
         return buildMetricsPages;
     }
 
@@ -29,4 +29,13 @@ public void testGetBuildStepsMetrics() throws Exception {
         Assertions.assertTrue(recordsIncluded);
 
     }
+
+    @Test
+    public void testGetStartupSteps() throws Exception {
+        JsonNode startupStepsResponse = super.executeJsonRPCMethod("getStartupSteps");
+        Assertions.assertNotNull(startupStepsResponse);
+        // the startup timeline is not enabled
+        Assertions.assertTrue(startupStepsResponse.get("steps").isArray());
+        Assertions.assertTrue(startupStepsResponse.get("steps").isEmpty());
+    }
 }
@@ -314,6 +314,11 @@ export const templates = {
     'buildmetrics-items-produced': str`Produced ${0} build items of ${1} types.`,
     'buildmetrics-item': 'Build item',
     'buildmetrics-count': 'Count',
+    'buildmetrics-loading-startup-steps': 'Loading startup steps...',
+    'buildmetrics-startup-timeline-disabled': 'Start the application with -Dquarkus.debug.startup-timeline=true to record the startup steps.',
+    'buildmetrics-startup-steps-recorded': str`Recorded ${0} startup steps.`,
+    'buildmetrics-startup-step': 'Startup step',
+    'buildmetrics-phase': 'Phase',
     
     // Dependencies (Menu)
     'dependencies-show-path-to': 'Show path to...',
@@ -0,0 +1,131 @@
+import { QwcHotReloadElement, html, css} from 'qwc-hot-reload-element';
+
+import { JsonRpc } from 'jsonrpc';
+import '@vaadin/grid';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+import '@vaadin/grid/vaadin-grid-sort-column.js';
+import '@vaadin/icon';
+import '@vaadin/text-field';
+import '@vaadin/progress-bar';
+import { msg, str, updateWhenLocaleChanges } from 'localization';
+
+/**
+ * This component shows the Startup Steps recorded by the startup timeline
+ */
+export class QwcStartupSteps extends QwcHotReloadElement {
+
+  jsonRpc = new JsonRpc("devui-build-metrics", true);
+
+  static styles = css`
+      .startup-steps {
+        height: 100%;
+        width: 100%;
+        display: flex;
+        flex-direction: column;
+        overflow: hidden;
+      }
+
+      vaadin-grid {
+        height: 100%;
+      }
+
+      .summary {
+        margin-bottom: 15px;
+      }
+
+      .datatable {
+        width: 100%;
+      }`;
+
+  static properties = {
+    _steps: { state: true },
+    _filtered: {state: true, type: Array}
+  };
+
+  constructor() {
+    super();
+    updateWhenLocaleChanges(this);
+    this._steps = null;
+    this.hotReload();
+  }
+
+  hotReload(){
+    this.jsonRpc.getStartupSteps().then(e => {
+      this._steps = e.result.steps;
+      this._filtered = this._steps;
+    });
+  }
+
+  render() {
+      if (this._steps && this._filtered) {
+          return this._render();
+      }else {
+          return html`
+            <div style="color: var(--lumo-secondary-text-color);width: 95%;" >
+                <div>${msg('Loading startup steps...', { id: 'buildmetrics-loading-startup-steps' })}</div>
+                <vaadin-progress-bar indeterminate></vaadin-progress-bar>
+            </div>
+            `;
+      }
+  }
+
+  _match(value, term) {
+    if (!value) {
+      return false;
+    }
+    return value.toLowerCase().includes(term.toLowerCase());
+  }
+
+  _filter(e) {
+    const searchTerm = (e.detail.value || '').trim();
+    if (searchTerm === '') {
+      this._filtered = this._steps;
+      return;
+    }
+
+    this._filtered = this._steps.filter((step) => {
+      return this._match(step.name, searchTerm);
+    });
+  }
+
+  _render() {
+    if (this._steps.length === 0) {
+      return html`<div class="summary">${msg('Start the application with -Dquarkus.debug.startup-timeline=true to record the startup steps.',
+                                        { id: 'buildmetrics-startup-timeline-disabled' })}</div>`;
+    }
+    const length = this._steps.length;
+
+    return html`<div class="startup-steps">
+            <div class="summary">${msg(str`Recorded ${length} startup steps.`,
+                                        { id: 'buildmetrics-startup-steps-recorded' }
+                                )}</div>
+            <vaadin-text-field
+                    placeholder="${msg('Filter', { id: 'buildmetrics-filter' })}"
+                    style="width: 100%;"
+                    @value-changed="${(e) => this._filter(e)}">
+                <vaadin-icon slot="prefix" icon="font-awesome-solid:filter"></vaadin-icon>
+            </vaadin-text-field>
+            <vaadin-grid .items="${this._filtered}" class="datatable" theme="row-stripes">
+                <vaadin-grid-sort-column resizable
+                                    header="${msg('Startup step', { id: 'buildmetrics-startup-step' })}"
+                                    path="name"
+                                    ${columnBodyRenderer(this._nameRenderer, [])}>
+                </vaadin-grid-sort-column>
+
+                <vaadin-grid-sort-column auto-width resizable flex-grow="0"
+                                    header="${msg('Phase', { id: 'buildmetrics-phase' })}"
+                                    path="phase">
+                </vaadin-grid-sort-column>
+
+                <vaadin-grid-sort-column auto-width resizable flex-grow="0"
+                                    header="${msg('Duration (ms)', { id: 'buildmetrics-duration' })}"
+                                    path="duration">
+                </vaadin-grid-sort-column>
+            </vaadin-grid></div>`;
+  }
+
+  _nameRenderer(step) {
+    return html`<code>${step.name}</code>`;
+  }
+}
+customElements.define('qwc-startup-steps', QwcStartupSteps);
@@ -5,6 +5,7 @@
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import io.quarkus.runtime.util.StartupTimeline;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -52,6 +53,18 @@ public JsonObject getDependencyGraph(String buildStepId) {
         return null;
     }
 
+    public JsonObject getStartupSteps() {
+        JsonArray steps = new JsonArray();
+        for (StartupTimeline.Step step : StartupTimeline.lastTimeline()) {
+            steps.add(new JsonObject()
+                    .put("phase", step.phase().name())
+                    .put("name", step.name())
+                    .put("started", step.started())
+                    .put("duration", step.duration() / 1_000_000d));
+        }
+        return new JsonObject().put("steps", steps);
+    }
+
     private Map<String, Object> buildStepMetrics() {
         BuildMetricsDevUIController controller = BuildMetricsDevUIController.get();
         return controller.getBuildStepsMetrics();
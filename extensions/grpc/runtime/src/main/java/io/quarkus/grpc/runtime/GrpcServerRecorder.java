@@ -56,6 +56,7 @@
 import io.quarkus.grpc.runtime.devmode.GrpcServerReloader;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.supports.CompressionInterceptor;
+import io.quarkus.grpc.runtime.supports.FlowControlInterceptor;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
 import io.quarkus.grpc.spi.GrpcBuilderProvider;
 import io.quarkus.runtime.LaunchMode;
@@ -212,11 +213,12 @@ private void buildGrpcServer(Vertx vertx, GrpcServerConfiguration configuration,
         List<ServerServiceDefinition> definitions = new ArrayList<>();
 
         CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+        FlowControlInterceptor flowControlInterceptor = prepareFlowControlInterceptor(configuration);
 
         for (GrpcServiceDefinition service : toBeRegistered) {
             ServerServiceDefinition serviceDefinition = serviceWithInterceptors(
                     vertx, grpcContainer, blockingMethodsPerService, virtualMethodsPerService, compressionInterceptor,
-                    globalInterceptors, service,
+                    flowControlInterceptor, globalInterceptors, service,
                     launchMode == LaunchMode.DEVELOPMENT);
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             GrpcServiceBridge bridge = GrpcServiceBridge.bridge(serviceDefinition);
@@ -539,10 +541,11 @@ private void devModeReload(GrpcContainer grpcContainer, Vertx vertx, GrpcServerC
 
         List<ServerServiceDefinition> servicesWithInterceptors = new ArrayList<>();
         CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+        FlowControlInterceptor flowControlInterceptor = prepareFlowControlInterceptor(configuration);
         for (GrpcServiceDefinition service : services) {
             servicesWithInterceptors.add(
                     serviceWithInterceptors(vertx, grpcContainer, blockingMethodsPerService, virtualMethodsPerService,
-                            compressionInterceptor, globalInterceptors, service, true));
+                            compressionInterceptor, flowControlInterceptor, globalInterceptors, service, true));
         }
 
         // add after actual services, so we don't inspect them for interceptors, etc
@@ -645,6 +648,7 @@ private Map.Entry<Integer, Server> buildServer(Vertx vertx, GrpcServerConfigurat
         List<ServerServiceDefinition> definitions = new ArrayList<>();
 
         CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+        FlowControlInterceptor flowControlInterceptor = prepareFlowControlInterceptor(configuration);
 
         List<ServerInterceptor> globalInterceptors = grpcContainer.getSortedGlobalInterceptors();
 
@@ -652,7 +656,8 @@ private Map.Entry<Integer, Server> buildServer(Vertx vertx, GrpcServerConfigurat
             builder.addService(
                     serviceWithInterceptors(vertx, grpcContainer, blockingMethodsPerService,
                             virtualMethodsPerService,
-                            compressionInterceptor, globalInterceptors, service, launchMode == LaunchMode.DEVELOPMENT));
+                            compressionInterceptor, flowControlInterceptor, globalInterceptors, service,
+                            launchMode == LaunchMode.DEVELOPMENT));
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             definitions.add(service.definition);
         }
@@ -689,16 +694,34 @@ private CompressionInterceptor prepareCompressionInterceptor(GrpcServerConfigura
         return compressionInterceptor;
     }
 
+    /**
+     * Flow control interceptor if needed, null otherwise
+     *
+     * @param configuration gRPC server configuration
+     * @return interceptor or null
+     */
+    private FlowControlInterceptor prepareFlowControlInterceptor(GrpcServerConfiguration configuration) {
+        FlowControlInterceptor flowControlInterceptor = null;
+        if (configuration.flowControlPrefetch().isPresent()) {
+            flowControlInterceptor = new FlowControlInterceptor(configuration.flowControlPrefetch().getAsInt());
+        }
+        return flowControlInterceptor;
+    }
+
     private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContainer grpcContainer,
             Map<String, List<String>> blockingMethodsPerService,
             Map<String, List<String>> virtualMethodsPerService,
             CompressionInterceptor compressionInterceptor,
+            FlowControlInterceptor flowControlInterceptor,
             List<ServerInterceptor> globalInterceptors,
             GrpcServiceDefinition service, boolean devMode) {
         List<ServerInterceptor> interceptors = new ArrayList<>();
         if (compressionInterceptor != null) {
             interceptors.add(compressionInterceptor);
         }
+        if (flowControlInterceptor != null) {
+            interceptors.add(flowControlInterceptor);
+        }
         interceptors.addAll(globalInterceptors);
         interceptors.addAll(grpcContainer.getSortedPerServiceInterceptors(service.getImplementationClassName()));
 
@@ -709,7 +732,7 @@ private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContain
             if (list != null || virtuals != null) {
                 interceptors
                         .add(new BlockingServerInterceptor(vertx, list, virtuals,
-                                VirtualThreadsRecorder.getCurrent(), devMode));
+                                VirtualThreadsRecorder.getCurrent(), devMode, service.definition));
             }
         }
         interceptors.sort(Interceptors.INTERCEPTOR_COMPARATOR);
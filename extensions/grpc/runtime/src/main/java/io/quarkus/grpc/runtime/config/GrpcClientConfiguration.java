@@ -200,6 +200,18 @@ public interface GrpcClientConfiguration {
     @WithDefault("pick_first")
     String loadBalancingPolicy();
 
+    /**
+     * The number of underlying channels (and therefore HTTP/2 connections) used to reach the target.
+     * <p>
+     * A single HTTP/2 connection limits the number of concurrent calls to the {@code MAX_CONCURRENT_STREAMS} advertised by
+     * the server. With a value greater than 1, the calls are spread over several channels, each call being started on the
+     * channel with the fewest active calls. Each channel applies the configured load balancing policy, including Stork.
+     * <p>
+     * For the Quarkus (Vert.x) gRPC client, this value configures the maximum number of HTTP/2 connections of the client.
+     */
+    @WithDefault("1")
+    int channelPoolSize();
+
     /**
      * The compression to use for each call. The accepted values are {@code gzip} and {@code identity}.
      */
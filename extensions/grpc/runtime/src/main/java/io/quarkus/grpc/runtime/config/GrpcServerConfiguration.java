@@ -117,6 +117,18 @@ default boolean isPlainTextEnabled() {
     @WithDefault("1")
     int instances();
 
+    /**
+     * Enables the transport flow control for Mutiny service methods returning a {@code Multi}.
+     * <p>
+     * When set, items are requested from the returned {@code Multi} only when the call is ready to send messages, and at
+     * most this number of items is requested at once. This bounds the number of messages buffered for slow clients.
+     * When not set, the {@code Multi} is consumed with an unbounded demand.
+     * <p>
+     * With the Micrometer extension, the number of messages queued by these streams while the call is not ready is recorded
+     * in the {@code grpc.server.stream.queue.depth} distribution summary.
+     */
+    OptionalInt flowControlPrefetch();
+
     /**
      * Configures the netty server settings.
      */
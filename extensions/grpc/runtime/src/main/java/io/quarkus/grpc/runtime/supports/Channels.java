@@ -290,6 +290,15 @@ public static Channel createChannel(String name, Set<String> perClientIntercepto
             LOGGER.info(String.format("Creating %s gRPC channel ...",
                     provider != null ? provider.channelInfo(config) : "Netty"));
 
+            int poolSize = config.channelPoolSize();
+            if (poolSize > 1) {
+                List<ManagedChannel> channels = new ArrayList<>(poolSize);
+                for (int i = 0; i < poolSize; i++) {
+                    channels.add(builder.build());
+                }
+                LOGGER.debugf("Pooling %d channels for client '%s'", poolSize, name);
+                return new PooledManagedChannel(channels);
+            }
             return builder.build();
         } else {
             // Vert.x client
@@ -357,6 +366,10 @@ public static Channel createChannel(String name, Set<String> perClientIntercepto
                 }
             }
 
+            if (config.channelPoolSize() > 1) {
+                options.setHttp2MaxPoolSize(config.channelPoolSize());
+            }
+
             options.setKeepAlive(config.keepAliveWithoutCalls());
             Optional<Duration> keepAliveTimeout = config.keepAliveTimeout();
             if (keepAliveTimeout.isPresent()) {
@@ -672,6 +685,11 @@ public String loadBalancingPolicy() {
                 return "pick_first";
             }
 
+            @Override
+            public int channelPoolSize() {
+                return 1;
+            }
+
             @Override
             public Optional<String> compression() {
                 return Optional.empty();
@@ -0,0 +1,30 @@
+package io.quarkus.grpc.runtime.supports;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.quarkus.grpc.stubs.ServerCalls;
+
+/**
+ * Passes the flow control prefetch of the server to the Mutiny service methods of the calls it receives.
+ */
+public class FlowControlInterceptor implements ServerInterceptor {
+
+    private final int prefetch;
+
+    public FlowControlInterceptor(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        Context context = Context.current().withValue(ServerCalls.FLOW_CONTROL_PREFETCH, prefetch);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+}
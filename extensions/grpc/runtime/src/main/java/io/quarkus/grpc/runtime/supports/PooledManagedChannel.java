@@ -0,0 +1,211 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * A {@link ManagedChannel} spreading the calls over several underlying channels targeting the same service.
+ * <p>
+ * Each underlying channel maintains its own connections, so the number of concurrent streams of the client is not capped
+ * by the {@code MAX_CONCURRENT_STREAMS} limit of a single HTTP/2 connection. Every call is started on the channel with the
+ * fewest active calls, ties being broken in a round-robin fashion.
+ */
+class PooledManagedChannel extends ManagedChannel {
+
+    private final ManagedChannel[] channels;
+    private final AtomicIntegerArray activeCalls;
+    private final AtomicInteger next = new AtomicInteger();
+
+    PooledManagedChannel(List<ManagedChannel> channels) {
+        if (channels.isEmpty()) {
+            throw new IllegalArgumentException("At least one channel is required");
+        }
+        this.channels = channels.toArray(new ManagedChannel[0]);
+        this.activeCalls = new AtomicIntegerArray(this.channels.length);
+    }
+
+    // visible for testing
+    int activeCalls(int index) {
+        return activeCalls.get(index);
+    }
+
+    int pick() {
+        int length = channels.length;
+        int start = Math.floorMod(next.getAndIncrement(), length);
+        int selected = start;
+        int min = activeCalls.get(start);
+        for (int i = 1; i < length && min > 0; i++) {
+            int index = (start + i) % length;
+            int active = activeCalls.get(index);
+            if (active < min) {
+                min = active;
+                selected = index;
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+            MethodDescriptor<RequestT, ResponseT> methodDescriptor, CallOptions callOptions) {
+        int index = pick();
+        return new TrackedClientCall<>(channels[index].newCall(methodDescriptor, callOptions), index);
+    }
+
+    @Override
+    public String authority() {
+        return channels[0].authority();
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdown();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        for (ManagedChannel channel : channels) {
+            if (!channel.isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (ManagedChannel channel : channels) {
+            if (!channel.isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdownNow();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ManagedChannel channel : channels) {
+            long remaining = deadline - System.nanoTime();
+            if (!channel.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ConnectivityState getState(boolean requestConnection) {
+        // the pool is ready as soon as one of its channels is ready
+        ConnectivityState first = null;
+        for (ManagedChannel channel : channels) {
+            ConnectivityState state = channel.getState(requestConnection);
+            if (state == ConnectivityState.READY) {
+                return state;
+            }
+            if (first == null) {
+                first = state;
+            }
+        }
+        return first;
+    }
+
+    @Override
+    public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+        if (getState(false) != source) {
+            callback.run();
+            return;
+        }
+        // the callback runs once, on the first change of a channel changing the state of the pool
+        AtomicBoolean notified = new AtomicBoolean();
+        for (ManagedChannel channel : channels) {
+            notifyWhenStateChanged(channel, source, callback, notified);
+        }
+    }
+
+    private void notifyWhenStateChanged(ManagedChannel channel, ConnectivityState source, Runnable callback,
+            AtomicBoolean notified) {
+        channel.notifyWhenStateChanged(channel.getState(false), () -> {
+            if (notified.get()) {
+                return;
+            }
+            if (getState(false) != source) {
+                if (notified.compareAndSet(false, true)) {
+                    callback.run();
+                }
+            } else {
+                notifyWhenStateChanged(channel, source, callback, notified);
+            }
+        });
+    }
+
+    @Override
+    public void resetConnectBackoff() {
+        for (ManagedChannel channel : channels) {
+            channel.resetConnectBackoff();
+        }
+    }
+
+    @Override
+    public void enterIdle() {
+        for (ManagedChannel channel : channels) {
+            channel.enterIdle();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PooledManagedChannel{size=" + channels.length + ", authority=" + authority() + "}";
+    }
+
+    private class TrackedClientCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+        private final int index;
+
+        TrackedClientCall(ClientCall<ReqT, RespT> delegate, int index) {
+            super(delegate);
+            this.index = index;
+        }
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+            activeCalls.incrementAndGet(index);
+            try {
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        activeCalls.decrementAndGet(index);
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            } catch (RuntimeException e) {
+                activeCalls.decrementAndGet(index);
+                throw e;
+            }
+        }
+    }
+}
@@ -9,8 +9,10 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import jakarta.enterprise.inject.spi.Prioritized;
 
@@ -21,6 +23,8 @@
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableContext.ContextState;
@@ -96,13 +100,21 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
     private final Vertx vertx;
     private final Set<String> blockingMethods;
     private final Set<String> virtualMethods;
-    private final Map<String, Boolean> blockingCache = new ConcurrentHashMap<>();
-    private final Map<String, Boolean> virtualCache = new ConcurrentHashMap<>();
+    private final Map<String, Dispatch> dispatchTable = new ConcurrentHashMap<>();
     private final boolean devMode;
     private final Executor virtualThreadExecutor;
 
     public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, List<String> virtualMethods,
             Executor virtualThreadExecutor, boolean devMode) {
+        this(vertx, blockingMethods, virtualMethods, virtualThreadExecutor, devMode, null);
+    }
+
+    /**
+     * @param service if not {@code null}, the dispatch mode of every method of the service is resolved eagerly so that
+     *        intercepting a call only requires a single lookup
+     */
+    public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, List<String> virtualMethods,
+            Executor virtualThreadExecutor, boolean devMode, ServerServiceDefinition service) {
         this.vertx = vertx;
         this.blockingMethods = new HashSet<>();
         this.virtualMethods = new HashSet<>();
@@ -119,6 +131,12 @@ public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, List
             }
         }
         this.virtualThreadExecutor = virtualThreadExecutor;
+        if (service != null) {
+            for (ServerMethodDefinition<?, ?> method : service.getMethods()) {
+                String fullMethodName = method.getMethodDescriptor().getFullMethodName();
+                dispatchTable.put(fullMethodName, resolveDispatch(fullMethodName));
+            }
+        }
     }
 
     @Override
@@ -132,6 +150,16 @@ public Boolean applyVirtual(String name) {
         return virtualMethods.contains(toLowerCaseBeanSpec(methodName));
     }
 
+    private Dispatch resolveDispatch(String fullMethodName) {
+        // @RunOnVirtualThread takes precedence over @Blocking
+        if (applyVirtual(fullMethodName)) {
+            return Dispatch.VIRTUAL_THREAD;
+        } else if (apply(fullMethodName)) {
+            return Dispatch.WORKER;
+        }
+        return Dispatch.EVENT_LOOP;
+    }
+
     private String toLowerCaseBeanSpec(String name) {
 
         // Methods cannot always be lowercased for comparison.
@@ -154,51 +182,54 @@ public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, Re
         // 1. the code generator does not change the method name (which makes sense)
         // 2. the method name is unique, which is a constraint of gRPC
 
-        // For performance purpose, we execute the lookup only once
+        // For performance purpose, the dispatch mode of the methods of the service is resolved upfront
         String fullMethodName = call.getMethodDescriptor().getFullMethodName();
-        boolean isBlocking = blockingCache.computeIfAbsent(fullMethodName, this);
-        boolean isVirtual = virtualCache.computeIfAbsent(fullMethodName, this::applyVirtual);
-
-        if (isVirtual) {
-            final ManagedContext requestContext = getRequestContext();
-            // context should always be active here
-            // it is initialized by io.quarkus.grpc.runtime.supports.context.GrpcRequestContextGrpcInterceptor
-            // that should always be called before this interceptor
-            ContextState state = requestContext.getState();
-            VirtualReplayListener<ReqT> replay = new VirtualReplayListener<>(state);
-            virtualThreadExecutor.execute(() -> {
-                ServerCall.Listener<ReqT> listener;
-                try {
-                    requestContext.activate(state);
-                    listener = next.startCall(call, headers);
-                } finally {
-                    requestContext.deactivate();
-                }
-                replay.setDelegate(listener);
-            });
-            return replay;
-        } else if (isBlocking) {
-            final ManagedContext requestContext = getRequestContext();
-            // context should always be active here
-            // it is initialized by io.quarkus.grpc.runtime.supports.context.GrpcRequestContextGrpcInterceptor
-            // that should always be called before this interceptor
-            ContextState state = requestContext.getState();
-            ReplayListener<ReqT> replay = new ReplayListener<>(state);
-            vertx.executeBlocking(() -> {
-                ServerCall.Listener<ReqT> listener;
-                try {
-                    requestContext.activate(state);
-                    listener = next.startCall(call, headers);
-                } finally {
-                    requestContext.deactivate();
-                }
+        Dispatch dispatch = dispatchTable.get(fullMethodName);
+        if (dispatch == null) {
+            dispatch = dispatchTable.computeIfAbsent(fullMethodName, this::resolveDispatch);
+        }
+
+        switch (dispatch) {
+            case VIRTUAL_THREAD: {
+                final ManagedContext requestContext = getRequestContext();
+                // context should always be active here
+                // it is initialized by io.quarkus.grpc.runtime.supports.context.GrpcRequestContextGrpcInterceptor
+                // that should always be called before this interceptor
+                ContextState state = requestContext.getState();
+                VirtualThreadListener<ReqT> listener = new VirtualThreadListener<>(state);
+                listener.start(() -> {
+                    try {
+                        requestContext.activate(state);
+                        return next.startCall(call, headers);
+                    } finally {
+                        requestContext.deactivate();
+                    }
+                });
                 return listener;
-            }, false)
-                    .onComplete(event -> replay.setDelegate(event.result()));
+            }
+            case WORKER: {
+                final ManagedContext requestContext = getRequestContext();
+                // context should always be active here
+                // it is initialized by io.quarkus.grpc.runtime.supports.context.GrpcRequestContextGrpcInterceptor
+                // that should always be called before this interceptor
+                ContextState state = requestContext.getState();
+                ReplayListener<ReqT> replay = new ReplayListener<>(state);
+                vertx.executeBlocking(() -> {
+                    ServerCall.Listener<ReqT> listener;
+                    try {
+                        requestContext.activate(state);
+                        listener = next.startCall(call, headers);
+                    } finally {
+                        requestContext.deactivate();
+                    }
+                    return listener;
+                }, false)
+                        .onComplete(event -> replay.setDelegate(event.result()));
 
-            return replay;
-        } else {
-            return next.startCall(call, headers);
+                return replay;
+            }
+            default:
+                return next.startCall(call, headers);
         }
     }
 
@@ -311,101 +342,99 @@ public void onReady() {
     }
 
     /**
-     * Stores the incoming events until the listener is injected.
-     * When injected, replay the events.
+     * Executes the listener events of a call on a virtual thread.
      * <p>
-     * Note that event must be executed in order, explaining why incomingEvents
-     * are executed sequentially
-     * <p>
-     * This replay listener is only used for virtual threads.
+     * Events are queued and drained by a single virtual thread for as long as new events keep arriving, so that
+     * streaming calls do not spawn a new virtual thread per message. The call itself is started by the first task of the
+     * queue, which guarantees that the delegate is set before any event is processed.
      */
-    private class VirtualReplayListener<ReqT> extends ServerCall.Listener<ReqT> {
+    private class VirtualThreadListener<ReqT> extends ServerCall.Listener<ReqT> {
         private final InjectableContext.ContextState requestContextState;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
 
-        // exclusive to event loop context
+        // exclusive to the draining virtual thread
         private ServerCall.Listener<ReqT> delegate;
-        private final Queue<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new ConcurrentLinkedQueue<>();
-        private volatile boolean isConsumingFromIncomingEvents = false;
 
-        private VirtualReplayListener(InjectableContext.ContextState requestContextState) {
+        private VirtualThreadListener(InjectableContext.ContextState requestContextState) {
             this.requestContextState = requestContextState;
         }
 
-        /**
-         * Must be called from within the event loop context
-         * If there are deferred events will start executing them in the shared worker context
-         *
-         * @param delegate the original
-         */
-        void setDelegate(ServerCall.Listener<ReqT> delegate) {
-            this.delegate = delegate;
-            if (!this.isConsumingFromIncomingEvents) {
-                Consumer<ServerCall.Listener<ReqT>> consumer = incomingEvents.poll();
-                if (consumer != null) {
-                    executeVirtualWithRequestContext(consumer);
-                }
-            }
-        }
-
-        private void scheduleOrEnqueue(Consumer<ServerCall.Listener<ReqT>> consumer) {
-            if (this.delegate != null && !this.isConsumingFromIncomingEvents) {
-                executeVirtualWithRequestContext(consumer);
-            } else {
-                incomingEvents.add(consumer);
-            }
+        void start(Supplier<ServerCall.Listener<ReqT>> startCall) {
+            schedule(() -> delegate = startCall.get());
         }
 
-        private void executeVirtualWithRequestContext(Consumer<ServerCall.Listener<ReqT>> consumer) {
+        private void dispatch(Consumer<ServerCall.Listener<ReqT>> consumer) {
             final Context grpcContext = Context.current();
-            Callable<Void> blockingHandler = new BlockingExecutionHandler<>(consumer, grpcContext, delegate,
-                    requestContextState, getRequestContext(), this);
-            if (devMode) {
-                blockingHandler = new DevModeBlockingExecutionHandler(Thread.currentThread().getContextClassLoader(),
-                        blockingHandler);
-            }
-            this.isConsumingFromIncomingEvents = true;
-            var finalBlockingHandler = blockingHandler;
-            virtualThreadExecutor.execute(() -> {
+            final ClassLoader tccl = devMode ? Thread.currentThread().getContextClassLoader() : null;
+            schedule(() -> {
+                if (delegate == null) {
+                    // the call failed to start
+                    return;
+                }
+                Callable<Void> blockingHandler = new BlockingExecutionHandler<>(consumer, grpcContext, delegate,
+                        requestContextState, getRequestContext(), this);
+                if (tccl != null) {
+                    blockingHandler = new DevModeBlockingExecutionHandler(tccl, blockingHandler);
+                }
                 try {
-                    finalBlockingHandler.call();
-                    Consumer<ServerCall.Listener<ReqT>> next = incomingEvents.poll();
-                    if (next != null) {
-                        executeVirtualWithRequestContext(next);
-                    } else {
-                        this.isConsumingFromIncomingEvents = false;
-                    }
+                    blockingHandler.call();
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
             });
         }
 
+        private void schedule(Runnable task) {
+            tasks.add(task);
+            if (pending.getAndIncrement() == 0) {
+                virtualThreadExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Runnable task = tasks.poll();
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    log.error("Unable to process the gRPC call event on a virtual thread", t);
+                }
+            } while (pending.decrementAndGet() != 0);
+        }
+
         @Override
         public void onMessage(ReqT message) {
-            scheduleOrEnqueue(t -> t.onMessage(message));
+            dispatch(t -> t.onMessage(message));
         }
 
         @Override
         public void onHalfClose() {
-            scheduleOrEnqueue(ServerCall.Listener::onHalfClose);
+            dispatch(ServerCall.Listener::onHalfClose);
         }
 
         @Override
         public void onCancel() {
-            scheduleOrEnqueue(ServerCall.Listener::onCancel);
+            dispatch(ServerCall.Listener::onCancel);
         }
 
         @Override
         public void onComplete() {
-            scheduleOrEnqueue(ServerCall.Listener::onComplete);
+            dispatch(ServerCall.Listener::onComplete);
         }
 
         @Override
         public void onReady() {
-            scheduleOrEnqueue(ServerCall.Listener::onReady);
+            dispatch(ServerCall.Listener::onReady);
         }
     }
 
+    enum Dispatch {
+        EVENT_LOOP,
+        WORKER,
+        VIRTUAL_THREAD
+    }
+
     // protected for tests
 
     protected boolean isExecutable() {
@@ -2,6 +2,12 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -9,14 +15,20 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import io.grpc.Context;
 import io.grpc.Metadata;
 import io.grpc.ServerCall;
 import io.grpc.Status;
 import io.grpc.StatusException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.quarkus.grpc.ExceptionHandler;
 import io.quarkus.grpc.ExceptionHandlerProvider;
 import io.quarkus.grpc.stubs.ClientCalls;
@@ -105,6 +117,76 @@ public void testManyToMany() {
                 .await().atMost(TIMEOUT)).containsExactly("HELLO", "WORLD");
     }
 
+    @Test
+    public void testOneToManyWithFlowControl() {
+        AtomicBoolean ready = new AtomicBoolean(true);
+        AtomicReference<Runnable> onReady = new AtomicReference<>();
+        AtomicLong requested = new AtomicLong();
+        List<String> sent = new CopyOnWriteArrayList<>();
+        ServerCallStreamObserver<String> response = flowControlledResponse(ready, onReady, sent, 3);
+
+        ServerCalls.oneToMany("hello", response, null, 2, s -> Multi.createFrom().range(0, 10)
+                .onRequest().invoke(requested::addAndGet)
+                .map(i -> s + i));
+
+        // only the items requested before the call became not ready are sent
+        assertThat(sent).hasSize(4);
+        assertThat(requested).hasValue(4);
+        verify(response, never()).onCompleted();
+
+        ready.set(true);
+        onReady.get().run();
+        assertThat(sent).hasSize(10).startsWith("hello0").endsWith("hello9");
+        verify(response).onCompleted();
+    }
+
+    @Test
+    public void testOneToManyWithFlowControlFromContext() throws Exception {
+        AtomicBoolean ready = new AtomicBoolean(true);
+        AtomicReference<Runnable> onReady = new AtomicReference<>();
+        List<String> sent = new CopyOnWriteArrayList<>();
+        List<Integer> queueDepths = new CopyOnWriteArrayList<>();
+        ServerCallStreamObserver<String> response = flowControlledResponse(ready, onReady, sent, 3);
+
+        // the prefetch and the queue depth listener are set by the server of the call
+        Context.current()
+                .withValue(ServerCalls.FLOW_CONTROL_PREFETCH, 2)
+                .withValue(ServerCalls.QUEUE_DEPTH_LISTENER, queueDepths::add)
+                .call(() -> {
+                    ServerCalls.oneToMany("hello", response, null, s -> Multi.createFrom().range(0, 10).map(i -> s + i));
+                    return null;
+                });
+
+        assertThat(sent).hasSize(4);
+        // the last two messages were sent while the call was not ready
+        assertThat(queueDepths).containsExactly(0, 0, 1, 2);
+
+        ready.set(true);
+        onReady.get().run();
+        assertThat(sent).hasSize(10);
+        assertThat(queueDepths).hasSize(10).endsWith(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ServerCallStreamObserver<String> flowControlledResponse(AtomicBoolean ready,
+            AtomicReference<Runnable> onReady, List<String> sent, int bufferSize) {
+        ServerCallStreamObserver<String> response = mock(ServerCallStreamObserver.class);
+        when(response.isReady()).thenAnswer(invocation -> ready.get());
+        doAnswer(invocation -> {
+            onReady.set(invocation.getArgument(0));
+            return null;
+        }).when(response).setOnReadyHandler(any());
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            if (sent.size() == bufferSize) {
+                // the transport buffer is full
+                ready.set(false);
+            }
+            return null;
+        }).when(response).onNext(any());
+        return response;
+    }
+
     @Test
     public void testFailureReporting() {
         FailingServiceClient client = new FailingServiceClient();
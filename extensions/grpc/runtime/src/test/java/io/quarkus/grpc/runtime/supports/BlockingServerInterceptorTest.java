@@ -4,7 +4,10 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
@@ -160,6 +163,54 @@ void testGrpcMethodMappingWithUnderscores() {
         assertThat(interceptor.applyVirtual("my-service/J_Ava_BeanSpec")).isTrue();
     }
 
+    @Test
+    void testVirtualThreadEventsDrainedByASingleTask() {
+        InjectableContext.ContextState contextState = mock(InjectableContext.ContextState.class);
+        ManagedContext requestContext = mock(ManagedContext.class);
+        when(requestContext.getState()).thenReturn(contextState);
+        Deque<Runnable> submitted = new ArrayDeque<>();
+        BlockingServerInterceptor interceptor = new BlockingServerInterceptor(vertx, Collections.emptyList(),
+                Collections.singletonList("virtual"), submitted::add, false) {
+            @Override
+            protected ManagedContext getRequestContext() {
+                return requestContext;
+            }
+        };
+
+        final ServerCall serverCall = mock(ServerCall.class);
+        final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+        when(methodDescriptor.getFullMethodName()).thenReturn("my-service/virtual");
+        when(serverCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+
+        List<String> events = new ArrayList<>();
+        ServerCallHandler handler = (call, metadata) -> new ServerCall.Listener() {
+            @Override
+            public void onMessage(Object message) {
+                events.add((String) message);
+            }
+
+            @Override
+            public void onHalfClose() {
+                events.add("half-close");
+            }
+        };
+
+        ServerCall.Listener listener = interceptor.interceptCall(serverCall, null, handler);
+        listener.onMessage("a");
+        listener.onMessage("b");
+        listener.onHalfClose();
+
+        // the call start and all the events are processed by the same task
+        assertThat(submitted).hasSize(1);
+        submitted.poll().run();
+        assertThat(events).containsExactly("a", "b", "half-close");
+
+        listener.onMessage("c");
+        assertThat(submitted).hasSize(1);
+        submitted.poll().run();
+        assertThat(events).containsExactly("a", "b", "half-close", "c");
+    }
+
     static class BlockingServerCallHandler implements ServerCallHandler {
         String threadName;
         String contextUserName;
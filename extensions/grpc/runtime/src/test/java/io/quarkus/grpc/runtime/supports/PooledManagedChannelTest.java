@@ -0,0 +1,101 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+class PooledManagedChannelTest {
+
+    @Test
+    void testCallsAreSpreadOverLeastLoadedChannels() {
+        ManagedChannel first = channel();
+        ManagedChannel second = channel();
+        PooledManagedChannel pool = new PooledManagedChannel(List.of(first, second));
+        MethodDescriptor method = mock(MethodDescriptor.class);
+
+        ClientCall call1 = pool.newCall(method, CallOptions.DEFAULT);
+        call1.start(mock(ClientCall.Listener.class), new Metadata());
+        ClientCall call2 = pool.newCall(method, CallOptions.DEFAULT);
+        call2.start(mock(ClientCall.Listener.class), new Metadata());
+        assertThat(pool.activeCalls(0)).isEqualTo(1);
+        assertThat(pool.activeCalls(1)).isEqualTo(1);
+
+        // complete the call started on the first channel, the next calls go to the idle channel
+        close(first);
+        assertThat(pool.activeCalls(0)).isZero();
+        assertThat(pool.pick()).isZero();
+        assertThat(pool.pick()).isZero();
+    }
+
+    @Test
+    void testShutdownAllChannels() {
+        ManagedChannel first = channel();
+        ManagedChannel second = channel();
+        PooledManagedChannel pool = new PooledManagedChannel(List.of(first, second));
+
+        pool.shutdownNow();
+
+        verify(first).shutdownNow();
+        verify(second).shutdownNow();
+    }
+
+    @Test
+    void testNotifyWhenStateOfPoolChanged() {
+        ManagedChannel first = channel();
+        ManagedChannel second = channel();
+        when(first.getState(false)).thenReturn(ConnectivityState.IDLE);
+        when(second.getState(false)).thenReturn(ConnectivityState.IDLE);
+        PooledManagedChannel pool = new PooledManagedChannel(List.of(first, second));
+        AtomicInteger notifications = new AtomicInteger();
+
+        pool.notifyWhenStateChanged(ConnectivityState.IDLE, notifications::incrementAndGet);
+        ArgumentCaptor<Runnable> firstCallback = ArgumentCaptor.forClass(Runnable.class);
+        verify(first).notifyWhenStateChanged(eq(ConnectivityState.IDLE), firstCallback.capture());
+        ArgumentCaptor<Runnable> secondCallback = ArgumentCaptor.forClass(Runnable.class);
+        verify(second).notifyWhenStateChanged(eq(ConnectivityState.IDLE), secondCallback.capture());
+
+        when(first.getState(false)).thenReturn(ConnectivityState.READY);
+        firstCallback.getValue().run();
+        assertThat(notifications).hasValue(1);
+        // the callback is only run once
+        when(second.getState(false)).thenReturn(ConnectivityState.READY);
+        secondCallback.getValue().run();
+        assertThat(notifications).hasValue(1);
+
+        // the state of the pool already differs from the given one
+        pool.notifyWhenStateChanged(ConnectivityState.IDLE, notifications::incrementAndGet);
+        assertThat(notifications).hasValue(2);
+    }
+
+    private static ManagedChannel channel() {
+        ManagedChannel channel = mock(ManagedChannel.class);
+        ClientCall call = mock(ClientCall.class);
+        when(channel.newCall(any(), any())).thenReturn(call);
+        return channel;
+    }
+
+    private static void close(ManagedChannel channel) {
+        ClientCall call = channel.newCall(null, null);
+        ArgumentCaptor<ClientCall.Listener> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+        verify(call).start(listener.capture(), any());
+        listener.getValue().onClose(Status.OK, new Metadata());
+    }
+}
@@ -0,0 +1,117 @@
+package io.quarkus.grpc.stubs;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Subscriber forwarding the items of a {@code Multi} to a {@link ServerCallStreamObserver} while honoring the transport
+ * flow control.
+ * <p>
+ * Items are only requested from upstream when the call is ready to send messages. At most {@code prefetch} items are
+ * requested at once, and the demand is replenished once the number of outstanding requests goes below half of it, so the
+ * number of messages buffered on behalf of a slow client is bounded. The messages sent while the call is not ready are
+ * queued by the transport, their number is reported to the optional queue depth listener.
+ *
+ * @param <O> the type of the messages
+ */
+class FlowControlledSubscriber<O> implements MultiSubscriber<O>, Cancellable {
+
+    private final ServerCallStreamObserver<O> response;
+    private final Consumer<Throwable> onFailure;
+    private final Runnable onCompletion;
+    private final int prefetch;
+    private final int lowWatermark;
+    private final IntConsumer queueDepthListener;
+
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    // items requested from upstream and not received yet
+    private final AtomicInteger outstanding = new AtomicInteger();
+    // messages sent since the call stopped being ready, only accessed from onItem
+    private int queueDepth;
+
+    FlowControlledSubscriber(ServerCallStreamObserver<O> response, int prefetch, IntConsumer queueDepthListener,
+            Consumer<Throwable> onFailure, Runnable onCompletion) {
+        if (prefetch < 1) {
+            throw new IllegalArgumentException("The prefetch must be greater than 0, got " + prefetch);
+        }
+        this.response = response;
+        this.prefetch = prefetch;
+        this.lowWatermark = Math.max(1, prefetch / 2);
+        this.queueDepthListener = queueDepthListener;
+        this.onFailure = onFailure;
+        this.onCompletion = onCompletion;
+        // must be called before the initial call to the service method returns
+        response.setOnReadyHandler(this::requestIfReady);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream.compareAndSet(null, subscription)) {
+            requestIfReady();
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public void onItem(O item) {
+        outstanding.decrementAndGet();
+        if (upstream.get() == Subscriptions.CANCELLED) {
+            return;
+        }
+        response.onNext(item);
+        if (queueDepthListener != null) {
+            queueDepth = response.isReady() ? 0 : queueDepth + 1;
+            queueDepthListener.accept(queueDepth);
+        }
+        requestIfReady();
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        if (upstream.getAndSet(Subscriptions.CANCELLED) != Subscriptions.CANCELLED) {
+            onFailure.accept(failure);
+        }
+    }
+
+    @Override
+    public void onCompletion() {
+        if (upstream.getAndSet(Subscriptions.CANCELLED) != Subscriptions.CANCELLED) {
+            onCompletion.run();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        Flow.Subscription subscription = upstream.getAndSet(Subscriptions.CANCELLED);
+        if (subscription != null && subscription != Subscriptions.CANCELLED) {
+            subscription.cancel();
+        }
+    }
+
+    private void requestIfReady() {
+        Flow.Subscription subscription = upstream.get();
+        if (subscription == null || subscription == Subscriptions.CANCELLED || !response.isReady()) {
+            return;
+        }
+        for (;;) {
+            int current = outstanding.get();
+            if (current >= lowWatermark) {
+                return;
+            }
+            int missing = prefetch - current;
+            if (outstanding.compareAndSet(current, prefetch)) {
+                subscription.request(missing);
+                return;
+            }
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package io.quarkus.grpc.stubs;
 
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 
 import org.jboss.logging.Logger;
 
+import io.grpc.Context;
 import io.grpc.Status;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
@@ -17,6 +19,20 @@
 public class ServerCalls {
     private static final Logger log = Logger.getLogger(ServerCalls.class);
 
+    /**
+     * The maximum number of items requested at once from the {@code Multi} returned by the service method of the current
+     * call, set by the server the call was received by. A value lower than {@code 1} disables the flow control, and the
+     * {@code Multi} is consumed with an unbounded demand.
+     */
+    public static final Context.Key<Integer> FLOW_CONTROL_PREFETCH = Context.keyWithDefault(
+            "quarkus.grpc.flow-control-prefetch", 0);
+
+    /**
+     * Receives the queue depth of the flow controlled stream of the current call each time a message is sent, that is the
+     * number of messages sent since the call stopped being ready to send messages.
+     */
+    public static final Context.Key<IntConsumer> QUEUE_DEPTH_LISTENER = Context.key("quarkus.grpc.queue-depth-listener");
+
     private static StreamCollector streamCollector = StreamCollector.NO_OP;
 
     private ServerCalls() {
@@ -48,6 +64,15 @@ public static <I, O> void oneToOne(I request, StreamObserver<O> response, String
 
     public static <I, O> void oneToMany(I request, StreamObserver<O> response, String compression,
             Function<I, Multi<O>> implementation) {
+        oneToMany(request, response, compression, FLOW_CONTROL_PREFETCH.get(), implementation);
+    }
+
+    /**
+     * @param prefetch the maximum number of items requested at once from the returned {@code Multi}, or a value lower than
+     *        {@code 1} to consume it with an unbounded demand
+     */
+    public static <I, O> void oneToMany(I request, StreamObserver<O> response, String compression, int prefetch,
+            Function<I, Multi<O>> implementation) {
         try {
             trySetCompression(response, compression);
             streamCollector.add(response);
@@ -58,10 +83,7 @@ public static <I, O> void oneToMany(I request, StreamObserver<O> response, Strin
                 onError(response, Status.fromCode(Status.Code.INTERNAL).asException());
                 return;
             }
-            handleSubscription(returnValue.subscribe().with(
-                    response::onNext,
-                    throwable -> onError(response, throwable),
-                    () -> onCompleted(response)), response);
+            subscribe(returnValue, response, prefetch);
         } catch (Throwable throwable) {
             onError(response, throwable);
         }
@@ -95,6 +117,22 @@ public static <I, O> StreamObserver<I> manyToOne(StreamObserver<O> response,
         }
     }
 
+    private static <O> void subscribe(Multi<O> multi, StreamObserver<O> response, int prefetch) {
+        if (prefetch > 0 && response instanceof ServerCallStreamObserver) {
+            FlowControlledSubscriber<O> subscriber = new FlowControlledSubscriber<>(
+                    (ServerCallStreamObserver<O>) response, prefetch, QUEUE_DEPTH_LISTENER.get(),
+                    failure -> onError(response, failure),
+                    () -> onCompleted(response));
+            handleSubscription(subscriber, response);
+            multi.subscribe().withSubscriber(subscriber);
+        } else {
+            handleSubscription(multi.subscribe().with(
+                    response::onNext,
+                    failure -> onError(response, failure),
+                    () -> onCompleted(response)), response);
+        }
+    }
+
     private static <O> void handleSubscription(Cancellable cancellable, StreamObserver<O> response) {
         if (response instanceof ServerCallStreamObserver) {
             ServerCallStreamObserver<O> serverCallResponse = (ServerCallStreamObserver<O>) response;
@@ -108,6 +146,15 @@ private static <O> void handleSubscription(Cancellable cancellable, StreamObserv
 
     public static <I, O> StreamObserver<I> manyToMany(StreamObserver<O> response,
             Function<Multi<I>, Multi<O>> implementation) {
+        return manyToMany(response, FLOW_CONTROL_PREFETCH.get(), implementation);
+    }
+
+    /**
+     * @param prefetch the maximum number of items requested at once from the returned {@code Multi}, or a value lower than
+     *        {@code 1} to consume it with an unbounded demand
+     */
+    public static <I, O> StreamObserver<I> manyToMany(StreamObserver<O> response, int prefetch,
+            Function<Multi<I>, Multi<O>> implementation) {
         try {
             streamCollector.add(response);
             UnicastProcessor<I> input = UnicastProcessor.create();
@@ -119,10 +166,7 @@ public static <I, O> StreamObserver<I> manyToMany(StreamObserver<O> response,
                 onError(response, Status.fromCode(Status.Code.INTERNAL).asException());
                 return null;
             }
-            handleSubscription(multi.subscribe().with(
-                    response::onNext,
-                    failure -> onError(response, failure),
-                    () -> onCompleted(response)), response);
+            subscribe(multi, response, prefetch);
 
             return pump;
         } catch (Throwable throwable) {
@@ -23,6 +23,8 @@ private static DotName createConstant(String fqcn) {
     public static final DotName TENANT_CONNECTION_RESOLVER = createConstant(
             "io.quarkus.hibernate.orm.runtime.tenant.TenantConnectionResolver");
     public static final DotName TENANT_RESOLVER = createConstant("io.quarkus.hibernate.orm.runtime.tenant.TenantResolver");
+    public static final DotName CACHE_INVALIDATION_TRANSPORT = createConstant(
+            "io.quarkus.hibernate.orm.runtime.cache.CacheInvalidationTransport");
 
     public static final DotName STATIC_METAMODEL = createConstant("jakarta.persistence.metamodel.StaticMetamodel");
 
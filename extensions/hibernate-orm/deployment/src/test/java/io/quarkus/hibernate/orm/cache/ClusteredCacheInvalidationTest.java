@@ -0,0 +1,166 @@
+package io.quarkus.hibernate.orm.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.transaction.UserTransaction;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.cache.CacheInvalidation;
+import io.quarkus.hibernate.orm.runtime.cache.CacheInvalidationTransport;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredCacheInvalidationTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(CachedEntity.class)
+                    .addClass(InMemoryCacheInvalidationTransport.class))
+            .withConfigurationResource("application.properties");
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    Session session;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Inject
+    @PersistenceUnitExtension
+    InMemoryCacheInvalidationTransport transport;
+
+    public void initData(@Observes StartupEvent event) throws Exception {
+        transaction.begin();
+        for (int i = 0; i < 3; i++) {
+            session.persist(new CachedEntity(i, "name" + i));
+        }
+        transaction.commit();
+    }
+
+    @BeforeEach
+    public void clearTransport() {
+        transport.getPublished().clear();
+    }
+
+    @Test
+    public void testPublishedOnCommit() throws Exception {
+        transaction.begin();
+        session.find(CachedEntity.class, 0).name = "updated";
+        transaction.commit();
+
+        assertThat(transport.getPublished()).singleElement().satisfies(invalidation -> {
+            assertThat(invalidation.getType()).isEqualTo(CacheInvalidation.Type.ENTITY);
+            assertThat(invalidation.getRole()).isEqualTo(CachedEntity.class.getName());
+            assertThat(invalidation.getId()).isEqualTo(0);
+        });
+    }
+
+    @Test
+    public void testNotPublishedOnRollback() throws Exception {
+        transaction.begin();
+        session.find(CachedEntity.class, 1).name = "updated";
+        session.flush();
+        transaction.rollback();
+
+        assertThat(transport.getPublished()).isEmpty();
+    }
+
+    @Test
+    public void testRemoteInvalidationApplied() throws Exception {
+        transaction.begin();
+        session.find(CachedEntity.class, 2);
+        transaction.commit();
+        assertThat(sessionFactory.getCache().contains(CachedEntity.class, 2)).isTrue();
+
+        transport.receive(new CacheInvalidation("another-node", System.currentTimeMillis(),
+                CacheInvalidation.Type.ENTITY, CachedEntity.class.getName(), 2, null, null));
+
+        assertThat(sessionFactory.getCache().contains(CachedEntity.class, 2)).isFalse();
+        transaction.begin();
+        assertThat(session.find(CachedEntity.class, 2).name).isEqualTo("name2");
+        transaction.commit();
+    }
+
+    @Test
+    public void testOwnInvalidationIgnored() throws Exception {
+        transaction.begin();
+        session.find(CachedEntity.class, 0).name = "updated again";
+        transaction.commit();
+        transaction.begin();
+        session.find(CachedEntity.class, 0);
+        transaction.commit();
+        assertThat(sessionFactory.getCache().contains(CachedEntity.class, 0)).isTrue();
+
+        transport.receive(transport.getPublished().get(0));
+
+        assertThat(sessionFactory.getCache().contains(CachedEntity.class, 0)).isTrue();
+    }
+
+    @Entity
+    @Cacheable
+    public static class CachedEntity {
+
+        @Id
+        public Integer id;
+
+        public String name;
+
+        public CachedEntity() {
+        }
+
+        public CachedEntity(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @PersistenceUnitExtension
+    public static class InMemoryCacheInvalidationTransport implements CacheInvalidationTransport {
+
+        private final List<CacheInvalidation> published = new CopyOnWriteArrayList<>();
+        private final List<Consumer<CacheInvalidation>> consumers = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+            published.add(invalidation);
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> consumer) {
+            consumers.add(consumer);
+        }
+
+        @Override
+        public void unsubscribe(Consumer<CacheInvalidation> consumer) {
+            consumers.remove(consumer);
+        }
+
+        public List<CacheInvalidation> getPublished() {
+            return published;
+        }
+
+        public void receive(CacheInvalidation invalidation) {
+            for (Consumer<CacheInvalidation> consumer : consumers) {
+                consumer.accept(invalidation);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.quarkus.hibernate.orm.multitenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.tenant.HibernateMultiTenantConnectionProvider;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantResolver;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TenantConnectionsMaxTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(MyEntity.class)
+                    .addClass(PublicTenantResolver.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.multitenant", "SCHEMA")
+            .overrideConfigKey("quarkus.hibernate-orm.schema-management.strategy", "none")
+            .overrideConfigKey("quarkus.hibernate-orm.tenant-connections.max", "2")
+            .overrideConfigKey("quarkus.hibernate-orm.tenant-connections.acquisition-timeout", "PT0.5S")
+            .overrideConfigKey("quarkus.datasource.jdbc.max-size", "10");
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @BeforeEach
+    public void createSchemas() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS TENANT1");
+            statement.execute("CREATE SCHEMA IF NOT EXISTS TENANT2");
+        }
+    }
+
+    @Test
+    public void testTenantConnectionsLimited() throws SQLException {
+        @SuppressWarnings("unchecked")
+        MultiTenantConnectionProvider<String> provider = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(MultiTenantConnectionProvider.class);
+        assertThat(provider).isInstanceOf(HibernateMultiTenantConnectionProvider.class);
+
+        Connection first = provider.getConnection("TENANT1");
+        Connection second = provider.getConnection("TENANT1");
+        try {
+            assertThat(first.getSchema()).isEqualTo("TENANT1");
+            // the tenant already uses its maximum number of connections, although the pool has more
+            assertThatThrownBy(() -> provider.getConnection("TENANT1"))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessageContaining("tenant 'TENANT1'");
+
+            // the other tenants still get the connections of the shared pool
+            Connection other = provider.getConnection("TENANT2");
+            assertThat(other.getSchema()).isEqualTo("TENANT2");
+            provider.releaseConnection("TENANT2", other);
+
+            // a connection released by the tenant can be acquired again
+            provider.releaseConnection("TENANT1", second);
+            second = provider.getConnection("TENANT1");
+            assertThat(second.getSchema()).isEqualTo("TENANT1");
+        } finally {
+            provider.releaseConnection("TENANT1", first);
+            provider.releaseConnection("TENANT1", second);
+        }
+    }
+
+    @Entity
+    public static class MyEntity {
+
+        @Id
+        public Long id;
+    }
+
+    @PersistenceUnitExtension
+    public static class PublicTenantResolver implements TenantResolver {
+
+        @Override
+        public String getDefaultTenantId() {
+            return "PUBLIC";
+        }
+
+        @Override
+        public String resolveTenantId() {
+            return "PUBLIC";
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.quarkus.hibernate.orm.readreplica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.agroal.ReadReplica;
+import io.quarkus.hibernate.orm.MyEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReadReplicaTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(MyEntity.class, ReadReplicaFinder.class))
+            .overrideConfigKey("quarkus.datasource.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.jdbc.url", "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1")
+            .overrideConfigKey("quarkus.datasource.jdbc.read-replicas.datasources", "replica")
+            .overrideConfigKey("quarkus.datasource.replica.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.replica.jdbc.url", "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1")
+            .overrideConfigKey("quarkus.hibernate-orm.schema-management.strategy", "drop-and-create");
+
+    @Inject
+    ReadReplicaFinder finder;
+
+    @Inject
+    @DataSource("replica")
+    AgroalDataSource replica;
+
+    @Test
+    public void testQueriesOfReadReplicaMethodsUseReplica() throws SQLException {
+        QuarkusTransaction.requiringNew().run(() -> finder.entityManager.persist(new MyEntity("primary")));
+        // the schema is only created in the primary database, the replica gets its own copy with different data
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE MyEntity (id BIGINT NOT NULL, name VARCHAR(255), PRIMARY KEY (id))");
+            statement.execute("INSERT INTO MyEntity VALUES (1, 'replica')");
+        }
+
+        assertEquals(List.of("replica"), finder.readReplicaNames());
+        assertEquals(List.of("primary"), finder.primaryNames());
+    }
+
+    @ApplicationScoped
+    public static class ReadReplicaFinder {
+
+        @Inject
+        EntityManager entityManager;
+
+        @ReadReplica
+        @Transactional
+        public List<String> readReplicaNames() {
+            return names();
+        }
+
+        @Transactional
+        public List<String> primaryNames() {
+            return names();
+        }
+
+        private List<String> names() {
+            return entityManager.createQuery("select e.name from MyEntity e", String.class).getResultList();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.quarkus.hibernate.orm.runtime;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import org.hibernate.FlushMode;
 
@@ -61,6 +63,12 @@ public interface HibernateOrmRuntimeConfigPersistenceUnit {
     @ConfigDocSection
     HibernateOrmConfigPersistenceUnitFlush flush();
 
+    /**
+     * Configuration of the connections used by each tenant, when using `SCHEMA` or `DATABASE` multitenancy.
+     */
+    @ConfigDocSection
+    HibernateOrmConfigPersistenceUnitTenantConnections tenantConnections();
+
     /**
      * Properties that should be passed on directly to Hibernate ORM.
      * Use the full configuration property key here,
@@ -297,4 +305,42 @@ interface HibernateOrmConfigPersistenceUnitFlush {
         FlushMode mode();
     }
 
+    @ConfigGroup
+    interface HibernateOrmConfigPersistenceUnitTenantConnections {
+
+        /**
+         * The maximum number of connections a single tenant can use concurrently.
+         *
+         * This is useful when many tenants share the same datasource,
+         * e.g. with `SCHEMA` multitenancy:
+         * the tenants still share the same connection pool,
+         * but a tenant using this many connections will wait for one of its own connections to be released,
+         * instead of taking the connections of the pool away from the other tenants.
+         *
+         * The requests of a tenant waiting for one of its own connections are served in arrival order.
+         * Once under its maximum, a tenant acquires its connection from the pool shared by all the tenants,
+         * whose waiting acquisitions are not ordered across tenants.
+         *
+         * @asciidoclet
+         */
+        @ConfigDocDefault("no limit")
+        OptionalInt max();
+
+        /**
+         * The maximum time a tenant using its maximum number of connections (see `tenant-connections.max`)
+         * waits for one of its connections to be released, before the connection acquisition fails.
+         *
+         * `0` means waiting indefinitely.
+         *
+         * This wait comes before the acquisition of a connection from the pool of the datasource,
+         * which has its own acquisition timeout:
+         * a tenant may wait up to the sum of both timeouts for a connection,
+         * i.e. twice the acquisition timeout of the datasource when this is not set.
+         *
+         * @asciidoclet
+         */
+        @ConfigDocDefault("the acquisition timeout of the datasource when using the default `TenantConnectionResolver`, `0` otherwise")
+        Optional<Duration> acquisitionTimeout();
+    }
+
 }
@@ -36,6 +36,8 @@
 import io.quarkus.hibernate.orm.XmlFormat;
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 import io.quarkus.hibernate.orm.runtime.RuntimeSettings;
+import io.quarkus.hibernate.orm.runtime.cache.CacheInvalidationTransport;
+import io.quarkus.hibernate.orm.runtime.cache.ClusteredCacheInvalidator;
 import io.quarkus.hibernate.orm.runtime.customized.BuiltinFormatMapperBehaviour;
 import io.quarkus.hibernate.orm.runtime.customized.JsonFormatterCustomizationCheck;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
@@ -216,6 +218,12 @@ protected void populate(String persistenceUnitName, SessionFactoryOptionsBuilder
             options.applyStatementInspector(statementInspectorInstance.get());
         }
 
+        InjectableInstance<CacheInvalidationTransport> cacheInvalidationTransportInstance = PersistenceUnitUtil
+                .singleExtensionInstanceForPersistenceUnit(CacheInvalidationTransport.class, persistenceUnitName);
+        if (!cacheInvalidationTransportInstance.isUnsatisfied()) {
+            options.addSessionFactoryObservers(new ClusteredCacheInvalidator(cacheInvalidationTransportInstance.get()));
+        }
+
         InjectableInstance<FormatMapper> jsonFormatMapper = PersistenceUnitUtil.singleExtensionInstanceForPersistenceUnit(
                 FormatMapper.class, persistenceUnitName, JsonFormat.Literal.INSTANCE);
         if (!jsonFormatMapper.isUnsatisfied()) {
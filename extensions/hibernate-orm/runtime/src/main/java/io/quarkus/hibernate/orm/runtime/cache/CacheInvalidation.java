@@ -0,0 +1,97 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The invalidation of the second-level cache entries changed by a committed transaction on a node, sent to the other
+ * nodes by a {@link CacheInvalidationTransport}.
+ * <p>
+ * The invalidation is serializable, so the transports relying on Java serialization can send it as is, provided the
+ * identifiers of the entities are serializable.
+ */
+public final class CacheInvalidation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Type {
+        /**
+         * Invalidates an entity, and the query spaces of its tables.
+         */
+        ENTITY,
+        /**
+         * Invalidates a collection, and the query spaces of its tables.
+         */
+        COLLECTION,
+        /**
+         * Only invalidates query spaces, for instance when an entity is inserted.
+         */
+        QUERY_SPACES
+    }
+
+    private final String origin;
+    private final long timestamp;
+    private final Type type;
+    private final String role;
+    private final Object id;
+    private final String tenantId;
+    private final String[] spaces;
+
+    /**
+     * @param origin the identifier of the session factory the change was committed by
+     * @param timestamp the time the change was committed, in milliseconds since the epoch
+     * @param type the type of the invalidation
+     * @param role the entity name or the collection role, {@code null} for {@link Type#QUERY_SPACES}
+     * @param id the identifier of the entity or the key of the collection, {@code null} for {@link Type#QUERY_SPACES}
+     * @param tenantId the tenant the change was committed for, {@code null} if multi-tenancy is not used
+     * @param spaces the query spaces to invalidate
+     */
+    public CacheInvalidation(String origin, long timestamp, Type type, String role, Object id, String tenantId,
+            String[] spaces) {
+        this.origin = Objects.requireNonNull(origin);
+        this.timestamp = timestamp;
+        this.type = Objects.requireNonNull(type);
+        this.role = role;
+        this.id = id;
+        this.tenantId = tenantId;
+        this.spaces = spaces != null ? spaces : new String[0];
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * @return the time the change was committed, which polling transports can use as a cursor
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Object getId() {
+        return id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String[] getSpaces() {
+        return spaces.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheInvalidation{origin=" + origin + ", timestamp=" + timestamp + ", type=" + type + ", role=" + role
+                + ", id=" + id + ", tenantId=" + tenantId + ", spaces=" + Arrays.toString(spaces) + "}";
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts the second-level cache invalidations of a persistence unit to the other nodes of a cluster, for instance
+ * over a clustered Vert.x event bus, Redis pub/sub or a table polled over JDBC.
+ * <p>
+ * When a bean of this type is annotated with {@link io.quarkus.hibernate.orm.PersistenceUnitExtension}, the entity,
+ * collection and query cache regions of the persistence unit are invalidated on all the nodes once a transaction
+ * changing them commits, the second-level cache of every node staying local.
+ * <p>
+ * The methods of the transport must not block: they are called on the threads committing the transactions.
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * Sends an invalidation to the other nodes. The invalidations of the local node are ignored if they are received
+     * back.
+     *
+     * @param invalidation the invalidation of a committed change
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Registers a consumer of the invalidations sent by the nodes, called when the session factory starts.
+     *
+     * @param consumer the consumer, which can be called from any thread
+     */
+    void subscribe(Consumer<CacheInvalidation> consumer);
+
+    /**
+     * Unregisters a consumer, called when the session factory is closed.
+     *
+     * @param consumer the consumer passed to {@link #subscribe(Consumer)}
+     */
+    default void unsubscribe(Consumer<CacheInvalidation> consumer) {
+    }
+
+}
@@ -0,0 +1,228 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps the local second-level caches of the nodes of a cluster coherent, by broadcasting the invalidations of the
+ * entities, collections and query spaces changed by the committed transactions over a {@link CacheInvalidationTransport},
+ * and applying the invalidations received from the other nodes.
+ * <p>
+ * The invalidations received are applied the way Hibernate ORM applies a deletion: the cache entry is locked, removed
+ * and unlocked, so with the {@code READ_WRITE} strategy the entry is replaced by a timestamped lock preventing the
+ * transactions started before the invalidation from putting stale data back in the cache.
+ * <p>
+ * The bulk updates and deletes executed through queries are not broadcast.
+ */
+public class ClusteredCacheInvalidator implements SessionFactoryObserver {
+
+    private static final Logger log = Logger.getLogger(ClusteredCacheInvalidator.class);
+
+    private final CacheInvalidationTransport transport;
+    private final String origin = UUID.randomUUID().toString();
+    private final Consumer<CacheInvalidation> consumer = this::apply;
+
+    private volatile SessionFactoryImplementor sessionFactory;
+
+    public ClusteredCacheInvalidator(CacheInvalidationTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public void sessionFactoryCreated(SessionFactory factory) {
+        sessionFactory = (SessionFactoryImplementor) factory;
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        Listener listener = new Listener();
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, listener);
+        transport.subscribe(consumer);
+    }
+
+    @Override
+    public void sessionFactoryClosed(SessionFactory factory) {
+        transport.unsubscribe(consumer);
+        sessionFactory = null;
+    }
+
+    /**
+     * Publishes the invalidation once the transaction of the session commits.
+     */
+    private void register(EventSource session, CacheInvalidation.Type type, String role, Object id, Object[] spaces) {
+        boolean queryCacheEnabled = session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled();
+        if (type == CacheInvalidation.Type.QUERY_SPACES && !queryCacheEnabled) {
+            return;
+        }
+        String tenantId = session.getTenantIdentifier();
+        String[] querySpaces = queryCacheEnabled ? toStrings(spaces) : null;
+        session.getActionQueue().registerProcess((success, s) -> {
+            if (success) {
+                publish(new CacheInvalidation(origin, System.currentTimeMillis(), type, role, id, tenantId, querySpaces));
+            }
+        });
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        try {
+            transport.publish(invalidation);
+        } catch (RuntimeException e) {
+            log.warnf(e, "Unable to publish the second-level cache invalidation %s", invalidation);
+        }
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        SessionFactoryImplementor factory = sessionFactory;
+        if (factory == null || factory.isClosed() || origin.equals(invalidation.getOrigin())) {
+            return;
+        }
+        String tenantId = invalidation.getTenantId();
+        try (StatelessSession statelessSession = tenantId != null
+                ? factory.withStatelessOptions().tenantIdentifier(tenantId).openStatelessSession()
+                : factory.openStatelessSession()) {
+            SharedSessionContractImplementor session = (SharedSessionContractImplementor) statelessSession;
+            switch (invalidation.getType()) {
+                case ENTITY -> {
+                    EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor(invalidation.getRole());
+                    EntityDataAccess access = persister.getCacheAccessStrategy();
+                    if (access != null) {
+                        invalidate(session, access,
+                                access.generateCacheKey(invalidation.getId(), persister, factory, tenantId));
+                    }
+                }
+                case COLLECTION -> {
+                    CollectionPersister persister = factory.getMappingMetamodel()
+                            .getCollectionDescriptor(invalidation.getRole());
+                    CollectionDataAccess access = persister.getCacheAccessStrategy();
+                    if (access != null) {
+                        invalidate(session, access,
+                                access.generateCacheKey(invalidation.getId(), persister, factory, tenantId));
+                    }
+                }
+                case QUERY_SPACES -> {
+                    // only the query spaces
+                }
+            }
+            String[] spaces = invalidation.getSpaces();
+            if (spaces.length > 0 && factory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+                factory.getCache().getTimestampsCache().invalidate(spaces, session);
+            }
+        } catch (RuntimeException e) {
+            log.warnf(e, "Unable to apply the second-level cache invalidation %s", invalidation);
+        }
+    }
+
+    private static void invalidate(SharedSessionContractImplementor session, CachedDomainDataAccess access, Object key) {
+        SoftLock lock = access.lockItem(session, key, null);
+        try {
+            access.remove(session, key);
+        } finally {
+            access.unlockItem(session, key, lock);
+        }
+    }
+
+    private static String[] toStrings(Object[] spaces) {
+        String[] strings = new String[spaces.length];
+        for (int i = 0; i < spaces.length; i++) {
+            strings[i] = String.valueOf(spaces[i]);
+        }
+        return strings;
+    }
+
+    private final class Listener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener,
+            PostCollectionRecreateEventListener, PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            // nothing is cached yet for the entity, but the cached query results may not include it
+            EntityPersister persister = event.getPersister();
+            register(event.getSession(), CacheInvalidation.Type.QUERY_SPACES, null, null, persister.getPropertySpaces());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            onEntityChange(event.getSession(), event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            onEntityChange(event.getSession(), event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+            onCollectionChange(event);
+        }
+
+        @Override
+        public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+            onCollectionChange(event);
+        }
+
+        @Override
+        public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+            onCollectionChange(event);
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            // the invalidations are published by an after transaction completion process
+            return false;
+        }
+
+        private void onEntityChange(EventSource session, EntityPersister persister, Object id) {
+            if (persister.canWriteToCache()) {
+                register(session, CacheInvalidation.Type.ENTITY, persister.getEntityName(), id,
+                        persister.getPropertySpaces());
+            } else {
+                register(session, CacheInvalidation.Type.QUERY_SPACES, null, null, persister.getPropertySpaces());
+            }
+        }
+
+        private void onCollectionChange(AbstractCollectionEvent event) {
+            PersistentCollection<?> collection = event.getCollection();
+            CollectionPersister persister = event.getSession().getFactory().getMappingMetamodel()
+                    .getCollectionDescriptor(collection.getRole());
+            Object key = collection.getKey() != null ? collection.getKey() : event.getAffectedOwnerIdOrNull();
+            if (persister.hasCache() && key != null) {
+                register(event.getSession(), CacheInvalidation.Type.COLLECTION, persister.getRole(), key,
+                        persister.getCollectionSpaces());
+            } else {
+                register(event.getSession(), CacheInvalidation.Type.QUERY_SPACES, null, null,
+                        persister.getCollectionSpaces());
+            }
+        }
+    }
+}
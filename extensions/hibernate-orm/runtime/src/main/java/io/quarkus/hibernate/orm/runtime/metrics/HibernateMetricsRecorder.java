@@ -8,11 +8,14 @@
 import jakarta.persistence.EntityManagerFactory;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.tenant.HibernateMultiTenantConnectionProvider;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.tuples.Tuple2;
@@ -34,6 +37,7 @@ public void accept(MetricsFactory metricsFactory) {
                     SessionFactory sessionFactory = emf.getItem2().unwrap(SessionFactory.class);
                     if (sessionFactory != null) {
                         registerMetrics(metricsFactory, emf.getItem1(), sessionFactory.getStatistics());
+                        registerTenantMetrics(metricsFactory, sessionFactory);
                     }
                 }
             }
@@ -206,6 +210,20 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                 puName, statistics, Statistics::getUpdateTimestampsCachePutCount);
     }
 
+    /**
+     * Register the metrics of the tenants, if the persistence unit uses multitenancy
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param sessionFactory Session factory of the persistence unit
+     */
+    void registerTenantMetrics(MetricsFactory metricsFactory, SessionFactory sessionFactory) {
+        MultiTenantConnectionProvider<?> connectionProvider = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(MultiTenantConnectionProvider.class);
+        if (connectionProvider instanceof HibernateMultiTenantConnectionProvider hibernateMultiTenantConnectionProvider) {
+            hibernateMultiTenantConnectionProvider.registerMetrics(metricsFactory);
+        }
+    }
+
     <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricName, String description,
             String puName, T statistics, Function<T, Long> f, String... tags) {
 
@@ -1,6 +1,7 @@
 package io.quarkus.hibernate.orm.runtime.tenant;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -8,15 +9,21 @@
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.enterprise.context.SessionScoped;
 
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.hibernate.engine.jdbc.connections.spi.AbstractMultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.jboss.logging.Logger;
 
+import io.agroal.api.AgroalDataSource;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableInstance;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.hibernate.orm.runtime.HibernateOrmRuntimeConfig;
+import io.quarkus.hibernate.orm.runtime.HibernateOrmRuntimeConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitTenantConnections;
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.config.SmallRyeConfig;
 
 /**
  * Maps from the Quarkus {@link TenantConnectionResolver} to the {@link HibernateMultiTenantConnectionProvider} model.
@@ -31,6 +38,10 @@ public final class HibernateMultiTenantConnectionProvider extends AbstractMultiT
     private final String persistenceUnitName;
     private final Map<String, ConnectionProvider> providerMap = new ConcurrentHashMap<>();
 
+    // Retrieved on first use, as this provider is created on static init
+    private volatile HibernateOrmConfigPersistenceUnitTenantConnections tenantConnectionsConfig;
+    private volatile MetricsFactory metricsFactory;
+
     public HibernateMultiTenantConnectionProvider(String persistenceUnitName) {
         this.persistenceUnitName = persistenceUnitName;
     }
@@ -66,14 +77,61 @@ protected ConnectionProvider selectConnectionProvider(final String tenantIdentif
         LOG.debugv("selectConnectionProvider(persistenceUnitName={0}, tenantIdentifier={1})", persistenceUnitName,
                 tenantIdentifier);
 
-        ConnectionProvider provider = providerMap.get(tenantIdentifier);
-        if (provider == null) {
-            final ConnectionProvider connectionProvider = resolveConnectionProvider(persistenceUnitName, tenantIdentifier);
-            providerMap.put(tenantIdentifier, connectionProvider);
-            return connectionProvider;
+        // computeIfAbsent() ensures a single connection limit per tenant
+        return providerMap.computeIfAbsent(tenantIdentifier,
+                tenantId -> limitConnections(tenantId, resolveConnectionProvider(persistenceUnitName, tenantId)));
+    }
+
+    /**
+     * Registers the acquisition time metrics of the tenants whose number of connections is limited.
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     */
+    public void registerMetrics(MetricsFactory metricsFactory) {
+        // looked up by the limiters on their next acquisition, including the limiters being created concurrently
+        this.metricsFactory = metricsFactory;
+    }
+
+    private ConnectionProvider limitConnections(String tenantIdentifier, ConnectionProvider provider) {
+        HibernateOrmConfigPersistenceUnitTenantConnections config = tenantConnectionsConfig();
+        if (config.max().isEmpty()) {
+            return provider;
+        }
+        // Agroal has no timeout per acquisition, so the pool still waits up to its own timeout once the limiter let
+        // the acquisition through: the combined wait is up to the sum of both timeouts, as documented
+        Duration acquisitionTimeout = config.acquisitionTimeout()
+                .orElseGet(() -> provider.isUnwrappableAs(AgroalDataSource.class)
+                        ? provider.unwrap(AgroalDataSource.class).getConfiguration().connectionPoolConfiguration()
+                                .acquisitionTimeout()
+                        : Duration.ZERO);
+        LOG.debugv("Limiting tenant {0} of persistence unit {1} to {2} connections", tenantIdentifier,
+                persistenceUnitName, config.max().getAsInt());
+        return new TenantConnectionLimiter(tenantIdentifier, provider, config.max().getAsInt(), acquisitionTimeout,
+                () -> acquisitionTimeRecorder(tenantIdentifier));
+    }
+
+    private MetricsFactory.TimeRecorder acquisitionTimeRecorder(String tenantIdentifier) {
+        MetricsFactory metricsFactory = this.metricsFactory;
+        if (metricsFactory == null) {
+            return null;
         }
-        return provider;
+        return metricsFactory.builder("hibernate.tenant.connections.acquire.time")
+                .description("Time taken by a tenant to acquire a connection,"
+                        + " including the time spent waiting for the tenant to be under its maximum number of connections.")
+                .tag("entityManagerFactory", persistenceUnitName)
+                .tag("tenant", tenantIdentifier)
+                .buildTimer();
+    }
 
+    private HibernateOrmConfigPersistenceUnitTenantConnections tenantConnectionsConfig() {
+        HibernateOrmConfigPersistenceUnitTenantConnections config = tenantConnectionsConfig;
+        if (config == null) {
+            config = ConfigProvider.getConfig().unwrap(SmallRyeConfig.class)
+                    .getConfigMapping(HibernateOrmRuntimeConfig.class)
+                    .persistenceUnits().get(persistenceUnitName).tenantConnections();
+            tenantConnectionsConfig = config;
+        }
+        return config;
     }
 
     private static ConnectionProvider resolveConnectionProvider(String persistenceUnitName, String tenantIdentifier) {
@@ -0,0 +1,149 @@
+package io.quarkus.hibernate.orm.runtime.tenant;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Limits the number of connections a tenant uses concurrently, so that a tenant cannot exhaust a connection pool shared
+ * with other tenants.
+ * <p>
+ * The acquisitions of a tenant using its maximum number of connections wait, in arrival order, for one of the
+ * connections of this tenant to be closed instead of queuing in the shared pool: the connections released to the pool
+ * go to the acquisitions of the other tenants.
+ * <p>
+ * Only the acquisitions of a single tenant are ordered: once let through, an acquisition waits in the queue of the shared
+ * pool, where Agroal does not order the acquisitions of the different tenants.
+ */
+final class TenantConnectionLimiter implements ConnectionProvider {
+
+    private final String tenantId;
+    private final ConnectionProvider delegate;
+    private final int maxConnections;
+    // 0 means waiting indefinitely, as for the acquisition timeout of Agroal
+    private final Duration acquisitionTimeout;
+    private final Semaphore permits;
+    // returns null as long as the metrics are not registered
+    private final Supplier<TimeRecorder> acquisitionTimeRecorderSupplier;
+
+    private volatile TimeRecorder acquisitionTimeRecorder;
+
+    TenantConnectionLimiter(String tenantId, ConnectionProvider delegate, int maxConnections,
+            Duration acquisitionTimeout) {
+        this(tenantId, delegate, maxConnections, acquisitionTimeout, () -> null);
+    }
+
+    /**
+     * @param acquisitionTimeRecorderSupplier looked up on each acquisition until it returns a recorder, so that the
+     *        limiters created before the registration of the metrics record the acquisitions once registered
+     */
+    TenantConnectionLimiter(String tenantId, ConnectionProvider delegate, int maxConnections,
+            Duration acquisitionTimeout, Supplier<TimeRecorder> acquisitionTimeRecorderSupplier) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("The maximum number of connections of a tenant must be at least 1, got "
+                    + maxConnections);
+        }
+        this.tenantId = tenantId;
+        this.delegate = delegate;
+        this.maxConnections = maxConnections;
+        this.acquisitionTimeout = acquisitionTimeout;
+        this.permits = new Semaphore(maxConnections, true);
+        this.acquisitionTimeRecorderSupplier = acquisitionTimeRecorderSupplier;
+    }
+
+    int availableConnections() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        acquirePermit();
+        Connection connection;
+        try {
+            connection = delegate.getConnection();
+        } catch (SQLException | RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+        TimeRecorder recorder = acquisitionTimeRecorder();
+        if (recorder != null) {
+            recorder.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return connection;
+    }
+
+    private TimeRecorder acquisitionTimeRecorder() {
+        TimeRecorder recorder = acquisitionTimeRecorder;
+        if (recorder == null) {
+            // a concurrent lookup registers the same timer, which the metrics registry returns again
+            recorder = acquisitionTimeRecorderSupplier.get();
+            acquisitionTimeRecorder = recorder;
+        }
+        return recorder;
+    }
+
+    private void acquirePermit() throws SQLException {
+        boolean acquired;
+        try {
+            if (acquisitionTimeout.isZero() || acquisitionTimeout.isNegative()) {
+                permits.acquire();
+                acquired = true;
+            } else {
+                // a timed tryAcquire() honors the fairness of the semaphore, unlike the untimed one
+                acquired = permits.tryAcquire(acquisitionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(String.format(Locale.ROOT,
+                    "Interrupted while waiting for a connection for tenant '%1$s'", tenantId), e);
+        }
+        if (!acquired) {
+            throw new SQLException(String.format(Locale.ROOT,
+                    "Timed out after %1$s waiting for a connection for tenant '%2$s':"
+                            + " this tenant is already using its maximum of %3$d connections."
+                            + " Consider increasing 'tenant-connections.max' or 'tenant-connections.acquisition-timeout'.",
+                    acquisitionTimeout, tenantId, maxConnections));
+        }
+    }
+
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        try {
+            delegate.closeConnection(connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return delegate.supportsAggressiveRelease();
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return TenantConnectionLimiter.class.equals(unwrapType) || delegate.isUnwrappableAs(unwrapType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (TenantConnectionLimiter.class.equals(unwrapType)) {
+            return (T) this;
+        } else if (delegate.isUnwrappableAs(unwrapType)) {
+            return delegate.unwrap(unwrapType);
+        } else {
+            throw new UnknownUnwrapTypeException(unwrapType);
+        }
+    }
+}
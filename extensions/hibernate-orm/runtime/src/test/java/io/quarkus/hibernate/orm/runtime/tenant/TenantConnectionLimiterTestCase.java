@@ -0,0 +1,139 @@
+package io.quarkus.hibernate.orm.runtime.tenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+public class TenantConnectionLimiterTestCase {
+
+    @Test
+    public void limitsConnectionsOfTenant() throws Exception {
+        TestConnectionProvider delegate = new TestConnectionProvider();
+        TenantConnectionLimiter limiter = new TenantConnectionLimiter("tenant1", delegate, 2, Duration.ofMillis(50));
+
+        Connection first = limiter.getConnection();
+        limiter.getConnection();
+        assertThat(limiter.availableConnections()).isZero();
+        assertThatThrownBy(limiter::getConnection)
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("tenant1")
+                .hasMessageContaining("maximum of 2 connections");
+        assertThat(delegate.opened).isEqualTo(2);
+
+        limiter.closeConnection(first);
+        assertThat(delegate.closed).isEqualTo(1);
+        limiter.getConnection();
+        assertThat(delegate.opened).isEqualTo(3);
+    }
+
+    @Test
+    public void waitsForConnectionOfTenant() throws Exception {
+        TestConnectionProvider delegate = new TestConnectionProvider();
+        TenantConnectionLimiter limiter = new TenantConnectionLimiter("tenant1", delegate, 1, Duration.ZERO);
+
+        Connection first = limiter.getConnection();
+        CompletableFuture<Connection> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.getConnection();
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(second).isNotDone();
+
+        limiter.closeConnection(first);
+        assertThat(second.get(10, TimeUnit.SECONDS)).isNotNull();
+        assertThat(delegate.opened).isEqualTo(2);
+    }
+
+    @Test
+    public void releasesConnectionOnFailure() throws Exception {
+        TestConnectionProvider delegate = new TestConnectionProvider();
+        TenantConnectionLimiter limiter = new TenantConnectionLimiter("tenant1", delegate, 1, Duration.ofMillis(50));
+
+        delegate.failure = new SQLException("boom");
+        assertThatThrownBy(limiter::getConnection).hasMessage("boom");
+        assertThat(limiter.availableConnections()).isEqualTo(1);
+
+        delegate.failure = null;
+        Connection connection = limiter.getConnection();
+        delegate.failure = new SQLException("boom");
+        assertThatThrownBy(() -> limiter.closeConnection(connection)).hasMessage("boom");
+        assertThat(limiter.availableConnections()).isEqualTo(1);
+    }
+
+    @Test
+    public void recordsAcquisitionsOnceMetricsRegistered() throws Exception {
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicReference<TimeRecorder> registered = new AtomicReference<>();
+        TenantConnectionLimiter limiter = new TenantConnectionLimiter("tenant1", new TestConnectionProvider(), 2,
+                Duration.ZERO, registered::get);
+
+        limiter.closeConnection(limiter.getConnection());
+        // the metrics are registered after the creation of the limiter
+        registered.set((amount, unit) -> recorded.incrementAndGet());
+        limiter.closeConnection(limiter.getConnection());
+        limiter.closeConnection(limiter.getConnection());
+        assertThat(recorded).hasValue(2);
+    }
+
+    @Test
+    public void invalidMaxConnections() {
+        assertThatThrownBy(() -> new TenantConnectionLimiter("tenant1", new TestConnectionProvider(), 0, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class TestConnectionProvider implements ConnectionProvider {
+
+        private int opened;
+        private int closed;
+        private SQLException failure;
+
+        @Override
+        public synchronized Connection getConnection() throws SQLException {
+            if (failure != null) {
+                throw failure;
+            }
+            opened++;
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> null);
+        }
+
+        @Override
+        public synchronized void closeConnection(Connection connection) throws SQLException {
+            if (failure != null) {
+                throw failure;
+            }
+            closed++;
+        }
+
+        @Override
+        public boolean supportsAggressiveRelease() {
+            return true;
+        }
+
+        @Override
+        public boolean isUnwrappableAs(Class<?> unwrapType) {
+            return false;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> unwrapType) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -640,12 +640,22 @@ public void build(
                 .done());
     }
 
-    @BuildStep
+    @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
     @Record(STATIC_INIT)
     public void init(BeanContainerBuildItem beanContainerBuildItem, HibernateValidatorRecorder recorder) {
         recorder.hibernateValidatorFactoryInit(beanContainerBuildItem.getValue());
     }
 
+    /**
+     * In JVM mode, the validator factory is bootstrapped on a background thread once the application has started, or
+     * when the factory is first needed if this happens before.
+     */
+    @BuildStep(onlyIfNot = NativeOrNativeSourcesBuild.class)
+    @Record(value = ExecutionTime.RUNTIME_INIT, deferrable = true)
+    public void initDeferred(BeanContainerBuildItem beanContainerBuildItem, HibernateValidatorRecorder recorder) {
+        recorder.hibernateValidatorFactoryInit(beanContainerBuildItem.getValue());
+    }
+
     @BuildStep
     public RuntimeInitializedClassBuildItem reinitClockProviderSystemTimezone() {
         return new RuntimeInitializedClassBuildItem(
@@ -292,6 +292,7 @@ public ResteasyConfigSupport get() {
 
     // this is done in order to ensure that HibernateValidatorFactory is fully initialized at static init
     // so completely in heap and ready to go when a native image is built
+    // in JVM mode, this is deferred until the application has started
     public void hibernateValidatorFactoryInit(BeanContainer beanContainer) {
         HibernateValidatorFactory hibernateValidatorFactory = beanContainer.beanInstance(HibernateValidatorFactory.class);
     }
@@ -10,10 +10,12 @@
 import io.quarkus.jfr.runtime.http.rest.RestPeriodEvent;
 import io.quarkus.jfr.runtime.http.rest.RestStartEvent;
 import io.quarkus.jfr.runtime.runtime.QuarkusRuntimeInfo;
+import io.quarkus.jfr.runtime.runtime.StartupStepEvent;
 import io.quarkus.runtime.ImageMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigUtils;
+import io.quarkus.runtime.util.StartupTimeline;
 import jdk.jfr.FlightRecorder;
 
 @Recorder
@@ -36,6 +38,23 @@ public void runtimeInit() {
                 logger.info("quarkus-jfr for REST server is disabled at runtime");
                 this.disabledRestJfr();
             }
+            if (runtimeConfig.getValue().runtimeEnabled() && StartupTimeline.isEnabled()) {
+                StartupTimeline.addListener(JfrRecorder::commitStartupSteps);
+            }
+        }
+    }
+
+    // the steps are committed once the application has started, with their original start and duration as fields
+    private static void commitStartupSteps(List<StartupTimeline.Step> steps) {
+        for (StartupTimeline.Step step : steps) {
+            StartupStepEvent event = new StartupStepEvent();
+            if (event.shouldCommit()) {
+                event.setPhase(step.phase().name());
+                event.setName(step.name());
+                event.setStepStart(step.started());
+                event.setStepDuration(step.duration());
+                event.commit();
+            }
         }
     }
 
@@ -0,0 +1,68 @@
+package io.quarkus.jfr.runtime.runtime;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import jdk.jfr.Timestamp;
+
+@Label("Quarkus Startup Step")
+@Category({ "Quarkus", "Runtime" })
+@Name("quarkus.startupStep")
+@Description("Step of the startup of Quarkus, recorded when the startup timeline is enabled")
+@StackTrace(false)
+public class StartupStepEvent extends Event {
+
+    @Label("Phase")
+    @Description("The phase of the startup the step ran in")
+    private String phase;
+
+    @Label("Step Name")
+    @Description("The build step that recorded the startup task, or the observer of the startup event")
+    private String name;
+
+    @Label("Step Start")
+    @Description("The time the step started at")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    private long stepStart;
+
+    @Label("Step Duration")
+    @Description("The duration of the step")
+    @Timespan(Timespan.NANOSECONDS)
+    private long stepDuration;
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getStepStart() {
+        return stepStart;
+    }
+
+    public void setStepStart(long stepStart) {
+        this.stepStart = stepStart;
+    }
+
+    public long getStepDuration() {
+        return stepDuration;
+    }
+
+    public void setStepDuration(long stepDuration) {
+        this.stepDuration = stepDuration;
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkus.kafka.client.serialization;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+/**
+ * Registers a Jackson serializer or deserializer generated at build time for a payload type on a copy of an
+ * {@link ObjectMapper}, so the application's mapper is left untouched.
+ * <p>
+ * The generated serializer is only used for the exact payload type: the instances of its subclasses are still serialized
+ * by Jackson with all their properties.
+ */
+final class GeneratedJacksonModule {
+
+    private GeneratedJacksonModule() {
+    }
+
+    static <T> ObjectMapper withSerializer(ObjectMapper objectMapper, Class<T> type, JsonSerializer<T> serializer) {
+        SimpleModule module = new SimpleModule(type.getName() + "-generated-serializer");
+        module.setSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType javaType,
+                    BeanDescription beanDesc) {
+                return javaType.getRawClass() == type ? serializer : null;
+            }
+        });
+        return objectMapper.copy().registerModule(module);
+    }
+
+    static <T> ObjectMapper withDeserializer(ObjectMapper objectMapper, Class<T> type, JsonDeserializer<T> deserializer) {
+        SimpleModule module = new SimpleModule(type.getName() + "-generated-deserializer");
+        module.addDeserializer(type, deserializer);
+        return objectMapper.copy().registerModule(module);
+    }
+}
@@ -4,11 +4,14 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import jakarta.json.bind.Jsonb;
 
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.utils.ByteBufferInputStream;
 
 /**
  * A {@link Deserializer} that deserializes JSON using JSON-B.
@@ -18,6 +21,8 @@
     private final Jsonb jsonb;
     private final Type type;
     private final boolean jsonbNeedsClosing;
+    // whether the record buffers can be read without copying them, false if a subclass customizes the deserialization
+    private final boolean readBuffers = canReadBuffers();
 
     public JsonbDeserializer(Class<T> clazz) {
         this(clazz, JsonbProducer.get(), true);
@@ -64,6 +69,24 @@ public T deserialize(String topic, byte[] data) {
         }
     }
 
+    /**
+     * Reads the value straight from the buffer of the record, without copying it to an array first.
+     */
+    @Override
+    public T deserialize(String topic, Headers headers, ByteBuffer data) {
+        if (data == null || !readBuffers) {
+            return Deserializer.super.deserialize(topic, headers, data);
+        }
+
+        try (InputStream is = data.hasArray()
+                ? new ByteArrayInputStream(data.array(), data.arrayOffset() + data.position(), data.remaining())
+                : new ByteBufferInputStream(data.duplicate())) {
+            return jsonb.fromJson(is, type);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public void close() {
         if (!jsonbNeedsClosing) {
@@ -76,4 +99,15 @@ public void close() {
             throw new RuntimeException(e);
         }
     }
+
+    private boolean canReadBuffers() {
+        try {
+            return getClass().getMethod("deserialize", String.class, byte[].class)
+                    .getDeclaringClass() == JsonbDeserializer.class
+                    && getClass().getMethod("deserialize", String.class, Headers.class, byte[].class)
+                            .getDeclaringClass() == Deserializer.class;
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return false;
+        }
+    }
 }
@@ -1,29 +1,32 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 public class ObjectMapperDeserializer<T> implements Deserializer<T> {
 
-    private final JavaType type;
-    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
+    // whether the record buffers can be read without copying them, false if a subclass customizes the deserialization
+    private final boolean readBuffers;
 
     public ObjectMapperDeserializer(Class<T> type) {
         this(type, ObjectMapperProducer.get());
     }
 
     public ObjectMapperDeserializer(Class<T> type, ObjectMapper objectMapper) {
-        this.type = TypeFactory.defaultInstance().constructType(type);
-        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(TypeFactory.defaultInstance().constructType(type));
+        this.readBuffers = canReadBuffers();
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference) {
@@ -31,8 +34,20 @@ public ObjectMapperDeserializer(TypeReference<T> typeReference) {
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference, ObjectMapper objectMapper) {
-        this.type = TypeFactory.defaultInstance().constructType(typeReference);
-        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(TypeFactory.defaultInstance().constructType(typeReference));
+        this.readBuffers = canReadBuffers();
+    }
+
+    /**
+     * Creates a deserializer reading the values of the given type with the given Jackson deserializer, usually generated
+     * at build time, the nested values being read by the application's {@code ObjectMapper}.
+     */
+    public ObjectMapperDeserializer(Class<T> type, JsonDeserializer<T> deserializer) {
+        this(type, ObjectMapperProducer.get(), deserializer);
+    }
+
+    public ObjectMapperDeserializer(Class<T> type, ObjectMapper objectMapper, JsonDeserializer<T> deserializer) {
+        this(type, GeneratedJacksonModule.withDeserializer(objectMapper, type, deserializer));
     }
 
     @Override
@@ -45,8 +60,27 @@ public T deserialize(String topic, byte[] data) {
             return null;
         }
 
-        try (InputStream is = new ByteArrayInputStream(data)) {
-            return objectMapper.readValue(is, type);
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads the value straight from the buffer of the record, without copying it to an array first.
+     */
+    @Override
+    public T deserialize(String topic, Headers headers, ByteBuffer data) {
+        if (data == null || !readBuffers) {
+            return Deserializer.super.deserialize(topic, headers, data);
+        }
+
+        try {
+            if (data.hasArray()) {
+                return reader.readValue(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            }
+            return reader.readValue(new ByteBufferBackedInputStream(data.duplicate()));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -55,4 +89,15 @@ public T deserialize(String topic, byte[] data) {
     @Override
     public void close() {
     }
+
+    private boolean canReadBuffers() {
+        try {
+            return getClass().getMethod("deserialize", String.class, byte[].class)
+                    .getDeclaringClass() == ObjectMapperDeserializer.class
+                    && getClass().getMethod("deserialize", String.class, Headers.class, byte[].class)
+                            .getDeclaringClass() == Deserializer.class;
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return false;
+        }
+    }
 }
@@ -1,13 +1,15 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.reflect.Modifier;
 import java.util.Map;
 
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
 
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
@@ -15,7 +17,7 @@
 public class ObjectMapperSerializer<T> implements Serializer<T> {
     public static final String NULL_AS_NULL_CONFIG = "json.serialize.null-as-null";
 
-    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
 
     private boolean nullAsNull = false;
 
@@ -24,7 +26,21 @@ public ObjectMapperSerializer() {
     }
 
     public ObjectMapperSerializer(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer();
+    }
+
+    /**
+     * Creates a serializer writing the values of the given type with the given Jackson serializer, usually generated at
+     * build time, the other values and the nested values being written by the application's {@code ObjectMapper}.
+     */
+    public ObjectMapperSerializer(Class<T> type, JsonSerializer<T> serializer) {
+        this(ObjectMapperProducer.get(), type, serializer);
+    }
+
+    public ObjectMapperSerializer(ObjectMapper objectMapper, Class<T> type, JsonSerializer<T> serializer) {
+        ObjectMapper mapper = GeneratedJacksonModule.withSerializer(objectMapper, type, serializer);
+        // the serializer of a final type can be resolved once, as the values cannot be of a subclass
+        this.writer = Modifier.isFinal(type.getModifiers()) ? mapper.writerFor(type) : mapper.writer();
     }
 
     @Override
@@ -40,9 +56,8 @@ public byte[] serialize(String topic, T data) {
             return null;
         }
 
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            objectMapper.writeValue(output, data);
-            return output.toByteArray();
+        try {
+            return writer.writeValueAsBytes(data);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -5,9 +5,12 @@
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.jupiter.api.Test;
 
 class JsonbDeserializerTest {
@@ -44,4 +47,19 @@ void shouldDeserializeNullAsNull() {
         MyEntity results = deserializer.deserialize("topic", null);
         assertNull(results);
     }
+
+    @Test
+    void shouldDeserializeEntityFromBuffer() {
+        MyEntity expected = new MyEntity(1, "entity1");
+        JsonbDeserializer<MyEntity> deserializer = new JsonbDeserializer<>(MyEntity.class);
+        byte[] record = "xx{\"id\":1,\"name\":\"entity1\"}yy".getBytes(StandardCharsets.UTF_8);
+        // the value of the record is a slice of a larger buffer
+        ByteBuffer heap = ByteBuffer.wrap(record, 2, record.length - 4).slice();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), heap));
+        ByteBuffer direct = ByteBuffer.allocateDirect(record.length).put(record).position(2).limit(record.length - 2);
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), direct));
+        // the buffer is left as it was
+        assertEquals(2, direct.position());
+        assertNull(deserializer.deserialize("topic", new RecordHeaders(), (ByteBuffer) null));
+    }
 }
@@ -0,0 +1,66 @@
+package io.quarkus.logging.json.runtime;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the streaming generator of the JSON formatter with the JSON-P generator of the LogManager JSON formatter it
+ * replaces, for a typical record with a few MDC entries. Run with {@code -prof gc} to compare the allocations as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@Threads(4)
+public class BenchmarkJsonFormatter {
+
+    @Param({ "Hello world", "Request to /api/orders failed: \"timeout\"\n\tafter 30s" })
+    public String message;
+
+    private JsonFormatter streaming;
+    private org.jboss.logmanager.formatters.JsonFormatter jsonp;
+    private ExtLogRecord record;
+
+    @Setup
+    public void setup() {
+        streaming = new JsonFormatter();
+        jsonp = new org.jboss.logmanager.formatters.JsonFormatter();
+
+        record = new ExtLogRecord(Level.INFO, message, BenchmarkJsonFormatter.class.getName());
+        record.setLoggerName("io.quarkus.orders.OrderResource");
+        record.putMdc("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        record.putMdc("spanId", "00f067aa0ba902b7");
+    }
+
+    @Benchmark
+    public String streamingGenerator() {
+        return streaming.format(record);
+    }
+
+    @Benchmark
+    public String jsonpGenerator() {
+        return jsonp.format(record);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+}
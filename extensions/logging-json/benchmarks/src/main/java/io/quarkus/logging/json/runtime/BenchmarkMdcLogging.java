@@ -0,0 +1,89 @@
+package io.quarkus.logging.json.runtime;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.MDC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.vertx.core.runtime.VertxMDC;
+import io.quarkus.vertx.mdc.provider.LateBoundMDCProvider;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * Simulates the log-heavy handling of a request: the tracing MDC values are set on the duplicated context of the
+ * request, as the OpenTelemetry extension does, and then every log record captures the MDC and is formatted as JSON.
+ * Run with {@code -prof gc} to compare the allocations as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@Threads(4)
+public class BenchmarkMdcLogging {
+
+    @Param({ "1", "10" })
+    public int recordsPerRequest;
+
+    private Vertx vertx;
+    private Context rootContext;
+    private JsonFormatter formatter;
+
+    @Setup
+    public void setup() {
+        LateBoundMDCProvider.setMDCProviderDelegate(VertxMDC.INSTANCE);
+        vertx = Vertx.vertx();
+        rootContext = vertx.getOrCreateContext();
+        formatter = new JsonFormatter();
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public void request(Blackhole blackhole) {
+        ContextInternal context = (ContextInternal) VertxContext.createNewDuplicatedContext(rootContext);
+        ContextInternal previous = context.beginDispatch();
+        try {
+            MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+            MDC.put("parentId", "0000000000000000");
+            MDC.put("spanId", "00f067aa0ba902b7");
+            MDC.put("sampled", "true");
+            for (int i = 0; i < recordsPerRequest; i++) {
+                ExtLogRecord record = new ExtLogRecord(java.util.logging.Level.INFO, "Handling the request",
+                        BenchmarkMdcLogging.class.getName());
+                record.setLoggerName("io.quarkus.orders.OrderResource");
+                record.copyMdc();
+                blackhole.consume(formatter.format(record));
+            }
+        } finally {
+            context.endDispatch(previous);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc", BenchmarkMdcLogging.class.getSimpleName() });
+    }
+
+}
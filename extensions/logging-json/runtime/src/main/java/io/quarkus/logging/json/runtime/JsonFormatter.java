@@ -3,23 +3,35 @@
 import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.SPAN_ID;
 import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.TRACE;
 import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.TRACE_SAMPLED;
-import static io.quarkus.logging.json.runtime.JsonLogConfig.AdditionalFieldConfig.Type.STRING;
 import static java.util.Optional.ofNullable;
 
+import java.io.IOException;
 import java.io.Writer;
-import java.util.HashMap;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.logmanager.ExtLogRecord;
 
+import io.quarkus.logging.json.runtime.JsonLogConfig.AdditionalFieldConfig;
 import io.quarkus.logging.json.runtime.JsonLogConfig.JsonConfig.LogFormat;
 
 public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter {
 
+    // the keys are a small set: the record keys, possibly overridden, the additional fields and the metadata
+    private static final int MAX_ENCODED_KEYS = 256;
+
+    private final ConcurrentMap<String, String> encodedKeys = new ConcurrentHashMap<>();
     private Set<String> excludedKeys;
     private Map<String, AdditionalField> additionalFields;
+    private PreparedField[] preparedFields = new PreparedField[0];
     private LogFormat logFormat = LogFormat.DEFAULT;
     private String tracePrefix = "";
 
@@ -56,7 +68,7 @@ public String getKey() {
     public JsonFormatter() {
         super();
         this.excludedKeys = new HashSet<>();
-        this.additionalFields = new HashMap<>();
+        this.additionalFields = Map.of();
     }
 
     /**
@@ -69,7 +81,7 @@ public JsonFormatter() {
     public JsonFormatter(final String keyOverrides) {
         super(keyOverrides);
         this.excludedKeys = new HashSet<>();
-        this.additionalFields = new HashMap<>();
+        this.additionalFields = Map.of();
     }
 
     /**
@@ -85,7 +97,7 @@ public JsonFormatter(final String keyOverrides, final Set<String> excludedKeys,
             final Map<String, AdditionalField> additionalFields) {
         super(keyOverrides);
         this.excludedKeys = excludedKeys;
-        this.additionalFields = additionalFields;
+        setAdditionalFields(additionalFields);
     }
 
     public Set<String> getExcludedKeys() {
@@ -96,12 +108,18 @@ public void setExcludedKeys(Set<String> excludedKeys) {
         this.excludedKeys = excludedKeys;
     }
 
+    /**
+     * @return an unmodifiable view of the additional fields, use {@link #setAdditionalFields(Map)} to change them
+     */
     public Map<String, AdditionalField> getAdditionalFields() {
         return this.additionalFields;
     }
 
     public void setAdditionalFields(Map<String, AdditionalField> additionalFields) {
-        this.additionalFields = additionalFields;
+        // copied so that the prepared fields cannot go stale
+        Map<String, AdditionalField> fields = Collections.unmodifiableMap(new LinkedHashMap<>(additionalFields));
+        this.preparedFields = prepareFields(fields);
+        this.additionalFields = fields;
     }
 
     public void setLogFormat(LogFormat logFormat) {
@@ -114,57 +132,310 @@ public void setTracePrefix(String tracePrefix) {
 
     @Override
     protected Generator createGenerator(final Writer writer) {
-        Generator superGenerator = super.createGenerator(writer);
-        return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
+        // the JSON-P generator takes care of the pretty printing
+        Generator generator = isPrettyPrint() ? super.createGenerator(writer)
+                : new StreamingJsonGenerator(writer, encodedKeys);
+        return new FormatterJsonGenerator(generator, this.excludedKeys);
     }
 
     @Override
     protected void after(final Generator generator, final ExtLogRecord record) throws Exception {
-
         if (logFormat.equals(LogFormat.GCP)) {
-            final Map<String, String> mdcCopy = record.getMdcCopy();
-            if (!mdcCopy.isEmpty()) {
-                Map<String, AdditionalField> current = new HashMap<>(additionalFields);
-                current.computeIfPresent(TRACE.getKey(), (key, value) -> {
-                    final String traceId = mdcCopy.get("traceId");
-                    if (traceId != null && !traceId.isEmpty()) {
-                        return new AdditionalField(tracePrefix + traceId, STRING);
+            // look up the MDC values one by one rather than copying the whole MDC map
+            final String traceId = record.getMdc("traceId");
+            final String spanId = record.getMdc("spanId");
+            final String sampled = record.getMdc("sampled");
+            if (traceId != null || spanId != null || sampled != null) {
+                for (PreparedField field : preparedFields) {
+                    if (field.key().equals(TRACE.getKey())) {
+                        if (traceId != null && !traceId.isEmpty()) {
+                            generator.add(field.key(), tracePrefix + traceId);
+                        } else {
+                            field.addTo(generator);
+                        }
+                    } else if (field.key().equals(SPAN_ID.getKey())) {
+                        generator.add(field.key(), ofNullable(spanId).orElse(""));
+                    } else if (field.key().equals(TRACE_SAMPLED.getKey())) {
+                        generator.add(field.key(), ofNullable(sampled).orElse(""));
                     } else {
-                        return value;
+                        field.addTo(generator);
                     }
-                });
-                current.computeIfPresent(SPAN_ID.getKey(),
-                        (key, value) -> new AdditionalField(ofNullable(mdcCopy.get("spanId")).orElse(""), STRING));
-                current.computeIfPresent(TRACE_SAMPLED.getKey(),
-                        (key, value) -> new AdditionalField(ofNullable(mdcCopy.get("sampled")).orElse(""), STRING));
-
-                addToGenerator(current, generator);
-            } else {
-                // fast path
-                addToGenerator(additionalFields, generator);
+                }
+                return;
             }
-        } else {
-            // fast path
-            addToGenerator(additionalFields, generator);
+        }
+        // fast path
+        for (PreparedField field : preparedFields) {
+            field.addTo(generator);
         }
     }
 
-    private void addToGenerator(Map<String, AdditionalField> fields, Generator generator) throws Exception {
+    /**
+     * Parses the values of the additional fields once, instead of for every record.
+     */
+    private static PreparedField[] prepareFields(Map<String, AdditionalField> fields) {
+        PreparedField[] prepared = new PreparedField[fields.size()];
+        int i = 0;
         for (var entry : fields.entrySet()) {
-            switch (entry.getValue().type()) {
+            AdditionalField field = entry.getValue();
+            long number;
+            try {
+                number = switch (field.type()) {
+                    case INT -> Integer.parseInt(field.value());
+                    case LONG -> Long.parseLong(field.value());
+                    default -> 0;
+                };
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value '" + field.value() + "' for the additional field '"
+                        + entry.getKey() + "' of type " + field.type(), e);
+            }
+            prepared[i++] = new PreparedField(entry.getKey(), field.type(), field.value(), number);
+        }
+        return prepared;
+    }
+
+    private record PreparedField(String key, AdditionalFieldConfig.Type type, String value, long number) {
+
+        void addTo(Generator generator) throws Exception {
+            switch (type) {
                 case STRING:
-                    generator.add(entry.getKey(), entry.getValue().value());
+                    generator.add(key, value);
                     break;
                 case INT:
-                    generator.add(entry.getKey(), Integer.valueOf(entry.getValue().value()));
+                    generator.add(key, (int) number);
                     break;
                 case LONG:
-                    generator.add(entry.getKey(), Long.valueOf(entry.getValue().value()));
+                    generator.add(key, number);
                     break;
             }
         }
     }
 
+    /**
+     * Writes the JSON straight to the writer of the formatter, with the keys escaped once per formatter and a fast path
+     * for the values not requiring any escaping, instead of going through a JSON-P generator created for every record.
+     * <p>
+     * The output is the same as the one of the JSON-P generator of the LogManager formatter without pretty printing.
+     */
+    private static final class StreamingJsonGenerator implements Generator {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        private final Writer writer;
+        private final ConcurrentMap<String, String> encodedKeys;
+        // whether the current object or array, at each depth, has no value yet
+        private boolean[] empty = new boolean[8];
+        private int depth = -1;
+
+        private StreamingJsonGenerator(final Writer writer, final ConcurrentMap<String, String> encodedKeys) {
+            this.writer = writer;
+            this.encodedKeys = encodedKeys;
+        }
+
+        @Override
+        public Generator begin() throws Exception {
+            return startObject(null);
+        }
+
+        @Override
+        public Generator add(final String key, final int value) throws Exception {
+            writeKey(key);
+            writer.write(Integer.toString(value));
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final long value) throws Exception {
+            writeKey(key);
+            writer.write(Long.toString(value));
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final Map<String, ?> value) throws Exception {
+            startObject(key);
+            if (value != null) {
+                for (Map.Entry<String, ?> entry : value.entrySet()) {
+                    writeValue(entry.getKey(), entry.getValue());
+                }
+            }
+            return endObject();
+        }
+
+        @Override
+        public Generator add(final String key, final String value) throws Exception {
+            writeKey(key);
+            if (value == null) {
+                writer.write("null");
+            } else {
+                writeString(value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator startObject(final String key) throws Exception {
+            writeKey(key);
+            writer.write('{');
+            push();
+            return this;
+        }
+
+        @Override
+        public Generator endObject() throws Exception {
+            writer.write('}');
+            depth--;
+            return this;
+        }
+
+        @Override
+        public Generator startArray(final String key) throws Exception {
+            writeKey(key);
+            writer.write('[');
+            push();
+            return this;
+        }
+
+        @Override
+        public Generator endArray() throws Exception {
+            writer.write(']');
+            depth--;
+            return this;
+        }
+
+        @Override
+        public Generator end() throws Exception {
+            return endObject();
+        }
+
+        private void push() {
+            if (++depth == empty.length) {
+                boolean[] grown = new boolean[depth * 2];
+                System.arraycopy(empty, 0, grown, 0, depth);
+                empty = grown;
+            }
+            empty[depth] = true;
+        }
+
+        private void writeValue(final String key, final Object value) throws IOException {
+            if (value == null) {
+                writeKey(key);
+                writer.write("null");
+            } else if (value instanceof String string) {
+                writeKey(key);
+                writeString(string);
+            } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                    || value instanceof Short || value instanceof Byte || value instanceof BigInteger
+                    || value instanceof BigDecimal) {
+                writeKey(key);
+                writer.write(value.toString());
+            } else if (value instanceof Double || value instanceof Float) {
+                double number = ((Number) value).doubleValue();
+                if (Double.isNaN(number) || Double.isInfinite(number)) {
+                    throw new NumberFormatException("JSON does not allow non-finite numbers: " + value);
+                }
+                writeKey(key);
+                writer.write(value.toString());
+            } else if (value instanceof Map<?, ?> map) {
+                writeKey(key);
+                writer.write('{');
+                push();
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(String.valueOf(entry.getKey()), entry.getValue());
+                }
+                writer.write('}');
+                depth--;
+            } else if (value instanceof Collection<?> collection) {
+                writeKey(key);
+                writer.write('[');
+                push();
+                for (Object element : collection) {
+                    writeValue(null, element);
+                }
+                writer.write(']');
+                depth--;
+            } else {
+                writeKey(key);
+                writeString(String.valueOf(value));
+            }
+        }
+
+        /**
+         * Writes the separator from the previous value, if any, and the key, if not within an array.
+         */
+        private void writeKey(final String key) throws IOException {
+            if (depth >= 0) {
+                if (empty[depth]) {
+                    empty[depth] = false;
+                } else {
+                    writer.write(',');
+                }
+            }
+            if (key != null) {
+                String encoded = encodedKeys.get(key);
+                if (encoded == null) {
+                    encoded = encodeKey(key);
+                    if (encodedKeys.size() < MAX_ENCODED_KEYS) {
+                        encodedKeys.putIfAbsent(key, encoded);
+                    }
+                }
+                writer.write(encoded);
+            }
+        }
+
+        private static String encodeKey(final String key) {
+            StringBuilder builder = new StringBuilder(key.length() + 3).append('"');
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                if (needsEscaping(c)) {
+                    builder.append(escapeSequence(c));
+                } else {
+                    builder.append(c);
+                }
+            }
+            return builder.append("\":").toString();
+        }
+
+        private void writeString(final String value) throws IOException {
+            writer.write('"');
+            int length = value.length();
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                // fast path: most characters of a log record are written as is, in runs
+                if (!needsEscaping(c)) {
+                    continue;
+                }
+                if (i > start) {
+                    writer.write(value, start, i - start);
+                }
+                writer.write(escapeSequence(c));
+                start = i + 1;
+            }
+            if (start < length) {
+                writer.write(value, start, length - start);
+            }
+            writer.write('"');
+        }
+
+        private static boolean needsEscaping(final char c) {
+            return c < 0x20 || c == '"' || c == '\\';
+        }
+
+        private static String escapeSequence(final char c) {
+            return switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\b' -> "\\b";
+                case '\f' -> "\\f";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                default -> "\\u00" + HEX[c >> 4] + HEX[c & 0xF];
+            };
+        }
+    }
+
     private static class FormatterJsonGenerator implements Generator {
         private final Generator generator;
         private final Set<String> excludedKeys;
@@ -0,0 +1,149 @@
+package io.quarkus.logging.json.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonWriter;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.StructuredFormatter.ExceptionOutputType;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.logging.json.runtime.JsonLogConfig.AdditionalFieldConfig.Type;
+import io.quarkus.logging.json.runtime.JsonLogConfig.JsonConfig.LogFormat;
+
+/**
+ * Checks that the streaming generator of the formatter writes the same JSON as the JSON-P generator it replaces: the
+ * output of the formatter is parsed and written again with JSON-P, and both must be equal.
+ */
+public class JsonFormatterTest {
+
+    @Test
+    public void testSameOutputAsJsonpGenerator() {
+        assertSameOutput(formatter -> {
+        }, record("Hello world"));
+        assertSameOutput(formatter -> {
+        }, record("Quotes \" backslash \\ slash / newline \n tab \t control \u0001 unicode é   emoji 😀"));
+        assertSameOutput(formatter -> formatter.setExceptionOutputType(ExceptionOutputType.DETAILED_AND_FORMATTED),
+                record("Failure", new IllegalStateException("boom \"quoted\"", new RuntimeException("cause"))));
+        assertSameOutput(formatter -> formatter.setPrintDetails(true), record("Details"));
+        assertSameOutput(formatter -> {
+            formatter.setExcludedKeys(Set.of("sequence", "threadId"));
+            formatter.setAdditionalFields(additionalFields());
+        }, record("Fields"));
+    }
+
+    @Test
+    public void testSameOutputWithKeyOverrides() {
+        JsonFormatter formatter = new JsonFormatter("level=severity,message=msg", Set.of(), additionalFields());
+
+        String output = formatter.format(record("Overridden"));
+        assertThat(output.stripTrailing()).isEqualTo(writtenByJsonp(output));
+        assertThat(output).contains("\"severity\":\"INFO\"");
+    }
+
+    @Test
+    public void testSameOutputWithGcpTraceFields() {
+        Map<String, AdditionalField> fields = new LinkedHashMap<>(additionalFields());
+        fields.put("trace", new AdditionalField("", Type.STRING));
+        fields.put("spanId", new AdditionalField("", Type.STRING));
+        fields.put("traceSampled", new AdditionalField("", Type.STRING));
+        Consumer<JsonFormatter> configuration = formatter -> {
+            formatter.setLogFormat(LogFormat.GCP);
+            formatter.setTracePrefix("projects/app/traces/");
+            formatter.setAdditionalFields(fields);
+        };
+
+        ExtLogRecord traced = record("Traced");
+        traced.putMdc("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        traced.putMdc("spanId", "00f067aa0ba902b7");
+        traced.putMdc("sampled", "true");
+        String output = assertSameOutput(configuration, traced);
+        assertThat(output).contains("\"trace\":\"projects/app/traces/4bf92f3577b34da6a3ce929d0e0e4736\"",
+                "\"spanId\":\"00f067aa0ba902b7\"", "\"traceSampled\":\"true\"");
+
+        assertSameOutput(configuration, record("Not traced"));
+    }
+
+    @Test
+    public void testPrettyPrint() {
+        JsonFormatter formatter = new JsonFormatter();
+        formatter.setPrettyPrint(true);
+        assertThat(formatter.format(record("Pretty"))).contains("\n");
+    }
+
+    @Test
+    public void testAdditionalFieldsCannotBeModified() {
+        Map<String, AdditionalField> fields = new LinkedHashMap<>(additionalFields());
+        JsonFormatter formatter = new JsonFormatter();
+        formatter.setAdditionalFields(fields);
+
+        fields.put("added", new AdditionalField("value", Type.STRING));
+        assertThat(formatter.getAdditionalFields()).doesNotContainKey("added");
+        assertThat(formatter.format(record("Copied"))).doesNotContain("added");
+        assertThatThrownBy(() -> formatter.getAdditionalFields().put("added", new AdditionalField("value", Type.STRING)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testInvalidNumericFieldReported() {
+        JsonFormatter formatter = new JsonFormatter();
+        assertThatThrownBy(() -> formatter.setAdditionalFields(Map.of("count", new AdditionalField("ten", Type.INT))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'count'")
+                .hasMessageContaining("'ten'");
+        assertThatThrownBy(() -> formatter.setAdditionalFields(Map.of("big", new AdditionalField("1.5", Type.LONG))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'big'");
+    }
+
+    private static String assertSameOutput(Consumer<JsonFormatter> configuration, ExtLogRecord record) {
+        JsonFormatter formatter = new JsonFormatter();
+        configuration.accept(formatter);
+
+        String output = formatter.format(record);
+        // only the record delimiter follows the JSON value
+        assertThat(output.stripTrailing()).isEqualTo(writtenByJsonp(output));
+        return output;
+    }
+
+    private static String writtenByJsonp(String json) {
+        StringWriter writer = new StringWriter();
+        try (JsonReader reader = Json.createReader(new StringReader(json));
+                JsonWriter jsonWriter = Json.createWriter(writer)) {
+            jsonWriter.write(reader.readObject());
+        }
+        return writer.toString();
+    }
+
+    private static Map<String, AdditionalField> additionalFields() {
+        Map<String, AdditionalField> fields = new LinkedHashMap<>();
+        fields.put("service", new AdditionalField("my \"service\"", Type.STRING));
+        fields.put("shard", new AdditionalField("42", Type.INT));
+        fields.put("epoch", new AdditionalField("1700000000000", Type.LONG));
+        return fields;
+    }
+
+    private static ExtLogRecord record(String message) {
+        return record(message, null);
+    }
+
+    private static ExtLogRecord record(String message, Throwable thrown) {
+        ExtLogRecord record = new ExtLogRecord(Level.INFO, message, JsonFormatterTest.class.getName());
+        record.setLoggerName("io.quarkus.test");
+        record.setThrown(thrown);
+        record.putMdc("requestId", "abc \"123\"");
+        record.setNdc("ndc");
+        return record;
+    }
+}
@@ -1,21 +1,56 @@
 package io.quarkus.micrometer.runtime.binder.grpc;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import jakarta.enterprise.inject.spi.Prioritized;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.interceptor.Interceptor.Priority;
 
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.grpc.MetricCollectingServerInterceptor;
 import io.quarkus.grpc.GlobalInterceptor;
+import io.quarkus.grpc.stubs.ServerCalls;
 
 @Singleton
 @GlobalInterceptor
 public class GrpcMetricsServerInterceptor extends MetricCollectingServerInterceptor implements Prioritized {
 
+    private final MeterRegistry registry;
+    private final Map<String, DistributionSummary> queueDepths = new ConcurrentHashMap<>();
+
     @Inject
     public GrpcMetricsServerInterceptor(MeterRegistry registry) {
         super(registry);
+        this.registry = registry;
+    }
+
+    @Override
+    public <Q, A> ServerCall.Listener<Q> interceptCall(ServerCall<Q, A> call, Metadata requestHeaders,
+            ServerCallHandler<Q, A> next) {
+        MethodDescriptor<Q, A> method = call.getMethodDescriptor();
+        if (method.getType().serverSendsOneMessage()) {
+            return super.interceptCall(call, requestHeaders, next);
+        }
+        // the queue depths of the flow controlled streams, see quarkus.grpc.server.flow-control-prefetch
+        DistributionSummary queueDepth = queueDepths.computeIfAbsent(method.getFullMethodName(),
+                name -> DistributionSummary.builder("grpc.server.stream.queue.depth")
+                        .description("The number of messages queued by the flow controlled server streams")
+                        .baseUnit("messages")
+                        .tag("service", method.getServiceName())
+                        .tag("method", method.getBareMethodName())
+                        .register(registry));
+        Context context = Context.current().withValue(ServerCalls.QUEUE_DEPTH_LISTENER, queueDepth::record);
+        return Contexts.interceptCall(context, call, requestHeaders,
+                (c, headers) -> super.interceptCall(c, headers, next));
     }
 
     @Override
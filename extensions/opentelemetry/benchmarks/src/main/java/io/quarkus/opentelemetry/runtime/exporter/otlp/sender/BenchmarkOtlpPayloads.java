@@ -0,0 +1,140 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.netty.buffer.ByteBuf;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * Compares the writing of the OTLP trace payloads of a batch into pooled direct buffers, as the Vert.x senders do, with
+ * their writing into a heap buffer and a new {@link GZIPOutputStream} per payload, as they did before. Run with
+ * {@code -prof gc} to compare the allocations as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@Threads(2)
+public class BenchmarkOtlpPayloads {
+
+    @Param({ "16", "512" })
+    public int spans;
+
+    @Param({ "false", "true" })
+    public boolean compressed;
+
+    private Marshaler marshaler;
+    private int size;
+    private OtlpBufferWriter writer;
+
+    @Setup
+    public void setup() {
+        marshaler = marshaler(spans);
+        size = marshaler.getBinarySerializedSize();
+        writer = new OtlpBufferWriter(compressed);
+    }
+
+    @TearDown
+    public void tearDown() {
+        writer.close();
+    }
+
+    @Benchmark
+    public void pooledBuffer(Blackhole blackhole) throws IOException {
+        ByteBuf payload = writer.write(marshaler, size);
+        try {
+            blackhole.consume(payload.readableBytes());
+        } finally {
+            payload.release();
+        }
+    }
+
+    @Benchmark
+    public byte[] heapBuffer() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(size);
+        if (compressed) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+                marshaler.writeBinaryTo(gzip);
+            }
+        } else {
+            marshaler.writeBinaryTo(output);
+        }
+        return output.toByteArray();
+    }
+
+    private static Marshaler marshaler(int spans) {
+        List<SpanData> ended = new CopyOnWriteArrayList<>();
+        Tracer tracer = SdkTracerProvider.builder().addSpanProcessor(new SpanProcessor() {
+            @Override
+            public void onStart(Context parentContext, ReadWriteSpan span) {
+            }
+
+            @Override
+            public boolean isStartRequired() {
+                return false;
+            }
+
+            @Override
+            public void onEnd(ReadableSpan span) {
+                ended.add(span.toSpanData());
+            }
+
+            @Override
+            public boolean isEndRequired() {
+                return true;
+            }
+
+            @Override
+            public CompletableResultCode shutdown() {
+                return CompletableResultCode.ofSuccess();
+            }
+        }).build().get("benchmark");
+        for (int i = 0; i < spans; i++) {
+            Span span = tracer.spanBuilder("GET /orders/{id}")
+                    .setAttribute("http.request.method", "GET")
+                    .setAttribute("http.route", "/orders/{id}")
+                    .setAttribute("http.response.status_code", 200)
+                    .setAttribute("index", i)
+                    .startSpan();
+            span.end();
+        }
+        return TraceRequestMarshaler.create(ended);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc", BenchmarkOtlpPayloads.class.getSimpleName() });
+    }
+
+}
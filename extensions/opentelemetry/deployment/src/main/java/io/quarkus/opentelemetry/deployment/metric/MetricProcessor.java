@@ -24,9 +24,11 @@
 import io.quarkus.deployment.builditem.NativeMonitoringBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.pkg.NativeConfig;
+import io.quarkus.opentelemetry.deployment.tracing.TracerEnabled;
 import io.quarkus.opentelemetry.runtime.graal.UnsignedFeature;
 import io.quarkus.opentelemetry.runtime.metrics.cdi.MetricsProducer;
 import io.quarkus.opentelemetry.runtime.metrics.instrumentation.JvmMetricsService;
+import io.quarkus.opentelemetry.runtime.metrics.instrumentation.TailSamplingMetricsService;
 
 @BuildSteps(onlyIf = MetricsEnabled.class)
 public class MetricProcessor {
@@ -44,6 +46,14 @@ void startJvmMetrics(BuildProducer<NativeMonitoringBuildItem> nativeMonitoring,
         nativeMonitoring.produce(new NativeMonitoringBuildItem(NativeConfig.MonitoringOption.JFR));
     }
 
+    @BuildStep(onlyIf = TracerEnabled.class)
+    AdditionalBeanBuildItem tailSamplingMetrics() {
+        return AdditionalBeanBuildItem.builder()
+                .setUnremovable()
+                .addBeanClass(TailSamplingMetricsService.class)
+                .build();
+    }
+
     @BuildStep
     UnremovableBeanBuildItem ensureProducersAreRetained(
             CombinedIndexBuildItem indexBuildItem,
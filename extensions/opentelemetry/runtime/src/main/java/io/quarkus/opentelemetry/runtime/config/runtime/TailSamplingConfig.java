@@ -0,0 +1,90 @@
+package io.quarkus.opentelemetry.runtime.config.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface TailSamplingConfig {
+
+    /**
+     * If true, the spans handed to the OTLP exporter are buffered per trace until the local root span of the trace ends,
+     * and only the traces kept by the tail sampling policies are exported.
+     * <p>
+     * A trace is kept if one of its spans has an error status, if the local root span lasted longer than
+     * <code>quarkus.otel.traces.tail-sampling.latency-threshold</code>, if one of its spans has an attribute matching
+     * <code>quarkus.otel.traces.tail-sampling.attributes</code>, or within the
+     * <code>quarkus.otel.traces.tail-sampling.rate-limit</code>. The spans must be sampled by the head sampler to be
+     * buffered, so the sampler should sample all the traces.
+     * <p>
+     * This is a Quarkus specific property. Defaults to <code>false</code>.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * If true, the traces with a span with an error status are kept.
+     * <p>
+     * Defaults to <code>true</code>.
+     */
+    @WithDefault("true")
+    boolean keepErrors();
+
+    /**
+     * The traces whose local root span lasted at least this duration are kept.
+     */
+    Optional<Duration> latencyThreshold();
+
+    /**
+     * The traces with a span with an attribute of the given name whose value matches the given regular expression are kept.
+     */
+    @ConfigDocMapKey("attribute-name")
+    Map<String, String> attributes();
+
+    /**
+     * The maximum number of traces kept per second although no other policy matched them.
+     * <p>
+     * Defaults to <code>0</code>, only the traces matched by the other policies are kept.
+     */
+    @WithDefault("0")
+    int rateLimit();
+
+    /**
+     * The maximum number of traces buffered until their local root span ends. The trace buffered for the longest time is
+     * evicted when a new trace would exceed this limit.
+     * <p>
+     * Defaults to <code>1000</code>.
+     */
+    @WithDefault("1000")
+    int maxTraces();
+
+    /**
+     * The maximum number of spans buffered for all the traces. The trace buffered for the longest time is evicted when a
+     * new span would exceed this limit.
+     * <p>
+     * Defaults to <code>20000</code>.
+     */
+    @WithDefault("20000")
+    int maxSpans();
+
+    /**
+     * The maximum number of spans buffered for a single trace, the following spans of the trace are dropped.
+     * <p>
+     * Defaults to <code>1000</code>.
+     */
+    @WithDefault("1000")
+    int maxSpansPerTrace();
+
+    /**
+     * The number of decisions remembered for the traces whose local root span has ended, so that their spans ending
+     * later are kept or dropped along with the rest of the trace.
+     * <p>
+     * Defaults to <code>10000</code>.
+     */
+    @WithDefault("10000")
+    int maxDecisions();
+}
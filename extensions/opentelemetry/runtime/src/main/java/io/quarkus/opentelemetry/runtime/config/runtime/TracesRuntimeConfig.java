@@ -63,4 +63,9 @@ public interface TracesRuntimeConfig {
     @WithName("sampler.arg")
     @WithDefault("1.0d")
     Optional<String> samplerArg();
+
+    /**
+     * Tail sampling config.
+     */
+    TailSamplingConfig tailSampling();
 }
@@ -27,4 +27,9 @@ public interface OtlpExporterRuntimeConfig extends OtlpExporterConfig {
      * OTLP logs exporter configuration.
      */
     OtlpExporterLogsConfig logs();
+
+    /**
+     * OTLP exporters spool configuration.
+     */
+    OtlpExporterSpoolConfig spool();
 }
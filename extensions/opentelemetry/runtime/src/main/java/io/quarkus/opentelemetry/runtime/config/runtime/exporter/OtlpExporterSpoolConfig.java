@@ -0,0 +1,47 @@
+package io.quarkus.opentelemetry.runtime.config.runtime.exporter;
+
+import java.nio.file.Path;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface OtlpExporterSpoolConfig {
+
+    /**
+     * If true, the payloads the OTLP exporters could not export, once the retries are exhausted, are appended to
+     * memory-mapped segment files, and replayed in order when the endpoint is available again. The spooled payloads
+     * survive a restart of the application.
+     * <p>
+     * When the spool is full, the oldest payloads are dropped. This is a Quarkus specific property. Defaults to
+     * <code>false</code>.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The directory of the segment files, every signal using a subdirectory. The directory must not be shared between
+     * applications.
+     */
+    @WithDefault("otel-spool")
+    Path directory();
+
+    /**
+     * The maximum size of the segment files of a signal. The oldest segment is deleted when this size would be exceeded.
+     */
+    @WithDefault("64M")
+    MemorySize maxSize();
+
+    /**
+     * The size of a segment file. A payload larger than a segment is dropped.
+     */
+    @WithDefault("4M")
+    MemorySize segmentSize();
+
+    /**
+     * The maximum number of spooled payloads replayed per second, per signal.
+     */
+    @WithDefault("10")
+    int replayRate();
+}
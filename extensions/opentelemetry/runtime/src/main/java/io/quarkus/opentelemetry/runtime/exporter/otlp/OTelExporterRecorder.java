@@ -21,7 +21,9 @@
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
+import io.opentelemetry.exporter.internal.grpc.GrpcSender;
 import io.opentelemetry.exporter.internal.http.HttpExporter;
+import io.opentelemetry.exporter.internal.http.HttpSender;
 import io.opentelemetry.exporter.internal.otlp.logs.LogsRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
@@ -37,6 +39,7 @@
 import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregationUtil;
+import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
@@ -46,11 +49,13 @@
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.BatchSpanProcessorConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
+import io.quarkus.opentelemetry.runtime.config.runtime.TailSamplingConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.CompressionType;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.OtlpExporterConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.OtlpExporterLogsConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.OtlpExporterMetricsConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.OtlpExporterRuntimeConfig;
+import io.quarkus.opentelemetry.runtime.config.runtime.exporter.OtlpExporterSpoolConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.OtlpExporterTracesConfig;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.logs.NoopLogRecordExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.logs.VertxGrpcLogRecordExporter;
@@ -58,12 +63,16 @@
 import io.quarkus.opentelemetry.runtime.exporter.otlp.metrics.NoopMetricExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.metrics.VertxGrpcMetricExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.metrics.VertxHttpMetricsExporter;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.sender.OtlpSpool;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.sender.SpoolingGrpcSender;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.sender.SpoolingHttpSender;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.sender.VertxGrpcSender;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.sender.VertxHttpSender;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.LateBoundSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.RemoveableLateBoundSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxGrpcSpanExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxHttpSpanExporter;
+import io.quarkus.opentelemetry.runtime.tracing.TailSamplingSpanProcessor;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.tls.TlsConfiguration;
@@ -119,7 +128,7 @@ public LateBoundSpanProcessor apply(
 
                     if (buildConfig.simple()) {
                         SimpleSpanProcessorBuilder processorBuilder = SimpleSpanProcessor.builder(spanExporter);
-                        return new LateBoundSpanProcessor(processorBuilder.build());
+                        return new LateBoundSpanProcessor(tailSampling(processorBuilder.build()));
                     } else {
                         BatchSpanProcessorBuilder processorBuilder = BatchSpanProcessor.builder(spanExporter);
 
@@ -130,13 +139,23 @@ public LateBoundSpanProcessor apply(
                         processorBuilder.setExporterTimeout(bspc.exportTimeout());
                         // processorBuilder.setMeterProvider() // TODO add meter provider to span processor.
 
-                        return new LateBoundSpanProcessor(processorBuilder.build());
+                        return new LateBoundSpanProcessor(tailSampling(processorBuilder.build()));
                     }
                 } catch (IllegalArgumentException iae) {
                     throw new IllegalStateException("Unable to install OTLP Exporter", iae);
                 }
             }
 
+            private SpanProcessor tailSampling(SpanProcessor processor) {
+                TailSamplingConfig tsc = runtimeConfig.getValue().traces().tailSampling();
+                if (!tsc.enabled()) {
+                    return processor;
+                }
+                return new TailSamplingSpanProcessor(processor, tsc.keepErrors(), tsc.latencyThreshold().orElse(null),
+                        tsc.attributes(), tsc.rateLimit(), tsc.maxTraces(), tsc.maxSpans(), tsc.maxSpansPerTrace(),
+                        tsc.maxDecisions());
+            }
+
             private SpanExporter createSpanExporter(OtlpExporterRuntimeConfig exporterRuntimeConfig,
                     Vertx vertx,
                     URI baseUri,
@@ -167,14 +186,14 @@ private SpanExporter createOtlpGrpcSpanExporter(OtlpExporterRuntimeConfig export
                 OtlpExporterTracesConfig tracesConfig = exporterRuntimeConfig.traces();
 
                 return new VertxGrpcSpanExporter(new GrpcExporter<TraceRequestMarshaler>(
-                        new VertxGrpcSender(
+                        spooling(new VertxGrpcSender(
                                 baseUri,
                                 VertxGrpcSender.GRPC_TRACE_SERVICE_NAME,
                                 determineCompression(tracesConfig),
                                 tracesConfig.timeout(),
                                 populateTracingExportHttpHeaders(tracesConfig),
                                 new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
-                                vertx),
+                                vertx), "traces", vertx),
                         InternalTelemetryVersion.LATEST,
                         ComponentId.generateLazy(StandardComponentId.ExporterType.OTLP_GRPC_SPAN_EXPORTER), // use the same as OTel does
                         MeterProvider::noop,
@@ -191,15 +210,15 @@ private SpanExporter createHttpSpanExporter(OtlpExporterRuntimeConfig exporterRu
 
                 return new VertxHttpSpanExporter(new HttpExporter<TraceRequestMarshaler>(
                         ComponentId.generateLazy(StandardComponentId.ExporterType.OTLP_HTTP_SPAN_EXPORTER),
-                        new VertxHttpSender(
+                        spooling(new VertxHttpSender(
                                 baseUri,
                                 VertxHttpSender.TRACES_PATH,
                                 determineCompression(tracesConfig),
                                 tracesConfig.timeout(),
                                 populateTracingExportHttpHeaders(tracesConfig),
                                 exportAsJson ? "application/json" : "application/x-protobuf",
-                                new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
-                                vertx),
+                                    new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
+                                    vertx), "traces", vertx),
                         MeterProvider::noop,
                         InternalTelemetryVersion.LATEST,
                         baseUri.toASCIIString()));
@@ -234,14 +253,14 @@ public MetricExporter apply(SyntheticCreationalContext<MetricExporter> context)
                     if (GRPC.equals(protocol)) {
                         metricExporter = new VertxGrpcMetricExporter(
                                 new GrpcExporter<MetricsRequestMarshaler>(
-                                        new VertxGrpcSender(
+                                        spooling(new VertxGrpcSender(
                                                 baseUri,
                                                 VertxGrpcSender.GRPC_METRIC_SERVICE_NAME,
                                                 determineCompression(metricsConfig),
                                                 metricsConfig.timeout(),
                                                 populateTracingExportHttpHeaders(metricsConfig),
                                                 new HttpClientOptionsConsumer(metricsConfig, baseUri, tlsConfigurationRegistry),
-                                                vertx.get()),
+                                                vertx.get()), "metrics", vertx.get()),
                                         InternalTelemetryVersion.LATEST,
                                         ComponentId.generateLazy(OTLP_GRPC_METRIC_EXPORTER), // use the same as OTel does
                                         MeterProvider::noop,
@@ -254,15 +273,15 @@ public MetricExporter apply(SyntheticCreationalContext<MetricExporter> context)
                                 new HttpExporter<MetricsRequestMarshaler>(
                                         ComponentId.generateLazy(
                                                 StandardComponentId.ExporterType.OTLP_HTTP_METRIC_EXPORTER),
-                                        new VertxHttpSender(
+                                        spooling(new VertxHttpSender(
                                                 baseUri,
                                                 VertxHttpSender.METRICS_PATH,
                                                 determineCompression(metricsConfig),
                                                 metricsConfig.timeout(),
                                                 populateTracingExportHttpHeaders(metricsConfig),
                                                 exportAsJson ? "application/json" : "application/x-protobuf",
-                                                new HttpClientOptionsConsumer(metricsConfig, baseUri, tlsConfigurationRegistry),
-                                                vertx.get()),
+                                                    new HttpClientOptionsConsumer(metricsConfig, baseUri, tlsConfigurationRegistry),
+                                                    vertx.get()), "metrics", vertx.get()),
                                         MeterProvider::noop,
                                         InternalTelemetryVersion.LATEST,
                                         baseUri.toASCIIString()),
@@ -308,14 +327,14 @@ public LogRecordExporter apply(SyntheticCreationalContext<LogRecordExporter> con
                     if (GRPC.equals(protocol)) {
                         logRecordExporter = new VertxGrpcLogRecordExporter(
                                 new GrpcExporter<LogsRequestMarshaler>(
-                                        new VertxGrpcSender(
+                                        spooling(new VertxGrpcSender(
                                                 baseUri,
                                                 VertxGrpcSender.GRPC_LOG_SERVICE_NAME,
                                                 determineCompression(logsConfig),
                                                 logsConfig.timeout(),
                                                 populateTracingExportHttpHeaders(logsConfig),
                                                 new HttpClientOptionsConsumer(logsConfig, baseUri, tlsConfigurationRegistry),
-                                                vertx.get()),
+                                                vertx.get()), "logs", vertx.get()),
                                         InternalTelemetryVersion.LATEST,
                                         ComponentId.generateLazy(
                                                 StandardComponentId.ExporterType.OTLP_GRPC_LOG_EXPORTER), // use the same as OTel does
@@ -327,15 +346,15 @@ public LogRecordExporter apply(SyntheticCreationalContext<LogRecordExporter> con
                                 new HttpExporter<LogsRequestMarshaler>(
                                         ComponentId.generateLazy(
                                                 StandardComponentId.ExporterType.OTLP_HTTP_LOG_EXPORTER),
-                                        new VertxHttpSender(
+                                        spooling(new VertxHttpSender(
                                                 baseUri,
                                                 VertxHttpSender.LOGS_PATH,
                                                 determineCompression(logsConfig),
                                                 logsConfig.timeout(),
                                                 populateTracingExportHttpHeaders(logsConfig),
                                                 exportAsJson ? "application/json" : "application/x-protobuf",
-                                                new HttpClientOptionsConsumer(logsConfig, baseUri, tlsConfigurationRegistry),
-                                                vertx.get()),
+                                                    new HttpClientOptionsConsumer(logsConfig, baseUri, tlsConfigurationRegistry),
+                                                    vertx.get()), "logs", vertx.get()),
                                         MeterProvider::noop,
                                         InternalTelemetryVersion.LATEST,
                                         baseUri.toASCIIString()));
@@ -386,6 +405,28 @@ private static AggregationTemporalitySelector aggregationTemporalityResolver(Otl
         return temporalitySelector;
     }
 
+    private HttpSender spooling(HttpSender sender, String signal, Vertx vertx) {
+        OtlpExporterSpoolConfig spoolConfig = exporterRuntimeConfig.getValue().spool();
+        if (!spoolConfig.enabled()) {
+            return sender;
+        }
+        return new SpoolingHttpSender(sender, createSpool(spoolConfig, signal), spoolConfig.replayRate(), vertx);
+    }
+
+    private GrpcSender spooling(GrpcSender sender, String signal, Vertx vertx) {
+        OtlpExporterSpoolConfig spoolConfig = exporterRuntimeConfig.getValue().spool();
+        if (!spoolConfig.enabled()) {
+            return sender;
+        }
+        return new SpoolingGrpcSender(sender, createSpool(spoolConfig, signal), spoolConfig.replayRate(), vertx);
+    }
+
+    private static OtlpSpool createSpool(OtlpExporterSpoolConfig spoolConfig, String signal) {
+        return new OtlpSpool(spoolConfig.directory().resolve(signal),
+                (int) Math.min(Integer.MAX_VALUE, spoolConfig.segmentSize().asLongValue()),
+                spoolConfig.maxSize().asLongValue());
+    }
+
     private static boolean determineCompression(OtlpExporterConfig config) {
         if (config.compression().isPresent()) {
             return (config.compression().get() == CompressionType.GZIP);
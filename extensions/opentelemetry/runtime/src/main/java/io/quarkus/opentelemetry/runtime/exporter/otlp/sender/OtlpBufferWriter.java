@@ -0,0 +1,136 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+
+/**
+ * Writes the marshaled payloads straight into pooled direct buffers sized up front, optionally compressed with gzip by a
+ * deflater reused for all the payloads of a sender.
+ * <p>
+ * The returned buffers must be released once written, Vert.x not releasing the buffers it did not allocate. The writer
+ * must be closed when the sender shuts down, to free the native memory of the deflater.
+ */
+final class OtlpBufferWriter {
+
+    // the header written by GZIPOutputStream
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+    private static final int MIN_DEFLATE_WRITABLE = 512;
+
+    private final ByteBufAllocator allocator;
+    // guarded by itself
+    private final Deflater deflater;
+    private final CRC32 crc;
+    // guarded by the deflater
+    private boolean closed;
+
+    OtlpBufferWriter(boolean compressionEnabled) {
+        this(PooledByteBufAllocator.DEFAULT, compressionEnabled);
+    }
+
+    OtlpBufferWriter(ByteBufAllocator allocator, boolean compressionEnabled) {
+        this.allocator = allocator;
+        this.deflater = compressionEnabled ? new Deflater(Deflater.DEFAULT_COMPRESSION, true) : null;
+        this.crc = compressionEnabled ? new CRC32() : null;
+    }
+
+    /**
+     * @param marshaler the marshaler
+     * @param size the binary serialized size of the marshaler
+     * @return a buffer holding the marshaled payload, to be released by the caller
+     */
+    ByteBuf write(Marshaler marshaler, int size) throws IOException {
+        if (deflater == null) {
+            ByteBuf buffer = allocator.directBuffer(size);
+            try {
+                marshaler.writeBinaryTo(new ByteBufOutputStream(buffer));
+            } catch (IOException | RuntimeException e) {
+                buffer.release();
+                throw e;
+            }
+            return buffer;
+        }
+        // the compressed payload is usually much smaller, the buffer grows if needed
+        ByteBuf buffer = allocator.directBuffer(Math.max(MIN_DEFLATE_WRITABLE, size / 4));
+        try {
+            synchronized (deflater) {
+                if (closed) {
+                    throw new IOException("The sender is shut down");
+                }
+                deflater.reset();
+                crc.reset();
+                buffer.writeBytes(GZIP_HEADER);
+                marshaler.writeBinaryTo(new DeflatingOutputStream(buffer));
+                deflater.finish();
+                while (!deflater.finished()) {
+                    deflate(buffer);
+                }
+                buffer.writeIntLE((int) crc.getValue());
+                buffer.writeIntLE(deflater.getTotalIn());
+            }
+        } catch (IOException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+        return buffer;
+    }
+
+    /**
+     * Ends the deflater, the payloads can no longer be compressed once closed.
+     */
+    void close() {
+        if (deflater == null) {
+            return;
+        }
+        // waits for the payload being compressed, if any
+        synchronized (deflater) {
+            if (!closed) {
+                closed = true;
+                deflater.end();
+            }
+        }
+    }
+
+    // called with the deflater lock held
+    private void deflate(ByteBuf buffer) {
+        buffer.ensureWritable(MIN_DEFLATE_WRITABLE);
+        ByteBuffer target = buffer.nioBuffer(buffer.writerIndex(), buffer.writableBytes());
+        int written = deflater.deflate(target);
+        buffer.writerIndex(buffer.writerIndex() + written);
+    }
+
+    // only used with the deflater lock held
+    private final class DeflatingOutputStream extends OutputStream {
+
+        private final ByteBuf buffer;
+
+        DeflatingOutputStream(ByteBuf buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (len == 0) {
+                return;
+            }
+            crc.update(b, off, len);
+            deflater.setInput(b, off, len);
+            while (!deflater.needsInput()) {
+                deflate(buffer);
+            }
+        }
+    }
+}
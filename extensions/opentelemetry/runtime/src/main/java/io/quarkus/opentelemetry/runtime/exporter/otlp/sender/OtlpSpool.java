@@ -0,0 +1,315 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A FIFO queue of marshaled OTLP payloads, stored in memory-mapped segment files of a fixed size so the payloads that
+ * could not be exported survive a restart of the application.
+ * <p>
+ * Every segment starts with a header holding the position after the last appended payload and the position of the
+ * oldest payload not removed yet, followed by the payloads, each prefixed by its length. A payload is only visible once
+ * the header is updated after it is written. When the total size of the segments would exceed the maximum size, the
+ * oldest segment is deleted, with the payloads it still holds.
+ * <p>
+ * The payloads are not forced to the storage device when appended, so they survive a crash of the application but not
+ * necessarily a crash of the operating system.
+ */
+public final class OtlpSpool implements AutoCloseable {
+
+    private static final Logger log = Logger.getLogger(OtlpSpool.class);
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final int MAGIC = 0x4f544c50; // OTLP
+    private static final int WRITE_POSITION_OFFSET = 4;
+    private static final int READ_POSITION_OFFSET = 8;
+    static final int HEADER_SIZE = 12;
+    private static final int LENGTH_SIZE = 4;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    // guarded by this
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long nextSegmentId;
+    private long pendingPayloads;
+    private long droppedPayloads;
+    private byte[] peeked;
+    private boolean closed;
+
+    /**
+     * Opens the spool stored in the given directory, recovering the payloads not removed yet.
+     *
+     * @param directory the directory of the segment files, created if needed
+     * @param segmentSize the size of a segment file in bytes, bounding the size of a payload
+     * @param maxSize the maximum total size of the segment files in bytes
+     */
+    public OtlpSpool(Path directory, int segmentSize, long maxSize) {
+        if (segmentSize <= HEADER_SIZE + LENGTH_SIZE) {
+            throw new IllegalArgumentException("The segment size is too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxSize / segmentSize));
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open the OTLP spool in " + directory, e);
+        }
+    }
+
+    /**
+     * Appends a payload, deleting the oldest segment if the maximum size would be exceeded.
+     *
+     * @return {@code false} if the payload could not be appended, as it is larger than a segment or the spool is closed
+     */
+    public synchronized boolean append(byte[] payload) {
+        if (closed || payload.length > segmentSize - HEADER_SIZE - LENGTH_SIZE) {
+            droppedPayloads++;
+            return false;
+        }
+        try {
+            Segment segment = segments.peekLast();
+            if (segment == null || segment.remaining() < LENGTH_SIZE + payload.length) {
+                if (segments.size() >= maxSegments) {
+                    Segment oldest = segments.pollFirst();
+                    int lost = oldest.count();
+                    pendingPayloads -= lost;
+                    droppedPayloads += lost;
+                    oldest.delete();
+                    peeked = null;
+                    log.warnf("The OTLP spool in %s is full, %d payloads were dropped", directory, lost);
+                }
+                segment = createSegment();
+            }
+            segment.append(payload);
+            pendingPayloads++;
+            return true;
+        } catch (IOException e) {
+            droppedPayloads++;
+            log.warnf(e, "Unable to append a payload to the OTLP spool in %s", directory);
+            return false;
+        }
+    }
+
+    /**
+     * @return the oldest payload, or {@code null} if the spool is empty
+     */
+    public synchronized byte[] peek() {
+        Segment segment = readSegment();
+        peeked = segment != null ? segment.peek() : null;
+        return peeked;
+    }
+
+    /**
+     * Removes the oldest payload once it was exported, unless it was dropped in the meantime as the spool was full.
+     *
+     * @param payload the payload returned by the last call to {@link #peek()}
+     * @return {@code true} if the payload was removed
+     */
+    public synchronized boolean remove(byte[] payload) {
+        if (payload == null || payload != peeked) {
+            return false;
+        }
+        peeked = null;
+        readSegment().remove();
+        pendingPayloads--;
+        readSegment();
+        return true;
+    }
+
+    /**
+     * @return the number of payloads in the spool
+     */
+    public synchronized long getPendingPayloads() {
+        return pendingPayloads;
+    }
+
+    /**
+     * @return the number of payloads dropped as the spool was full, or as they were larger than a segment
+     */
+    public synchronized long getDroppedPayloads() {
+        return droppedPayloads;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+    }
+
+    // called with the lock held, deletes the consumed segments but the last one
+    private Segment readSegment() {
+        Segment segment = segments.peekFirst();
+        while (segment != null && segment.count() == 0 && segments.size() > 1) {
+            segments.pollFirst().delete();
+            segment = segments.peekFirst();
+        }
+        return segment != null && segment.count() > 0 ? segment : null;
+    }
+
+    private Segment createSegment() throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", nextSegmentId++, SEGMENT_SUFFIX));
+        Segment segment = new Segment(path, map(path, StandardOpenOption.CREATE_NEW));
+        segment.buffer.putInt(0, MAGIC);
+        segment.setWritePosition(HEADER_SIZE);
+        segment.setReadPosition(HEADER_SIZE);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private void recover() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().forEach(paths::add);
+        }
+        for (Path path : paths) {
+            String name = path.getFileName().toString();
+            long id;
+            try {
+                id = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            nextSegmentId = Math.max(nextSegmentId, id + 1);
+            if (Files.size(path) != segmentSize) {
+                // written with another segment size
+                log.warnf("Ignoring the OTLP spool segment %s as its size is not %d bytes", path, segmentSize);
+                Files.delete(path);
+                continue;
+            }
+            Segment segment = new Segment(path, map(path, StandardOpenOption.READ));
+            if (!segment.isValid()) {
+                log.warnf("Ignoring the corrupted OTLP spool segment %s", path);
+                segment.delete();
+                continue;
+            }
+            segments.addLast(segment);
+            pendingPayloads += segment.count();
+        }
+        while (segments.size() > maxSegments) {
+            Segment oldest = segments.pollFirst();
+            pendingPayloads -= oldest.count();
+            droppedPayloads += oldest.count();
+            oldest.delete();
+        }
+        if (pendingPayloads > 0) {
+            log.debugf("Recovered %d payloads from the OTLP spool in %s", pendingPayloads, directory);
+        }
+    }
+
+    private MappedByteBuffer map(Path path, StandardOpenOption option) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, option, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the mapping stays valid once the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        // the number of payloads not removed yet
+        private int count;
+
+        Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        boolean isValid() {
+            if (buffer.getInt(0) != MAGIC) {
+                return false;
+            }
+            int writePosition = writePosition();
+            int readPosition = readPosition();
+            if (writePosition < HEADER_SIZE || writePosition > buffer.capacity() || readPosition < HEADER_SIZE
+                    || readPosition > writePosition) {
+                return false;
+            }
+            int position = readPosition;
+            while (position < writePosition) {
+                int length = buffer.getInt(position);
+                if (length < 0 || length > writePosition - position - LENGTH_SIZE) {
+                    return false;
+                }
+                position += LENGTH_SIZE + length;
+                count++;
+            }
+            return true;
+        }
+
+        int count() {
+            return count;
+        }
+
+        int remaining() {
+            return buffer.capacity() - writePosition();
+        }
+
+        void append(byte[] payload) {
+            int position = writePosition();
+            buffer.putInt(position, payload.length);
+            buffer.put(position + LENGTH_SIZE, payload);
+            // makes the payload visible
+            setWritePosition(position + LENGTH_SIZE + payload.length);
+            count++;
+        }
+
+        byte[] peek() {
+            int position = readPosition();
+            byte[] payload = new byte[buffer.getInt(position)];
+            buffer.get(position + LENGTH_SIZE, payload);
+            return payload;
+        }
+
+        void remove() {
+            int position = readPosition();
+            setReadPosition(position + LENGTH_SIZE + buffer.getInt(position));
+            count--;
+        }
+
+        void delete() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.debugf(e, "Unable to delete the OTLP spool segment %s", path);
+            }
+        }
+
+        private int writePosition() {
+            return buffer.getInt(WRITE_POSITION_OFFSET);
+        }
+
+        private void setWritePosition(int position) {
+            buffer.putInt(WRITE_POSITION_OFFSET, position);
+        }
+
+        private int readPosition() {
+            return buffer.getInt(READ_POSITION_OFFSET);
+        }
+
+        private void setReadPosition(int position) {
+            buffer.putInt(READ_POSITION_OFFSET, position);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * Replays the payloads of an {@link OtlpSpool} in order, at most {@code replayRate} payloads per second, backing off while
+ * the endpoint is not available.
+ * <p>
+ * A payload failing to be replayed while other payloads were exported since the replay started is considered as
+ * rejected by the endpoint and removed from the spool, so it does not block the payloads spooled after it.
+ */
+final class SpoolReplayer {
+
+    private static final Logger log = Logger.getLogger(SpoolReplayer.class);
+
+    private static final long INITIAL_BACKOFF_MILLIS = 1000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    enum Outcome {
+        EXPORTED,
+        REJECTED,
+        FAILED
+    }
+
+    interface PayloadExporter {
+
+        /**
+         * Exports a spooled payload, without spooling it again when the export fails.
+         */
+        void export(byte[] payload, Consumer<Outcome> onOutcome);
+    }
+
+    private final OtlpSpool spool;
+    private final Vertx vertx;
+    private final long intervalMillis;
+    private final PayloadExporter exporter;
+
+    // guarded by this
+    private long timerId = -1;
+    private boolean replaying;
+    private long backoffMillis;
+    private long exported;
+    private long rejected;
+    private boolean closed;
+
+    SpoolReplayer(OtlpSpool spool, Vertx vertx, int replayRate, PayloadExporter exporter) {
+        this.spool = spool;
+        this.vertx = vertx;
+        this.intervalMillis = Math.max(1, TimeUnit.SECONDS.toMillis(1) / Math.max(1, replayRate));
+        this.exporter = exporter;
+    }
+
+    /**
+     * Starts replaying the spooled payloads, if not already replaying.
+     */
+    synchronized void start() {
+        if (!closed && timerId < 0 && !replaying && spool.getPendingPayloads() > 0) {
+            schedule(1);
+        }
+    }
+
+    /**
+     * Signals a payload was exported without being spooled, so the endpoint is available again.
+     */
+    synchronized void exported() {
+        exported++;
+        if (backoffMillis > 0 && timerId >= 0 && vertx.cancelTimer(timerId)) {
+            timerId = -1;
+            backoffMillis = 0;
+            schedule(1);
+        }
+    }
+
+    synchronized long getRejectedPayloads() {
+        return rejected;
+    }
+
+    synchronized void close() {
+        closed = true;
+        if (timerId >= 0) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+        spool.close();
+    }
+
+    // called with the lock held
+    private void schedule(long delayMillis) {
+        timerId = vertx.setTimer(delayMillis, new Handler<Long>() {
+            @Override
+            public void handle(Long id) {
+                replay();
+            }
+        });
+    }
+
+    private void replay() {
+        byte[] payload;
+        long exportedBefore;
+        synchronized (this) {
+            timerId = -1;
+            if (closed) {
+                return;
+            }
+            payload = spool.peek();
+            if (payload == null) {
+                return;
+            }
+            replaying = true;
+            exportedBefore = exported;
+        }
+        try {
+            exporter.export(payload, new Consumer<Outcome>() {
+                @Override
+                public void accept(Outcome outcome) {
+                    completed(payload, outcome, exportedBefore);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.debugf(e, "Unable to replay a spooled OTLP payload");
+            completed(payload, Outcome.FAILED, exportedBefore);
+        }
+    }
+
+    private synchronized void completed(byte[] payload, Outcome outcome, long exportedBefore) {
+        if (!replaying) {
+            return;
+        }
+        replaying = false;
+        if (outcome == Outcome.FAILED && exported != exportedBefore) {
+            outcome = Outcome.REJECTED;
+        }
+        if (outcome == Outcome.FAILED) {
+            backoffMillis = backoffMillis == 0 ? INITIAL_BACKOFF_MILLIS : Math.min(MAX_BACKOFF_MILLIS, backoffMillis * 2);
+        } else {
+            backoffMillis = 0;
+            spool.remove(payload);
+            if (outcome == Outcome.REJECTED) {
+                rejected++;
+                log.warnf("A spooled OTLP payload was rejected by the endpoint and dropped, %d payloads were rejected so far",
+                        rejected);
+            }
+        }
+        if (!closed && spool.getPendingPayloads() > 0) {
+            schedule(backoffMillis > 0 ? backoffMillis : intervalMillis);
+        }
+    }
+}
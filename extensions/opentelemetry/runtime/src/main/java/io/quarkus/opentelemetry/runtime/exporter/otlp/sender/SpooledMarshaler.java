@@ -0,0 +1,40 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+
+/**
+ * A {@link Marshaler} writing a payload marshaled before it was spooled.
+ */
+final class SpooledMarshaler extends Marshaler {
+
+    private final byte[] payload;
+
+    SpooledMarshaler(byte[] payload) {
+        this.payload = payload;
+    }
+
+    static byte[] marshal(Marshaler marshaler) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(marshaler.getBinarySerializedSize());
+        try {
+            marshaler.writeBinaryTo(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    @Override
+    public int getBinarySerializedSize() {
+        return payload.length;
+    }
+
+    @Override
+    protected void writeTo(Serializer output) throws IOException {
+        output.writeSerializedMessage(payload, "");
+    }
+}
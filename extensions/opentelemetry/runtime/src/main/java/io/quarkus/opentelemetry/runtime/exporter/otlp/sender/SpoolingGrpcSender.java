@@ -0,0 +1,100 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.opentelemetry.exporter.internal.grpc.GrpcResponse;
+import io.opentelemetry.exporter.internal.grpc.GrpcSender;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.vertx.core.Vertx;
+
+/**
+ * A {@link GrpcSender} spooling the payloads its delegate could not export, once the delegate gave up retrying, and
+ * replaying them when the endpoint is available again.
+ * <p>
+ * The outcome of the export is still reported as is to the exporter, the payloads being exported later.
+ */
+public final class SpoolingGrpcSender implements GrpcSender {
+
+    private static final Logger log = Logger.getLogger(SpoolingGrpcSender.class);
+
+    private final GrpcSender delegate;
+    private final OtlpSpool spool;
+    private final SpoolReplayer replayer;
+
+    @SuppressWarnings("unchecked")
+    public SpoolingGrpcSender(GrpcSender delegate, OtlpSpool spool, int replayRate, Vertx vertx) {
+        this.delegate = delegate;
+        this.spool = spool;
+        this.replayer = new SpoolReplayer(spool, vertx, replayRate, new SpoolReplayer.PayloadExporter() {
+            @Override
+            public void export(byte[] payload, Consumer<SpoolReplayer.Outcome> onOutcome) {
+                delegate.send(new SpooledMarshaler(payload), new Consumer<GrpcResponse>() {
+                    @Override
+                    public void accept(GrpcResponse response) {
+                        onOutcome.accept(SpoolReplayer.Outcome.EXPORTED);
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        // the status is not available, the payloads rejected are detected by the replayer
+                        onOutcome.accept(SpoolReplayer.Outcome.FAILED);
+                    }
+                });
+            }
+        });
+        // replays the payloads spooled before a restart
+        replayer.start();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void send(Marshaler request, Consumer onSuccess, Consumer onError) {
+        delegate.send(request, new Consumer<Object>() {
+            @Override
+            public void accept(Object response) {
+                replayer.exported();
+                onSuccess.accept(response);
+            }
+        }, new Consumer<Object>() {
+            @Override
+            public void accept(Object t) {
+                spool(request);
+                onError.accept(t);
+            }
+        });
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        replayer.close();
+        return delegate.shutdown();
+    }
+
+    /**
+     * @return the number of payloads in the spool
+     */
+    public long getSpooledPayloads() {
+        return spool.getPendingPayloads();
+    }
+
+    /**
+     * @return the number of payloads dropped as the spool was full, or rejected by the endpoint when replayed
+     */
+    public long getDroppedPayloads() {
+        return spool.getDroppedPayloads() + replayer.getRejectedPayloads();
+    }
+
+    // the marshaler is still valid as the exporter is only notified afterwards
+    private void spool(Marshaler marshaler) {
+        try {
+            if (spool.append(SpooledMarshaler.marshal(marshaler))) {
+                replayer.start();
+            }
+        } catch (RuntimeException e) {
+            log.debugf(e, "Unable to spool an OTLP payload");
+        }
+    }
+}
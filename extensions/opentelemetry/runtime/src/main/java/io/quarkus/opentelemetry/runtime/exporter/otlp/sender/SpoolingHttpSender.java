@@ -0,0 +1,118 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.opentelemetry.exporter.internal.http.HttpSender;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.vertx.core.Vertx;
+
+/**
+ * An {@link HttpSender} spooling the payloads its delegate could not export, once the delegate gave up retrying, and
+ * replaying them when the endpoint is available again.
+ * <p>
+ * The outcome of the export is still reported as is to the exporter, the payloads being exported later.
+ */
+public final class SpoolingHttpSender implements HttpSender {
+
+    private static final Logger log = Logger.getLogger(SpoolingHttpSender.class);
+
+    private final HttpSender delegate;
+    private final OtlpSpool spool;
+    private final SpoolReplayer replayer;
+
+    public SpoolingHttpSender(HttpSender delegate, OtlpSpool spool, int replayRate, Vertx vertx) {
+        this.delegate = delegate;
+        this.spool = spool;
+        this.replayer = new SpoolReplayer(spool, vertx, replayRate, new SpoolReplayer.PayloadExporter() {
+            @Override
+            public void export(byte[] payload, Consumer<SpoolReplayer.Outcome> onOutcome) {
+                delegate.send(new SpooledMarshaler(payload), payload.length, new Consumer<>() {
+                    @Override
+                    public void accept(Response response) {
+                        int statusCode = response.statusCode();
+                        if (isSuccessful(statusCode)) {
+                            onOutcome.accept(SpoolReplayer.Outcome.EXPORTED);
+                        } else if (isRetryable(statusCode)) {
+                            onOutcome.accept(SpoolReplayer.Outcome.FAILED);
+                        } else {
+                            onOutcome.accept(SpoolReplayer.Outcome.REJECTED);
+                        }
+                    }
+                }, new Consumer<>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        onOutcome.accept(SpoolReplayer.Outcome.FAILED);
+                    }
+                });
+            }
+        });
+        // replays the payloads spooled before a restart
+        replayer.start();
+    }
+
+    @Override
+    public void send(Marshaler marshaler, int contentLength, Consumer<Response> onHttpResponseRead,
+            Consumer<Throwable> onError) {
+        delegate.send(marshaler, contentLength, new Consumer<>() {
+            @Override
+            public void accept(Response response) {
+                int statusCode = response.statusCode();
+                if (isSuccessful(statusCode)) {
+                    replayer.exported();
+                } else if (isRetryable(statusCode)) {
+                    spool(marshaler);
+                }
+                onHttpResponseRead.accept(response);
+            }
+        }, new Consumer<>() {
+            @Override
+            public void accept(Throwable t) {
+                spool(marshaler);
+                onError.accept(t);
+            }
+        });
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        replayer.close();
+        return delegate.shutdown();
+    }
+
+    /**
+     * @return the number of payloads in the spool
+     */
+    public long getSpooledPayloads() {
+        return spool.getPendingPayloads();
+    }
+
+    /**
+     * @return the number of payloads dropped as the spool was full, or rejected by the endpoint when replayed
+     */
+    public long getDroppedPayloads() {
+        return spool.getDroppedPayloads() + replayer.getRejectedPayloads();
+    }
+
+    // the marshaler is still valid as the exporter is only notified afterwards
+    private void spool(Marshaler marshaler) {
+        try {
+            if (spool.append(SpooledMarshaler.marshal(marshaler))) {
+                replayer.start();
+            }
+        } catch (RuntimeException e) {
+            log.debugf(e, "Unable to spool an OTLP payload");
+        }
+    }
+
+    private static boolean isSuccessful(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    // as defined by the OTLP specification
+    private static boolean isRetryable(int statusCode) {
+        return statusCode == 429 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+    }
+}
@@ -16,6 +16,7 @@
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import io.opentelemetry.exporter.internal.grpc.GrpcResponse;
 import io.opentelemetry.exporter.internal.grpc.GrpcSender;
@@ -23,9 +24,9 @@
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.OTelExporterUtil;
-import io.quarkus.vertx.core.runtime.BufferOutputStream;
 import io.smallrye.common.annotation.SuppressForbidden;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
@@ -60,6 +61,7 @@ public final class VertxGrpcSender implements GrpcSender {
     private final CompletableResultCode shutdownResult = new CompletableResultCode();
     private final SocketAddress server;
     private final boolean compressionEnabled;
+    private final OtlpBufferWriter bufferWriter = new OtlpBufferWriter(false);
     private final Map<String, String> headers;
     private final String grpcEndpointPath;
     private final Duration exportTimeout;
@@ -95,7 +97,7 @@ public void send(Marshaler request, Consumer onSuccess, Consumer onError) {
 
         final String marshalerType = request.getClass().getSimpleName();
         var onSuccessHandler = new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled,
-                request,
+                bufferWriter, request,
                 loggedUnimplemented, logger, marshalerType, onSuccess, onError, 1, grpcEndpointPath,
                 isShutdown::get, exportTimeout);
 
@@ -115,6 +117,7 @@ public CompletableResultCode shutdown() {
             return shutdownResult;
         }
 
+        bufferWriter.close();
         try {
             client.close()
                     .onSuccess(
@@ -194,6 +197,7 @@ private static final class ClientRequestOnSuccessHandler implements Handler<Grpc
         private final SocketAddress server;
         private final Map<String, String> headers;
         private final boolean compressionEnabled;
+        private final OtlpBufferWriter bufferWriter;
 
         private final Marshaler marshaler;
         private final AtomicBoolean loggedUnimplemented;
@@ -211,6 +215,7 @@ public ClientRequestOnSuccessHandler(GrpcClient client,
                 SocketAddress server,
                 Map<String, String> headers,
                 boolean compressionEnabled,
+                OtlpBufferWriter bufferWriter,
                 Marshaler marshaler,
                 AtomicBoolean loggedUnimplemented,
                 ThrottlingLogger logger,
@@ -226,6 +231,7 @@ public ClientRequestOnSuccessHandler(GrpcClient client,
             this.grpcEndpointPath = grpcEndpointPath;
             this.headers = headers;
             this.compressionEnabled = compressionEnabled;
+            this.bufferWriter = bufferWriter;
             this.marshaler = marshaler;
             this.loggedUnimplemented = loggedUnimplemented;
             this.logger = logger;
@@ -255,11 +261,16 @@ public void handle(GrpcClientRequest<Buffer, Buffer> request) {
             }
 
             try {
-                int messageSize = marshaler.getBinarySerializedSize();
-                Buffer buffer = Buffer.buffer(messageSize);
-                var os = new BufferOutputStream(buffer);
-                marshaler.writeBinaryTo(os);
-                request.send(buffer).onSuccess(new Handler<>() {
+                // the compression is applied by the gRPC client
+                ByteBuf payload = bufferWriter.write(marshaler, marshaler.getBinarySerializedSize());
+                request.end(Buffer.buffer(payload)).onComplete(new Handler<>() {
+                    @Override
+                    public void handle(AsyncResult<Void> ignored) {
+                        // the payload is written
+                        payload.release();
+                    }
+                });
+                request.response().onSuccess(new Handler<>() {
                     @Override
                     public void handle(GrpcClientResponse<Buffer, Buffer> response) {
                         response.exceptionHandler(new Handler<>() {
@@ -447,7 +458,7 @@ private void failOnClientRequest(Throwable t, Consumer<Throwable> onError, int a
         }
 
         public ClientRequestOnSuccessHandler newAttempt() {
-            return new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled, marshaler,
+            return new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled, bufferWriter, marshaler,
                     loggedUnimplemented, logger, type, onSuccess, onError, attemptNumber + 1,
                     grpcEndpointPath, isShutdown, exportTimeout);
         }
@@ -3,7 +3,6 @@
 import static io.quarkus.opentelemetry.runtime.exporter.otlp.OTelExporterUtil.getPort;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Map;
@@ -15,13 +14,12 @@
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.zip.GZIPOutputStream;
 
+import io.netty.buffer.ByteBuf;
 import io.opentelemetry.exporter.internal.http.HttpSender;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
-import io.quarkus.vertx.core.runtime.BufferOutputStream;
 import io.smallrye.common.annotation.SuppressForbidden;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.AsyncResult;
@@ -48,6 +46,7 @@ public final class VertxHttpSender implements HttpSender {
 
     private final String basePath;
     private final boolean compressionEnabled;
+    private final OtlpBufferWriter bufferWriter;
     private final Map<String, String> headers;
     private final String contentType;
     private final HttpClient client;
@@ -65,6 +64,7 @@ public VertxHttpSender(
         this.basePath = determineBasePath(baseUri);
         this.signalPath = signalPath;
         this.compressionEnabled = compressionEnabled;
+        this.bufferWriter = new OtlpBufferWriter(compressionEnabled);
         this.headers = headersMap;
         this.contentType = contentType;
         var httpClientOptions = new HttpClientOptions()
@@ -105,7 +105,7 @@ public void send(Marshaler marshaler,
         String marshalerType = marshaler.getClass().getSimpleName();
         String requestURI = basePath + signalPath;
         var clientRequestSuccessHandler = new ClientRequestSuccessHandler(client, requestURI, headers, compressionEnabled,
-                contentType,
+                bufferWriter, contentType,
                 contentLength, onHttpResponseRead,
                 onError, marshaler, 1, isShutdown::get);
         initiateSend(client, requestURI, MAX_ATTEMPTS, clientRequestSuccessHandler, new Consumer<>() {
@@ -171,6 +171,7 @@ public CompletableResultCode shutdown() {
             return shutdownResult;
         }
 
+        bufferWriter.close();
         try {
             client.close()
                     .onSuccess(
@@ -200,6 +201,7 @@ private static class ClientRequestSuccessHandler implements Handler<HttpClientRe
         private final String requestURI;
         private final Map<String, String> headers;
         private final boolean compressionEnabled;
+        private final OtlpBufferWriter bufferWriter;
         private final String contentType;
         private final int contentLength;
         private final Consumer<Response> onHttpResponseRead;
@@ -212,6 +214,7 @@ private static class ClientRequestSuccessHandler implements Handler<HttpClientRe
         public ClientRequestSuccessHandler(HttpClient client,
                 String requestURI, Map<String, String> headers,
                 boolean compressionEnabled,
+                OtlpBufferWriter bufferWriter,
                 String contentType,
                 int contentLength,
                 Consumer<Response> onHttpResponseRead,
@@ -223,6 +226,7 @@ public ClientRequestSuccessHandler(HttpClient client,
             this.requestURI = requestURI;
             this.headers = headers;
             this.compressionEnabled = compressionEnabled;
+            this.bufferWriter = bufferWriter;
             this.contentType = contentType;
             this.contentLength = contentLength;
             this.onHttpResponseRead = onHttpResponseRead;
@@ -299,21 +303,14 @@ public byte[] responseBody() {
             })
                     .putHeader("Content-Type", contentType);
 
-            Buffer buffer = Buffer.buffer(contentLength);
-            OutputStream os = new BufferOutputStream(buffer);
             if (compressionEnabled) {
                 clientRequest.putHeader("Content-Encoding", "gzip");
-                try (var gzos = new GZIPOutputStream(os)) {
-                    marshaler.writeBinaryTo(gzos);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
-            } else {
-                try {
-                    marshaler.writeBinaryTo(os);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
+            }
+            ByteBuf payload;
+            try {
+                payload = bufferWriter.write(marshaler, contentLength);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
             }
 
             if (!headers.isEmpty()) {
@@ -322,12 +319,18 @@ public byte[] responseBody() {
                 }
             }
 
-            clientRequest.send(buffer);
+            clientRequest.end(Buffer.buffer(payload)).onComplete(new Handler<>() {
+                @Override
+                public void handle(AsyncResult<Void> ignored) {
+                    // the payload is written
+                    payload.release();
+                }
+            });
         }
 
         public ClientRequestSuccessHandler newAttempt() {
             return new ClientRequestSuccessHandler(client, requestURI, headers, compressionEnabled,
-                    contentType, contentLength, onHttpResponseRead,
+                    bufferWriter, contentType, contentLength, onHttpResponseRead,
                     onError, marshaler, attemptNumber + 1, isShutdown);
         }
     }
@@ -89,6 +89,10 @@ public boolean isDelegateNull() {
         return delegate == null;
     }
 
+    public SpanProcessor getDelegate() {
+        return delegate;
+    }
+
     /**
      * Clear the {@code delegate} and reset {@code warningLogged}.
      */
@@ -0,0 +1,78 @@
+package io.quarkus.opentelemetry.runtime.metrics.instrumentation;
+
+import static io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig.INSTRUMENTATION_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+
+import org.jboss.logging.Logger;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.LateBoundSpanProcessor;
+import io.quarkus.opentelemetry.runtime.tracing.TailSamplingSpanProcessor;
+import io.quarkus.runtime.Startup;
+
+/**
+ * Publishes the counts of the tail sampling span processors as observable counters, if the tail sampling is enabled.
+ */
+@Startup
+@ApplicationScoped
+public class TailSamplingMetricsService {
+
+    private static final Logger log = Logger.getLogger(TailSamplingMetricsService.class);
+
+    private final List<AutoCloseable> counters = new ArrayList<>();
+
+    public TailSamplingMetricsService(final OpenTelemetry openTelemetry, final OTelRuntimeConfig runtimeConfig,
+            @Any final Instance<SpanProcessor> spanProcessors) {
+
+        if (runtimeConfig.sdkDisabled() || !runtimeConfig.traces().tailSampling().enabled()) {
+            return;
+        }
+
+        Meter meter = openTelemetry.getMeter(INSTRUMENTATION_NAME);
+        for (SpanProcessor spanProcessor : spanProcessors) {
+            if (spanProcessor instanceof LateBoundSpanProcessor lateBound
+                    && lateBound.getDelegate() instanceof TailSamplingSpanProcessor tailSampling) {
+                counter(meter, "quarkus.otel.traces.tail_sampling.kept", "The traces kept by the tail sampling policies",
+                        "{trace}", tailSampling::getKeptTraces);
+                counter(meter, "quarkus.otel.traces.tail_sampling.dropped",
+                        "The traces dropped as no tail sampling policy matched them", "{trace}",
+                        tailSampling::getDroppedTraces);
+                counter(meter, "quarkus.otel.traces.tail_sampling.evicted",
+                        "The traces evicted from the tail sampling buffer before their local root span ended", "{trace}",
+                        tailSampling::getEvictedTraces);
+                counter(meter, "quarkus.otel.traces.tail_sampling.dropped_spans",
+                        "The spans dropped by the tail sampling", "{span}", tailSampling::getDroppedSpans);
+            }
+        }
+    }
+
+    private void counter(Meter meter, String name, String description, String unit, LongSupplier count) {
+        counters.add(meter.counterBuilder(name)
+                .setDescription(description)
+                .setUnit(unit)
+                .buildWithCallback(measurement -> measurement.record(count.getAsLong())));
+    }
+
+    @PreDestroy
+    public void close() {
+        for (AutoCloseable counter : counters) {
+            try {
+                counter.close();
+            } catch (Exception e) {
+                log.debug("Unable to close a tail sampling counter", e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,465 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.jboss.logging.Logger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+/**
+ * A {@link SpanProcessor} buffering the ended spans per trace until the local root span of the trace ends, and only
+ * handing the spans of the traces kept by the tail sampling policies to its delegate.
+ * <p>
+ * A trace is kept if one of its spans has an error status, if its local root span lasted at least the latency threshold,
+ * if one of its spans has a matching attribute, or if the rate limit allows it. The buffer is bounded by a number of traces
+ * and a number of spans: the trace buffered for the longest time is evicted when a limit would be exceeded, and only kept
+ * if one of its spans already matched a policy. The decisions are remembered for the spans of a trace ending after its
+ * local root span.
+ * <p>
+ * The spans of different traces are buffered concurrently, each trace is only locked by the spans ending in it.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final Logger log = Logger.getLogger(TailSamplingSpanProcessor.class);
+
+    private final SpanProcessor delegate;
+    private final boolean keepErrors;
+    private final long latencyThresholdNanos;
+    private final List<AttributeMatcher> attributes;
+    private final RateLimiter rateLimiter;
+    private final int maxTraces;
+    private final int maxSpans;
+    private final int maxSpansPerTrace;
+    private final int maxDecisions;
+
+    private final Map<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    // the buffers in the order they were created, the decided ones are removed lazily
+    private final ConcurrentLinkedQueue<TraceBuffer> bufferOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedBuffers = new AtomicInteger();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final AtomicInteger bufferedTraces = new AtomicInteger();
+    private final AtomicInteger bufferedSpans = new AtomicInteger();
+    private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> decisionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger decisionCount = new AtomicInteger();
+    private final AtomicBoolean evictionLogged = new AtomicBoolean();
+
+    private final AtomicLong keptTraces = new AtomicLong();
+    private final AtomicLong droppedTraces = new AtomicLong();
+    private final AtomicLong evictedTraces = new AtomicLong();
+    private final AtomicLong droppedSpans = new AtomicLong();
+
+    /**
+     * @param delegate the processor the spans of the kept traces are handed to
+     * @param keepErrors whether the traces with a span with an error status are kept
+     * @param latencyThreshold the traces whose local root span lasted at least this duration are kept, {@code null} to
+     *        disable the latency policy
+     * @param attributes the traces with a span with one of these attributes, matching the regular expression, are kept
+     * @param rateLimit the maximum number of traces kept per second although no other policy matched them
+     * @param maxTraces the maximum number of buffered traces
+     * @param maxSpans the maximum number of buffered spans
+     * @param maxSpansPerTrace the maximum number of buffered spans per trace
+     * @param maxDecisions the number of remembered decisions
+     */
+    public TailSamplingSpanProcessor(SpanProcessor delegate, boolean keepErrors, Duration latencyThreshold,
+            Map<String, String> attributes, int rateLimit, int maxTraces, int maxSpans, int maxSpansPerTrace,
+            int maxDecisions) {
+        this.delegate = delegate;
+        this.keepErrors = keepErrors;
+        this.latencyThresholdNanos = latencyThreshold != null ? latencyThreshold.toNanos() : -1;
+        this.attributes = new ArrayList<>();
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            Pattern pattern = Pattern.compile(attribute.getValue());
+            // the attributes are looked up by key, which includes the type of the value
+            for (AttributeKey<?> key : List.of(AttributeKey.stringKey(attribute.getKey()),
+                    AttributeKey.booleanKey(attribute.getKey()), AttributeKey.longKey(attribute.getKey()),
+                    AttributeKey.doubleKey(attribute.getKey()), AttributeKey.stringArrayKey(attribute.getKey()),
+                    AttributeKey.booleanArrayKey(attribute.getKey()), AttributeKey.longArrayKey(attribute.getKey()),
+                    AttributeKey.doubleArrayKey(attribute.getKey()))) {
+                this.attributes.add(new AttributeMatcher(key, pattern));
+            }
+        }
+        this.rateLimiter = rateLimit > 0 ? new RateLimiter(rateLimit) : null;
+        this.maxTraces = Math.max(1, maxTraces);
+        this.maxSpans = Math.max(1, maxSpans);
+        this.maxSpansPerTrace = Math.max(1, maxSpansPerTrace);
+        this.maxDecisions = maxDecisions;
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanContext spanContext = span.getSpanContext();
+        if (!spanContext.isSampled()) {
+            delegate.onEnd(span);
+            return;
+        }
+        String traceId = spanContext.getTraceId();
+        Boolean decision = decisions.get(traceId);
+        if (decision == null) {
+            decision = buffer(traceId, span);
+            if (decision == null) {
+                return;
+            }
+        }
+        if (decision) {
+            delegate.onEnd(span);
+        } else {
+            droppedSpans.incrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        // the local root spans of the buffered traces will not end anymore
+        for (TraceBuffer trace : traces.values()) {
+            List<ReadableSpan> kept;
+            synchronized (trace) {
+                if (trace.decision != null) {
+                    continue;
+                }
+                kept = decide(trace, trace.matched || hasError(trace.spans));
+            }
+            handOver(kept);
+        }
+        log.debugf("Tail sampling kept %d traces, dropped %d traces, evicted %d traces and dropped %d spans",
+                keptTraces.get(), droppedTraces.get(), evictedTraces.get(), droppedSpans.get());
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    /**
+     * @return the number of traces kept by the policies
+     */
+    public long getKeptTraces() {
+        return keptTraces.get();
+    }
+
+    /**
+     * @return the number of traces dropped as no policy matched them
+     */
+    public long getDroppedTraces() {
+        return droppedTraces.get();
+    }
+
+    /**
+     * @return the number of traces evicted from the buffer before their local root span ended, including the evicted
+     *         traces that were kept
+     */
+    public long getEvictedTraces() {
+        return evictedTraces.get();
+    }
+
+    /**
+     * @return the number of spans that were not handed to the delegate
+     */
+    public long getDroppedSpans() {
+        return droppedSpans.get();
+    }
+
+    /**
+     * Buffers the span, and decides the trace if the span is its local root span.
+     *
+     * @return the decision of the trace if it was decided before the span could be buffered, {@code null} if the span
+     *         was handled
+     */
+    private Boolean buffer(String traceId, ReadableSpan span) {
+        TraceBuffer trace = traces.get(traceId);
+        if (trace == null) {
+            trace = new TraceBuffer(traceId);
+            TraceBuffer existing = traces.putIfAbsent(traceId, trace);
+            if (existing != null) {
+                trace = existing;
+            } else {
+                // the trace may have been decided, and its buffer removed, since the decision was looked up
+                Boolean decision = decisions.get(traceId);
+                if (decision != null) {
+                    return discard(trace, decision);
+                }
+                queue(trace);
+                if (bufferedTraces.incrementAndGet() > maxTraces) {
+                    evictOldest(trace);
+                }
+            }
+        }
+        // the attribute policy is only evaluated as long as no span of the trace matched a policy
+        boolean matched = !trace.matched && matches(span);
+        // no other trace is evicted with the lock of this trace held, which could deadlock
+        boolean reserved = reserveSpan(trace);
+        List<ReadableSpan> kept;
+        synchronized (trace) {
+            if (trace.decision != null) {
+                // decided by another thread meanwhile, evicted or shut down
+                if (reserved) {
+                    bufferedSpans.decrementAndGet();
+                }
+                return trace.decision;
+            }
+            trace.matched |= matched;
+            if (reserved && trace.spans.size() < maxSpansPerTrace) {
+                trace.spans.add(span);
+            } else {
+                if (reserved) {
+                    bufferedSpans.decrementAndGet();
+                }
+                droppedSpans.incrementAndGet();
+                // the status of a span that is not buffered cannot be checked when the trace is decided
+                trace.matched |= hasError(span);
+            }
+            if (!isLocalRoot(span)) {
+                return null;
+            }
+            kept = decide(trace, trace.matched
+                    || (latencyThresholdNanos >= 0 && span.getLatencyNanos() >= latencyThresholdNanos)
+                    || hasError(trace.spans)
+                    || (rateLimiter != null && rateLimiter.tryAcquire()));
+        }
+        handOver(kept);
+        return null;
+    }
+
+    /**
+     * Reserves room for a span in the buffer, evicting the traces buffered for the longest time if needed.
+     *
+     * @return {@code false} if there was no room left
+     */
+    private boolean reserveSpan(TraceBuffer except) {
+        while (true) {
+            int current = bufferedSpans.get();
+            if (current < maxSpans) {
+                if (bufferedSpans.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            } else if (!evictOldest(except)) {
+                return false;
+            }
+        }
+    }
+
+    private void queue(TraceBuffer trace) {
+        bufferOrder.add(trace);
+        // the buffers of the traces decided when their local root span ended are removed from time to time
+        if (queuedBuffers.incrementAndGet() > 2 * maxTraces && compacting.compareAndSet(false, true)) {
+            try {
+                bufferOrder.removeIf(buffer -> buffer.decision != null);
+                queuedBuffers.set(bufferOrder.size());
+            } finally {
+                compacting.set(false);
+            }
+        }
+    }
+
+    /**
+     * Evicts the trace buffered for the longest time, except the given trace.
+     *
+     * @return {@code false} if there was no trace to evict
+     */
+    private boolean evictOldest(TraceBuffer except) {
+        Iterator<TraceBuffer> iterator = bufferOrder.iterator();
+        while (iterator.hasNext()) {
+            TraceBuffer oldest = iterator.next();
+            if (oldest == except) {
+                continue;
+            }
+            List<ReadableSpan> kept;
+            synchronized (oldest) {
+                if (oldest.decision != null) {
+                    iterator.remove();
+                    continue;
+                }
+                evictedTraces.incrementAndGet();
+                // the decision is made on the spans ended so far
+                kept = decide(oldest, oldest.matched || hasError(oldest.spans));
+            }
+            iterator.remove();
+            if (evictionLogged.compareAndSet(false, true)) {
+                log.warn("The tail sampling buffer is full, the traces buffered for the longest time are evicted before"
+                        + " their local root span ends. Consider increasing quarkus.otel.traces.tail-sampling.max-traces"
+                        + " and quarkus.otel.traces.tail-sampling.max-spans.");
+            }
+            handOver(kept);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Called with the lock of the trace held.
+     *
+     * @return the spans to hand to the delegate, once the lock is released
+     */
+    private List<ReadableSpan> decide(TraceBuffer trace, boolean keep) {
+        trace.decision = keep;
+        // remembered before the buffer is removed, so that a span ending meanwhile does not start a new buffer
+        remember(trace.traceId, keep);
+        traces.remove(trace.traceId, trace);
+        bufferedTraces.decrementAndGet();
+        bufferedSpans.addAndGet(-trace.spans.size());
+        if (keep) {
+            keptTraces.incrementAndGet();
+            return trace.spans;
+        }
+        droppedTraces.incrementAndGet();
+        droppedSpans.addAndGet(trace.spans.size());
+        return List.of();
+    }
+
+    /**
+     * Removes a buffer created for a trace that was already decided, and hands the spans buffered meanwhile by other
+     * threads to the delegate, or drops them, as decided.
+     *
+     * @return the decision of the trace
+     */
+    private Boolean discard(TraceBuffer trace, Boolean decision) {
+        List<ReadableSpan> late;
+        synchronized (trace) {
+            if (trace.decision != null) {
+                // decided by a shutdown meanwhile
+                return trace.decision;
+            }
+            // the threads that got the buffer before its removal see the decision once they hold its lock
+            trace.decision = decision;
+            traces.remove(trace.traceId, trace);
+            late = trace.spans;
+            bufferedSpans.addAndGet(-late.size());
+        }
+        if (decision) {
+            handOver(late);
+        } else {
+            droppedSpans.addAndGet(late.size());
+        }
+        return decision;
+    }
+
+    private void remember(String traceId, boolean keep) {
+        if (decisions.put(traceId, keep) == null) {
+            decisionOrder.add(traceId);
+            if (decisionCount.incrementAndGet() > maxDecisions) {
+                String eldest = decisionOrder.poll();
+                if (eldest != null) {
+                    decisions.remove(eldest);
+                    decisionCount.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void handOver(List<ReadableSpan> kept) {
+        for (ReadableSpan keptSpan : kept) {
+            delegate.onEnd(keptSpan);
+        }
+    }
+
+    private boolean matches(ReadableSpan span) {
+        for (AttributeMatcher attribute : attributes) {
+            Object value = span.getAttribute(attribute.key);
+            if (value != null && attribute.pattern.matcher(String.valueOf(value)).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Only called when a trace is decided, so that the status of the spans of the traces kept by another policy, and of
+     * the spans ending after the decision, is never checked.
+     */
+    private boolean hasError(List<ReadableSpan> spans) {
+        if (keepErrors) {
+            for (ReadableSpan span : spans) {
+                if (hasError(span)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hasError(ReadableSpan span) {
+        // ReadableSpan does not expose the status, the span data of an ended span wraps its state without copying it
+        return keepErrors && span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+    }
+
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private record AttributeMatcher(AttributeKey<?> key, Pattern pattern) {
+    }
+
+    private static final class TraceBuffer {
+        private final String traceId;
+        // guarded by this
+        private final List<ReadableSpan> spans = new ArrayList<>();
+        // written with the lock held, read without it to skip the policies
+        private volatile boolean matched;
+        // set once, with the lock held
+        private volatile Boolean decision;
+
+        TraceBuffer(String traceId) {
+            this.traceId = traceId;
+        }
+    }
+
+    private static final class RateLimiter {
+
+        private final int maxPerSecond;
+        // guarded by this
+        private double available;
+        private long lastRefill = System.nanoTime();
+
+        RateLimiter(int maxPerSecond) {
+            this.maxPerSecond = maxPerSecond;
+            this.available = maxPerSecond;
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            available = Math.min(maxPerSecond,
+                    available + (now - lastRefill) * maxPerSecond / (double) TimeUnit.SECONDS.toNanos(1));
+            lastRefill = now;
+            if (available >= 1) {
+                available--;
+                return true;
+            }
+            return false;
+        }
+    }
+}
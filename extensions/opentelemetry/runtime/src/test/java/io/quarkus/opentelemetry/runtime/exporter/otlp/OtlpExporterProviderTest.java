@@ -412,6 +412,11 @@ public ProxyConfig proxyOptions() {
                 };
 
             }
+
+            @Override
+            public OtlpExporterSpoolConfig spool() {
+                return null;
+            }
         };
     }
 }
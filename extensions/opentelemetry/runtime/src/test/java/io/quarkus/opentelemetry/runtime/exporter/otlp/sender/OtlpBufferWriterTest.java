@@ -0,0 +1,125 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+class OtlpBufferWriterTest {
+
+    @Test
+    void testUncompressed() throws IOException {
+        Marshaler marshaler = marshaler(100);
+        ByteBuf payload = new OtlpBufferWriter(false).write(marshaler, marshaler.getBinarySerializedSize());
+        try {
+            assertEquals(marshaler.getBinarySerializedSize(), payload.readableBytes());
+            // sized up front
+            assertEquals(marshaler.getBinarySerializedSize(), payload.capacity());
+            assertArrayEquals(legacy(marshaler, false), ByteBufUtil.getBytes(payload));
+        } finally {
+            payload.release();
+        }
+        assertEquals(0, payload.refCnt());
+    }
+
+    @Test
+    void testCompressed() throws IOException {
+        OtlpBufferWriter writer = new OtlpBufferWriter(true);
+        // the deflater is reused, and the buffer grows for the larger payloads
+        for (int spans : new int[] { 1, 1000, 10 }) {
+            Marshaler marshaler = marshaler(spans);
+            ByteBuf payload = writer.write(marshaler, marshaler.getBinarySerializedSize());
+            try {
+                assertArrayEquals(gunzip(legacy(marshaler, true)), gunzip(ByteBufUtil.getBytes(payload)));
+            } finally {
+                payload.release();
+            }
+        }
+    }
+
+    @Test
+    void testClosed() {
+        OtlpBufferWriter writer = new OtlpBufferWriter(true);
+        writer.close();
+        // closing again does not end the deflater twice
+        writer.close();
+        Marshaler marshaler = marshaler(1);
+        assertThrows(IOException.class, () -> writer.write(marshaler, marshaler.getBinarySerializedSize()));
+    }
+
+    // the payload as written before the pooled buffers
+    private static byte[] legacy(Marshaler marshaler, boolean compressed) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (compressed) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+                marshaler.writeBinaryTo(gzip);
+            }
+        } else {
+            marshaler.writeBinaryTo(output);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        }
+    }
+
+    private static Marshaler marshaler(int spans) {
+        List<SpanData> ended = new CopyOnWriteArrayList<>();
+        Tracer tracer = SdkTracerProvider.builder().addSpanProcessor(new SpanProcessor() {
+            @Override
+            public void onStart(Context parentContext, ReadWriteSpan span) {
+            }
+
+            @Override
+            public boolean isStartRequired() {
+                return false;
+            }
+
+            @Override
+            public void onEnd(ReadableSpan span) {
+                ended.add(span.toSpanData());
+            }
+
+            @Override
+            public boolean isEndRequired() {
+                return true;
+            }
+
+            @Override
+            public CompletableResultCode shutdown() {
+                return CompletableResultCode.ofSuccess();
+            }
+        }).build().get("test");
+        for (int i = 0; i < spans; i++) {
+            Span span = tracer.spanBuilder("span-" + i).setAttribute("index", i).setAttribute("kind", "test").startSpan();
+            span.end();
+        }
+        return TraceRequestMarshaler.create(ended);
+    }
+}
@@ -0,0 +1,136 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+
+class OtlpSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testOrderAndRecovery() {
+        OtlpSpool spool = new OtlpSpool(directory, 64, 1024);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(spool.append(payload(i)));
+        }
+        byte[] head = spool.peek();
+        assertArrayEquals(payload(0), head);
+        assertTrue(spool.remove(head));
+        spool.close();
+
+        OtlpSpool recovered = new OtlpSpool(directory, 64, 1024);
+        assertEquals(4, recovered.getPendingPayloads());
+        assertEquals(List.of(1, 2, 3, 4), drain(recovered));
+        assertNull(recovered.peek());
+    }
+
+    @Test
+    void testMaxSize() {
+        // two segments of three payloads
+        OtlpSpool spool = new OtlpSpool(directory, 64, 128);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(spool.append(payload(i)));
+        }
+        assertEquals(4, spool.getPendingPayloads());
+        assertEquals(6, spool.getDroppedPayloads());
+        assertFalse(spool.append(new byte[64]));
+        assertEquals(7, spool.getDroppedPayloads());
+        assertEquals(List.of(6, 7, 8, 9), drain(spool));
+    }
+
+    @Test
+    void testPayloadDroppedWhileReplayed() {
+        OtlpSpool spool = new OtlpSpool(directory, 64, 64);
+        spool.append(payload(0));
+        byte[] head = spool.peek();
+        for (int i = 1; i < 4; i++) {
+            spool.append(payload(i));
+        }
+        // the segment of the replayed payload was deleted
+        assertFalse(spool.remove(head));
+        assertEquals(List.of(3), drain(spool));
+    }
+
+    @Test
+    void testReplayToMockReceiver() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            AtomicInteger status = new AtomicInteger(503);
+            List<Byte> received = new CopyOnWriteArrayList<>();
+            HttpServer server = vertx.createHttpServer().requestHandler(request -> request.body(body -> {
+                if (status.get() == 200) {
+                    received.add(body.result().getByte(0));
+                }
+                request.response().setStatusCode(status.get()).end();
+            })).listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            VertxHttpSender httpSender = new VertxHttpSender(URI.create("http://localhost:" + server.actualPort()),
+                    VertxHttpSender.TRACES_PATH, false, Duration.ofSeconds(10), Map.of(), "application/x-protobuf",
+                    options -> {
+                    }, vertx);
+            SpoolingHttpSender sender = new SpoolingHttpSender(httpSender, new OtlpSpool(directory, 1024, 4096), 100, vertx);
+
+            for (int i = 0; i < 3; i++) {
+                sender.send(new SpooledMarshaler(payload(i)), 1, response -> {
+                }, t -> {
+                });
+            }
+            await(() -> sender.getSpooledPayloads() == 3);
+
+            status.set(200);
+            sender.send(new SpooledMarshaler(payload(3)), 1, response -> {
+            }, t -> {
+            });
+            await(() -> sender.getSpooledPayloads() == 0 && received.size() == 4);
+            // the spooled payloads are replayed in order
+            received.remove(Byte.valueOf((byte) 3));
+            assertEquals(List.of((byte) 0, (byte) 1, (byte) 2), received);
+            sender.shutdown();
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static byte[] payload(int i) {
+        return new byte[] { (byte) i, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+    }
+
+    private static List<Integer> drain(OtlpSpool spool) {
+        List<Integer> payloads = new ArrayList<>();
+        byte[] payload;
+        while ((payload = spool.peek()) != null) {
+            payloads.add((int) payload[0]);
+            spool.remove(payload);
+        }
+        return payloads;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+class TailSamplingSpanProcessorTest {
+
+    @Test
+    void testErrorTraceKept() {
+        CollectingSpanProcessor collected = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collected, true, null, Map.of(), 0, 10, 100,
+                100, 100);
+        Tracer tracer = tracer(processor);
+
+        trace(tracer, false);
+        assertEquals(0, collected.spans.size());
+
+        trace(tracer, true);
+        assertEquals(2, collected.spans.size());
+        assertEquals(1, processor.getKeptTraces());
+        assertEquals(1, processor.getDroppedTraces());
+        assertEquals(2, processor.getDroppedSpans());
+    }
+
+    @Test
+    void testLatencyAndAttributePolicies() {
+        CollectingSpanProcessor collected = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collected, false, Duration.ofSeconds(1),
+                Map.of("tenant", "vip-.*"), 0, 10, 100, 100, 100);
+        Tracer tracer = tracer(processor);
+
+        long start = System.nanoTime();
+        tracer.spanBuilder("slow").setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan()
+                .end(start + TimeUnit.SECONDS.toNanos(2), TimeUnit.NANOSECONDS);
+        tracer.spanBuilder("vip").setAttribute("tenant", "vip-1").startSpan().end();
+        tracer.spanBuilder("other").setAttribute("tenant", "regular").startSpan().end();
+
+        assertEquals(List.of("slow", "vip"), collected.names());
+    }
+
+    @Test
+    void testRateLimit() {
+        CollectingSpanProcessor collected = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collected, true, null, Map.of(), 1, 10, 100,
+                100, 100);
+        Tracer tracer = tracer(processor);
+
+        trace(tracer, false);
+        trace(tracer, false);
+
+        assertEquals(2, collected.spans.size());
+        assertEquals(1, processor.getKeptTraces());
+    }
+
+    @Test
+    void testLateSpanFollowsDecision() {
+        CollectingSpanProcessor collected = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collected, true, null, Map.of(), 0, 10, 100,
+                100, 100);
+        Tracer tracer = tracer(processor);
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span late = tracer.spanBuilder("late").setParent(Context.current().with(root)).startSpan();
+        root.setStatus(StatusCode.ERROR);
+        root.end();
+        late.end();
+
+        assertEquals(List.of("root", "late"), collected.names());
+    }
+
+    @Test
+    void testEviction() {
+        CollectingSpanProcessor collected = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collected, true, null, Map.of(), 0, 1, 100,
+                100, 100);
+        Tracer tracer = tracer(processor);
+
+        Span first = tracer.spanBuilder("first").startSpan();
+        Span failed = tracer.spanBuilder("failed").setParent(Context.current().with(first)).startSpan();
+        failed.setStatus(StatusCode.ERROR);
+        failed.end();
+        // evicts the first trace, kept as it already has an error
+        Span second = tracer.spanBuilder("second").startSpan();
+        tracer.spanBuilder("child").setParent(Context.current().with(second)).startSpan().end();
+        tracer.spanBuilder("third").startSpan().end();
+
+        assertEquals(List.of("failed"), collected.names());
+        assertEquals(2, processor.getEvictedTraces());
+        assertEquals(2, processor.getDroppedSpans());
+    }
+
+    @Test
+    void testConcurrentTraces() throws Exception {
+        CollectingSpanProcessor collected = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collected, true, null, Map.of(), 0, 1000,
+                10000, 100, 10000);
+        Tracer tracer = tracer(processor);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        trace(tracer, j % 5 == 0);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(800, processor.getKeptTraces());
+        assertEquals(3200, processor.getDroppedTraces());
+        assertEquals(0, processor.getEvictedTraces());
+        assertEquals(1600, collected.spans.size());
+        assertEquals(6400, processor.getDroppedSpans());
+    }
+
+    private static Tracer tracer(SpanProcessor processor) {
+        return SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+    }
+
+    private static void trace(Tracer tracer, boolean error) {
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span child = tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan();
+        if (error) {
+            child.setStatus(StatusCode.ERROR);
+        }
+        child.end();
+        root.end();
+    }
+
+    private static final class CollectingSpanProcessor implements SpanProcessor {
+
+        final List<ReadableSpan> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            spans.add(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        List<String> names() {
+            return spans.stream().map(ReadableSpan::getName).toList();
+        }
+    }
+}
@@ -15,6 +15,7 @@
 import org.hibernate.query.CommonQueryContract;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.query.SelectionQuery;
+import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
@@ -25,6 +26,7 @@
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
+    private static final Logger LOG = Logger.getLogger(AbstractJpaOperations.class);
     private static final Map<String, String> entityToPersistenceUnit = new HashMap<>();
     private static volatile Boolean entityToPersistenceUnitIsIncomplete = null;
 
@@ -131,6 +133,65 @@ public void persist(Stream<?> entities) {
         entities.forEach(entity -> persist(entity));
     }
 
+    public void persistInBatches(Iterable<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), batchSize);
+    }
+
+    public void persistInBatches(Stream<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), batchSize);
+    }
+
+    /**
+     * Persists the entities, flushing and clearing the sessions every {@code batchSize} entities so the persistence
+     * contexts do not grow with the number of entities, the JDBC batch size of the sessions being set to
+     * {@code batchSize} meanwhile.
+     */
+    private void persistInBatches(Iterator<?> entities, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        }
+        // the sessions used, with their JDBC batch size to restore
+        Map<Session, Integer> sessions = new IdentityHashMap<>();
+        Class<?> lastEntityClass = null;
+        Session session = null;
+        long count = 0;
+        long start = System.nanoTime();
+        try {
+            while (entities.hasNext()) {
+                Object entity = entities.next();
+                if (entity.getClass() != lastEntityClass) {
+                    lastEntityClass = entity.getClass();
+                    session = getSession(lastEntityClass);
+                    if (!sessions.containsKey(session)) {
+                        sessions.put(session, session.getJdbcBatchSize());
+                        session.setJdbcBatchSize(batchSize);
+                    }
+                }
+                persist(session, entity);
+                if (++count % batchSize == 0) {
+                    flushAndClear(sessions.keySet());
+                }
+            }
+            flushAndClear(sessions.keySet());
+        } finally {
+            for (Entry<Session, Integer> entry : sessions.entrySet()) {
+                entry.getKey().setJdbcBatchSize(entry.getValue());
+            }
+        }
+        if (LOG.isDebugEnabled() && count > 0) {
+            long elapsed = Math.max(System.nanoTime() - start, 1);
+            LOG.debugf("Persisted %d entities in batches of %d in %d ms (%d entities/s)", count, batchSize,
+                    elapsed / 1_000_000, count * 1_000_000_000 / elapsed);
+        }
+    }
+
+    private static void flushAndClear(Collection<Session> sessions) {
+        for (Session session : sessions) {
+            session.flush();
+            session.clear();
+        }
+    }
+
     public void delete(Object entity) {
         Session session = getSession(entity.getClass());
         session.remove(session.contains(entity) ? entity : session.getReference(entity));
@@ -512,6 +512,36 @@ fun persist(firstEntity: Entity, vararg entities: Entity) {
         INSTANCE.persist(firstEntity, *entities)
     }
 
+    /**
+     * Persist all given entities in batches, for bulk insertions: every [batchSize] entities, the pending changes are
+     * flushed to the database and the persistence context is cleared, so its size does not grow with the number of
+     * entities. The JDBC batch size is set to [batchSize] while persisting the entities.
+     *
+     * Clearing the persistence context detaches all the entities it manages, including the entities loaded before
+     * calling this method.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes
+     */
+    fun persistInBatches(entities: Iterable<Entity>, batchSize: Int) {
+        INSTANCE.persistInBatches(entities, batchSize)
+    }
+
+    /**
+     * Persist all given entities in batches, for bulk insertions: every [batchSize] entities, the pending changes are
+     * flushed to the database and the persistence context is cleared, so its size does not grow with the number of
+     * entities. The JDBC batch size is set to [batchSize] while persisting the entities.
+     *
+     * Clearing the persistence context detaches all the entities it manages, including the entities loaded before
+     * calling this method.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes
+     */
+    fun persistInBatches(entities: Stream<Entity>, batchSize: Int) {
+        INSTANCE.persistInBatches(entities, batchSize)
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
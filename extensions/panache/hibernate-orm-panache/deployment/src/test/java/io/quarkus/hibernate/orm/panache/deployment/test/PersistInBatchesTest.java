@@ -0,0 +1,64 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PersistInBatchesTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class));
+
+    @Test
+    void persistInBatches() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            MyEntity loaded = new MyEntity();
+            loaded.name = "loaded";
+            loaded.persist();
+
+            List<MyEntity> entities = IntStream.range(0, 25).mapToObj(i -> {
+                MyEntity entity = new MyEntity();
+                entity.name = "entity" + i;
+                return entity;
+            }).toList();
+            MyEntity.persistInBatches(entities, 10);
+
+            assertTrue(entities.stream().allMatch(entity -> entity.id != null));
+            // the persistence context is cleared after each batch
+            assertFalse(loaded.isPersistent());
+            assertFalse(entities.get(24).isPersistent());
+            assertEquals(26, MyEntity.count());
+            // the JDBC batch size of the session is restored
+            assertNotEquals(Integer.valueOf(10), MyEntity.getSession().getJdbcBatchSize());
+        });
+        QuarkusTransaction.requiringNew().run(() -> {
+            MyEntity.persistInBatches(IntStream.range(0, 5).mapToObj(i -> {
+                MyEntity entity = new MyEntity();
+                entity.name = "streamed" + i;
+                return entity;
+            }), 2);
+            assertEquals(5, MyEntity.count("name like 'streamed%'"));
+            MyEntity.deleteAll();
+        });
+    }
+
+    @Test
+    void invalidBatchSize() {
+        QuarkusTransaction.requiringNew().run(() -> assertThrows(IllegalArgumentException.class,
+                () -> MyEntity.persistInBatches(List.of(new MyEntity()), 0)));
+    }
+}
@@ -780,6 +780,44 @@ public static void persist(Object firstEntity, Object... entities) {
         JpaOperations.INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities in batches, for bulk insertions: every {@code batchSize} entities, the pending changes
+     * are flushed to the database and the persistence context is cleared, so its size does not grow with the number
+     * of entities. The JDBC batch size is set to {@code batchSize} while persisting the entities.
+     * <p>
+     * Clearing the persistence context detaches all the entities it manages, including the entities loaded before
+     * calling this method. Entities whose identifiers are generated by an identity column cannot be inserted in JDBC
+     * batches.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes
+     * @see #persist(Iterable)
+     * @see #persistInBatches(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void persistInBatches(Iterable<?> entities, int batchSize) {
+        JpaOperations.INSTANCE.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities in batches, for bulk insertions: every {@code batchSize} entities, the pending changes
+     * are flushed to the database and the persistence context is cleared, so its size does not grow with the number
+     * of entities. The JDBC batch size is set to {@code batchSize} while persisting the entities.
+     * <p>
+     * Clearing the persistence context detaches all the entities it manages, including the entities loaded before
+     * calling this method. Entities whose identifiers are generated by an identity column cannot be inserted in JDBC
+     * batches.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes
+     * @see #persist(Stream)
+     * @see #persistInBatches(Iterable, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void persistInBatches(Stream<?> entities, int batchSize) {
+        JpaOperations.INSTANCE.persistInBatches(entities, batchSize);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
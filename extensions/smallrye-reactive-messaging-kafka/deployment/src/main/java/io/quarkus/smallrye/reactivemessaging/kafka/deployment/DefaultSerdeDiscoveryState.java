@@ -26,6 +26,7 @@
 
 class DefaultSerdeDiscoveryState {
     private final IndexView index;
+    private final boolean reflectionFreeSerdeGeneration;
 
     private final Map<String, Boolean> isKafkaConnector = new HashMap<>();
     private final Set<String> alreadyConfigured = new HashSet<>();
@@ -41,7 +42,20 @@ class DefaultSerdeDiscoveryState {
     private Boolean hasJsonb;
 
     DefaultSerdeDiscoveryState(IndexView index) {
+        this(index, false);
+    }
+
+    DefaultSerdeDiscoveryState(IndexView index, boolean reflectionFreeSerdeGeneration) {
         this.index = index;
+        this.reflectionFreeSerdeGeneration = reflectionFreeSerdeGeneration;
+    }
+
+    /**
+     * @return the index to generate the reflection-free serializers and deserializers from, {@code null} if their
+     *         generation is disabled
+     */
+    IndexView getReflectionFreeSerdeIndex() {
+        return reflectionFreeSerdeGeneration ? index : null;
     }
 
     Config getConfig() {
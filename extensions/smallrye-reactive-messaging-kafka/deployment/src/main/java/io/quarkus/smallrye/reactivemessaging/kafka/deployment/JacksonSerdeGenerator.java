@@ -1,9 +1,14 @@
 package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
@@ -22,31 +27,79 @@ private JacksonSerdeGenerator() {
     }
 
     public static String generateSerializer(BuildProducer<GeneratedClassBuildItem> generatedClass, Type type) {
+        return generateSerializer(generatedClass, type, null);
+    }
+
+    /**
+     * Generates a serializer for the given type. If an index is given and the type is supported, the properties are
+     * written by a Jackson serializer generated for the type, otherwise by Jackson's databinding.
+     */
+    public static String generateSerializer(BuildProducer<GeneratedClassBuildItem> generatedClass, Type type,
+            IndexView index) {
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
         String baseName = type.name().withoutPackagePrefix();
         String targetPackage = io.quarkus.arc.processor.DotNames
                 .internalPackageNameWithTrailingSlash(type.name());
-        String out = baseName + "_Serializer_" + HashUtil.sha1(UUID.randomUUID().toString());
+        String hash = HashUtil.sha1(UUID.randomUUID().toString());
+        String out = baseName + "_Serializer_" + hash;
         String generatedName = targetPackage + out;
+        List<JacksonStreamingCodeGenerator.Property> properties = index != null
+                ? JacksonStreamingCodeGenerator.properties(index, type.name())
+                : null;
         ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .superClass(ObjectMapperSerializer.class).build();
+        if (properties != null) {
+            String jsonSerializer = targetPackage + baseName + "_JsonSerializer_" + hash;
+            JacksonStreamingCodeGenerator.generateSerializer(classOutput, jsonSerializer, type.name(), properties);
+            MethodCreator constructor = creator.getMethodCreator("<init>", void.class);
+            MethodDescriptor superConstructor = MethodDescriptor.ofConstructor(ObjectMapperSerializer.class, Class.class,
+                    JsonSerializer.class);
+            constructor.invokeSpecialMethod(superConstructor, constructor.getThis(),
+                    constructor.loadClassFromTCCL(type.name().toString()),
+                    constructor.newInstance(MethodDescriptor.ofConstructor(jsonSerializer)));
+            constructor.returnValue(null);
+            constructor.close();
+        }
         creator.close();
         return type.name().packagePrefix() + "." + out;
     }
 
     public static String generateDeserializer(BuildProducer<GeneratedClassBuildItem> generatedClass, Type type) {
+        return generateDeserializer(generatedClass, type, null);
+    }
+
+    /**
+     * Generates a deserializer for the given type. If an index is given and the type is supported, the properties are
+     * read by a Jackson deserializer generated for the type, otherwise by Jackson's databinding.
+     */
+    public static String generateDeserializer(BuildProducer<GeneratedClassBuildItem> generatedClass, Type type,
+            IndexView index) {
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
         String baseName = type.name().withoutPackagePrefix();
         String targetPackage = io.quarkus.arc.processor.DotNames
                 .internalPackageNameWithTrailingSlash(type.name());
-        String out = baseName + "_Deserializer_" + HashUtil.sha1(Long.toString(UUID.randomUUID().getMostSignificantBits()));
+        String hash = HashUtil.sha1(Long.toString(UUID.randomUUID().getMostSignificantBits()));
+        String out = baseName + "_Deserializer_" + hash;
         String generatedName = targetPackage + out;
+        List<JacksonStreamingCodeGenerator.Property> properties = index != null
+                ? JacksonStreamingCodeGenerator.properties(index, type.name())
+                : null;
         ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .superClass(ObjectMapperDeserializer.class).build();
         MethodCreator constructor = creator.getMethodCreator("<init>", void.class);
-        MethodDescriptor superConstructor = MethodDescriptor.ofConstructor(ObjectMapperDeserializer.class, Class.class);
-        constructor.invokeSpecialMethod(superConstructor, constructor.getThis(),
-                constructor.loadClassFromTCCL(type.name().toString()));
+        if (properties != null) {
+            String jsonDeserializer = targetPackage + baseName + "_JsonDeserializer_" + hash;
+            JacksonStreamingCodeGenerator.generateDeserializer(classOutput, jsonDeserializer, type.name(), properties);
+            MethodDescriptor superConstructor = MethodDescriptor.ofConstructor(ObjectMapperDeserializer.class, Class.class,
+                    JsonDeserializer.class);
+            constructor.invokeSpecialMethod(superConstructor, constructor.getThis(),
+                    constructor.loadClassFromTCCL(type.name().toString()),
+                    constructor.newInstance(MethodDescriptor.ofConstructor(jsonDeserializer)));
+        } else {
+            MethodDescriptor superConstructor = MethodDescriptor.ofConstructor(ObjectMapperDeserializer.class, Class.class);
+            constructor.invokeSpecialMethod(superConstructor, constructor.getThis(),
+                    constructor.loadClassFromTCCL(type.name().toString()));
+        }
         constructor.returnValue(null);
         constructor.close();
         creator.close();
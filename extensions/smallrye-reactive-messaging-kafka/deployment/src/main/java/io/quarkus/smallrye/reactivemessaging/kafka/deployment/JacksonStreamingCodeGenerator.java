@@ -0,0 +1,391 @@
+package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
+
+import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.Switch;
+
+/**
+ * Generates a Jackson {@code StdSerializer} and {@code StdDeserializer} reading and writing the properties of a payload
+ * type with the streaming API, without the reflection of Jackson's databinding.
+ * <p>
+ * Only the payload types following the default Jackson conventions are supported: public non-generic classes with a
+ * public no-args constructor and no Jackson annotation, whose properties are public fields or public getters and setters.
+ * The primitive and {@code String} properties are read and written directly, the values of the other properties are
+ * handed to Jackson.
+ */
+final class JacksonStreamingCodeGenerator {
+
+    private static final String JACKSON_PACKAGE_PREFIX = "com.fasterxml.jackson.";
+    private static final DotName KOTLIN_METADATA = DotName.createSimple("kotlin.Metadata");
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+    private static final int SYNTHETIC = 0x1000;
+
+    private static final MethodDescriptor HAS_TOKEN = ofMethod(JsonParser.class, "hasToken", boolean.class,
+            JsonToken.class);
+    private static final MethodDescriptor NEXT_TOKEN = ofMethod(JsonParser.class, "nextToken", JsonToken.class);
+    private static final MethodDescriptor READ_VALUE = ofMethod(DeserializationContext.class, "readValue", Object.class,
+            JsonParser.class, Class.class);
+
+    private JacksonStreamingCodeGenerator() {
+        // Avoid direct instantiation
+    }
+
+    record Property(String name, Type type, MethodInfo getter, MethodInfo setter, FieldInfo field) {
+
+        boolean isReadable() {
+            return getter != null || field != null;
+        }
+    }
+
+    /**
+     * @return the properties of the given type, or {@code null} if the type is not supported
+     */
+    static List<Property> properties(IndexView index, DotName typeName) {
+        ClassInfo classInfo = index.getClassByName(typeName);
+        if (classInfo == null || !Modifier.isPublic(classInfo.flags()) || Modifier.isAbstract(classInfo.flags())
+                || classInfo.isInterface() || classInfo.isEnum() || classInfo.isRecord()) {
+            return null;
+        }
+        // the constructor of a non-static inner class has the enclosing instance as parameter
+        MethodInfo constructor = classInfo.method("<init>");
+        if (constructor == null || !Modifier.isPublic(constructor.flags())) {
+            return null;
+        }
+
+        Deque<ClassInfo> hierarchy = new ArrayDeque<>();
+        ClassInfo current = classInfo;
+        while (true) {
+            if (!current.typeParameters().isEmpty() || current.hasDeclaredAnnotation(KOTLIN_METADATA)
+                    || hasJacksonAnnotation(current)) {
+                return null;
+            }
+            hierarchy.addFirst(current);
+            Type superType = current.superClassType();
+            if (superType == null || superType.name().equals(DotName.OBJECT_NAME)) {
+                break;
+            }
+            current = superType.kind() == Type.Kind.CLASS ? index.getClassByName(superType.name()) : null;
+            if (current == null) {
+                return null;
+            }
+        }
+
+        // the properties are discovered in the order used by Jackson: the fields first, then the methods
+        Map<String, PropertyAccessors> accessors = new LinkedHashMap<>();
+        for (ClassInfo declaringClass : hierarchy) {
+            for (FieldInfo field : declaringClass.unsortedFields()) {
+                int flags = field.flags();
+                if (Modifier.isStatic(flags) || Modifier.isTransient(flags) || (flags & SYNTHETIC) != 0) {
+                    continue;
+                }
+                PropertyAccessors property = accessors.computeIfAbsent(field.name(), k -> new PropertyAccessors());
+                property.field = Modifier.isPublic(flags) ? field : null;
+            }
+        }
+        for (ClassInfo declaringClass : hierarchy) {
+            for (MethodInfo method : declaringClass.unsortedMethods()) {
+                int flags = method.flags();
+                if (Modifier.isStatic(flags) || (flags & SYNTHETIC) != 0 || method.isConstructor()) {
+                    continue;
+                }
+                String name = method.name();
+                if (method.parametersCount() == 1 && name.startsWith("set")) {
+                    String propertyName = propertyName(name, 3);
+                    if (propertyName == null) {
+                        continue;
+                    }
+                    if (!Modifier.isPublic(flags)) {
+                        // Jackson would call the non-public setter with reflection
+                        return null;
+                    }
+                    PropertyAccessors property = accessors.computeIfAbsent(propertyName, k -> new PropertyAccessors());
+                    if (property.setter != null && !property.setter.parameterType(0).name()
+                            .equals(method.parameterType(0).name())) {
+                        // overloaded setters
+                        return null;
+                    }
+                    property.setter = method;
+                } else if (method.parametersCount() == 0 && Modifier.isPublic(flags)) {
+                    String propertyName = null;
+                    if (name.startsWith("get") && method.returnType().kind() != Type.Kind.VOID) {
+                        propertyName = propertyName(name, 3);
+                    } else if (name.startsWith("is") && method.returnType().equals(PrimitiveType.BOOLEAN)) {
+                        propertyName = propertyName(name, 2);
+                    }
+                    if (propertyName != null) {
+                        accessors.computeIfAbsent(propertyName, k -> new PropertyAccessors()).getter = method;
+                    }
+                }
+            }
+        }
+
+        List<Property> properties = new ArrayList<>();
+        for (Map.Entry<String, PropertyAccessors> entry : accessors.entrySet()) {
+            PropertyAccessors property = entry.getValue();
+            FieldInfo field = property.field;
+            Type readType = property.getter != null ? property.getter.returnType() : field != null ? field.type() : null;
+            Type writeType = property.setter != null ? property.setter.parameterType(0)
+                    : field != null && !Modifier.isFinal(field.flags()) ? field.type() : null;
+            if (writeType == null) {
+                if (readType == null) {
+                    // not visible
+                    continue;
+                }
+                // Jackson would set a non-public or final field with reflection
+                return null;
+            }
+            if ((readType != null && !readType.name().equals(writeType.name())) || !isSupportedType(writeType)) {
+                return null;
+            }
+            properties.add(new Property(entry.getKey(), writeType, property.getter, property.setter, field));
+        }
+        return properties;
+    }
+
+    /**
+     * Generates a {@code StdSerializer} writing the given properties.
+     */
+    static void generateSerializer(ClassOutput classOutput, String className, DotName typeName,
+            List<Property> properties) {
+        try (ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(className)
+                .superClass(StdSerializer.class).build()) {
+            MethodCreator constructor = creator.getMethodCreator("<init>", void.class);
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(StdSerializer.class, Class.class),
+                    constructor.getThis(), constructor.loadClassFromTCCL(typeName.toString()));
+            constructor.returnValue(null);
+
+            // the property names are encoded once
+            MethodCreator staticInit = creator.getMethodCreator("<clinit>", void.class)
+                    .setModifiers(Modifier.STATIC);
+            List<FieldDescriptor> names = new ArrayList<>();
+            for (Property property : properties) {
+                FieldDescriptor name = creator.getFieldCreator("NAME_" + names.size(), SerializedString.class)
+                        .setModifiers(Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL).getFieldDescriptor();
+                staticInit.writeStaticField(name, staticInit.newInstance(
+                        MethodDescriptor.ofConstructor(SerializedString.class, String.class),
+                        staticInit.load(property.name())));
+                names.add(name);
+            }
+            staticInit.returnValue(null);
+
+            MethodCreator serialize = creator.getMethodCreator("serialize", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class).addException(IOException.class);
+            ResultHandle bean = serialize.checkCast(serialize.getMethodParam(0), typeName.toString());
+            ResultHandle generator = serialize.getMethodParam(1);
+            ResultHandle provider = serialize.getMethodParam(2);
+            serialize.invokeVirtualMethod(ofMethod(JsonGenerator.class, "writeStartObject", void.class, Object.class),
+                    generator, bean);
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                if (!property.isReadable()) {
+                    continue;
+                }
+                serialize.invokeVirtualMethod(
+                        ofMethod(JsonGenerator.class, "writeFieldName", void.class, SerializableString.class),
+                        generator, serialize.readStaticField(names.get(i)));
+                ResultHandle value = property.getter() != null
+                        ? serialize.invokeVirtualMethod(MethodDescriptor.of(property.getter()), bean)
+                        : serialize.readInstanceField(FieldDescriptor.of(property.field()), bean);
+                writeValue(serialize, generator, provider, property.type(), value);
+            }
+            serialize.invokeVirtualMethod(ofMethod(JsonGenerator.class, "writeEndObject", void.class), generator);
+            serialize.returnValue(null);
+        }
+    }
+
+    /**
+     * Generates a {@code StdDeserializer} reading the given properties, the unknown properties being handled as
+     * configured on the {@code ObjectMapper}.
+     */
+    static void generateDeserializer(ClassOutput classOutput, String className, DotName typeName,
+            List<Property> properties) {
+        try (ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(className)
+                .superClass(StdDeserializer.class).build()) {
+            MethodCreator constructor = creator.getMethodCreator("<init>", void.class);
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(StdDeserializer.class, Class.class),
+                    constructor.getThis(), constructor.loadClassFromTCCL(typeName.toString()));
+            constructor.returnValue(null);
+
+            MethodCreator deserialize = creator.getMethodCreator("deserialize", Object.class, JsonParser.class,
+                    DeserializationContext.class).addException(IOException.class);
+            ResultHandle parser = deserialize.getMethodParam(0);
+            ResultHandle context = deserialize.getMethodParam(1);
+            ResultHandle bean = deserialize.newInstance(MethodDescriptor.ofConstructor(typeName.toString()));
+
+            // the parser is either on the start of the object or on its first property
+            BranchResult startObject = deserialize.ifTrue(hasToken(deserialize, parser, "START_OBJECT"));
+            startObject.trueBranch().invokeVirtualMethod(NEXT_TOKEN, parser);
+            BytecodeCreator notStartObject = startObject.falseBranch();
+            BytecodeCreator unexpectedToken = notStartObject
+                    .ifTrue(hasToken(notStartObject, parser, "FIELD_NAME")).falseBranch();
+            unexpectedToken.returnValue(unexpectedToken.invokeVirtualMethod(
+                    ofMethod(DeserializationContext.class, "handleUnexpectedToken", Object.class, Class.class,
+                            JsonParser.class),
+                    context, unexpectedToken.loadClassFromTCCL(typeName.toString()), parser));
+
+            BytecodeCreator loop = deserialize.whileLoop(c -> c.ifTrue(hasToken(c, parser, "FIELD_NAME"))).block();
+            ResultHandle name = loop.invokeVirtualMethod(ofMethod(JsonParser.class, "currentName", String.class), parser);
+            loop.invokeVirtualMethod(NEXT_TOKEN, parser);
+            Switch.StringSwitch nameSwitch = loop.stringSwitch(name);
+            for (Property property : properties) {
+                nameSwitch.caseOf(property.name(), bytecode -> {
+                    ResultHandle value = readValue(bytecode, className, parser, context, property.type());
+                    if (property.setter() != null) {
+                        bytecode.invokeVirtualMethod(MethodDescriptor.of(property.setter()), bean, value);
+                    } else {
+                        bytecode.writeInstanceField(FieldDescriptor.of(property.field()), bean, value);
+                    }
+                });
+            }
+            nameSwitch.defaultCase(bytecode -> bytecode.invokeVirtualMethod(
+                    ofMethod(DeserializationContext.class, "handleUnknownProperty", boolean.class, JsonParser.class,
+                            JsonDeserializer.class, Object.class, String.class),
+                    context, parser, bytecode.getThis(), bean, name));
+            loop.invokeVirtualMethod(NEXT_TOKEN, parser);
+
+            deserialize.returnValue(bean);
+        }
+    }
+
+    private static void writeValue(BytecodeCreator bytecode, ResultHandle generator, ResultHandle provider, Type type,
+            ResultHandle value) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            Class<?> valueType = switch (type.asPrimitiveType().primitive()) {
+                case BOOLEAN -> boolean.class;
+                case LONG -> long.class;
+                case FLOAT -> float.class;
+                case DOUBLE -> double.class;
+                // the byte and short values are ints for the JVM
+                default -> int.class;
+            };
+            String method = valueType == boolean.class ? "writeBoolean" : "writeNumber";
+            bytecode.invokeVirtualMethod(ofMethod(JsonGenerator.class, method, void.class, valueType), generator, value);
+        } else if (type.name().equals(STRING)) {
+            bytecode.invokeVirtualMethod(ofMethod(JsonGenerator.class, "writeString", void.class, String.class),
+                    generator, value);
+        } else {
+            bytecode.invokeVirtualMethod(ofMethod(SerializerProvider.class, "defaultSerializeValue", void.class,
+                    Object.class, JsonGenerator.class), provider, value, generator);
+        }
+    }
+
+    private static ResultHandle readValue(BytecodeCreator bytecode, String className, ResultHandle parser,
+            ResultHandle context, Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            // the coercions and the null values are handled like Jackson does
+            String method = switch (type.asPrimitiveType().primitive()) {
+                case BOOLEAN -> "_parseBooleanPrimitive";
+                case BYTE -> "_parseBytePrimitive";
+                case SHORT -> "_parseShortPrimitive";
+                case INT -> "_parseIntPrimitive";
+                case LONG -> "_parseLongPrimitive";
+                case FLOAT -> "_parseFloatPrimitive";
+                case DOUBLE -> "_parseDoublePrimitive";
+                default -> throw new IllegalStateException("Unsupported property type " + type);
+            };
+            return bytecode.invokeVirtualMethod(ofMethod(className, method, DescriptorUtils.typeToString(type),
+                    JsonParser.class, DeserializationContext.class), bytecode.getThis(), parser, context);
+        }
+        AssignableResultHandle value = bytecode.createVariable(DescriptorUtils.typeToString(type));
+        BytecodeCreator notNull = bytecode;
+        if (type.name().equals(STRING)) {
+            BranchResult string = bytecode.ifTrue(hasToken(bytecode, parser, "VALUE_STRING"));
+            string.trueBranch().assign(value,
+                    string.trueBranch().invokeVirtualMethod(ofMethod(JsonParser.class, "getText", String.class), parser));
+            notNull = string.falseBranch();
+        }
+        BranchResult nullValue = notNull.ifTrue(hasToken(notNull, parser, "VALUE_NULL"));
+        nullValue.trueBranch().assign(value, nullValue.trueBranch().loadNull());
+        BytecodeCreator otherValue = nullValue.falseBranch();
+        otherValue.assign(value, otherValue.checkCast(otherValue.invokeVirtualMethod(READ_VALUE, context, parser,
+                otherValue.loadClassFromTCCL(type.name().toString())), type.name().toString()));
+        return value;
+    }
+
+    private static ResultHandle hasToken(BytecodeCreator bytecode, ResultHandle parser, String token) {
+        return bytecode.invokeVirtualMethod(HAS_TOKEN, parser,
+                bytecode.readStaticField(FieldDescriptor.of(JsonToken.class, token, JsonToken.class)));
+    }
+
+    private static boolean isSupportedType(Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            return type.asPrimitiveType().primitive() != PrimitiveType.Primitive.CHAR;
+        }
+        return type.kind() == Type.Kind.CLASS;
+    }
+
+    private static boolean hasJacksonAnnotation(ClassInfo classInfo) {
+        return classInfo.annotations().stream()
+                .anyMatch(annotation -> annotation.name().toString().startsWith(JACKSON_PACKAGE_PREFIX));
+    }
+
+    /**
+     * Derives the name of a property from the name of its getter or setter, like Jackson does by default.
+     */
+    static String propertyName(String methodName, int prefixLength) {
+        int length = methodName.length();
+        if (length == prefixLength) {
+            return null;
+        }
+        char first = methodName.charAt(prefixLength);
+        if (Character.toLowerCase(first) == first) {
+            return methodName.substring(prefixLength);
+        }
+        // the leading upper case characters are lower cased
+        StringBuilder name = new StringBuilder(length - prefixLength);
+        for (int i = prefixLength; i < length; i++) {
+            char c = methodName.charAt(i);
+            char lower = Character.toLowerCase(c);
+            if (c == lower) {
+                name.append(methodName, i, length);
+                break;
+            }
+            name.append(lower);
+        }
+        return name.toString();
+    }
+
+    private static final class PropertyAccessors {
+        private FieldInfo field;
+        private MethodInfo getter;
+        private MethodInfo setter;
+    }
+}
@@ -24,6 +24,19 @@ public interface ReactiveMessagingKafkaBuildTimeConfig {
     @WithDefault("true")
     boolean serializerGenerationEnabled();
 
+    /**
+     * Whether the generated Kafka serializers/deserializers read and write the properties of the payload types with
+     * code generated at build time, instead of relying on Jackson's reflection-based databinding.
+     * <p>
+     * Only the public classes with a public no-args constructor, public fields or public getters and setters, and no
+     * Jackson annotation are supported, the serializers/deserializers of the other types rely on the databinding.
+     * The naming strategy, inclusion rules and mix-ins of the {@code ObjectMapper} are not applied to the properties of
+     * the payload types, but they are applied to the nested values.
+     */
+    @WithName("serializer-generation.reflection-free.enabled")
+    @WithDefault("false")
+    boolean serializerGenerationReflectionFreeEnabled();
+
     /**
      * Enables the graceful shutdown in dev and test modes.
      * The graceful shutdown waits until the inflight records have been processed and the offset committed to Kafka.
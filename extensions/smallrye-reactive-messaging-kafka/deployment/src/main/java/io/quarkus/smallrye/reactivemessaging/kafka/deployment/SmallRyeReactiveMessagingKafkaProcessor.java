@@ -190,7 +190,8 @@ public void defaultChannelConfiguration(
             BuildProducer<GeneratedClassBuildItem> generatedClass,
             BuildProducer<ReflectiveClassBuildItem> reflection) {
 
-        DefaultSerdeDiscoveryState discoveryState = new DefaultSerdeDiscoveryState(combinedIndex.getIndex());
+        DefaultSerdeDiscoveryState discoveryState = new DefaultSerdeDiscoveryState(combinedIndex.getIndex(),
+                buildTimeConfig.serializerGenerationReflectionFreeEnabled());
         if (buildTimeConfig.serializerAutodetectionEnabled()) {
             discoverDefaultSerdeConfig(discoveryState, channelsManagedByConnectors, defaultConfigProducer,
                     buildTimeConfig.serializerGenerationEnabled() ? generatedClass : null, reflection);
@@ -885,7 +886,8 @@ private Result deserializerFor(DefaultSerdeDiscoveryState discovery,
             // Check if already generated
             result = alreadyGeneratedDeserializers.get(type.name().toString());
             if (result == null) {
-                String clazz = JacksonSerdeGenerator.generateDeserializer(generatedClass, type);
+                String clazz = JacksonSerdeGenerator.generateDeserializer(generatedClass, type,
+                        discovery.getReflectionFreeSerdeIndex());
                 LOGGER.infof("Generating Jackson deserializer for type %s", type.name().toString());
                 // Deserializers are access by reflection.
                 reflection.produce(
@@ -924,7 +926,8 @@ private Result serializerFor(DefaultSerdeDiscoveryState discovery, Type type,
             // Check if already generated
             result = alreadyGeneratedSerializers.get(type.name().toString());
             if (result == null) {
-                String clazz = JacksonSerdeGenerator.generateSerializer(generatedClass, type);
+                String clazz = JacksonSerdeGenerator.generateSerializer(generatedClass, type,
+                        discovery.getReflectionFreeSerdeIndex());
                 LOGGER.infof("Generating Jackson serializer for type %s", type.name().toString());
                 // Serializers are access by reflection.
                 reflection.produce(
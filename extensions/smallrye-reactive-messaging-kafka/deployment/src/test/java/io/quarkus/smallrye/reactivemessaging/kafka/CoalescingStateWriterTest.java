@@ -0,0 +1,173 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Vertx;
+
+public class CoalescingStateWriterTest {
+
+    private static final TopicPartition TP0 = new TopicPartition("topic", 0);
+    private static final TopicPartition TP1 = new TopicPartition("topic", 1);
+
+    private final List<Map<TopicPartition, ProcessingState<?>>> written = new ArrayList<>();
+    private final List<UniEmitter<? super Void>> inFlight = new ArrayList<>();
+
+    private final CoalescingStateWriter writer = new CoalescingStateWriter(states -> Uni.createFrom().emitter(e -> {
+        written.add(Map.copyOf(states));
+        inFlight.add(e);
+    }));
+
+    private Vertx vertx;
+
+    @BeforeEach
+    void createVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void closeVertx() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testWritesCoalescedWhileWriting() {
+        UniAssertSubscriber<Void> first = persist(Map.of(TP0, new ProcessingState<>("a", 1)));
+        UniAssertSubscriber<Void> second = persist(Map.of(TP0, new ProcessingState<>("b", 2)));
+        UniAssertSubscriber<Void> third = persist(Map.of(TP0, new ProcessingState<>("c", 3),
+                TP1, new ProcessingState<>("d", 1)));
+        assertThat(written).hasSize(1);
+        first.assertNotTerminated();
+
+        inFlight.get(0).complete(null);
+        first.assertCompleted();
+        second.assertNotTerminated();
+        assertThat(written).hasSize(2);
+        assertThat(written.get(1)).containsOnlyKeys(TP0, TP1);
+        assertThat(written.get(1).get(TP0).getState()).isEqualTo("c");
+
+        inFlight.get(1).complete(null);
+        second.assertCompleted();
+        third.assertCompleted();
+        assertThat(written).hasSize(2);
+    }
+
+    @Test
+    void testOlderStateNotWritten() {
+        persist(Map.of(TP0, new ProcessingState<>("a", 1)));
+        persist(Map.of(TP0, new ProcessingState<>("c", 3)));
+        persist(Map.of(TP0, new ProcessingState<>("b", 2)));
+
+        inFlight.get(0).complete(null);
+        assertThat(written.get(1).get(TP0).getOffset()).isEqualTo(3);
+    }
+
+    @Test
+    void testFailurePropagated() {
+        UniAssertSubscriber<Void> first = persist(Map.of(TP0, new ProcessingState<>("a", 1)));
+        UniAssertSubscriber<Void> second = persist(Map.of(TP0, new ProcessingState<>("b", 2)));
+
+        inFlight.get(0).fail(new IllegalStateException("boom"));
+        first.assertFailedWith(IllegalStateException.class, "boom");
+        second.assertNotTerminated();
+
+        inFlight.get(1).complete(null);
+        second.assertCompleted();
+
+        persist(Map.of(TP0, new ProcessingState<>("c", 3)));
+        assertThat(written).hasSize(3);
+    }
+
+    @Test
+    void testSynchronousWritesDoNotRecurse() {
+        List<UniAssertSubscriber<Void>> persisted = new ArrayList<>();
+        CoalescingStateWriter[] synchronous = new CoalescingStateWriter[1];
+        synchronous[0] = new CoalescingStateWriter(states -> {
+            written.add(states);
+            // persisted while the write is handled, and written once it completed synchronously
+            if (written.size() < 10_000) {
+                persisted.add(synchronous[0].persist(Map.of(TP0, new ProcessingState<>("a", written.size())))
+                        .subscribe().withSubscriber(UniAssertSubscriber.create()));
+            }
+            return Uni.createFrom().voidItem();
+        });
+        synchronous[0].persist(Map.of(TP0, new ProcessingState<>("a", 0))).subscribe()
+                .withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+        assertThat(written).hasSize(10_000);
+        persisted.forEach(UniAssertSubscriber::assertCompleted);
+    }
+
+    @Test
+    void testWriteBehindMaxPartitions() {
+        CoalescingStateWriter delayed = new CoalescingStateWriter(states -> Uni.createFrom().emitter(e -> {
+            written.add(Map.copyOf(states));
+            inFlight.add(e);
+        }), new CoalescingStateWriter.WriteBehind(vertx, Duration.ofHours(1), 2));
+        UniAssertSubscriber<Void> first = delayed.persist(Map.of(TP0, new ProcessingState<>("a", 1))).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        assertThat(written).isEmpty();
+        first.assertNotTerminated();
+
+        UniAssertSubscriber<Void> second = delayed.persist(Map.of(TP1, new ProcessingState<>("b", 1))).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        assertThat(written).hasSize(1);
+        assertThat(written.get(0)).containsOnlyKeys(TP0, TP1);
+        inFlight.get(0).complete(null);
+        first.assertCompleted();
+        second.assertCompleted();
+    }
+
+    @Test
+    void testWriteBehindInterval() {
+        CoalescingStateWriter delayed = new CoalescingStateWriter(states -> {
+            synchronized (written) {
+                written.add(Map.copyOf(states));
+            }
+            return Uni.createFrom().voidItem();
+        }, new CoalescingStateWriter.WriteBehind(vertx, Duration.ofMillis(200), 1000));
+        UniAssertSubscriber<Void> first = delayed.persist(Map.of(TP0, new ProcessingState<>("a", 1))).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<Void> second = delayed.persist(Map.of(TP0, new ProcessingState<>("b", 2))).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        first.assertNotTerminated();
+
+        second.awaitItem(Duration.ofSeconds(10));
+        first.assertCompleted();
+        synchronized (written) {
+            assertThat(written).hasSize(1);
+            assertThat(written.get(0).get(TP0).getOffset()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testFlushWritesWithoutWaiting() {
+        CoalescingStateWriter delayed = new CoalescingStateWriter(states -> {
+            written.add(Map.copyOf(states));
+            return Uni.createFrom().voidItem();
+        }, new CoalescingStateWriter.WriteBehind(vertx, Duration.ofHours(1), 1000));
+        UniAssertSubscriber<Void> persisted = delayed.persist(Map.of(TP0, new ProcessingState<>("a", 1))).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        persisted.assertNotTerminated();
+
+        delayed.flush();
+        persisted.assertCompleted();
+        assertThat(written).hasSize(1);
+    }
+
+    private UniAssertSubscriber<Void> persist(Map<TopicPartition, ProcessingState<?>> states) {
+        return writer.persist(states).subscribe().withSubscriber(UniAssertSubscriber.create());
+    }
+}
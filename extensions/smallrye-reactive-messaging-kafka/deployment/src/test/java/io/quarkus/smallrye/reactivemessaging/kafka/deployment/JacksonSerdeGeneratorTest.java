@@ -0,0 +1,212 @@
+package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.quarkus.commons.classloading.ClassLoaderHelper;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+
+public class JacksonSerdeGeneratorTest {
+
+    @Test
+    public void testReflectionFreeRoundTrip() throws Exception {
+        List<GeneratedClassBuildItem> generated = new ArrayList<>();
+        IndexView index = index(Fruit.class, Product.class);
+        Type type = ClassType.create(DotName.createSimple(Fruit.class.getName()));
+        String serializerName = JacksonSerdeGenerator.generateSerializer(generated::add, type, index);
+        String deserializerName = JacksonSerdeGenerator.generateDeserializer(generated::add, type, index);
+
+        assertThat(generated).extracting(GeneratedClassBuildItem::internalName)
+                .anySatisfy(name -> assertThat(name).contains("Fruit_JsonSerializer_"))
+                .anySatisfy(name -> assertThat(name).contains("Fruit_JsonDeserializer_"));
+
+        Fruit fruit = new Fruit();
+        fruit.setName("apple");
+        fruit.setWeight(150);
+        fruit.setOrganic(true);
+        fruit.setPrice(1.5d);
+        fruit.origin = "Normandy";
+        fruit.tags = new Product();
+        fruit.tags.sku = "A-1";
+
+        withGeneratedClasses(generated, loader -> {
+            byte[] json = this.<Fruit> serializer(loader, serializerName).serialize("fruits", fruit);
+            assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo(
+                    "{\"sku\":null,\"name\":\"apple\",\"origin\":\"Normandy\",\"tags\":{\"sku\":\"A-1\"},"
+                            + "\"weight\":150,\"organic\":true,\"price\":1.5}");
+
+            Deserializer<Fruit> deserializer = deserializer(loader, deserializerName);
+            for (Fruit read : List.of(deserializer.deserialize("fruits", json),
+                    deserializer.deserialize("fruits", new RecordHeaders(), ByteBuffer.wrap(json)),
+                    deserializer.deserialize("fruits", new RecordHeaders(), ByteBuffer.allocateDirect(json.length)
+                            .put(json).flip()))) {
+                assertThat(read.getName()).isEqualTo("apple");
+                assertThat(read.getWeight()).isEqualTo(150);
+                assertThat(read.isOrganic()).isTrue();
+                assertThat(read.getPrice()).isEqualTo(1.5d);
+                assertThat(read.origin).isEqualTo("Normandy");
+                assertThat(read.tags.sku).isEqualTo("A-1");
+                assertThat(read.sku).isNull();
+            }
+
+            Fruit lenient = deserializer.deserialize("fruits",
+                    "{\"weight\":\"12\",\"name\":null,\"tags\":null}".getBytes(StandardCharsets.UTF_8));
+            assertThat(lenient.getWeight()).isEqualTo(12);
+            assertThat(lenient.getName()).isNull();
+            assertThat(lenient.tags).isNull();
+        });
+    }
+
+    @Test
+    public void testUnsupportedTypeUsesDatabinding() throws Exception {
+        List<GeneratedClassBuildItem> generated = new ArrayList<>();
+        IndexView index = index(Annotated.class);
+        Type type = ClassType.create(DotName.createSimple(Annotated.class.getName()));
+        String serializerName = JacksonSerdeGenerator.generateSerializer(generated::add, type, index);
+        String deserializerName = JacksonSerdeGenerator.generateDeserializer(generated::add, type, index);
+
+        assertThat(generated).hasSize(2).extracting(GeneratedClassBuildItem::internalName)
+                .noneSatisfy(name -> assertThat(name).contains("_Json"));
+
+        withGeneratedClasses(generated, loader -> {
+            Annotated annotated = new Annotated();
+            annotated.value = "v";
+            byte[] json = this.<Annotated> serializer(loader, serializerName).serialize("t", annotated);
+            assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo("{\"renamed\":\"v\"}");
+            assertThat(this.<Annotated> deserializer(loader, deserializerName).deserialize("t", json).value)
+                    .isEqualTo("v");
+        });
+    }
+
+    @Test
+    public void testPropertyName() {
+        assertThat(JacksonStreamingCodeGenerator.propertyName("getName", 3)).isEqualTo("name");
+        assertThat(JacksonStreamingCodeGenerator.propertyName("isOK", 2)).isEqualTo("ok");
+        assertThat(JacksonStreamingCodeGenerator.propertyName("getURLValue", 3)).isEqualTo("urlvalue");
+        assertThat(JacksonStreamingCodeGenerator.propertyName("get", 3)).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Serializer<T> serializer(ClassLoader loader, String name) throws Exception {
+        return (Serializer<T>) loader.loadClass(name).getConstructor().newInstance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Deserializer<T> deserializer(ClassLoader loader, String name) throws Exception {
+        return (Deserializer<T>) loader.loadClass(name).getConstructor().newInstance();
+    }
+
+    private static void withGeneratedClasses(List<GeneratedClassBuildItem> generated, ThrowingConsumer action)
+            throws Exception {
+        Map<String, byte[]> classes = new HashMap<>();
+        for (GeneratedClassBuildItem item : generated) {
+            classes.put(item.internalName().replace('/', '.'), item.getClassData());
+        }
+        ClassLoader loader = new ClassLoader(JacksonSerdeGeneratorTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                byte[] bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+        Thread thread = Thread.currentThread();
+        ClassLoader tccl = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            action.accept(loader);
+        } finally {
+            thread.setContextClassLoader(tccl);
+        }
+    }
+
+    private static IndexView index(Class<?>... classes) {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            String resourceName = ClassLoaderHelper.fromClassNameToResourceName(clazz.getName());
+            try (InputStream stream = JacksonSerdeGeneratorTest.class.getClassLoader()
+                    .getResourceAsStream(resourceName)) {
+                indexer.index(stream);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return indexer.complete();
+    }
+
+    interface ThrowingConsumer {
+        void accept(ClassLoader loader) throws Exception;
+    }
+
+    public static class Product {
+        public String sku;
+    }
+
+    public static class Fruit extends Product {
+        private String name;
+        public String origin;
+        public Product tags;
+        private int weight;
+        private boolean organic;
+        private double price;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public void setWeight(int weight) {
+            this.weight = weight;
+        }
+
+        public boolean isOrganic() {
+            return organic;
+        }
+
+        public void setOrganic(boolean organic) {
+            this.organic = organic;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+    }
+
+    public static class Annotated {
+        @JsonProperty("renamed")
+        public String value;
+    }
+}
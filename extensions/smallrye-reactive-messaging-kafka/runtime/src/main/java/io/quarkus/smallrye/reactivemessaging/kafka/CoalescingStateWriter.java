@@ -0,0 +1,227 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.apache.kafka.common.TopicPartition;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.kafka.commit.KafkaCommitHandler;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Coalesces the processing states persisted by a state store: while a write is in flight, the states persisted
+ * concurrently are merged, keeping the state with the highest offset of each topic-partition, and written by a single
+ * write once the write in flight completes.
+ * <p>
+ * With write-behind enabled, the states are not written as soon as no write is in flight, but once the write-behind
+ * interval elapsed since the first of them was persisted, or once states of the maximum number of topic-partitions are
+ * pending, whichever comes first.
+ * <p>
+ * The {@code Uni} returned by {@link #persist(Map)} completes once the given states, or newer states of the same
+ * topic-partitions, are written, so the states persisted on partition revocation are still written before the
+ * revocation completes.
+ */
+final class CoalescingStateWriter {
+
+    static final String WRITE_BEHIND_INTERVAL = KafkaCommitHandler.Strategy.CHECKPOINT + ".write-behind.interval.ms";
+    static final String WRITE_BEHIND_MAX_PARTITIONS = KafkaCommitHandler.Strategy.CHECKPOINT
+            + ".write-behind.max-partitions";
+
+    private final Function<Map<TopicPartition, ProcessingState<?>>, Uni<Void>> writer;
+    private final WriteBehind writeBehind;
+
+    private Map<TopicPartition, ProcessingState<?>> pending = new HashMap<>();
+    private List<UniEmitter<? super Void>> waiting = new ArrayList<>();
+    private boolean writing;
+    // the time the pending states must be written at, with write-behind enabled
+    private long deadline;
+    private boolean flushScheduled;
+    private boolean flushRequested;
+
+    CoalescingStateWriter(Function<Map<TopicPartition, ProcessingState<?>>, Uni<Void>> writer) {
+        this(writer, WriteBehind.DISABLED);
+    }
+
+    CoalescingStateWriter(Function<Map<TopicPartition, ProcessingState<?>>, Uni<Void>> writer, WriteBehind writeBehind) {
+        this.writer = writer;
+        this.writeBehind = writeBehind;
+    }
+
+    Uni<Void> persist(Map<TopicPartition, ProcessingState<?>> states) {
+        return Uni.createFrom().emitter(emitter -> {
+            boolean write;
+            synchronized (this) {
+                if (waiting.isEmpty()) {
+                    deadline = System.nanoTime() + writeBehind.interval.toNanos();
+                }
+                for (Map.Entry<TopicPartition, ProcessingState<?>> entry : states.entrySet()) {
+                    if (entry.getValue() == null) {
+                        pending.putIfAbsent(entry.getKey(), null);
+                    } else {
+                        pending.merge(entry.getKey(), entry.getValue(), CoalescingStateWriter::latest);
+                    }
+                }
+                waiting.add(emitter);
+                write = !writing;
+                writing = true;
+            }
+            if (write) {
+                write();
+            }
+        });
+    }
+
+    /**
+     * Writes the pending states without waiting for the write-behind interval, for instance when the state store is
+     * closed.
+     */
+    void flush() {
+        boolean write;
+        synchronized (this) {
+            flushRequested = true;
+            write = !writing;
+            writing = true;
+        }
+        if (write) {
+            write();
+        }
+    }
+
+    /**
+     * Writes the pending states until none are left, or until the write-behind delays them. A write completing
+     * synchronously is followed by the next one in this loop, and a write completing later by a new call from its
+     * completion, so that the stack does not grow with the number of writes.
+     */
+    private void write() {
+        while (true) {
+            Map<TopicPartition, ProcessingState<?>> states;
+            List<UniEmitter<? super Void>> emitters;
+            synchronized (this) {
+                if (waiting.isEmpty()) {
+                    flushRequested = false;
+                    writing = false;
+                    return;
+                }
+                long delay = flushRequested ? 0 : delay();
+                if (delay > 0) {
+                    writing = false;
+                    scheduleFlush(delay);
+                    return;
+                }
+                states = pending;
+                emitters = waiting;
+                pending = new HashMap<>();
+                waiting = new ArrayList<>();
+                flushRequested = false;
+            }
+            Uni<Void> write;
+            try {
+                write = states.isEmpty() ? Uni.createFrom().voidItem() : writer.apply(states);
+            } catch (Throwable t) {
+                write = Uni.createFrom().failure(t);
+            }
+            // cleared by whichever of this loop and the completion gets to it first
+            AtomicBoolean inLoop = new AtomicBoolean(true);
+            write.subscribe().with(ignored -> {
+                emitters.forEach(e -> e.complete(null));
+                if (!inLoop.compareAndSet(true, false)) {
+                    write();
+                }
+            }, failure -> {
+                emitters.forEach(e -> e.fail(failure));
+                if (!inLoop.compareAndSet(true, false)) {
+                    write();
+                }
+            });
+            if (inLoop.compareAndSet(true, false)) {
+                // not completed yet, the completion writes the next states
+                return;
+            }
+        }
+    }
+
+    /**
+     * Called with the lock held.
+     *
+     * @return the nanoseconds to wait before writing the pending states, {@code 0} to write them now
+     */
+    private long delay() {
+        if (!writeBehind.isEnabled() || pending.size() >= writeBehind.maxPartitions) {
+            return 0;
+        }
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    // called with the lock held
+    private void scheduleFlush(long delayNanos) {
+        if (flushScheduled) {
+            return;
+        }
+        flushScheduled = true;
+        // the Vert.x timers run on a Vert.x context, which the blocking writes of the stores require
+        writeBehind.vertx.setTimer(Math.max(1, Duration.ofNanos(delayNanos).toMillis()), ignored -> {
+            boolean write;
+            synchronized (this) {
+                flushScheduled = false;
+                write = !writing;
+                writing = true;
+            }
+            if (write) {
+                write();
+            }
+        });
+    }
+
+    /**
+     * Keeps the state with the highest offset, a state store never overwrites a state with an older one.
+     */
+    private static ProcessingState<?> latest(ProcessingState<?> current, ProcessingState<?> state) {
+        if (ProcessingState.isEmptyOrNull(state)) {
+            return current;
+        }
+        if (ProcessingState.isEmptyOrNull(current) || state.getOffset() >= current.getOffset()) {
+            return state;
+        }
+        return current;
+    }
+
+    /**
+     * The write-behind of a state store, disabled if the interval is zero.
+     *
+     * @param vertx the Vert.x instance scheduling the delayed writes
+     * @param interval the maximum time the persisted states wait before being written
+     * @param maxPartitions the number of topic-partitions with pending states written without waiting for the interval
+     */
+    record WriteBehind(Vertx vertx, Duration interval, int maxPartitions) {
+
+        static final WriteBehind DISABLED = new WriteBehind(null, Duration.ZERO, 0);
+
+        /**
+         * Reads the write-behind of a channel from the
+         * {@code mp.messaging.incoming.[channel-name].checkpoint.write-behind.interval.ms} and
+         * {@code mp.messaging.incoming.[channel-name].checkpoint.write-behind.max-partitions} properties.
+         */
+        static WriteBehind of(KafkaConnectorIncomingConfiguration config, Vertx vertx) {
+            long interval = config.config().getOptionalValue(WRITE_BEHIND_INTERVAL, Long.class).orElse(0L);
+            if (interval <= 0) {
+                return DISABLED;
+            }
+            int maxPartitions = config.config().getOptionalValue(WRITE_BEHIND_MAX_PARTITIONS, Integer.class)
+                    .orElse(1000);
+            return new WriteBehind(vertx, Duration.ofMillis(interval), maxPartitions);
+        }
+
+        boolean isEnabled() {
+            return !interval.isZero();
+        }
+    }
+}
@@ -33,12 +33,19 @@ public class HibernateOrmStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final SessionFactory sf;
     private final Class<? extends CheckpointEntity> stateType;
+    private final CoalescingStateWriter writer;
 
     public HibernateOrmStateStore(String consumerGroupId, SessionFactory sf,
             Class<? extends CheckpointEntity> stateType) {
+        this(consumerGroupId, sf, stateType, CoalescingStateWriter.WriteBehind.DISABLED);
+    }
+
+    HibernateOrmStateStore(String consumerGroupId, SessionFactory sf,
+            Class<? extends CheckpointEntity> stateType, CoalescingStateWriter.WriteBehind writeBehind) {
         this.consumerGroupId = consumerGroupId;
         this.sf = sf;
         this.stateType = stateType;
+        this.writer = new CoalescingStateWriter(this::write, writeBehind);
     }
 
     @ApplicationScoped
@@ -62,7 +69,8 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             SessionFactory sf = persistenceUnit != null
                     ? sessionFactories.select(new PersistenceUnit.PersistenceUnitLiteral(persistenceUnit)).get()
                     : sessionFactories.get();
-            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType,
+                    CoalescingStateWriter.WriteBehind.of(config, vertx));
         }
     }
 
@@ -103,6 +111,10 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
 
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
+        return writer.persist(state);
+    }
+
+    private Uni<Void> write(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
             Object[] entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
@@ -29,12 +29,19 @@ public class HibernateReactiveStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final Mutiny.SessionFactory sf;
     private final Class<? extends CheckpointEntity> stateType;
+    private final CoalescingStateWriter writer;
 
     public HibernateReactiveStateStore(String consumerGroupId, Mutiny.SessionFactory sf,
             Class<? extends CheckpointEntity> stateType) {
+        this(consumerGroupId, sf, stateType, CoalescingStateWriter.WriteBehind.DISABLED);
+    }
+
+    HibernateReactiveStateStore(String consumerGroupId, Mutiny.SessionFactory sf,
+            Class<? extends CheckpointEntity> stateType, CoalescingStateWriter.WriteBehind writeBehind) {
         this.consumerGroupId = consumerGroupId;
         this.sf = sf;
         this.stateType = stateType;
+        this.writer = new CoalescingStateWriter(this::write, writeBehind);
     }
 
     @ApplicationScoped
@@ -51,7 +58,8 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             if (!CheckpointEntity.class.isAssignableFrom(stateType)) {
                 throw new IllegalArgumentException("State type needs to extend `CheckpointEntity`");
             }
-            return new HibernateReactiveStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            return new HibernateReactiveStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType,
+                    CoalescingStateWriter.WriteBehind.of(config, vertx));
         }
     }
 
@@ -77,6 +85,10 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
 
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
+        return writer.persist(state);
+    }
+
+    private Uni<Void> write(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
             Object[] entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
@@ -39,11 +39,18 @@ public class RedisStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final ProcessingStateCodec stateCodec;
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final CoalescingStateWriter writer;
 
     public RedisStateStore(ReactiveRedisDataSource redis, String consumerGroupId, ProcessingStateCodec stateCodec) {
+        this(redis, consumerGroupId, stateCodec, CoalescingStateWriter.WriteBehind.DISABLED);
+    }
+
+    RedisStateStore(ReactiveRedisDataSource redis, String consumerGroupId, ProcessingStateCodec stateCodec,
+            CoalescingStateWriter.WriteBehind writeBehind) {
         this.redis = redis;
         this.consumerGroupId = consumerGroupId;
         this.stateCodec = stateCodec;
+        this.writer = new CoalescingStateWriter(this::write, writeBehind);
     }
 
     @ApplicationScoped
@@ -74,12 +81,14 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
                     return stateCodecFactory.get();
                 }
             }).create(stateType);
-            return new RedisStateStore(rds, consumerGroupId, stateCodec);
+            return new RedisStateStore(rds, consumerGroupId, stateCodec, CoalescingStateWriter.WriteBehind.of(config, vertx));
         }
     }
 
     @Override
     public void close() {
+        // the states delayed by the write-behind are written before the store is closed
+        writer.flush();
         closed.set(true);
     }
 
@@ -109,6 +118,10 @@ private TopicPartition getTpFromKey(String key) {
 
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> states) {
+        return writer.persist(states);
+    }
+
+    private Uni<Void> write(Map<TopicPartition, ProcessingState<?>> states) {
         if (states.isEmpty() || closed.get()) {
             return Uni.createFrom().voidItem();
         }
@@ -0,0 +1,19 @@
+package io.quarkus.vertx.http.testrunner.profiles;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.vertx.ext.web.Router;
+
+@ApplicationScoped
+public class GreetingResource {
+
+    @ConfigProperty(name = "greeting")
+    String greeting;
+
+    public void route(@Observes Router router) {
+        router.route("/greeting").handler(event -> event.response().end(greeting));
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.vertx.http.testrunner.profiles;
+
+import java.util.function.Supplier;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.ContinuousTestingTestUtils;
+import io.quarkus.test.ContinuousTestingTestUtils.TestStatus;
+import io.quarkus.test.QuarkusDevModeTest;
+
+public class ParallelProfilesTestCase {
+
+    @RegisterExtension
+    static QuarkusDevModeTest test = new QuarkusDevModeTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClass(GreetingResource.class)
+                            .add(new StringAsset(ContinuousTestingTestUtils.appProperties(
+                                    "quarkus.test.parallel-profiles=true", "greeting=default")), "application.properties");
+                }
+            })
+            .setTestArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(FirstProfile.class, FirstProfileET.class,
+                            SecondProfile.class, SecondProfileET.class);
+                }
+            });
+
+    @Test
+    public void testProfilesRunConcurrently() throws InterruptedException {
+        ContinuousTestingTestUtils utils = new ContinuousTestingTestUtils();
+        TestStatus ts = utils.waitForNextCompletion();
+
+        Assertions.assertEquals(0L, ts.getTestsFailed());
+        Assertions.assertEquals(4L, ts.getTestsPassed());
+        Assertions.assertEquals(0L, ts.getTestsSkipped());
+    }
+}
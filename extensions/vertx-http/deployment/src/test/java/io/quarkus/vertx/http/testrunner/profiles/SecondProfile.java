@@ -0,0 +1,13 @@
+package io.quarkus.vertx.http.testrunner.profiles;
+
+import java.util.Map;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+public class SecondProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("greeting", "second");
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.vertx.http.testrunner.profiles;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+
+import java.net.URL;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(SecondProfile.class)
+public class SecondProfileET {
+
+    @TestHTTPResource("greeting")
+    URL url;
+
+    @Test
+    public void testProfileConfig() {
+        given()
+                .when().get(url)
+                .then()
+                .statusCode(200)
+                .body(is("second"));
+    }
+
+    @Test
+    public void testPortNotPublishedToSystemProperties() {
+        int port = ConfigProvider.getConfig().getValue("quarkus.http.test-port", Integer.class);
+        Assertions.assertNotEquals(0, port);
+        Assertions.assertEquals(port, url.getPort());
+        // the application of the other test profile runs at the same time on another port
+        Assertions.assertNull(System.getProperty("quarkus.http.test-port"));
+    }
+}
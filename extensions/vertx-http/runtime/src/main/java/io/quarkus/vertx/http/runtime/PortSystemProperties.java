@@ -5,15 +5,22 @@
 import java.util.Objects;
 
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.configuration.RuntimeOverrideConfigSource;
 
 public class PortSystemProperties {
     private final Map<String, String> portPropertiesToRestore = new HashMap<>();
+    private Map<String, String> overriddenConfig;
 
     public void set(String subProperty, int actualPort, LaunchMode launchMode) {
         String portPropertyValue = String.valueOf(actualPort);
         String portPropertyName = "quarkus." + subProperty + ".port";
         String testPropName = "quarkus." + subProperty + ".test-port";
 
+        if (launchMode == LaunchMode.TEST) {
+            // when the test port was overridden for the application, as for the applications of several test profiles
+            // running concurrently, the actual port is published to the application only
+            overriddenConfig = getOverriddenConfig("https".equals(subProperty) ? "quarkus.http.test-ssl-port" : testPropName);
+        }
         set(portPropertyName, testPropName, portPropertyValue, launchMode);
         //if subProperty is "https", the correct properties are not quarkus.https.port and quarkus.https.test-port
         //but quarkus.http.ssl-port and quarkus.http.test-ssl-port
@@ -40,7 +47,8 @@ private void set(String portPropertyName, String testPropName, String portProper
     }
 
     private void set(String propertyName, String propertyValue) {
-        String prevPropertyValue = System.setProperty(propertyName, propertyValue);
+        String prevPropertyValue = overriddenConfig != null ? overriddenConfig.put(propertyName, propertyValue)
+                : System.setProperty(propertyName, propertyValue);
         if (!Objects.equals(prevPropertyValue, propertyValue)) {
             portPropertiesToRestore.put(propertyName, prevPropertyValue);
         }
@@ -48,7 +56,13 @@ private void set(String propertyName, String propertyValue) {
 
     public void restore() {
         portPropertiesToRestore.forEach((key, value) -> {
-            if (value == null) {
+            if (overriddenConfig != null) {
+                if (value == null) {
+                    overriddenConfig.remove(key);
+                } else {
+                    overriddenConfig.put(key, value);
+                }
+            } else if (value == null) {
                 System.clearProperty(key);
             } else {
                 System.setProperty(key, value);
@@ -56,4 +70,13 @@ public void restore() {
         });
         portPropertiesToRestore.clear();
     }
+
+    private static Map<String, String> getOverriddenConfig(String testPropName) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        Map<String, String> config = RuntimeOverrideConfigSource.getConfig(classLoader);
+        return config != null && config.containsKey(testPropName) ? config : null;
+    }
 }
@@ -0,0 +1,84 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A copy of the MDC map returned by {@link VertxMDC#copyObject()}.
+ * <p>
+ * The MDC snapshots are immutable, so the copy reads from the snapshot it was created with, and only materializes a
+ * private {@link HashMap} when it gets modified. Log records capture the MDC for every logged message but rarely modify
+ * it, so in most cases no map is allocated.
+ * <p>
+ * The entry set is read-only until the map is modified through {@code put}, {@code remove} or {@code clear}.
+ */
+final class CopyOnWriteMdcMap extends AbstractMap<String, Object> {
+
+    private Map<String, Object> map;
+    private boolean copied;
+
+    CopyOnWriteMdcMap(Map<String, Object> snapshot) {
+        this.map = snapshot;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return writable().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!map.containsKey(key)) {
+            return null;
+        }
+        return writable().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        writable().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        if (!map.isEmpty()) {
+            writable().clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        // read-only until the map is modified through its own methods
+        return map.entrySet();
+    }
+
+    private Map<String, Object> writable() {
+        if (!copied) {
+            map = new HashMap<>(map);
+            copied = true;
+        }
+        return map;
+    }
+}
@@ -0,0 +1,77 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The MDC values of a Vert.x duplicated context, or of a thread outside of Vert.x.
+ * <p>
+ * The values are kept in a mutable map, so writes do not copy the MDC. Log records capture an immutable snapshot of the
+ * values, which is created on the first capture after a write and then shared by the following log records.
+ */
+final class MdcData {
+
+    private final ConcurrentHashMap<String, Object> values;
+    // null when the values changed since the last snapshot, guarded by this for writes
+    private volatile Map<String, Object> snapshot;
+
+    MdcData() {
+        this.values = new ConcurrentHashMap<>();
+        this.snapshot = Map.of();
+    }
+
+    private MdcData(MdcData parent) {
+        this.values = new ConcurrentHashMap<>(parent.values);
+        this.snapshot = parent.snapshot;
+    }
+
+    MdcData copy() {
+        return new MdcData(this);
+    }
+
+    Object get(String key) {
+        return values.get(key);
+    }
+
+    boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    synchronized Object put(String key, Object value) {
+        Object oldValue = values.put(key, value);
+        if (!value.equals(oldValue)) {
+            snapshot = null;
+        }
+        return oldValue;
+    }
+
+    synchronized Object remove(String key) {
+        Object oldValue = values.remove(key);
+        if (oldValue != null) {
+            snapshot = null;
+        }
+        return oldValue;
+    }
+
+    synchronized void clear() {
+        values.clear();
+        snapshot = Map.of();
+    }
+
+    /**
+     * @return the immutable snapshot of the current values
+     */
+    Map<String, Object> snapshot() {
+        Map<String, Object> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = Map.copyOf(values);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+}
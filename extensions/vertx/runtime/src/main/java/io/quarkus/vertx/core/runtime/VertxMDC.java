@@ -6,7 +6,6 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.logmanager.MDCProvider;
@@ -18,18 +17,18 @@
 public enum VertxMDC implements MDCProvider {
     INSTANCE;
 
-    final InheritableThreadLocal<Map<String, Object>> inheritableThreadLocalMap = new InheritableThreadLocal<>() {
+    final InheritableThreadLocal<MdcData> inheritableThreadLocalMap = new InheritableThreadLocal<>() {
         @Override
-        protected Map<String, Object> childValue(Map<String, Object> parentValue) {
+        protected MdcData childValue(MdcData parentValue) {
             if (parentValue == null) {
                 return null;
             }
-            return new HashMap<>(parentValue);
+            return parentValue.copy();
         }
 
         @Override
-        protected Map<String, Object> initialValue() {
-            return new HashMap<>();
+        protected MdcData initialValue() {
+            return new MdcData();
         }
     };
 
@@ -247,7 +246,7 @@ public boolean isEmpty() {
      */
     public Map<String, String> copy(Context vertxContext) {
         final HashMap<String, String> result = new HashMap<>();
-        Map<String, Object> contextualDataMap = contextualDataMap(vertxContext);
+        Map<String, Object> contextualDataMap = contextualDataMap(vertxContext).snapshot();
         for (Map.Entry<String, Object> entry : contextualDataMap.entrySet()) {
             result.put(entry.getKey(), entry.getValue().toString());
         }
@@ -255,13 +254,16 @@ public Map<String, String> copy(Context vertxContext) {
     }
 
     /**
-     * Get a copy of the MDC map. This is a relatively expensive operation.
+     * Get a copy of the MDC map.
      * If the informed context is null it falls back to the thread local context map.
+     * <p>
+     * The returned map shares the immutable snapshot of the MDC, taken on the first copy after a write, and only copies
+     * it if it gets modified, so capturing the MDC for a log record does not allocate a new hash map.
      *
      * @return a copy of the map
      */
     public Map<String, Object> copyObject(Context vertxContext) {
-        return new HashMap<>(contextualDataMap(vertxContext));
+        return new CopyOnWriteMdcMap(contextualDataMap(vertxContext).snapshot());
     }
 
     /**
@@ -307,14 +309,12 @@ private Context getContext() {
      *
      * @return the current Contextual Data Map.
      */
-    @SuppressWarnings({ "unchecked" })
-    private Map<String, Object> contextualDataMap(Context ctx) {
+    private MdcData contextualDataMap(Context ctx) {
         if (ctx == null) {
             return inheritableThreadLocalMap.get();
         }
 
         ConcurrentMap<Object, Object> lcd = Objects.requireNonNull((ContextInternal) ctx).localContextData();
-        return (ConcurrentMap<String, Object>) lcd.computeIfAbsent(VertxMDC.class.getName(),
-                k -> new ConcurrentHashMap<String, Object>());
+        return (MdcData) lcd.computeIfAbsent(VertxMDC.class.getName(), k -> new MdcData());
     }
 }
@@ -0,0 +1,82 @@
+package io.quarkus.vertx.core.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class VertxMDCSnapshotTest {
+
+    private final VertxMDC mdc = VertxMDC.INSTANCE;
+
+    @AfterEach
+    public void clear() {
+        mdc.clear(null);
+    }
+
+    @Test
+    public void testCopyIsNotAffectedByLaterWrites() {
+        mdc.put("traceId", "1", null);
+        Map<String, Object> copy = mdc.copyObject(null);
+
+        mdc.put("traceId", "2", null);
+        mdc.put("spanId", "3", null);
+        mdc.remove("traceId", null);
+
+        assertEquals(Map.of("traceId", "1"), copy);
+        assertEquals(Map.of("spanId", "3"), mdc.copyObject(null));
+    }
+
+    @Test
+    public void testWritesToCopyAreNotVisibleInMdc() {
+        mdc.put("traceId", "1", null);
+        Map<String, Object> copy = mdc.copyObject(null);
+
+        copy.put("spanId", "2");
+        copy.remove("traceId");
+
+        assertEquals(Map.of("spanId", "2"), copy);
+        assertEquals("1", mdc.get("traceId", null));
+        assertNull(mdc.get("spanId", null));
+    }
+
+    @Test
+    public void testSnapshotIsSharedUntilWrite() {
+        MdcData data = new MdcData();
+        data.put("traceId", "1");
+        Map<String, Object> snapshot = data.snapshot();
+        assertSame(snapshot, data.snapshot());
+
+        // writing the same value does not invalidate the snapshot
+        data.put("traceId", "1");
+        assertSame(snapshot, data.snapshot());
+
+        data.put("spanId", "2");
+        assertNotSame(snapshot, data.snapshot());
+        assertEquals(Map.of("traceId", "1", "spanId", "2"), data.snapshot());
+        assertEquals(Map.of("traceId", "1"), snapshot);
+    }
+
+    @Test
+    public void testChildThreadInheritsSnapshot() throws InterruptedException {
+        mdc.put("traceId", "1", null);
+        Object[] inherited = new Object[2];
+        Thread child = new Thread(() -> {
+            inherited[0] = mdc.get("traceId", null);
+            mdc.put("traceId", "2", null);
+        });
+        child.start();
+        child.join();
+
+        assertEquals("1", inherited[0]);
+        assertEquals("1", mdc.get("traceId", null));
+        mdc.clear(null);
+        assertTrue(mdc.copyObject(null).isEmpty());
+    }
+}
@@ -28,6 +28,7 @@
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -52,6 +53,7 @@
 import jakarta.enterprise.inject.spi.InjectionPoint;
 import jakarta.enterprise.inject.spi.InterceptionType;
 import jakarta.enterprise.inject.spi.Interceptor;
+import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.enterprise.util.TypeLiteral;
 import jakarta.inject.Scope;
 import jakarta.inject.Singleton;
@@ -1031,6 +1033,15 @@ private void mockObserversFor(String beanIdentifier, boolean mock) {
         }
     }
 
+    /**
+     * Fires the event synchronously, as {@code beanManager().getEvent().fire(event)} does, and passes every observer method
+     * notified to the given listener, along with the duration of its notification in nanoseconds.
+     */
+    @SuppressWarnings("unchecked")
+    public void fireEvent(Object event, ObjLongConsumer<ObserverMethod<?>> listener) {
+        ((EventImpl<Object>) beanManager().getEvent()).fire(event, listener);
+    }
+
     public void mockObserversFor(Class<?> beanClass, boolean mock) {
         for (InjectableObserverMethod<?> observer : observers) {
             if (observer instanceof Mockable && beanClass.equals(observer.getBeanClass())) {
@@ -20,6 +20,7 @@
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -81,6 +82,15 @@ public void fire(T event) {
         getNotifier(event.getClass()).notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
     }
 
+    /**
+     * Fires the event synchronously, exactly as {@link #fire(Object)} does, and passes every observer method notified to
+     * the given listener, along with the duration of its notification in nanoseconds.
+     */
+    void fire(T event, ObjLongConsumer<ObserverMethod<?>> listener) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        getNotifier(event.getClass()).notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false, listener);
+    }
+
     @Override
     public <U extends T> CompletionStage<U> fireAsync(U event) {
         return fireAsync(event, EMPTY_OPTIONS);
@@ -283,8 +293,13 @@ void notify(T event) {
             notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
         }
 
-        @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
+            notify(event, exceptionHandler, async, null);
+        }
+
+        @SuppressWarnings("rawtypes")
+        void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async,
+                ObjLongConsumer<ObserverMethod<?>> listener) {
             if (!isEmpty()) {
 
                 Predicate<ObserverMethod<?>> predicate = async ? ObserverMethodIsAsync.INSTANCE
@@ -341,32 +356,36 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                 if (activateRequestContext) {
                     ManagedContext requestContext = Arc.requireContainer().requestContext();
                     if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
+                        notifyObservers(event, exceptionHandler, predicate, listener);
                     } else {
                         try {
                             requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
+                            notifyObservers(event, exceptionHandler, predicate, listener);
                         } finally {
                             requestContext.terminate();
                         }
                     }
                 } else {
-                    notifyObservers(event, exceptionHandler, predicate);
+                    notifyObservers(event, exceptionHandler, predicate, listener);
                 }
             }
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<?>> predicate) {
+                Predicate<ObserverMethod<?>> predicate, ObjLongConsumer<ObserverMethod<?>> listener) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
             for (ObserverMethod<?> observerMethod : observerMethods) {
                 if (predicate.test(observerMethod)) {
+                    long start = listener != null ? System.nanoTime() : 0;
                     try {
                         observerMethod.notify(eventContext);
                     } catch (Throwable t) {
                         exceptionHandler.handle(t, observerMethod, eventContext);
                     }
+                    if (listener != null) {
+                        listener.accept(observerMethod, System.nanoTime() - start);
+                    }
                 }
             }
         }
@@ -0,0 +1,106 @@
+package io.quarkus.arc.test.observers.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class TimedObserverNotificationTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Observers.class);
+
+    @Test
+    public void testOrderingUnchanged() {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        Arc.container().beanManager().getEvent().fire(new Ping());
+        List<String> fired = new ArrayList<>(observers.notified);
+        observers.notified.clear();
+
+        List<ObserverMethod<?>> timed = new ArrayList<>();
+        ArcContainerImpl.instance().fireEvent(new Ping(), (observer, duration) -> {
+            assertTrue(duration >= 0);
+            timed.add(observer);
+        });
+        assertEquals(List.of("1 true", "10 true", "1000 true"), fired);
+        assertEquals(fired, observers.notified);
+        // the async observer is not notified
+        assertEquals(3, timed.size());
+        assertEquals(List.of(1, 10, 1000), timed.stream().map(ObserverMethod::getPriority).toList());
+    }
+
+    @Test
+    public void testExceptionsUnchanged() {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        IllegalStateException fired = assertThrows(IllegalStateException.class,
+                () -> Arc.container().beanManager().getEvent().fire(new Boom()));
+        assertEquals(List.of("1 boom"), observers.notified);
+        observers.notified.clear();
+
+        List<ObserverMethod<?>> timed = new ArrayList<>();
+        IllegalStateException timedFire = assertThrows(IllegalStateException.class,
+                () -> ArcContainerImpl.instance().fireEvent(new Boom(), (observer, duration) -> timed.add(observer)));
+        assertEquals(fired.getMessage(), timedFire.getMessage());
+        assertSame(fired.getClass(), timedFire.getClass());
+        // the observers after the failing one are not notified
+        assertEquals(List.of("1 boom"), observers.notified);
+        assertEquals(1, timed.size());
+    }
+
+    static class Ping {
+    }
+
+    static class Boom {
+    }
+
+    @Singleton
+    static class Observers {
+
+        final List<String> notified = new CopyOnWriteArrayList<>();
+
+        void observe10(@Observes @Priority(10) Ping ping) {
+            notified.add("10 " + Arc.container().requestContext().isActive());
+        }
+
+        void observe1(@Observes @Priority(1) Ping ping) {
+            notified.add("1 " + Arc.container().requestContext().isActive());
+        }
+
+        void observe1000(@Observes @Priority(1000) Ping ping) {
+            notified.add("1000 " + Arc.container().requestContext().isActive());
+        }
+
+        void observeAsync(@ObservesAsync Ping ping) {
+            notified.add("async");
+        }
+
+        void boom1(@Observes @Priority(1) Boom boom) {
+            notified.add("1 boom");
+        }
+
+        void boom10(@Observes @Priority(10) Boom boom) {
+            throw new IllegalStateException("boom");
+        }
+
+        void boom1000(@Observes @Priority(1000) Boom boom) {
+            notified.add("1000 boom");
+        }
+    }
+}
@@ -44,4 +44,16 @@ public interface StartupAction {
 
     void addRuntimeCloseTask(Closeable closeTask);
 
+    /**
+     * Creates a new startup action for the same augmentation output, with its own runtime class loader.
+     * <p>
+     * This allows the application to be started again, for instance with different runtime configuration, without running
+     * a new augmentation.
+     *
+     * @return the new startup action, or {@code null} if the runtime class loader cannot be recreated
+     */
+    default StartupAction createAdditionalRuntimeApplication() {
+        return null;
+    }
+
 }
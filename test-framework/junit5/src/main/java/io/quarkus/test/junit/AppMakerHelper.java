@@ -11,13 +11,17 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import jakarta.enterprise.inject.Alternative;
 
 import org.jboss.jandex.Index;
+import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.BootstrapAppModelFactory;
 import io.quarkus.bootstrap.BootstrapConstants;
@@ -33,6 +37,8 @@
 import io.quarkus.bootstrap.workspace.SourceDir;
 import io.quarkus.bootstrap.workspace.WorkspaceModule;
 import io.quarkus.commons.classloading.ClassLoaderHelper;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ConfigurationBuildItem;
 import io.quarkus.maven.dependency.DependencyFlags;
 import io.quarkus.paths.PathList;
 import io.quarkus.runtime.LaunchMode;
@@ -46,6 +52,10 @@ public class AppMakerHelper {
     protected static final String TEST_LOCATION = "test-location";
     protected static final String TEST_CLASS = "test-class";
     protected static final String TEST_PROFILE = "test-profile";
+    // the profiles whose tests run on the application without test profile
+    protected static final String SHARED_PROFILES = "shared-profiles";
+
+    private static final Logger log = Logger.getLogger(AppMakerHelper.class);
 
     /// end copied
 
@@ -59,6 +69,14 @@ static PrepareResult prepare(final Class<?> requiredTestClass,
             CuratedApplication curatedApplication,
             Class<? extends QuarkusTestProfile> profile)
             throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        return prepare(requiredTestClass, curatedApplication, profile, Set.of());
+    }
+
+    private static PrepareResult prepare(final Class<?> requiredTestClass,
+            CuratedApplication curatedApplication,
+            Class<? extends QuarkusTestProfile> profile,
+            Set<String> sharedProfiles)
+            throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
 
         Path testClassLocation = getTestClassesLocation(requiredTestClass, curatedApplication);
 
@@ -82,6 +100,9 @@ static PrepareResult prepare(final Class<?> requiredTestClass,
         if (profile != null) {
             props.put(TEST_PROFILE, profile.getName());
         }
+        if (!sharedProfiles.isEmpty()) {
+            props.put(SHARED_PROFILES, sharedProfiles);
+        }
         return new PrepareResult(curatedApplication
                 .createAugmentor(TestBuildChainFunction.class.getName(), props), getQuarkusTestProfile(profile),
                 curatedApplication);
@@ -98,6 +119,20 @@ static QuarkusTestProfile getQuarkusTestProfile(Class<? extends QuarkusTestProfi
      * system properties.
      */
     static Runnable setExtraPropertiesRestorably(Class<?> profileClass, QuarkusTestProfile profileInstance) {
+        final Map<String, String> additional = getExtraProperties(profileClass, profileInstance);
+        //we just use system properties for now
+        //it's a lot simpler
+        // TODO this is really ugly, set proper config on the app
+        // TODO investigate whether we can use the config from https://github.com/quarkusio/quarkus/pull/42715 to avoid system properties
+        // ... but be aware that this is called twice, and on the first pass through, the classloader might be an all-purpose runtime classloader, and would not be the actual test classloader
+        // Setting config on the wrong classloader is worse than useless, so we'd need solid test coverage
+        return RestorableSystemProperties.setProperties(additional)::close;
+    }
+
+    /**
+     * @return the configuration the given test profile applies to the application
+     */
+    static Map<String, String> getExtraProperties(Class<?> profileClass, QuarkusTestProfile profileInstance) {
         final Map<String, String> additional = new HashMap<>();
         // We apply the profile config twice, once before augmentation, and once before app start
         // That's a bit awkward, but both augmentation and app start need to have the right config for their profile
@@ -126,13 +161,7 @@ static Runnable setExtraPropertiesRestorably(Class<?> profileClass, QuarkusTestP
         if (profileInstance.getConfigProfile() != null) {
             additional.put(LaunchMode.TEST.getProfileKey(), profileInstance.getConfigProfile());
         }
-        //we just use system properties for now
-        //it's a lot simpler
-        // TODO this is really ugly, set proper config on the app
-        // TODO investigate whether we can use the config from https://github.com/quarkusio/quarkus/pull/42715 to avoid system properties
-        // ... but be aware that this is called twice, and on the first pass through, the classloader might be an all-purpose runtime classloader, and would not be the actual test classloader
-        // Setting config on the wrong classloader is worse than useless, so we'd need solid test coverage
-        return RestorableSystemProperties.setProperties(additional)::close;
+        return additional;
     }
 
     public static CuratedApplication makeCuratedApplication(Class<?> requiredTestClass, String displayName,
@@ -236,6 +265,58 @@ public static CuratedApplication makeCuratedApplication(Class<?> requiredTestCla
         return curatedApplication;
     }
 
+    /**
+     * Augments the application for the tests without test profile, so that the tests of the test profiles which only
+     * override runtime configuration can run on it, each on its own
+     * {@linkplain StartupAction#createAdditionalRuntimeApplication() runtime application}.
+     */
+    public static SharedStartupAction getSharedStartupAction(Class<?> testClass, CuratedApplication curatedApplication)
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Set<String> sharedProfiles = getSharedProfiles(testClass, curatedApplication);
+        PrepareResult prepareResult = prepare(testClass, curatedApplication, null, sharedProfiles);
+        try {
+            return new SharedStartupAction(prepareResult.augmentAction().createInitialRuntimeApplication(), sharedProfiles);
+        } catch (RuntimeException e) {
+            // Errors at this point just get reported as a failure to discover the tests
+            log.error("Unable to augment the application shared by the test profiles " + sharedProfiles, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the part of the augmentation reading the configuration and indexing the application, to find out which of the
+     * properties overridden by the test profiles are read at build time.
+     */
+    private static Set<String> getSharedProfiles(Class<?> testClass, CuratedApplication curatedApplication) {
+        Path testClassLocation = getTestClassesLocation(testClass, curatedApplication);
+        Map<String, Set<String>> candidates = SharedTestProfiles
+                .collectCandidates(TestClassIndexer.indexTestClasses(testClassLocation), testClass.getClassLoader());
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> sharedProfiles = new HashSet<>();
+        try {
+            curatedApplication.createAugmentor().performCustomBuild(RuntimePropertiesHandler.class.getName(),
+                    new Consumer<Predicate<String>>() {
+                        @Override
+                        public void accept(Predicate<String> runtimeProperty) {
+                            sharedProfiles.addAll(SharedTestProfiles.select(candidates, runtimeProperty));
+                        }
+                    }, ConfigurationBuildItem.class.getName(), CombinedIndexBuildItem.class.getName());
+        } catch (RuntimeException e) {
+            log.error("Unable to read the configuration of the application shared by the test profiles", e);
+            throw e;
+        }
+        return sharedProfiles;
+    }
+
+    /**
+     * @param startupAction the startup action of the application without test profile
+     * @param sharedProfiles the class names of the test profiles whose tests can run on the same augmentation output
+     */
+    public record SharedStartupAction(StartupAction startupAction, Set<String> sharedProfiles) {
+    }
+
     // Note that curated application cannot be re-used between restarts, so this application
     // should have been freshly created
     // TODO maybe don't even accept one? is that comment right?
@@ -89,6 +89,8 @@ public class QuarkusTestExtension extends AbstractJvmQuarkusTestExtension
     private static final Logger log = Logger.getLogger(QuarkusTestExtension.class);
 
     public static final String QUARKUS_TEST_HANG_DETECTION_TIMEOUT = "quarkus.test.hang-detection-timeout";
+    // set by the continuous testing runner on the launchers running the tests of several test profiles concurrently
+    private static final String CONTINUOUS_TESTS_PARALLEL_PROFILES = "quarkus.continuous-tests-parallel-profiles";
 
     private static boolean failedBoot;
 
@@ -187,10 +189,15 @@ public Thread newThread(Runnable r) {
 
             testHttpEndpointProviders = TestHttpEndpointProvider.load();
 
-            // clear the test.url system property as the value leaks into the run when using different profiles
-            System.clearProperty("test.url");
+            // the continuous testing runner may start the applications of several test profiles concurrently
+            boolean isolated = context.getConfigurationParameter(CONTINUOUS_TESTS_PARALLEL_PROFILES, Boolean::parseBoolean)
+                    .orElse(false);
+            if (!isolated) {
+                // clear the test.url system property as the value leaks into the run when using different profiles
+                System.clearProperty("test.url");
+            }
             QuarkusTestProfile profileInstance = AppMakerHelper.getQuarkusTestProfile(profile);
-            if (profileInstance != null) {
+            if (profileInstance != null && !isolated) {
                 Runnable configCleaner = AppMakerHelper.setExtraPropertiesRestorably(profile, profileInstance);
                 shutdownTasks.add(configCleaner);
             }
@@ -215,6 +222,9 @@ public Thread newThread(Runnable r) {
             TestResourceUtil.TestResourceManagerReflections.initReflectively(testResourceManager, profile);
             Map<String, String> properties = TestResourceUtil.TestResourceManagerReflections
                     .startReflectively(testResourceManager);
+            if (isolated) {
+                properties = isolatedConfig(profile, profileInstance, properties);
+            }
             startupAction.overrideConfig(properties);
             startupAction.addRuntimeCloseTask(testResourceManager);
 
@@ -250,8 +260,10 @@ public Thread newThread(Runnable r) {
                 hangTaskKey = hangDetectionExecutor.schedule(hangDetectionTask, hangTimeout.toMillis(), TimeUnit.MILLISECONDS);
             }
 
-            RestorableSystemProperties restorableSystemProperties = RestorableSystemProperties.setProperties(
-                    Collections.singletonMap("test.url", TestHTTPResourceManager.getUri(runningQuarkusApplication)));
+            // when isolated, the tests get the URL from the configuration of their own application
+            RestorableSystemProperties restorableSystemProperties = RestorableSystemProperties.setProperties(isolated
+                    ? Collections.emptyMap()
+                    : Collections.singletonMap("test.url", TestHTTPResourceManager.getUri(runningQuarkusApplication)));
 
             Closeable shutdownTask = new Closeable() {
                 @Override
@@ -302,6 +314,26 @@ public void close() {
 
     }
 
+    /**
+     * The applications of several test profiles may run concurrently in continuous testing, so the configuration of the
+     * test profile is applied to the application instead of the system properties, and the application listens on random
+     * ports instead of the fixed test ports. The actual ports are then published to the configuration of the application
+     * rather than to the system properties.
+     */
+    private static Map<String, String> isolatedConfig(Class<?> profile, QuarkusTestProfile profileInstance,
+            Map<String, String> testResourceProperties) {
+        Map<String, String> config = new HashMap<>();
+        config.put("quarkus.http.test-port", "0");
+        config.put("quarkus.http.test-ssl-port", "0");
+        config.put("quarkus.management.test-port", "0");
+        if (profileInstance != null) {
+            config.putAll(AppMakerHelper.getExtraProperties(profile, profileInstance));
+        }
+        // the properties of the test resources take precedence over the ones of the test profile
+        config.putAll(testResourceProperties);
+        return config;
+    }
+
     private static QuarkusClassLoader getClassLoaderFromTestClass(Class<?> requiredTestClass) {
         try {
             return (QuarkusClassLoader) requiredTestClass.getClassLoader();
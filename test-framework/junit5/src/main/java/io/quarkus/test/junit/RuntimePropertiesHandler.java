@@ -0,0 +1,35 @@
+package io.quarkus.test.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import io.quarkus.builder.BuildResult;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ConfigurationBuildItem;
+import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
+import io.smallrye.config.ConfigMappings.ConfigClass;
+
+/**
+ * Hands the predicate telling the runtime properties of the application to the {@code Consumer<Predicate<String>>}
+ * context of a custom build of the {@link ConfigurationBuildItem} and the {@link CombinedIndexBuildItem}. The predicate must be used before the custom build
+ * returns, as the deployment class loader is closed afterwards.
+ */
+public class RuntimePropertiesHandler implements BiConsumer<Object, BuildResult> {
+    @Override
+    public void accept(Object o, BuildResult buildResult) {
+        Consumer<Predicate<String>> consumer = (Consumer<Predicate<String>>) o;
+
+        BuildTimeConfigurationReader.ReadResult readResult = buildResult.consume(ConfigurationBuildItem.class)
+                .getReadResult();
+        List<ConfigClass> buildTimeMappings = new ArrayList<>(readResult.getBuildTimeMappings());
+        buildTimeMappings.addAll(readResult.getBuildTimeRunTimeMappings());
+        Set<String> conditionProperties = SharedTestProfiles
+                .buildTimeConditionProperties(buildResult.consume(CombinedIndexBuildItem.class).getIndex());
+        consumer.accept(SharedTestProfiles.runtimeProperties(buildTimeMappings, readResult.getRunTimeMappings(),
+                conditionProperties));
+    }
+}
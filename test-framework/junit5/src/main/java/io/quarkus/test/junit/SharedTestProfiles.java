@@ -0,0 +1,178 @@
+package io.quarkus.test.junit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+
+import io.smallrye.config.ConfigMappings;
+import io.smallrye.config.ConfigMappings.ConfigClass;
+import io.smallrye.config.PropertyName;
+
+/**
+ * Selects the test profiles whose tests can run on the augmentation of the application without test profile, because
+ * they only override runtime configuration.
+ * <p>
+ * A profile is a candidate if it enables no alternative, keeps the lifecycle observers, sets no config profile and
+ * declares no beans. A candidate shares the augmentation if none of the properties it overrides is read at build time,
+ * which is only known once the configuration roots of the application are: a property is a runtime property if it is
+ * not mapped by a build time configuration root, is not referenced by a build time condition of a bean
+ * ({@code @IfBuildProperty} or {@code @UnlessBuildProperty}), and is either mapped by a runtime configuration root or
+ * outside of the {@code quarkus} namespace.
+ */
+final class SharedTestProfiles {
+
+    private static final Logger log = Logger.getLogger(SharedTestProfiles.class);
+
+    private static final DotName TEST_PROFILE = DotName.createSimple(TestProfile.class.getName());
+    private static final String PRODUCES = "jakarta.enterprise.inject.Produces";
+    // the extensions of the application may not include ArC
+    private static final List<DotName> BUILD_PROPERTY_CONDITIONS = List.of(
+            DotName.createSimple("io.quarkus.arc.properties.IfBuildProperty"),
+            DotName.createSimple("io.quarkus.arc.properties.UnlessBuildProperty"));
+    private static final List<DotName> BUILD_PROPERTY_CONDITION_CONTAINERS = List.of(
+            DotName.createSimple("io.quarkus.arc.properties.IfBuildProperty$List"),
+            DotName.createSimple("io.quarkus.arc.properties.UnlessBuildProperty$List"));
+
+    private SharedTestProfiles() {
+    }
+
+    /**
+     * @return the test profiles which may share the augmentation, with the properties they override
+     */
+    static Map<String, Set<String>> collectCandidates(IndexView testClassesIndex, ClassLoader classLoader) {
+        Map<String, Set<String>> candidates = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            for (AnnotationInstance testProfile : testClassesIndex.getAnnotations(TEST_PROFILE)) {
+                String profileName = testProfile.value().asClass().name().toString();
+                if (!seen.add(profileName)) {
+                    continue;
+                }
+                try {
+                    @SuppressWarnings("unchecked")
+                    Class<? extends QuarkusTestProfile> profileClass = (Class<? extends QuarkusTestProfile>) Class
+                            .forName(profileName, false, classLoader);
+                    QuarkusTestProfile profileInstance = AppMakerHelper.getQuarkusTestProfile(profileClass);
+                    // alternatives, lifecycle observers, config profiles and beans all change what is built
+                    if (profileInstance.getEnabledAlternatives().isEmpty()
+                            && !profileInstance.disableApplicationLifecycleObservers()
+                            && profileInstance.getConfigProfile() == null
+                            && !declaresBeans(profileClass)) {
+                        candidates.put(profileName, new HashSet<>(profileInstance.getConfigOverrides().keySet()));
+                    }
+                } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                    log.debugf(e, "Unable to inspect the test profile %s, it will not share the augmentation", profileName);
+                }
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+        }
+        return candidates;
+    }
+
+    /**
+     * @return the candidates overriding runtime properties only
+     */
+    static Set<String> select(Map<String, Set<String>> candidates, Predicate<String> runtimeProperty) {
+        Set<String> sharedProfiles = new HashSet<>();
+        candidates: for (Map.Entry<String, Set<String>> candidate : candidates.entrySet()) {
+            for (String property : candidate.getValue()) {
+                if (property.startsWith("%")) {
+                    // a profile specific property, the profile does not change what is read at build time
+                    int dot = property.indexOf('.');
+                    property = dot > 0 ? property.substring(dot + 1) : property;
+                }
+                if (!runtimeProperty.test(property)) {
+                    continue candidates;
+                }
+            }
+            sharedProfiles.add(candidate.getKey());
+        }
+        return sharedProfiles;
+    }
+
+    /**
+     * @return the properties read by the build time conditions of the beans of the given index
+     */
+    static Set<String> buildTimeConditionProperties(IndexView index) {
+        Set<String> properties = new HashSet<>();
+        for (DotName condition : BUILD_PROPERTY_CONDITIONS) {
+            for (AnnotationInstance annotation : index.getAnnotations(condition)) {
+                properties.add(annotation.value("name").asString());
+            }
+        }
+        for (DotName container : BUILD_PROPERTY_CONDITION_CONTAINERS) {
+            for (AnnotationInstance annotation : index.getAnnotations(container)) {
+                for (AnnotationInstance nested : annotation.value().asNestedArray()) {
+                    properties.add(nested.value("name").asString());
+                }
+            }
+        }
+        return properties;
+    }
+
+    static Predicate<String> runtimeProperties(Collection<ConfigClass> buildTimeMappings,
+            Collection<ConfigClass> runTimeMappings, Set<String> buildTimeConditionProperties) {
+        Set<PropertyName> buildTimeNames = new HashSet<>();
+        buildTimeConditionProperties.forEach(name -> buildTimeNames.add(new PropertyName(name)));
+        for (ConfigClass mapping : buildTimeMappings) {
+            ConfigMappings.getProperties(mapping).keySet().forEach(name -> buildTimeNames.add(new PropertyName(name)));
+        }
+        Set<PropertyName> runTimeNames = new HashSet<>();
+        for (ConfigClass mapping : runTimeMappings) {
+            ConfigMappings.getProperties(mapping).keySet().forEach(name -> runTimeNames.add(new PropertyName(name)));
+        }
+        return new Predicate<String>() {
+            @Override
+            public boolean test(String property) {
+                PropertyName name = new PropertyName(property);
+                if (buildTimeNames.contains(name)) {
+                    return false;
+                }
+                return runTimeNames.contains(name) || !(property.equals("quarkus") || property.startsWith("quarkus."));
+            }
+        };
+    }
+
+    private static boolean declaresBeans(Class<?> profileClass) {
+        for (Class<?> c = profileClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (c.getDeclaredClasses().length > 0) {
+                return true;
+            }
+            for (Method method : c.getDeclaredMethods()) {
+                if (isProducer(method.getDeclaredAnnotations())) {
+                    return true;
+                }
+            }
+            for (Field field : c.getDeclaredFields()) {
+                if (isProducer(field.getDeclaredAnnotations())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isProducer(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().getName().equals(PRODUCES)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
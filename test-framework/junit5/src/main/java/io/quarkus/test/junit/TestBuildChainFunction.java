@@ -9,6 +9,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -146,10 +147,14 @@ public void execute(BuildContext context) {
 
                 buildChainBuilder.addBuildStep(new BuildStep() {
                     @Override
+                    @SuppressWarnings("unchecked")
                     public void execute(BuildContext context) {
                         Object testProfile = stringObjectMap.get(AbstractJvmQuarkusTestExtension.TEST_PROFILE);
-                        if (testProfile != null) {
-                            context.produce(new TestProfileBuildItem(testProfile.toString()));
+                        Set<String> sharedProfiles = (Set<String>) stringObjectMap
+                                .getOrDefault(AppMakerHelper.SHARED_PROFILES, Set.of());
+                        if (testProfile != null || !sharedProfiles.isEmpty()) {
+                            context.produce(new TestProfileBuildItem(testProfile == null ? null : testProfile.toString(),
+                                    sharedProfiles));
                         }
                     }
                 })
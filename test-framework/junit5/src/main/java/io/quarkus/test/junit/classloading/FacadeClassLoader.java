@@ -76,6 +76,15 @@ public final class FacadeClassLoader extends ClassLoader implements Closeable {
     private final Map<String, QuarkusClassLoader> runtimeClassLoaders = new HashMap<>();
     private static final String NO_PROFILE = "no-profile";
 
+    // Read before any augmentation, so only taken into account as a system property
+    private static final String SHARE_AUGMENTATION = "quarkus.test.share-augmentation-between-profiles";
+    private final boolean shareAugmentation = Boolean.getBoolean(SHARE_AUGMENTATION);
+    // The augmentation of the application without profile, shared by the profiles which only override runtime config
+    private AppMakerHelper.SharedStartupAction sharedStartupAction;
+    private boolean sharedStartupActionUsed;
+    // Every profile key would otherwise be augmented on its own, so the shared augmentation replaces all its uses but one
+    private int sharedAugmentationUses;
+
     /*
      * A 'disposable' loader for holding temporary instances of the classes to allow us to inspect them.
      *
@@ -576,6 +585,13 @@ private QuarkusClassLoader getOrCreateBaseClassLoader(String key, Class<?> requi
     private QuarkusClassLoader getOrCreateRuntimeClassLoader(String key, Class<?> requiredTestClass, Class<?> profile)
             throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException,
             IllegalAccessException, AppModelResolverException, BootstrapException, IOException {
+        if (shareAugmentation) {
+            QuarkusClassLoader loader = getOrCreateSharedRuntimeClassLoader(requiredTestClass, profile);
+            if (loader != null) {
+                return loader;
+            }
+        }
+
         ClassLoader old = Thread.currentThread().getContextClassLoader();
         CuratedApplication curatedApplication = getOrCreateCuratedApplication(key, requiredTestClass);
 
@@ -602,6 +618,43 @@ private QuarkusClassLoader getOrCreateRuntimeClassLoader(String key, Class<?> re
 
     }
 
+    /**
+     * Returns a runtime classloader created from the augmentation of the application without profile, if the given profile
+     * only overrides runtime config, or {@code null} if the application must be augmented for this profile.
+     */
+    private QuarkusClassLoader getOrCreateSharedRuntimeClassLoader(Class<?> requiredTestClass, Class<?> profile)
+            throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException,
+            IllegalAccessException, AppModelResolverException, BootstrapException, IOException {
+        if (sharedStartupAction == null) {
+            CuratedApplication curatedApplication = getOrCreateCuratedApplication(getProfileKey(null), requiredTestClass);
+            sharedStartupAction = AppMakerHelper.getSharedStartupAction(requiredTestClass, curatedApplication);
+            log.debugf("The test profiles %s share the augmentation of the application without profile",
+                    sharedStartupAction.sharedProfiles());
+        }
+        if (profile != null && !sharedStartupAction.sharedProfiles().contains(profile.getName())) {
+            return null;
+        }
+
+        StartupAction startupAction;
+        if (!sharedStartupActionUsed) {
+            startupAction = sharedStartupAction.startupAction();
+            sharedStartupActionUsed = true;
+        } else {
+            // The runtime classloader of an application is closed when it stops, so every start needs its own
+            startupAction = sharedStartupAction.startupAction().createAdditionalRuntimeApplication();
+            if (startupAction == null) {
+                return null;
+            }
+            log.infof("Reusing the augmentation of the application without test profile for %s (%d augmentations avoided)",
+                    requiredTestClass.getName(), sharedAugmentationUses);
+        }
+        sharedAugmentationUses++;
+
+        QuarkusClassLoader loader = startupAction.getClassLoader();
+        initialiseTestConfig(loader);
+        return loader;
+    }
+
     private static void initialiseTestConfig(ClassLoader loader) throws ClassNotFoundException, InstantiationException,
             IllegalAccessException, InvocationTargetException, NoSuchMethodException {
         // Make sure that our new classloader has config on it; this is a bit of a scattergun approach to setting config, but it helps cover most paths
@@ -635,6 +688,14 @@ public void close() throws IOException {
         // Null out the keymaker classloader and runtime classloaders, but don't close them, since we assume they will be closed by the test framework closing the owning application
         keyMakerClassLoader = null;
         runtimeClassLoaders.clear();
+        sharedStartupAction = null;
+        sharedStartupActionUsed = false;
+
+        if (sharedAugmentationUses > 1) {
+            log.infof("%d augmentations were avoided by sharing the augmentation between test profiles",
+                    sharedAugmentationUses - 1);
+        }
+        sharedAugmentationUses = 0;
 
     }
 
@@ -0,0 +1,175 @@
+package io.quarkus.test.junit;
+
+import static io.smallrye.config.ConfigMappings.ConfigClass.configClass;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+public class SharedTestProfilesTest {
+
+    private static final Predicate<String> RUNTIME_PROPERTY = SharedTestProfiles.runtimeProperties(
+            List.of(configClass(BuildTimeConfig.class, "quarkus.sample.build")),
+            List.of(configClass(RuntimeConfig.class, "quarkus.sample")),
+            // read by an @IfBuildProperty of a bean
+            Set.of("greeting.enabled"));
+
+    @Test
+    public void testRuntimeProperties() {
+        assertThat(RUNTIME_PROPERTY.test("quarkus.sample.timeout")).isTrue();
+        assertThat(RUNTIME_PROPERTY.test("quarkus.sample.\"named\".url")).isTrue();
+        assertThat(RUNTIME_PROPERTY.test("greeting.message")).isTrue();
+        assertThat(RUNTIME_PROPERTY.test("quarkus.sample.build.enabled")).isFalse();
+        assertThat(RUNTIME_PROPERTY.test("greeting.enabled")).isFalse();
+        // not mapped by any root, it may well be read at build time
+        assertThat(RUNTIME_PROPERTY.test("quarkus.unknown.enabled")).isFalse();
+    }
+
+    @Test
+    public void testCompatibleProfilesShareTheAugmentation() throws IOException {
+        Map<String, Set<String>> candidates = SharedTestProfiles.collectCandidates(
+                Index.of(RuntimeTest.class, OtherRuntimeTest.class), getClass().getClassLoader());
+
+        assertThat(SharedTestProfiles.select(candidates, RUNTIME_PROPERTY))
+                .containsExactlyInAnyOrder(RuntimeProfile.class.getName(), OtherRuntimeProfile.class.getName());
+    }
+
+    @Test
+    public void testIncompatibleProfilesDoNotShareTheAugmentation() throws IOException {
+        Map<String, Set<String>> candidates = SharedTestProfiles.collectCandidates(
+                Index.of(RuntimeTest.class, BuildTimeTest.class, UnmappedTest.class, ConditionTest.class,
+                        AlternativesTest.class, ConfigProfileTest.class, ProducerTest.class),
+                getClass().getClassLoader());
+
+        assertThat(candidates).containsOnlyKeys(RuntimeProfile.class.getName(), BuildTimeProfile.class.getName(),
+                UnmappedProfile.class.getName(), ConditionProfile.class.getName());
+        assertThat(SharedTestProfiles.select(candidates, RUNTIME_PROPERTY))
+                .containsExactly(RuntimeProfile.class.getName());
+    }
+
+    @ConfigMapping(prefix = "quarkus.sample.build")
+    public interface BuildTimeConfig {
+
+        @WithDefault("true")
+        boolean enabled();
+    }
+
+    @ConfigMapping(prefix = "quarkus.sample")
+    public interface RuntimeConfig {
+
+        @WithDefault("10")
+        int timeout();
+
+        Map<String, Client> clients();
+
+        interface Client {
+
+            String url();
+        }
+    }
+
+    public static class RuntimeProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.sample.timeout", "20", "%test.greeting.message", "hello");
+        }
+    }
+
+    public static class OtherRuntimeProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.sample.clients.named.url", "http://localhost");
+        }
+    }
+
+    public static class BuildTimeProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.sample.timeout", "20", "quarkus.sample.build.enabled", "false");
+        }
+    }
+
+    public static class UnmappedProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.unknown.enabled", "false");
+        }
+    }
+
+    public static class ConditionProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("%test.greeting.enabled", "false");
+        }
+    }
+
+    public static class AlternativesProfile implements QuarkusTestProfile {
+
+        @Override
+        public Set<Class<?>> getEnabledAlternatives() {
+            return Set.of(String.class);
+        }
+    }
+
+    public static class ConfigProfileProfile implements QuarkusTestProfile {
+
+        @Override
+        public String getConfigProfile() {
+            return "other";
+        }
+    }
+
+    public static class ProducerProfile implements QuarkusTestProfile {
+
+        @jakarta.enterprise.inject.Produces
+        String produce() {
+            return "produced";
+        }
+    }
+
+    @TestProfile(RuntimeProfile.class)
+    public static class RuntimeTest {
+    }
+
+    @TestProfile(OtherRuntimeProfile.class)
+    public static class OtherRuntimeTest {
+    }
+
+    @TestProfile(BuildTimeProfile.class)
+    public static class BuildTimeTest {
+    }
+
+    @TestProfile(UnmappedProfile.class)
+    public static class UnmappedTest {
+    }
+
+    @TestProfile(ConditionProfile.class)
+    public static class ConditionTest {
+    }
+
+    @TestProfile(AlternativesProfile.class)
+    public static class AlternativesTest {
+    }
+
+    @TestProfile(ConfigProfileProfile.class)
+    public static class ConfigProfileTest {
+    }
+
+    @TestProfile(ProducerProfile.class)
+    public static class ProducerTest {
+    }
+}